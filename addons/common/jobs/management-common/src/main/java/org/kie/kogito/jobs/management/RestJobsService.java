@@ -16,7 +16,12 @@
 package org.kie.kogito.jobs.management;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import org.kie.kogito.jobs.JobsService;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
@@ -56,6 +61,55 @@ public abstract class RestJobsService implements JobsService {
         return jobsServiceUri;
     }
 
+    @Override
+    public List<String> scheduleProcessInstanceJobs(List<ProcessInstanceJobDescription> descriptions) {
+        // jobs are built up front so that an invalid description fails before any request is sent
+        List<Job> jobs = new ArrayList<>(descriptions.size());
+        for (ProcessInstanceJobDescription description : descriptions) {
+            jobs.add(buildJob(description, getCallbackEndpoint(description)));
+        }
+        List<CompletableFuture<String>> requests = new ArrayList<>(jobs.size());
+        RuntimeException failure = null;
+        for (int i = 0; i < jobs.size() && failure == null; i++) {
+            try {
+                requests.add(scheduleJob(descriptions.get(i), jobs.get(i)).toCompletableFuture());
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        // every request sent is awaited, so that none is still pending when the scheduled jobs are cancelled
+        List<String> ids = new ArrayList<>(requests.size());
+        for (CompletableFuture<String> request : requests) {
+            try {
+                ids.add(request.join());
+            } catch (CompletionException e) {
+                RuntimeException cause = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            cancelJobs(ids);
+            throw failure;
+        }
+        return ids;
+    }
+
+    /**
+     * Sends the given job to the jobs service, the returned stage completes with the id of the job once the jobs
+     * service accepted it. By default the job is scheduled synchronously with {@link #scheduleProcessInstanceJob}.
+     * 
+     * @param description the description the job was built from
+     * @param job the job to be created
+     * @return stage completed with the id of the scheduled job
+     */
+    protected CompletionStage<String> scheduleJob(ProcessInstanceJobDescription description, Job job) {
+        return CompletableFuture.completedFuture(scheduleProcessInstanceJob(description));
+    }
+
     public Job buildJob(ProcessInstanceJobDescription description, String callback) {
         return JobBuilder.builder()
                 .id(description.id())
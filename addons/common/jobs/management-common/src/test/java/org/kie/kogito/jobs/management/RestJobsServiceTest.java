@@ -17,20 +17,30 @@ package org.kie.kogito.jobs.management;
 
 import java.net.URI;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.jobs.ExactExpirationTime;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.jobs.ProcessJobDescription;
 import org.kie.kogito.jobs.TimerJobId;
+import org.kie.kogito.jobs.api.Job;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class RestJobsServiceTest {
 
     public static final String CALLBACK_URL = "http://localhost";
     public static final String JOB_SERVICE_URL = "http://localhost:8085";
     private final RestJobsService tested;
+    private final List<String> scheduledJobs = new ArrayList<>();
+    private final List<String> cancelledJobs = new ArrayList<>();
+    private int failAfter = Integer.MAX_VALUE;
 
     public RestJobsServiceTest() {
         this.tested = new RestJobsService(JOB_SERVICE_URL, CALLBACK_URL) {
@@ -41,12 +51,17 @@ public class RestJobsServiceTest {
 
             @Override
             public String scheduleProcessInstanceJob(ProcessInstanceJobDescription description) {
-                return null;
+                if (scheduledJobs.size() == failAfter) {
+                    throw new IllegalStateException("Jobs service is not available");
+                }
+                scheduledJobs.add(description.id());
+                return description.id();
             }
 
             @Override
             public boolean cancelJob(String id) {
-                return false;
+                cancelledJobs.add(id);
+                return true;
             }
 
             @Override
@@ -72,4 +87,79 @@ public class RestJobsServiceTest {
         URI jobsServiceUri = tested.getJobsServiceUri();
         assertThat(jobsServiceUri.toString()).isEqualTo(JOB_SERVICE_URL + "/jobs");
     }
+
+    @Test
+    void testScheduleProcessInstanceJobs() {
+        ProcessInstanceJobDescription first = description();
+        ProcessInstanceJobDescription second = description();
+
+        List<String> ids = tested.scheduleProcessInstanceJobs(Arrays.asList(first, second));
+
+        assertThat(ids).containsExactly(first.id(), second.id());
+        assertThat(scheduledJobs).containsExactly(first.id(), second.id());
+        assertThat(cancelledJobs).isEmpty();
+    }
+
+    @Test
+    void testScheduleProcessInstanceJobsFailure() {
+        ProcessInstanceJobDescription first = description();
+        failAfter = 1;
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> tested.scheduleProcessInstanceJobs(Arrays.asList(first, description(), description())));
+        assertThat(scheduledJobs).containsExactly(first.id());
+        assertThat(cancelledJobs).containsExactly(first.id());
+    }
+
+    @Test
+    void testScheduleProcessInstanceJobsAwaitsEveryRequest() {
+        ProcessInstanceJobDescription first = description();
+        ProcessInstanceJobDescription second = description();
+        ProcessInstanceJobDescription third = description();
+        List<Job> sentJobs = new ArrayList<>();
+        RestJobsService asyncTested = new RestJobsService(JOB_SERVICE_URL, CALLBACK_URL) {
+            @Override
+            public String scheduleProcessJob(ProcessJobDescription description) {
+                return null;
+            }
+
+            @Override
+            public String scheduleProcessInstanceJob(ProcessInstanceJobDescription description) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected CompletionStage<String> scheduleJob(ProcessInstanceJobDescription description, Job job) {
+                sentJobs.add(job);
+                CompletableFuture<String> request = new CompletableFuture<>();
+                if (job.getId().equals(second.id())) {
+                    request.completeExceptionally(new IllegalStateException("Jobs service is not available"));
+                } else {
+                    request.complete(job.getId());
+                }
+                return request;
+            }
+
+            @Override
+            public boolean cancelJob(String id) {
+                cancelledJobs.add(id);
+                return true;
+            }
+
+            @Override
+            public ZonedDateTime getScheduledTime(String id) {
+                return null;
+            }
+        };
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> asyncTested.scheduleProcessInstanceJobs(Arrays.asList(first, second, third)));
+        assertThat(sentJobs).extracting(Job::getCallbackEndpoint)
+                .containsExactly(asyncTested.getCallbackEndpoint(first), asyncTested.getCallbackEndpoint(second), asyncTested.getCallbackEndpoint(third));
+        assertThat(cancelledJobs).containsExactly(first.id(), third.id());
+    }
+
+    private static ProcessInstanceJobDescription description() {
+        return ProcessInstanceJobDescription.of(new TimerJobId(-1L), ExactExpirationTime.now(), "processInstanceId", "processId");
+    }
 }
@@ -17,7 +17,10 @@ package org.kie.kogito.addons.k8s;
 
 /**
  * Cache names for the discovery API.
+ *
+ * @deprecated endpoints are no longer cached in named caches, they are kept by {@link WatchedEndpointDiscovery}
  */
+@Deprecated
 public final class CacheNames {
 
     public static final String CACHE_BY_NAME = "endpoint-by-name";
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addons.k8s;
+
+import java.util.List;
+
+/**
+ * Strategy to pick one {@link Endpoint} among the ones discovered for a given query.
+ */
+public interface EndpointSelector {
+
+    /**
+     * Selects the endpoint to call.
+     *
+     * @param key the query used to discover the endpoints
+     * @param endpoints non-empty list of discovered endpoints
+     * @return the endpoint to call
+     */
+    Endpoint select(EndpointQueryKey key, List<Endpoint> endpoints);
+}
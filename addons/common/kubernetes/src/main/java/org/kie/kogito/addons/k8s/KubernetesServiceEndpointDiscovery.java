@@ -32,6 +32,10 @@ public class KubernetesServiceEndpointDiscovery implements EndpointDiscovery {
         this.kubernetesClient = kubernetesClient;
     }
 
+    public KubernetesClient getKubernetesClient() {
+        return kubernetesClient;
+    }
+
     @Override
     public Optional<Endpoint> findEndpoint(String namespace, String name) {
         final Service service = kubernetesClient.services().inNamespace(namespace).withName(name).get();
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addons.k8s;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link EndpointSelector} that spreads the calls evenly across all the endpoints discovered for a given query.
+ */
+public class RoundRobinEndpointSelector implements EndpointSelector {
+
+    private final Map<EndpointQueryKey, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Endpoint select(EndpointQueryKey key, List<Endpoint> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("No endpoints to select from for query " + key);
+        }
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+        final int next = counters.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        return endpoints.get(Math.floorMod(next, endpoints.size()));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addons.k8s;
+
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.knative.client.KnativeClient;
+import io.fabric8.knative.serving.v1.Route;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+
+/**
+ * {@link EndpointDiscovery} decorator that keeps the discovered endpoints in memory, keyed by {@link EndpointQueryKey}.
+ * <p>
+ * The first query in a namespace opens a watch on the Kubernetes Services of that namespace and, when Knative is
+ * available, on its Knative Routes. Any change to a Service or a Route evicts the cached entries of its namespace,
+ * so the next query goes back to the delegate discovery. An endpoint found while the namespace is being evicted is
+ * returned but not cached.
+ * If a watch is closed by the server, the namespace is evicted as well and new watches are opened on the next query.
+ * If the watches can't be opened, e.g. because watching is forbidden, queries in that namespace are not cached and
+ * opening them is only tried again after a delay, doubling on every failure up to {@value #MAX_RETRY_DELAY_SECONDS}
+ * seconds.
+ */
+public class WatchedEndpointDiscovery implements EndpointDiscovery, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WatchedEndpointDiscovery.class);
+
+    private static final long INITIAL_RETRY_DELAY_SECONDS = 10;
+    private static final long MAX_RETRY_DELAY_SECONDS = 300;
+
+    private final KubernetesClient kubernetesClient;
+    private final EndpointDiscovery delegate;
+    private final LongSupplier nanoClock;
+    private final Map<String, NamespaceCache> namespaces = new ConcurrentHashMap<>();
+    private final Map<String, WatchFailure> failures = new ConcurrentHashMap<>();
+
+    public WatchedEndpointDiscovery(final KubernetesClient kubernetesClient, final EndpointDiscovery delegate) {
+        this(kubernetesClient, delegate, System::nanoTime);
+    }
+
+    WatchedEndpointDiscovery(final KubernetesClient kubernetesClient, final EndpointDiscovery delegate, final LongSupplier nanoClock) {
+        this.kubernetesClient = kubernetesClient;
+        this.delegate = delegate;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Optional<Endpoint> findEndpoint(String namespace, String name) {
+        NamespaceCache cache = watchNamespace(namespace);
+        if (cache == null) {
+            return delegate.findEndpoint(namespace, name);
+        }
+        return cache.get(cache.endpointsByName, new EndpointQueryKey(namespace, name), () -> delegate.findEndpoint(namespace, name));
+    }
+
+    @Override
+    public List<Endpoint> findEndpoint(String namespace, Map<String, String> labels) {
+        NamespaceCache cache = watchNamespace(namespace);
+        if (cache == null) {
+            return delegate.findEndpoint(namespace, labels);
+        }
+        return cache.get(cache.endpointsByLabels, new EndpointQueryKey(namespace, labels),
+                () -> Collections.unmodifiableList(delegate.findEndpoint(namespace, labels)));
+    }
+
+    /**
+     * Evicts every cached endpoint found in the given namespace.
+     *
+     * @param namespace kubernetes namespace
+     */
+    public void invalidate(final String namespace) {
+        NamespaceCache cache = namespaces.get(namespace);
+        if (cache != null) {
+            cache.invalidate();
+        }
+    }
+
+    private NamespaceCache watchNamespace(final String namespace) {
+        NamespaceCache cache = namespaces.get(namespace);
+        if (cache != null) {
+            return cache;
+        }
+        WatchFailure failure = failures.get(namespace);
+        if (failure != null && !failure.canRetry(nanoClock.getAsLong())) {
+            return null;
+        }
+        synchronized (this) {
+            cache = namespaces.get(namespace);
+            if (cache == null) {
+                cache = new NamespaceCache(namespace);
+                try {
+                    cache.open();
+                } catch (KubernetesClientException e) {
+                    cache.close();
+                    onWatchFailure(namespace, e);
+                    return null;
+                }
+                failures.remove(namespace);
+                namespaces.put(namespace, cache);
+            }
+            return cache;
+        }
+    }
+
+    private void onWatchFailure(final String namespace, final KubernetesClientException e) {
+        WatchFailure failure = failures.compute(namespace, (ns, previous) -> previous == null
+                ? new WatchFailure(nanoClock.getAsLong(), INITIAL_RETRY_DELAY_SECONDS)
+                : new WatchFailure(nanoClock.getAsLong(), Math.min(previous.delaySeconds * 2, MAX_RETRY_DELAY_SECONDS)));
+        if (failure.delaySeconds == INITIAL_RETRY_DELAY_SECONDS) {
+            String reason = e.getCode() == HttpURLConnection.HTTP_FORBIDDEN ? "watching is forbidden" : e.getMessage();
+            LOGGER.warn("Not possible to watch services in namespace {}, endpoints won't be cached: {}", namespace, reason);
+        } else {
+            LOGGER.debug("Not possible to watch services in namespace {}, retrying in {} seconds", namespace, failure.delaySeconds, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        namespaces.values().forEach(NamespaceCache::close);
+        namespaces.clear();
+        failures.clear();
+    }
+
+    private static boolean isKnativeAvailable(final KubernetesClient kubernetesClient) {
+        try {
+            return kubernetesClient.isAdaptable(KnativeClient.class);
+        } catch (KubernetesClientException e) {
+            LOGGER.debug("Knative is not available, only services are watched", e);
+            return false;
+        }
+    }
+
+    private static final class WatchFailure {
+
+        private final long failedAt;
+        private final long delaySeconds;
+
+        private WatchFailure(final long failedAt, final long delaySeconds) {
+            this.failedAt = failedAt;
+            this.delaySeconds = delaySeconds;
+        }
+
+        private boolean canRetry(final long now) {
+            return now - failedAt >= TimeUnit.SECONDS.toNanos(delaySeconds);
+        }
+    }
+
+    /**
+     * Endpoints of a namespace along with the watches that evict them. The generation changes on every eviction
+     * so that an endpoint looked up while an eviction happens is not cached.
+     */
+    private class NamespaceCache {
+
+        private final String namespace;
+        private final Map<EndpointQueryKey, Optional<Endpoint>> endpointsByName = new HashMap<>();
+        private final Map<EndpointQueryKey, List<Endpoint>> endpointsByLabels = new HashMap<>();
+        private long generation;
+        private Watch serviceWatch;
+        private Watch routeWatch;
+        private boolean closed;
+
+        private NamespaceCache(final String namespace) {
+            this.namespace = namespace;
+        }
+
+        private void open() {
+            serviceWatch = kubernetesClient.services().inNamespace(namespace).watch(new EvictingWatcher<Service>());
+            if (isKnativeAvailable(kubernetesClient)) {
+                routeWatch = kubernetesClient.adapt(KnativeClient.class).routes().inNamespace(namespace).watch(new EvictingWatcher<Route>());
+            }
+        }
+
+        private <T> T get(final Map<EndpointQueryKey, T> endpoints, final EndpointQueryKey key, final Supplier<T> lookup) {
+            long lookupGeneration;
+            synchronized (this) {
+                T cached = endpoints.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+                lookupGeneration = generation;
+            }
+            T found = lookup.get();
+            synchronized (this) {
+                if (!closed && generation == lookupGeneration) {
+                    endpoints.putIfAbsent(key, found);
+                }
+            }
+            return found;
+        }
+
+        private synchronized void invalidate() {
+            generation++;
+            endpointsByName.clear();
+            endpointsByLabels.clear();
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+            }
+            invalidate();
+            if (serviceWatch != null) {
+                serviceWatch.close();
+            }
+            if (routeWatch != null) {
+                routeWatch.close();
+            }
+        }
+
+        private class EvictingWatcher<T extends HasMetadata> implements Watcher<T> {
+
+            @Override
+            public void eventReceived(Action action, T resource) {
+                LOGGER.debug("Received {} event for {} {} in namespace {}, evicting cached endpoints", action, resource.getKind(), resource.getMetadata().getName(),
+                        namespace);
+                invalidate();
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                LOGGER.warn("Watch in namespace {} closed, evicting cached endpoints", namespace, cause);
+                namespaces.remove(namespace, NamespaceCache.this);
+                close();
+            }
+        }
+    }
+}
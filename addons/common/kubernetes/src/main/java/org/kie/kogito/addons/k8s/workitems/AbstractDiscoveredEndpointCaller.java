@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.HttpMethod;
@@ -29,11 +31,16 @@ import javax.ws.rs.core.MediaType;
 import org.kie.api.runtime.process.WorkItem;
 import org.kie.kogito.addons.k8s.Endpoint;
 import org.kie.kogito.addons.k8s.EndpointDiscovery;
+import org.kie.kogito.addons.k8s.EndpointQueryKey;
+import org.kie.kogito.addons.k8s.EndpointSelector;
+import org.kie.kogito.addons.k8s.RoundRobinEndpointSelector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -53,9 +60,15 @@ public abstract class AbstractDiscoveredEndpointCaller {
 
     private final ObjectMapper objectMapper;
     private final OkHttpClient httpClient;
+    private final EndpointSelector endpointSelector;
 
     public AbstractDiscoveredEndpointCaller(ObjectMapper objectMapper) {
+        this(objectMapper, new RoundRobinEndpointSelector());
+    }
+
+    public AbstractDiscoveredEndpointCaller(ObjectMapper objectMapper, EndpointSelector endpointSelector) {
         this.objectMapper = objectMapper;
+        this.endpointSelector = endpointSelector;
         this.httpClient = new OkHttpClient.Builder()
                 .connectTimeout(60, TimeUnit.SECONDS)
                 .writeTimeout(60, TimeUnit.SECONDS)
@@ -76,26 +89,62 @@ public abstract class AbstractDiscoveredEndpointCaller {
      * @return the result of the REST call
      */
     public Map<String, Object> discoverAndCall(WorkItem workItem, String namespace, String workItemServiceKey, String httpMethod) {
+        final Request request = discoverAndCreateRequest(workItem, namespace, workItemServiceKey, httpMethod);
+        try (Response response = this.httpClient.newCall(request).execute()) {
+            return createResultsFromResponse(response, request.url().toString());
+        } catch (IOException e) {
+            throw new EndpointCallerException(e);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #discoverAndCall(WorkItem, String, String, String)}.
+     * The discovery happens on the calling thread, the REST call is performed by the HTTP client dispatcher.
+     *
+     * @param workItem The given workitem for the current process
+     * @param namespace Where the service is located
+     * @param workItemServiceKey the key from the workitem parameter that holds the service label to search for
+     * @param httpMethod the HTTP method to make the request
+     * @return a {@link CompletionStage} completed with the result of the REST call, or exceptionally with an {@link EndpointCallerException}
+     */
+    public CompletionStage<Map<String, Object>> discoverAndCallAsync(WorkItem workItem, String namespace, String workItemServiceKey, String httpMethod) {
+        final Request request = discoverAndCreateRequest(workItem, namespace, workItemServiceKey, httpMethod);
+        final CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        this.httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                result.completeExceptionally(new EndpointCallerException(e));
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    result.complete(createResultsFromResponse(response, request.url().toString()));
+                } catch (IOException e) {
+                    result.completeExceptionally(new EndpointCallerException(e));
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+        return result;
+    }
+
+    private Request discoverAndCreateRequest(WorkItem workItem, String namespace, String workItemServiceKey, String httpMethod) {
         final Map<String, Object> data = new HashMap<>(workItem.getParameters());
         final String service = (String) data.remove(workItemServiceKey);
 
-        final List<Endpoint> endpoint = this.getEndpointDiscovery().findEndpoint(namespace, Collections.singletonMap(service, null));
-        if (endpoint.isEmpty()) {
+        final Map<String, String> labels = Collections.singletonMap(service, null);
+        final List<Endpoint> endpoints = this.getEndpointDiscovery().findEndpoint(namespace, labels);
+        if (endpoints.isEmpty()) {
             throw new IllegalArgumentException("Kubernetes service with label " + service + " not found in the namespace " + namespace);
         }
-        if (endpoint.size() > 1) {
-            LOGGER.warn("Found more than one endpoint using labels {}:null. Returning the first one in the list. Try to be more specific in the query search.", service);
-        }
-        LOGGER.debug("Found endpoint for service {} in namespace {} with URL {}", service, namespace, endpoint.get(0).getUrl());
+        final Endpoint endpoint = endpointSelector.select(new EndpointQueryKey(namespace, labels), endpoints);
+        LOGGER.debug("Selected endpoint for service {} in namespace {} with URL {} among {} candidates", service, namespace, endpoint.getUrl(), endpoints.size());
 
         INTERNAL_FIELDS.forEach(data::remove);
 
-        final Request request = createRequest(String.format("%s/%s", endpoint.get(0).getUrl(), service), createRequestPayload(data), httpMethod);
-        try (Response response = this.httpClient.newCall(request).execute()) {
-            return createResultsFromResponse(response, request.url().toString());
-        } catch (IOException e) {
-            throw new EndpointCallerException(e);
-        }
+        return createRequest(String.format("%s/%s", endpoint.getUrl(), service), createRequestPayload(data), httpMethod);
     }
 
     private RequestBody createRequestPayload(Map<String, Object> data) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addons.k8s;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RoundRobinEndpointSelectorTest {
+
+    @Test
+    void verifyCallsAreSpreadAcrossEndpoints() {
+        final EndpointSelector selector = new RoundRobinEndpointSelector();
+        final EndpointQueryKey key = new EndpointQueryKey("test", Collections.singletonMap("app", null));
+        final List<Endpoint> endpoints = Arrays.asList(new Endpoint("http://a"), new Endpoint("http://b"), new Endpoint("http://c"));
+
+        assertEquals("http://a", selector.select(key, endpoints).getUrl());
+        assertEquals("http://b", selector.select(key, endpoints).getUrl());
+        assertEquals("http://c", selector.select(key, endpoints).getUrl());
+        assertEquals("http://a", selector.select(key, endpoints).getUrl());
+    }
+
+    @Test
+    void verifyCountersAreKeptPerQuery() {
+        final EndpointSelector selector = new RoundRobinEndpointSelector();
+        final EndpointQueryKey key1 = new EndpointQueryKey("test", Collections.singletonMap("app1", null));
+        final EndpointQueryKey key2 = new EndpointQueryKey("test", Collections.singletonMap("app2", null));
+        final List<Endpoint> endpoints = Arrays.asList(new Endpoint("http://a"), new Endpoint("http://b"));
+
+        assertEquals("http://a", selector.select(key1, endpoints).getUrl());
+        assertEquals("http://a", selector.select(key2, endpoints).getUrl());
+        assertEquals("http://b", selector.select(key1, endpoints).getUrl());
+    }
+
+    @Test
+    void verifyEmptyEndpoints() {
+        final EndpointQueryKey key = new EndpointQueryKey("test", "app");
+        assertThrows(IllegalArgumentException.class, () -> new RoundRobinEndpointSelector().select(key, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addons.k8s;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.StatusBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnableKubernetesMockClient
+public class WatchedEndpointDiscoveryForbiddenTest {
+
+    private static final String NAMESPACE = "test";
+    private static final Map<String, String> LABELS = Collections.singletonMap("app", "watched");
+
+    static KubernetesMockServer server;
+    static KubernetesClient kubernetesClient;
+
+    @Test
+    void verifyForbiddenWatchIsRetriedAfterDelay() {
+        server.expect().withPath("/api/v1/namespaces/test/services?allowWatchBookmarks=true&watch=true")
+                .andReturn(403, new StatusBuilder().withCode(403).withReason("Forbidden").build())
+                .always();
+        final AtomicLong now = new AtomicLong();
+        final AtomicInteger lookups = new AtomicInteger();
+        final EndpointDiscovery delegate = new EndpointDiscovery() {
+            @Override
+            public Optional<Endpoint> findEndpoint(String namespace, String name) {
+                lookups.incrementAndGet();
+                return Optional.empty();
+            }
+
+            @Override
+            public List<Endpoint> findEndpoint(String namespace, Map<String, String> labels) {
+                lookups.incrementAndGet();
+                return Collections.emptyList();
+            }
+        };
+
+        try (WatchedEndpointDiscovery discovery = new WatchedEndpointDiscovery(kubernetesClient, delegate, now::get)) {
+            final int requests = server.getRequestCount();
+            discovery.findEndpoint(NAMESPACE, LABELS);
+            discovery.findEndpoint(NAMESPACE, LABELS);
+            discovery.findEndpoint(NAMESPACE, "svc1");
+            assertEquals(3, lookups.get());
+            assertEquals(requests + 1, server.getRequestCount());
+
+            now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            discovery.findEndpoint(NAMESPACE, LABELS);
+            assertEquals(requests + 2, server.getRequestCount());
+
+            // the delay doubles on every failure
+            now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            discovery.findEndpoint(NAMESPACE, LABELS);
+            assertEquals(requests + 2, server.getRequestCount());
+            now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            discovery.findEndpoint(NAMESPACE, LABELS);
+            assertEquals(requests + 3, server.getRequestCount());
+            assertEquals(6, lookups.get());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.addons.k8s;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServicePortBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableKubernetesMockClient(crud = true)
+public class WatchedEndpointDiscoveryTest {
+
+    private static final String NAMESPACE = "test";
+    private static final Map<String, String> LABELS = Collections.singletonMap("app", "watched");
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    static KubernetesClient kubernetesClient;
+
+    private CountingEndpointDiscovery delegate;
+
+    @BeforeEach
+    void setup() {
+        kubernetesClient.services().inNamespace(NAMESPACE).delete();
+        delegate = new CountingEndpointDiscovery(new KubernetesServiceEndpointDiscovery(kubernetesClient));
+    }
+
+    @Test
+    void verifyEndpointsAreCached() {
+        createService("svc1", "10.0.0.1");
+        try (WatchedEndpointDiscovery discovery = new WatchedEndpointDiscovery(kubernetesClient, delegate)) {
+            final List<Endpoint> first = discovery.findEndpoint(NAMESPACE, LABELS);
+            final List<Endpoint> second = discovery.findEndpoint(NAMESPACE, LABELS);
+            assertEquals(1, first.size());
+            assertSame(first, second);
+            assertEquals(1, delegate.calls.get());
+
+            final Optional<Endpoint> byName = discovery.findEndpoint(NAMESPACE, "svc1");
+            assertTrue(byName.isPresent());
+            discovery.findEndpoint(NAMESPACE, "svc1");
+            assertEquals(2, delegate.calls.get());
+        }
+    }
+
+    @Test
+    void verifyServiceChangesEvictCache() throws InterruptedException {
+        createService("svc1", "10.0.0.1");
+        try (WatchedEndpointDiscovery discovery = new WatchedEndpointDiscovery(kubernetesClient, delegate)) {
+            assertEquals(1, discovery.findEndpoint(NAMESPACE, LABELS).size());
+
+            createService("svc2", "10.0.0.2");
+            assertEquals(2, awaitEndpoints(discovery, 2).size());
+
+            kubernetesClient.services().inNamespace(NAMESPACE).withName("svc1").delete();
+            assertEquals(1, awaitEndpoints(discovery, 1).size());
+        }
+    }
+
+    @Test
+    void verifyEndpointFoundDuringEvictionIsNotCached() {
+        createService("svc1", "10.0.0.1");
+        final EvictingEndpointDiscovery evicting = new EvictingEndpointDiscovery(delegate);
+        try (WatchedEndpointDiscovery discovery = new WatchedEndpointDiscovery(kubernetesClient, evicting)) {
+            evicting.discovery = discovery;
+            assertEquals(1, discovery.findEndpoint(NAMESPACE, LABELS).size());
+            assertEquals(1, discovery.findEndpoint(NAMESPACE, LABELS).size());
+            assertEquals(2, delegate.calls.get());
+            assertEquals(1, discovery.findEndpoint(NAMESPACE, LABELS).size());
+            assertEquals(2, delegate.calls.get());
+        }
+    }
+
+    private List<Endpoint> awaitEndpoints(final EndpointDiscovery discovery, final int expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        List<Endpoint> endpoints = discovery.findEndpoint(NAMESPACE, LABELS);
+        while (endpoints.size() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            endpoints = discovery.findEndpoint(NAMESPACE, LABELS);
+        }
+        return endpoints;
+    }
+
+    private void createService(final String name, final String clusterIP) {
+        final Service service = new ServiceBuilder()
+                .withNewMetadata().withName(name).withNamespace(NAMESPACE).withLabels(LABELS).endMetadata()
+                .withNewSpec().withClusterIP(clusterIP).withPorts(new ServicePortBuilder().withPort(8080).build()).endSpec()
+                .build();
+        kubernetesClient.services().inNamespace(NAMESPACE).create(service);
+    }
+
+    private static class CountingEndpointDiscovery implements EndpointDiscovery {
+
+        private final EndpointDiscovery delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingEndpointDiscovery(final EndpointDiscovery delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<Endpoint> findEndpoint(String namespace, String name) {
+            calls.incrementAndGet();
+            return delegate.findEndpoint(namespace, name);
+        }
+
+        @Override
+        public List<Endpoint> findEndpoint(String namespace, Map<String, String> labels) {
+            calls.incrementAndGet();
+            return delegate.findEndpoint(namespace, labels);
+        }
+    }
+
+    /**
+     * Evicts the namespace while the first lookup is running, as a watch event would
+     */
+    private static class EvictingEndpointDiscovery implements EndpointDiscovery {
+
+        private final EndpointDiscovery delegate;
+        private WatchedEndpointDiscovery discovery;
+        private boolean evicted;
+
+        private EvictingEndpointDiscovery(final EndpointDiscovery delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<Endpoint> findEndpoint(String namespace, String name) {
+            return delegate.findEndpoint(namespace, name);
+        }
+
+        @Override
+        public List<Endpoint> findEndpoint(String namespace, Map<String, String> labels) {
+            final List<Endpoint> endpoints = delegate.findEndpoint(namespace, labels);
+            if (!evicted) {
+                evicted = true;
+                discovery.invalidate(namespace);
+            }
+            return endpoints;
+        }
+    }
+}
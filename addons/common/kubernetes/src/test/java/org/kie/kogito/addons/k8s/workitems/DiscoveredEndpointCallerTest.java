@@ -16,6 +16,9 @@
 package org.kie.kogito.addons.k8s.workitems;
 
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import javax.ws.rs.HttpMethod;
 
@@ -44,4 +47,15 @@ public class DiscoveredEndpointCallerTest {
         assertEquals("OK", response.get("response"));
     }
 
+    @Test
+    void testDiscoveryAndCallAsync() throws InterruptedException, ExecutionException, TimeoutException {
+        final KogitoWorkItemImpl workItem = new KogitoWorkItemImpl();
+        workItem.setParameter("discovery", "app");
+        final Map<String, Object> response = this.endpointCaller.discoverAndCallAsync(workItem, MockDiscoveredEndpointCaller.NAMESPACE, "discovery", HttpMethod.GET)
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        assertNotNull(response);
+        assertEquals("OK", response.get("response"));
+    }
+
 }
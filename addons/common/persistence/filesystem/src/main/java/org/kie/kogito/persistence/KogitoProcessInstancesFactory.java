@@ -16,10 +16,14 @@
 package org.kie.kogito.persistence;
 
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import org.kie.kogito.persistence.filesystem.FileSystemProcessInstances;
 import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstanceRetention;
 import org.kie.kogito.process.ProcessInstancesFactory;
+import org.kie.kogito.serialization.process.PayloadCompression;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 
 /**
  * This class must always have exact FQCN as <code>org.kie.kogito.persistence.KogitoProcessInstancesFactory</code>
@@ -28,9 +32,85 @@ import org.kie.kogito.process.ProcessInstancesFactory;
 public abstract class KogitoProcessInstancesFactory implements ProcessInstancesFactory {
 
     public FileSystemProcessInstances createProcessInstances(Process<?> process) {
-        return new FileSystemProcessInstances(process, Paths.get(path()));
+        return new FileSystemProcessInstances(process, Paths.get(path()), marshaller(), deltaCompactionThreshold(), retention());
     }
 
     public abstract String path();
 
+    /**
+     * Number of updates kept as deltas before compacting them into the stored process instance,
+     * values lower than two disable delta persistence
+     */
+    public int deltaCompactionThreshold() {
+        return 0;
+    }
+
+    /**
+     * Name of the {@link org.kie.kogito.serialization.process.PayloadCompressor} applied to stored process instances,
+     * <code>none</code> by default
+     */
+    public String compression() {
+        return PayloadCompression.NONE;
+    }
+
+    /**
+     * Process instances smaller than this number of bytes are stored uncompressed
+     */
+    public int compressionThreshold() {
+        return ProcessInstanceMarshallerService.DEFAULT_COMPRESSION_THRESHOLD;
+    }
+
+    /**
+     * Whether finished process instances are moved into an archive instead of being removed
+     */
+    public boolean retentionArchive() {
+        return false;
+    }
+
+    /**
+     * Time archived process instances are kept for, as an ISO-8601 duration, they never expire by default
+     */
+    public String retentionTimeToLive() {
+        return null;
+    }
+
+    /**
+     * Maximum number of archived process instances kept per process, zero when unlimited
+     */
+    public int retentionMaxCount() {
+        return 0;
+    }
+
+    /**
+     * Maximum number of expired archived process instances removed at once
+     */
+    public int retentionSweepBatchSize() {
+        return ProcessInstanceRetention.DEFAULT_SWEEP_BATCH_SIZE;
+    }
+
+    /**
+     * Time between two removals of the expired archived process instances, as an ISO-8601 duration
+     */
+    public String retentionSweepInterval() {
+        return ProcessInstanceRetention.DEFAULT_SWEEP_INTERVAL.toString();
+    }
+
+    protected ProcessInstanceRetention retention() {
+        String timeToLive = retentionTimeToLive();
+        return ProcessInstanceRetention.newBuilder()
+                .withArchive(retentionArchive())
+                .withTimeToLive(timeToLive == null || timeToLive.isBlank() ? null : Duration.parse(timeToLive))
+                .withMaxCount(retentionMaxCount())
+                .withSweepBatchSize(retentionSweepBatchSize())
+                .withSweepInterval(Duration.parse(retentionSweepInterval()))
+                .build();
+    }
+
+    protected ProcessInstanceMarshallerService marshaller() {
+        return ProcessInstanceMarshallerService.newBuilder()
+                .withDefaultObjectMarshallerStrategies()
+                .withCompression(compression(), compressionThreshold())
+                .build();
+    }
+
 }
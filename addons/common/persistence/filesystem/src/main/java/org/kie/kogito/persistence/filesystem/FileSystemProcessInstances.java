@@ -17,23 +17,35 @@ package org.kie.kogito.persistence.filesystem;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.UserDefinedFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.ProcessInstanceRetention;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,35 +60,72 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
     public static final String PI_DESCRIPTION = "ProcessInstanceDescription";
     public static final String PI_STATUS = "ProcessInstanceStatus";
 
+    public static final String DELTA_LOG_SUFFIX = ".delta";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String ARCHIVE_DIRECTORY = ".archive";
+
     private Process<?> process;
     private Path storage;
 
     private ProcessInstanceMarshallerService marshaller;
 
+    private int deltaCompactionThreshold;
+
+    private ProcessInstanceIndex index;
+    private Boolean userDefinedAttributes;
+
+    private ProcessInstanceRetention retention;
+    private Archive archive;
+    private ArchivedProcessInstancesSweeper sweeper = ArchivedProcessInstancesSweeper.NONE;
+
     public FileSystemProcessInstances(Process<?> process, Path storage) {
-        this(process, storage, ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
+        this(process, storage, 0);
+    }
+
+    public FileSystemProcessInstances(Process<?> process, Path storage, int deltaCompactionThreshold) {
+        this(process, storage, ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build(), deltaCompactionThreshold);
     }
 
     public FileSystemProcessInstances(Process<?> process, Path storage, ProcessInstanceMarshallerService marshaller) {
+        this(process, storage, marshaller, 0);
+    }
+
+    /**
+     * When <code>deltaCompactionThreshold</code> is greater than one, updates only append the changes of the process instance
+     * to a log file next to it and the log is compacted into the process instance file every <code>deltaCompactionThreshold</code> updates.
+     * Otherwise the whole process instance is written on every update.
+     */
+    public FileSystemProcessInstances(Process<?> process, Path storage, ProcessInstanceMarshallerService marshaller, int deltaCompactionThreshold) {
+        this(process, storage, marshaller, deltaCompactionThreshold, ProcessInstanceRetention.NONE);
+    }
+
+    /**
+     * When the <code>retention</code> policy archives finished process instances, they are moved into the
+     * {@value #ARCHIVE_DIRECTORY} directory of the process, as a single file each, and removed from there once expired.
+     */
+    public FileSystemProcessInstances(Process<?> process, Path storage, ProcessInstanceMarshallerService marshaller, int deltaCompactionThreshold,
+            ProcessInstanceRetention retention) {
         this.process = process;
         this.storage = Paths.get(storage.toString(), process.id());
         this.marshaller = marshaller;
+        this.deltaCompactionThreshold = deltaCompactionThreshold;
+        this.retention = retention;
 
         try {
             Files.createDirectories(this.storage);
         } catch (IOException e) {
             throw new RuntimeException("Unable to create directories for file based storage of process instances", e);
         }
+        this.index = ProcessInstanceIndex.of(this.storage, this::readIndexEntry);
+        if (retention.isArchive()) {
+            this.archive = new Archive(this.storage.resolve(ARCHIVE_DIRECTORY));
+            this.sweeper = ArchivedProcessInstancesSweeper.schedule(process.id(), archive, retention);
+        }
     }
 
     @Override
     public Integer size() {
-        try (Stream<Path> stream = Files.walk(storage)) {
-            Long count = stream.filter(file -> !Files.isDirectory(file)).count();
-            return count.intValue();
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to count process instances ", e);
-        }
+        return index.size();
     }
 
     @Override
@@ -86,21 +135,29 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
         if (Files.notExists(processInstanceStorage)) {
             return Optional.empty();
         }
-        byte[] data = readBytesFromFile(processInstanceStorage);
+        byte[] data = readProcessInstance(processInstanceStorage);
         return Optional.of(mode == MUTABLE ? marshaller.unmarshallProcessInstance(data, process) : marshaller.unmarshallReadOnlyProcessInstance(data, process));
     }
 
     @Override
     public Collection values(ProcessInstanceReadMode mode) {
-        try (Stream<Path> stream = Files.walk(storage)) {
-            return stream
-                    .filter(file -> !Files.isDirectory(file))
-                    .map(this::readBytesFromFile)
-                    .map(b -> mode == MUTABLE ? marshaller.unmarshallProcessInstance(b, process) : marshaller.unmarshallReadOnlyProcessInstance(b, process))
-                    .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to read process instances ", e);
+        List<Object> instances = new ArrayList<>();
+        for (String id : index.ids()) {
+            Path processInstanceStorage = Paths.get(storage.toString(), id);
+            if (Files.notExists(processInstanceStorage)) {
+                // removed in the meantime
+                continue;
+            }
+            byte[] data = readProcessInstance(processInstanceStorage);
+            instances.add(mode == MUTABLE ? marshaller.unmarshallProcessInstance(data, process) : marshaller.unmarshallReadOnlyProcessInstance(data, process));
         }
+        return instances;
+    }
+
+    @Override
+    public Optional findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
+        String id = index.findByBusinessKey(businessKey);
+        return id == null ? Optional.empty() : findById(id, mode);
     }
 
     @Override
@@ -126,7 +183,11 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
         if (isActive(instance)) {
             Path processInstanceStorage = Paths.get(storage.toString(), id);
             if (Files.exists(processInstanceStorage)) {
-                storeProcessInstance(processInstanceStorage, instance);
+                if (deltaCompactionThreshold > 1) {
+                    storeProcessInstanceDelta(processInstanceStorage, instance);
+                } else {
+                    storeProcessInstance(processInstanceStorage, instance);
+                }
                 disconnect(processInstanceStorage, instance);
             }
         }
@@ -137,20 +198,168 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
         Path processInstanceStorage = Paths.get(storage.toString(), id);
         try {
             Files.deleteIfExists(processInstanceStorage);
+            Files.deleteIfExists(deltaLog(processInstanceStorage));
         } catch (IOException e) {
             throw new RuntimeException("Unable to remove process instance with id " + id, e);
         }
+        index.remove(id);
+    }
+
+    @Override
+    public void archive(String id, ProcessInstance instance) {
+        if (archive != null) {
+            archive.store(id, instance);
+        }
+        remove(id);
+    }
+
+    @Override
+    public Optional archived() {
+        return Optional.ofNullable(archive);
+    }
+
+    @Override
+    public void close() {
+        sweeper.close();
     }
 
     protected void storeProcessInstance(Path processInstanceStorage, ProcessInstance<?> instance) {
         try {
             byte[] data = marshaller.marshallProcessInstance(instance);
-            Files.write(processInstanceStorage, data);
+            index.put(instance.id(), instance.status(), instance.description(), instance.businessKey());
+            // attributes are set on the temporary file, so they are replaced along with the content
+            Path tempFile = writeTempFile(processInstanceStorage, data);
+            setMetadata(tempFile, PI_DESCRIPTION, instance.description());
+            setMetadata(tempFile, PI_STATUS, String.valueOf(instance.status()));
+            Files.move(tempFile, processInstanceStorage, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to store process instance with id " + instance.id(), e);
+        }
+    }
+
+    /**
+     * The delta log starts with the digest of the snapshot its deltas apply to. The snapshot is replaced atomically
+     * when the log is compacted, so a log left behind by a crash right after that does not match the new snapshot
+     * anymore and is ignored instead of being replayed on top of it.
+     */
+    protected void storeProcessInstanceDelta(Path processInstanceStorage, ProcessInstance<?> instance) {
+        Path deltaLog = deltaLog(processInstanceStorage);
+        try {
+            byte[] snapshot = readBytesFromFile(processInstanceStorage);
+            byte[] snapshotDigest = digest(snapshot);
+            List<byte[]> deltas = readDeltas(deltaLog, snapshotDigest);
+            if (deltas.size() + 1 >= deltaCompactionThreshold) {
+                storeProcessInstance(processInstanceStorage, instance);
+                Files.deleteIfExists(deltaLog);
+                return;
+            }
+            byte[] base = marshaller.mergeProcessInstanceDeltas(snapshot, deltas);
+            byte[] delta = marshaller.marshallProcessInstanceDelta(base, instance);
+            index.put(instance.id(), instance.status(), instance.description(), instance.businessKey());
+            ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + delta.length).putInt(delta.length).put(delta);
+            entry.flip();
+            if (deltas.isEmpty()) {
+                // first delta of this snapshot, any log left from a previous one is replaced
+                ByteBuffer log = ByteBuffer.allocate(snapshotDigest.length + entry.remaining()).put(snapshotDigest).put(entry);
+                log.flip();
+                Files.move(writeTempFile(deltaLog, log.array()), deltaLog, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                // an entry cut by a crash is ignored when the log is read
+                try (FileChannel channel = FileChannel.open(deltaLog, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    while (entry.hasRemaining()) {
+                        channel.write(entry);
+                    }
+                    channel.force(false);
+                }
+            }
             setMetadata(processInstanceStorage, PI_DESCRIPTION, instance.description());
             setMetadata(processInstanceStorage, PI_STATUS, String.valueOf(instance.status()));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to store process instance delta with id " + instance.id(), e);
+        }
+    }
 
+    protected byte[] readProcessInstance(Path processInstanceStorage) {
+        byte[] snapshot = readBytesFromFile(processInstanceStorage);
+        try {
+            return marshaller.mergeProcessInstanceDeltas(snapshot, readDeltas(deltaLog(processInstanceStorage), digest(snapshot)));
         } catch (IOException e) {
-            throw new RuntimeException("Unable to store process instance with id " + instance.id(), e);
+            throw new RuntimeException("Unable to read process instance deltas from " + processInstanceStorage, e);
+        }
+    }
+
+    /**
+     * Writes the data to a temporary file next to the target and syncs it to disk, ready to be moved in place.
+     */
+    protected Path writeTempFile(Path target, byte[] data) throws IOException {
+        Path tempFile = target.resolveSibling(target.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        return tempFile;
+    }
+
+    protected List<byte[]> readDeltas(Path deltaLog, byte[] snapshotDigest) throws IOException {
+        if (Files.notExists(deltaLog)) {
+            return Collections.emptyList();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(deltaLog));
+        if (buffer.remaining() < snapshotDigest.length || !ByteBuffer.wrap(snapshotDigest).equals(buffer.slice().limit(snapshotDigest.length))) {
+            LOGGER.debug("Ignoring delta log {} of a previous snapshot", deltaLog);
+            return Collections.emptyList();
+        }
+        buffer.position(snapshotDigest.length);
+        List<byte[]> deltas = new ArrayList<>();
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                LOGGER.warn("Ignoring incomplete trailing entry of delta log {}", deltaLog);
+                break;
+            }
+            byte[] delta = new byte[length];
+            buffer.get(delta);
+            deltas.add(delta);
+        }
+        return deltas;
+    }
+
+    private static byte[] digest(byte[] snapshot) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(snapshot);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    protected Path deltaLog(Path processInstanceStorage) {
+        return processInstanceStorage.resolveSibling(processInstanceStorage.getFileName() + DELTA_LOG_SUFFIX);
+    }
+
+    protected boolean isProcessInstanceFile(Path file) {
+        return isStoredProcessInstance(file);
+    }
+
+    static boolean isStoredProcessInstance(Path file) {
+        String name = file.getFileName().toString();
+        return !Files.isDirectory(file) && !name.endsWith(DELTA_LOG_SUFFIX) && !name.endsWith(TEMP_FILE_SUFFIX) && !ProcessInstanceIndex.isIndexFile(file);
+    }
+
+    private ProcessInstanceIndex.Entry readIndexEntry(Path file) {
+        String status = readAttribute(file, PI_STATUS);
+        return new ProcessInstanceIndex.Entry(status == null ? ProcessInstance.STATE_ACTIVE : Integer.parseInt(status), readAttribute(file, PI_DESCRIPTION), readBusinessKey(file));
+    }
+
+    private String readBusinessKey(Path file) {
+        // only done when the index is built, the business key is not kept in the file attributes
+        try {
+            return marshaller.unmarshallReadOnlyProcessInstance(readProcessInstance(file), process).businessKey();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to read the business key of process instance {}", file, e);
+            return null;
         }
     }
 
@@ -163,12 +372,26 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
     }
 
     protected void disconnect(Path processInstanceStorage, ProcessInstance instance) {
-        Supplier<byte[]> supplier = () -> readBytesFromFile(processInstanceStorage);
+        Supplier<byte[]> supplier = () -> readProcessInstance(processInstanceStorage);
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(supplier));
     }
 
+    /**
+     * Returns the status or the description of the stored process instance from the index,
+     * other keys are read from the user defined attributes of the file when supported.
+     */
     public String getMetadata(Path file, String key) {
+        ProcessInstanceIndex.Entry entry = storage.equals(file.getParent()) ? index.get(file.getFileName().toString()) : null;
+        if (entry != null && PI_STATUS.equals(key)) {
+            return String.valueOf(entry.getStatus());
+        }
+        if (entry != null && PI_DESCRIPTION.equals(key)) {
+            return entry.getDescription();
+        }
+        return readAttribute(file, key);
+    }
 
+    private String readAttribute(Path file, String key) {
         if (supportsUserDefinedAttributes(file)) {
             UserDefinedFileAttributeView view = Files.getFileAttributeView(file, UserDefinedFileAttributeView.class);
             try {
@@ -202,10 +425,129 @@ public class FileSystemProcessInstances implements MutableProcessInstances {
     }
 
     protected boolean supportsUserDefinedAttributes(Path file) {
+        if (storage.equals(file.getParent())) {
+            // all the process instances share the file store of the storage directory
+            if (userDefinedAttributes == null) {
+                userDefinedAttributes = fileStoreSupportsUserDefinedAttributes(storage);
+            }
+            return userDefinedAttributes;
+        }
+        return fileStoreSupportsUserDefinedAttributes(file);
+    }
+
+    private static boolean fileStoreSupportsUserDefinedAttributes(Path path) {
         try {
-            return Files.getFileStore(file).supportsFileAttributeView(UserDefinedFileAttributeView.class);
+            return Files.getFileStore(path).supportsFileAttributeView(UserDefinedFileAttributeView.class);
         } catch (IOException e) {
             return false;
         }
     }
+
+    /**
+     * Archived process instances, stored without their delta log and ordered by the time they were archived at,
+     * which is the last modified time of their file.
+     */
+    private class Archive implements ArchivedProcessInstances {
+
+        private final Path directory;
+
+        Archive(Path directory) {
+            this.directory = directory;
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to create directories for the archive of process instances", e);
+            }
+        }
+
+        void store(String id, ProcessInstance<?> instance) {
+            try {
+                Files.write(directory.resolve(id), marshaller.marshallProcessInstance(instance));
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to archive process instance with id " + id, e);
+            }
+        }
+
+        @Override
+        public Optional findById(String id) {
+            Path file = directory.resolve(id);
+            if (Files.notExists(file)) {
+                return Optional.empty();
+            }
+            return Optional.of(marshaller.unmarshallReadOnlyProcessInstance(readBytesFromFile(file), process));
+        }
+
+        @Override
+        public Collection values() {
+            List<Object> instances = new ArrayList<>();
+            for (Path file : files()) {
+                if (Files.notExists(file)) {
+                    // swept in the meantime
+                    continue;
+                }
+                instances.add(marshaller.unmarshallReadOnlyProcessInstance(readBytesFromFile(file), process));
+            }
+            return instances;
+        }
+
+        @Override
+        public Integer size() {
+            return files().size();
+        }
+
+        @Override
+        public int sweep(int batchSize) {
+            List<ArchivedFile> files = files().stream().map(ArchivedFile::new)
+                    .sorted(Comparator.comparingLong(ArchivedFile::getArchivedAt))
+                    .collect(Collectors.toList());
+            long expiredBefore = retention.getTimeToLive().map(ttl -> System.currentTimeMillis() - ttl.toMillis()).orElse(Long.MIN_VALUE);
+            int excess = retention.getMaxCount() > 0 ? files.size() - retention.getMaxCount() : 0;
+            int removed = 0;
+            // oldest first, so the sweep stops at the first file that is neither expired nor in excess
+            for (int i = 0; i < files.size() && removed < batchSize && (i < excess || files.get(i).getArchivedAt() < expiredBefore); i++) {
+                try {
+                    if (Files.deleteIfExists(files.get(i).getPath())) {
+                        removed++;
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("Unable to remove archived process instance " + files.get(i).getPath(), e);
+                }
+            }
+            return removed;
+        }
+
+        private List<Path> files() {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(Files::isRegularFile).collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new RuntimeException("Unable to list archived process instances of " + directory, e);
+            }
+        }
+    }
+
+    private static class ArchivedFile {
+
+        private final Path path;
+        private final long archivedAt;
+
+        ArchivedFile(Path path) {
+            this.path = path;
+            long lastModified;
+            try {
+                lastModified = Files.getLastModifiedTime(path).toMillis();
+            } catch (IOException e) {
+                // removed in the meantime, nothing left to sweep
+                lastModified = Long.MAX_VALUE;
+            }
+            this.archivedAt = lastModified;
+        }
+
+        Path getPath() {
+            return path;
+        }
+
+        long getArchivedAt() {
+            return archivedAt;
+        }
+    }
 }
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.filesystem;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append only index of the process instances stored in a directory, with their status, description and
+ * business key.
+ * <p>
+ * Every change appends a checksummed record to the index file and is kept in memory, so counting and
+ * listing the process instances does not need to visit the directory. Entries are written before the
+ * process instance file and removed after it, which keeps the index a superset of the stored files:
+ * on load, entries whose file does not exist (the process was stopped in between) are dropped, as well
+ * as a trailing record that was not completely written. The index is compacted, by writing the live
+ * entries to a temporary file that atomically replaces it, once it holds more than twice as many
+ * records as entries. An index is built from the directory content when none is found.
+ * <p>
+ * Business keys are unique among the indexed process instances, storing a process instance with the
+ * business key of another one fails before anything is written.
+ * <p>
+ * There is a single index per directory, shared by all the {@link FileSystemProcessInstances} using it.
+ */
+final class ProcessInstanceIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceIndex.class);
+
+    static final String INDEX_FILE = ".index";
+    static final String COMPACTION_FILE = ".index.compacting";
+
+    private static final int MAGIC = 0x4b504949;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+
+    private static final Map<Path, ProcessInstanceIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Path storage;
+    private final Path indexFile;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, String> businessKeys = new HashMap<>();
+    private int records;
+
+    /**
+     * Returns the index of the given directory, the metadata function provides the entries of the
+     * process instances already stored in the directory when there is no index yet.
+     */
+    static ProcessInstanceIndex of(Path storage, Function<Path, Entry> metadata) {
+        Path key = storage.toAbsolutePath().normalize();
+        // the directory may have been deleted and created again
+        return INDEXES.compute(key, (path, index) -> index != null && Files.exists(index.indexFile) ? index : new ProcessInstanceIndex(path, metadata));
+    }
+
+    ProcessInstanceIndex(Path storage, Function<Path, Entry> metadata) {
+        this.storage = storage;
+        this.indexFile = storage.resolve(INDEX_FILE);
+        try {
+            Files.deleteIfExists(storage.resolve(COMPACTION_FILE));
+            if (Files.exists(indexFile) && load()) {
+                return;
+            }
+            rebuild(metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load process instance index of " + storage, e);
+        }
+    }
+
+    static boolean isIndexFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.equals(INDEX_FILE) || name.equals(COMPACTION_FILE);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized List<String> ids() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    synchronized Entry get(String id) {
+        return entries.get(id);
+    }
+
+    /**
+     * Returns the id of the process instance using the given business key, if any.
+     */
+    synchronized String findByBusinessKey(String businessKey) {
+        return businessKeys.get(businessKey);
+    }
+
+    synchronized void put(String id, int status, String description, String businessKey) {
+        String owner = businessKey == null ? null : businessKeys.get(businessKey);
+        if (owner != null && !owner.equals(id)) {
+            throw new ProcessInstanceDuplicatedBusinessKeyException(id, businessKey);
+        }
+        Entry entry = new Entry(status, description, businessKey);
+        Entry previous = entries.get(id);
+        if (!entry.equals(previous)) {
+            entries.put(id, entry);
+            unindexBusinessKey(id, previous);
+            if (businessKey != null) {
+                businessKeys.put(businessKey, id);
+            }
+            append(record(PUT, id, entry));
+        }
+    }
+
+    synchronized void remove(String id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            unindexBusinessKey(id, removed);
+            append(record(REMOVE, id, null));
+        }
+    }
+
+    private void unindexBusinessKey(String id, Entry entry) {
+        if (entry != null && entry.getBusinessKey() != null) {
+            businessKeys.remove(entry.getBusinessKey(), id);
+        }
+    }
+
+    private void indexBusinessKeys() {
+        businessKeys.clear();
+        entries.forEach((id, entry) -> {
+            if (entry.getBusinessKey() != null && businessKeys.putIfAbsent(entry.getBusinessKey(), id) != null) {
+                LOGGER.warn("Business key {} of process instance {} is already used by process instance {}", entry.getBusinessKey(), id, businessKeys.get(entry.getBusinessKey()));
+            }
+        });
+    }
+
+    /**
+     * Reads the index file, returns <code>false</code> if it is not an index file.
+     */
+    private boolean load() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            LOGGER.warn("Ignoring unknown or outdated process instance index {}", indexFile);
+            return false;
+        }
+        int validLength = buffer.position();
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= 2 * Integer.BYTES) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            apply(payload);
+            validLength = buffer.position();
+            records++;
+        }
+        boolean recovered = validLength < buffer.limit();
+        if (recovered) {
+            LOGGER.warn("Discarding incomplete trailing record of process instance index {}", indexFile);
+        }
+        int indexed = entries.size();
+        entries.keySet().removeIf(id -> Files.notExists(storage.resolve(id)));
+        indexBusinessKeys();
+        if (recovered || indexed != entries.size()) {
+            compact();
+        }
+        return true;
+    }
+
+    private void rebuild(Function<Path, Entry> metadata) throws IOException {
+        try (Stream<Path> files = Files.list(storage)) {
+            for (Path file : files.filter(FileSystemProcessInstances::isStoredProcessInstance).collect(Collectors.toList())) {
+                entries.put(file.getFileName().toString(), metadata.apply(file));
+            }
+        }
+        indexBusinessKeys();
+        compact();
+    }
+
+    private void apply(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte type = in.readByte();
+            String id = in.readUTF();
+            if (type == PUT) {
+                int status = in.readInt();
+                String description = in.readBoolean() ? in.readUTF() : null;
+                String businessKey = in.readBoolean() ? in.readUTF() : null;
+                entries.put(id, new Entry(status, description, businessKey));
+            } else {
+                entries.remove(id);
+            }
+        }
+    }
+
+    private void append(byte[] record) {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to update process instance index " + indexFile, e);
+        }
+        records++;
+        if (records > MIN_COMPACTION_RECORDS && records > 2 * entries.size()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // the index is still valid, just not compacted
+                LOGGER.warn("Unable to compact process instance index {}", indexFile, e);
+            }
+        }
+    }
+
+    /**
+     * Writes the live entries to a new file that replaces the index once completely written to disk,
+     * a crash in between leaves the previous index untouched.
+     */
+    private void compact() throws IOException {
+        Path compactionFile = storage.resolve(COMPACTION_FILE);
+        try (FileChannel channel = FileChannel.open(compactionFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                out.write(record(PUT, entry.getKey(), entry.getValue()));
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(compactionFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(compactionFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+        records = entries.size();
+    }
+
+    private static byte[] record(byte type, String id, Entry entry) {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(payload);
+            out.writeByte(type);
+            out.writeUTF(id);
+            if (type == PUT) {
+                out.writeInt(entry.getStatus());
+                out.writeBoolean(entry.getDescription() != null);
+                if (entry.getDescription() != null) {
+                    out.writeUTF(entry.getDescription());
+                }
+                out.writeBoolean(entry.getBusinessKey() != null);
+                if (entry.getBusinessKey() != null) {
+                    out.writeUTF(entry.getBusinessKey());
+                }
+            }
+            byte[] bytes = payload.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+
+            ByteBuffer record = ByteBuffer.allocate(2 * Integer.BYTES + bytes.length);
+            record.putInt(bytes.length);
+            record.putInt((int) crc.getValue());
+            record.put(bytes);
+            return record.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static final class Entry {
+
+        private final int status;
+        private final String description;
+        private final String businessKey;
+
+        Entry(int status, String description, String businessKey) {
+            this.status = status;
+            this.description = description;
+            this.businessKey = businessKey;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        String getBusinessKey() {
+            return businessKey;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry other = (Entry) obj;
+            return status == other.status && Objects.equals(description, other.description) && Objects.equals(businessKey, other.businessKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(status, description, businessKey);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.filesystem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ProcessInstanceIndexTest {
+
+    @TempDir
+    Path storage;
+
+    @Test
+    void testEntriesSurviveReload() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first");
+        store(index, "b", 2, null);
+        store(index, "c", 1, "third");
+        store(index, "a", 2, "updated");
+        remove(index, "c");
+
+        ProcessInstanceIndex reloaded = newIndex();
+        assertThat(reloaded.size()).isEqualTo(2);
+        assertThat(reloaded.ids()).containsExactly("a", "b");
+        assertThat(reloaded.get("a").getStatus()).isEqualTo(2);
+        assertThat(reloaded.get("a").getDescription()).isEqualTo("updated");
+        assertThat(reloaded.get("b").getDescription()).isNull();
+    }
+
+    @Test
+    void testRecoveryFromIncompleteRecord() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first");
+        store(index, "b", 1, "second");
+        // crash while appending the entry of c, before its file is written
+        index.put("c", 1, "third", null);
+        truncate(3);
+
+        ProcessInstanceIndex recovered = newIndex();
+        assertThat(recovered.ids()).containsExactly("a", "b");
+
+        store(recovered, "d", 1, "fourth");
+        assertThat(newIndex().ids()).containsExactly("a", "b", "d");
+    }
+
+    @Test
+    void testRecoveryFromCorruptedRecord() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first");
+        store(index, "b", 1, "second");
+        try (FileChannel channel = FileChannel.open(indexFile(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), channel.size() - 1);
+        }
+
+        assertThat(newIndex().ids()).containsExactly("a");
+    }
+
+    @Test
+    void testRecoveryFromCrashBeforeFileWritten() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first");
+        index.put("b", 1, "second", null);
+
+        ProcessInstanceIndex recovered = newIndex();
+        assertThat(recovered.ids()).containsExactly("a");
+        assertThat(newIndex().ids()).containsExactly("a");
+    }
+
+    @Test
+    void testRecoveryFromCrashDuringCompaction() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first");
+        store(index, "b", 1, "second");
+        Files.write(storage.resolve(ProcessInstanceIndex.COMPACTION_FILE), new byte[] { 1, 2, 3 });
+
+        assertThat(newIndex().ids()).containsExactly("a", "b");
+        assertThat(storage.resolve(ProcessInstanceIndex.COMPACTION_FILE)).doesNotExist();
+    }
+
+    @Test
+    void testBuiltFromStoredProcessInstances() throws IOException {
+        Files.write(storage.resolve("a"), new byte[0]);
+        Files.write(storage.resolve("b"), new byte[0]);
+        Files.write(storage.resolve("b" + FileSystemProcessInstances.DELTA_LOG_SUFFIX), new byte[0]);
+
+        ProcessInstanceIndex index = new ProcessInstanceIndex(storage, file -> new ProcessInstanceIndex.Entry(1, file.getFileName().toString(), "key " + file.getFileName()));
+        assertThat(index.ids()).containsExactlyInAnyOrder("a", "b");
+        assertThat(index.get("b").getDescription()).isEqualTo("b");
+        assertThat(index.findByBusinessKey("key b")).isEqualTo("b");
+        assertThat(indexFile()).exists();
+    }
+
+    @Test
+    void testBusinessKeys() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first", "key");
+        store(index, "b", 1, "second", null);
+        store(index, "a", 1, "updated", "key");
+
+        assertThatExceptionOfType(ProcessInstanceDuplicatedBusinessKeyException.class).isThrownBy(() -> index.put("c", 1, "third", "key"));
+        assertThat(index.ids()).containsExactly("a", "b");
+        assertThat(index.findByBusinessKey("key")).isEqualTo("a");
+        assertThat(newIndex().findByBusinessKey("key")).isEqualTo("a");
+
+        remove(index, "a");
+        assertThat(index.findByBusinessKey("key")).isNull();
+        store(index, "c", 1, "third", "key");
+        assertThat(newIndex().findByBusinessKey("key")).isEqualTo("c");
+    }
+
+    @Test
+    void testBusinessKeyReleasedOnRecovery() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        // crash before the file of a is written
+        index.put("a", 1, "first", "key");
+
+        ProcessInstanceIndex recovered = newIndex();
+        assertThat(recovered.findByBusinessKey("key")).isNull();
+        store(recovered, "b", 1, "second", "key");
+        assertThat(newIndex().findByBusinessKey("key")).isEqualTo("b");
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        ProcessInstanceIndex index = newIndex();
+        store(index, "a", 1, "first");
+        long size = Files.size(indexFile());
+        for (int i = 0; i < 5000; i++) {
+            index.put("a", 1, "description " + i, null);
+        }
+        assertThat(Files.size(indexFile())).isLessThan(size * 2000);
+        assertThat(newIndex().get("a").getDescription()).isEqualTo("description 4999");
+    }
+
+    private ProcessInstanceIndex newIndex() {
+        return new ProcessInstanceIndex(storage, file -> new ProcessInstanceIndex.Entry(1, null, null));
+    }
+
+    private void store(ProcessInstanceIndex index, String id, int status, String description) throws IOException {
+        store(index, id, status, description, null);
+    }
+
+    private void store(ProcessInstanceIndex index, String id, int status, String description, String businessKey) throws IOException {
+        index.put(id, status, description, businessKey);
+        Files.write(storage.resolve(id), new byte[0]);
+    }
+
+    private void remove(ProcessInstanceIndex index, String id) throws IOException {
+        Files.delete(storage.resolve(id));
+        index.remove(id);
+    }
+
+    private void truncate(int bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile(), StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - bytes);
+        }
+    }
+
+    private Path indexFile() {
+        return storage.resolve(ProcessInstanceIndex.INDEX_FILE);
+    }
+}
@@ -15,7 +15,15 @@
  */
 package org.kie.persistence.filesystem;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.drools.core.io.impl.ClassPathResource;
 import org.jbpm.process.instance.impl.Action;
@@ -27,13 +35,16 @@ import org.kie.api.definition.process.Node;
 import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.persistence.KogitoProcessInstancesFactory;
 import org.kie.kogito.persistence.filesystem.FileSystemProcessInstances;
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.services.identity.StaticIdentityProvider;
 import org.kie.kogito.uow.UnitOfWork;
 import org.kie.kogito.uow.UnitOfWorkManager;
@@ -41,6 +52,7 @@ import org.kie.kogito.uow.UnitOfWorkManager;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
+import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ABORTED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ACTIVE;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_COMPLETED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ERROR;
@@ -55,8 +67,12 @@ class FileSystemProcessInstancesTest {
     private SecurityPolicy securityPolicy = SecurityPolicy.of(new StaticIdentityProvider("john"));
 
     private BpmnProcess createProcess(String fileName) {
+        return createProcess(fileName, new FileSystemProcessInstancesFactory());
+    }
+
+    private BpmnProcess createProcess(String fileName, FileSystemProcessInstancesFactory factory) {
         BpmnProcess process = BpmnProcess.from(new ClassPathResource(fileName)).get(0);
-        process.setProcessInstancesFactory(new FileSystemProcessInstancesFactory());
+        process.setProcessInstancesFactory(factory);
         process.configure();
         process.instances().values(ProcessInstanceReadMode.MUTABLE).forEach(p -> p.abort());
         return process;
@@ -152,6 +168,33 @@ class FileSystemProcessInstancesTest {
         assertThat(fileSystemBasedStorage.size()).isZero();
     }
 
+    @Test
+    void testBusinessKey() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        ProcessInstances<BpmnVariables> instances = process.instances();
+        assertThat(instances.findByBusinessKey("order-1")).hasValueSatisfying(pi -> assertThat(pi.id()).isEqualTo(processInstance.id()));
+        assertThat(instances.findByBusinessKey("order-2")).isEmpty();
+
+        ProcessInstance<BpmnVariables> duplicated = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        assertThatExceptionOfType(ProcessInstanceDuplicatedBusinessKeyException.class).isThrownBy(duplicated::start);
+        assertThat(instances.size()).isOne();
+
+        processInstance.abort();
+        assertThat(instances.findByBusinessKey("order-1")).isEmpty();
+
+        ProcessInstance<BpmnVariables> restarted = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        restarted.start();
+        assertThat(instances.findByBusinessKey("order-1", ProcessInstanceReadMode.READ_ONLY)).hasValueSatisfying(pi -> assertThat(pi.id()).isEqualTo(restarted.id()));
+
+        WorkItem workItem = restarted.workItems(securityPolicy).get(0);
+        restarted.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(restarted.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(instances.findByBusinessKey("order-1")).isEmpty();
+    }
+
     @Test
     void testBasicFlowWithStartFrom() {
         BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
@@ -225,8 +268,179 @@ class FileSystemProcessInstancesTest {
         assertThat(fileSystemBasedStorage.size()).isZero();
     }
 
+    @Test
+    void testDeltaPersistence() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2", new FileSystemProcessInstancesFactory(3));
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        FileSystemProcessInstances fileSystemBasedStorage = (FileSystemProcessInstances) process.instances();
+        Path deltaLog = Paths.get("target", process.id(), processInstance.id() + FileSystemProcessInstances.DELTA_LOG_SUFFIX);
+        boolean deltaLogUsed = false;
+        for (int i = 0; i < 5; i++) {
+            processInstance.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "value" + i)));
+            deltaLogUsed |= Files.exists(deltaLog);
+
+            assertThat(fileSystemBasedStorage.size()).isOne();
+            ProcessInstance<BpmnVariables> stored = (ProcessInstance<BpmnVariables>) fileSystemBasedStorage.findById(processInstance.id()).get();
+            assertThat(stored.variables().toMap()).contains(entry("test", "value" + i));
+            assertThat(stored.workItems(securityPolicy)).hasSize(1);
+        }
+        assertThat(deltaLogUsed).isTrue();
+
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(fileSystemBasedStorage.size()).isZero();
+        assertThat(deltaLog).doesNotExist();
+    }
+
+    @Test
+    void testStaleDeltaLogIsIgnoredAfterCompaction() throws IOException {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2", new FileSystemProcessInstancesFactory(3));
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        FileSystemProcessInstances fileSystemBasedStorage = (FileSystemProcessInstances) process.instances();
+        Path deltaLog = Paths.get("target", process.id(), processInstance.id() + FileSystemProcessInstances.DELTA_LOG_SUFFIX);
+        processInstance.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "stale")));
+        assertThat(deltaLog).exists();
+        byte[] staleLog = Files.readAllBytes(deltaLog);
+
+        processInstance.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "appended")));
+        processInstance.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "compacted")));
+        assertThat(deltaLog).doesNotExist();
+
+        // as if the process crashed after replacing the snapshot but before removing the log
+        Files.write(deltaLog, staleLog);
+        ProcessInstance<BpmnVariables> stored = (ProcessInstance<BpmnVariables>) fileSystemBasedStorage.findById(processInstance.id()).get();
+        assertThat(stored.variables().toMap()).contains(entry("test", "compacted"));
+
+        processInstance.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "latest")));
+        stored = (ProcessInstance<BpmnVariables>) fileSystemBasedStorage.findById(processInstance.id()).get();
+        assertThat(stored.variables().toMap()).contains(entry("test", "latest"));
+    }
+
+    @Test
+    void testArchiveMaxCount() throws IOException {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2", new FileSystemProcessInstancesFactory(0, null, 2));
+        Path archiveDirectory = clearArchive(process);
+        ArchivedProcessInstances<BpmnVariables> archived = process.instances().archived().get();
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-" + i, BpmnVariables.create(Collections.singletonMap("test", "test")));
+            processInstance.start();
+            WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+            processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+            assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+            ids.add(processInstance.id());
+            Files.setLastModifiedTime(archiveDirectory.resolve(processInstance.id()), FileTime.fromMillis(System.currentTimeMillis() - (3 - i) * 1000L));
+        }
+
+        assertThat(process.instances().size()).isZero();
+        assertThat(process.instances().findByBusinessKey("order-0")).isEmpty();
+        assertThat(archived.size()).isEqualTo(3);
+        assertThat(archived.values()).hasSize(3);
+        assertThat(archived.findById(ids.get(0))).hasValueSatisfying(pi -> {
+            assertThat(pi.status()).isEqualTo(STATE_COMPLETED);
+            assertThat(pi.businessKey()).isEqualTo("order-0");
+        });
+
+        assertThat(ArchivedProcessInstancesSweeper.sweep(archived, 1)).isOne();
+        assertThat(archived.findById(ids.get(0))).isEmpty();
+        assertThat(archived.size()).isEqualTo(2);
+        assertThat(ArchivedProcessInstancesSweeper.sweep(archived, 1)).isZero();
+    }
+
+    @Test
+    void testArchiveTimeToLive() throws IOException {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2", new FileSystemProcessInstancesFactory(0, "PT1H", 0));
+        Path archiveDirectory = clearArchive(process);
+        ArchivedProcessInstances<BpmnVariables> archived = process.instances().archived().get();
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+            processInstance.start();
+            processInstance.abort();
+            assertThat(processInstance.status()).isEqualTo(STATE_ABORTED);
+            ids.add(processInstance.id());
+        }
+        // the first two were archived before the time to live
+        for (String id : ids.subList(0, 2)) {
+            Files.setLastModifiedTime(archiveDirectory.resolve(id), FileTime.fromMillis(System.currentTimeMillis() - 7200000L));
+        }
+
+        assertThat(archived.size()).isEqualTo(3);
+        assertThat(archived.findById(ids.get(2))).hasValueSatisfying(pi -> assertThat(pi.status()).isEqualTo(STATE_ABORTED));
+
+        assertThat(ArchivedProcessInstancesSweeper.sweep(archived, 1)).isEqualTo(2);
+        assertThat(archived.size()).isOne();
+        assertThat(archived.findById(ids.get(2))).isPresent();
+    }
+
+    @Test
+    void testNoArchive() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        assertThat(process.instances().archived()).isEmpty();
+    }
+
+    private Path clearArchive(BpmnProcess process) throws IOException {
+        Path archiveDirectory = Paths.get("target", process.id(), FileSystemProcessInstances.ARCHIVE_DIRECTORY);
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        return archiveDirectory;
+    }
+
     private class FileSystemProcessInstancesFactory extends KogitoProcessInstancesFactory {
 
+        private final int deltaCompactionThreshold;
+        private final boolean archive;
+        private final String timeToLive;
+        private final int maxCount;
+
+        FileSystemProcessInstancesFactory() {
+            this(0);
+        }
+
+        FileSystemProcessInstancesFactory(int deltaCompactionThreshold) {
+            this.deltaCompactionThreshold = deltaCompactionThreshold;
+            this.archive = false;
+            this.timeToLive = null;
+            this.maxCount = 0;
+        }
+
+        FileSystemProcessInstancesFactory(int deltaCompactionThreshold, String timeToLive, int maxCount) {
+            this.deltaCompactionThreshold = deltaCompactionThreshold;
+            this.archive = true;
+            this.timeToLive = timeToLive;
+            this.maxCount = maxCount;
+        }
+
+        @Override
+        public int deltaCompactionThreshold() {
+            return deltaCompactionThreshold;
+        }
+
+        @Override
+        public boolean retentionArchive() {
+            return archive;
+        }
+
+        @Override
+        public String retentionTimeToLive() {
+            return timeToLive;
+        }
+
+        @Override
+        public int retentionMaxCount() {
+            return maxCount;
+        }
+
         @Override
         public FileSystemProcessInstances createProcessInstances(Process<?> process) {
             FileSystemProcessInstances instances = spy(super.createProcessInstances(process));
@@ -42,9 +42,13 @@ public class CacheProcessInstances implements MutableProcessInstances {
     private final boolean lock;
 
     public CacheProcessInstances(Process<?> process, RemoteCacheManager cacheManager, String templateName, boolean lock) {
+        this(process, cacheManager, templateName, lock, ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
+    }
+
+    public CacheProcessInstances(Process<?> process, RemoteCacheManager cacheManager, String templateName, boolean lock, ProcessInstanceMarshallerService marshaller) {
         this.process = process;
         this.cache = cacheManager.administration().getOrCreateCache(process.id() + "_store", ignoreNullOrEmpty(templateName));
-        this.marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+        this.marshaller = marshaller;
         this.lock = lock;
     }
 
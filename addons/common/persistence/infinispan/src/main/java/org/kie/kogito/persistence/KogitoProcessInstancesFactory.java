@@ -19,6 +19,8 @@ import org.infinispan.client.hotrod.RemoteCacheManager;
 import org.kie.kogito.infinispan.CacheProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstancesFactory;
+import org.kie.kogito.serialization.process.PayloadCompression;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 
 /**
  * This class must always have exact FQCN as <code>org.kie.kogito.persistence.KogitoProcessInstancesFactory</code>
@@ -35,10 +37,32 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
     public abstract boolean lock();
 
     public CacheProcessInstances createProcessInstances(Process<?> process) {
-        return new CacheProcessInstances(process, cacheManager, template(), lock());
+        return new CacheProcessInstances(process, cacheManager, template(), lock(), marshaller());
     }
 
     public String template() {
         return null;
     }
+
+    /**
+     * Name of the {@link org.kie.kogito.serialization.process.PayloadCompressor} applied to stored process instances,
+     * <code>none</code> by default
+     */
+    public String compression() {
+        return PayloadCompression.NONE;
+    }
+
+    /**
+     * Process instances smaller than this number of bytes are stored uncompressed
+     */
+    public int compressionThreshold() {
+        return ProcessInstanceMarshallerService.DEFAULT_COMPRESSION_THRESHOLD;
+    }
+
+    protected ProcessInstanceMarshallerService marshaller() {
+        return ProcessInstanceMarshallerService.newBuilder()
+                .withDefaultObjectMarshallerStrategies()
+                .withCompression(compression(), compressionThreshold())
+                .build();
+    }
 }
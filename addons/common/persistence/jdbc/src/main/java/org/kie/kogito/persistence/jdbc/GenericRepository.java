@@ -20,8 +20,10 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +31,7 @@ import java.util.UUID;
 
 import javax.sql.DataSource;
 
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,16 +43,23 @@ public class GenericRepository extends Repository {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenericRepository.class);
 
     private enum DatabaseType {
-        ANSI("ansi", "process_instances"),
-        ORACLE("Oracle", "PROCESS_INSTANCES"),
-        POSTGRES("PostgreSQL", "process_instances");
+        ANSI("ansi", "process_instances", "process_instance_deltas", "process_instance_business_keys", "process_instances_archive"),
+        ORACLE("Oracle", "PROCESS_INSTANCES", "PROCESS_INSTANCE_DELTAS", "PROCESS_INSTANCE_BUSINESS_KEYS", "PROCESS_INSTANCES_ARCHIVE"),
+        POSTGRES("PostgreSQL", "process_instances", "process_instance_deltas", "process_instance_business_keys", "process_instances_archive");
 
         private final String dbIdentifier;
         private final String tableNamePattern;
+        private final String deltaTableNamePattern;
+        private final String businessKeyTableNamePattern;
+        private final String archiveTableNamePattern;
 
-        DatabaseType(final String dbIdentifier, final String tableNamePattern) {
+        DatabaseType(final String dbIdentifier, final String tableNamePattern, final String deltaTableNamePattern, final String businessKeyTableNamePattern,
+                final String archiveTableNamePattern) {
             this.dbIdentifier = dbIdentifier;
             this.tableNamePattern = tableNamePattern;
+            this.deltaTableNamePattern = deltaTableNamePattern;
+            this.businessKeyTableNamePattern = businessKeyTableNamePattern;
+            this.archiveTableNamePattern = archiveTableNamePattern;
         }
 
         String getDbIdentifier() {
@@ -112,19 +122,43 @@ public class GenericRepository extends Repository {
     }
 
     @Override
-    void insertInternal(DataSource dataSource, String processId, UUID id, byte[] payload) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(INSERT)) {
-            statement.setString(1, id.toString());
-            statement.setBytes(2, payload);
-            statement.setString(3, processId);
-            statement.setLong(4, 0L);
-            statement.executeUpdate();
+    void insertInternal(DataSource dataSource, String processId, UUID id, byte[] payload, String businessKey) {
+        try (Connection connection = dataSource.getConnection()) {
+            inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                    statement.setString(1, id.toString());
+                    statement.setBytes(2, payload);
+                    statement.setString(3, processId);
+                    statement.setLong(4, 0L);
+                    statement.executeUpdate();
+                }
+                if (businessKey != null) {
+                    insertBusinessKey(connection, processId, id, businessKey);
+                }
+                return null;
+            });
+        } catch (ProcessInstanceDuplicatedBusinessKeyException e) {
+            throw e;
         } catch (Exception e) {
             throw uncheckedException(e, "Error inserting process instance %s", id);
         }
     }
 
+    private void insertBusinessKey(Connection connection, String processId, UUID id, String businessKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_BUSINESS_KEY)) {
+            statement.setString(1, processId);
+            statement.setString(2, businessKey);
+            statement.setString(3, id.toString());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            // integrity constraint violation class, the primary key is the only constraint of the table
+            if (e.getSQLState() != null && e.getSQLState().startsWith("23")) {
+                throw new ProcessInstanceDuplicatedBusinessKeyException(id.toString(), businessKey, e);
+            }
+            throw e;
+        }
+    }
+
     @Override
     void updateInternal(DataSource dataSource, UUID id, byte[] payload) {
         try (Connection connection = dataSource.getConnection();
@@ -153,12 +187,21 @@ public class GenericRepository extends Repository {
     }
 
     @Override
-    boolean deleteInternal(DataSource dataSource, UUID id) {
-        try (Connection connection = dataSource.getConnection();
-                PreparedStatement statement = connection.prepareStatement(DELETE)) {
-            statement.setString(1, id.toString());
-            int count = statement.executeUpdate();
-            return count == 1;
+    boolean deleteInternal(DataSource dataSource, UUID id, boolean withBusinessKeys, boolean withDeltas) {
+        try (Connection connection = dataSource.getConnection()) {
+            return inTransaction(connection, () -> {
+                if (withDeltas) {
+                    deleteDeltas(connection, id);
+                }
+                if (withBusinessKeys) {
+                    deleteBusinessKeys(connection, id);
+                }
+                try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
+                    statement.setString(1, id.toString());
+                    int count = statement.executeUpdate();
+                    return count == 1;
+                }
+            });
         } catch (Exception e) {
             throw uncheckedException(e, "Error deleting process instance %s", id);
         }
@@ -219,4 +262,398 @@ public class GenericRepository extends Repository {
         return 0l;
     }
 
+    @Override
+    boolean deltaTableExists(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = getDataBaseType(connection);
+            final DatabaseMetaData metaData = connection.getMetaData();
+            final String[] types = { "TABLE" };
+            try (ResultSet tables = metaData.getTables(null, null, databaseType.deltaTableNamePattern, types)) {
+                return tables.next();
+            }
+        } catch (SQLException e) {
+            var msg = "Failed to read table metadata";
+            throw new RuntimeException(msg);
+        }
+    }
+
+    @Override
+    void createDeltaTable(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = getDataBaseType(connection);
+            final List<String> statements = FileLoader.getQueryFromFile(databaseType.dbIdentifier, "create_delta_tables");
+            for (String s : statements) {
+                try (PreparedStatement prepareStatement = connection.prepareStatement(s.trim())) {
+                    prepareStatement.execute();
+                }
+            }
+            LOGGER.info("DDL successfully done for ProcessInstance deltas");
+        } catch (SQLException e) {
+            var msg = "Error creating process_instance_deltas table, the database should be configured properly before starting the application";
+            LOGGER.error(msg, e);
+            throw new RuntimeException(msg);
+        }
+    }
+
+    @Override
+    Map<String, byte[]> findAllWithIdInternal(DataSource dataSource, String processId) {
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_ALL_WITH_ID)) {
+            statement.setString(1, processId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString("id"), resultSet.getBytes(PAYLOAD));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding all process instances, for processId %s", processId);
+        }
+    }
+
+    @Override
+    boolean updateDeltaInternal(DataSource dataSource, UUID id, Long version, int maxDeltas, DeltaUpdate update) {
+        try (Connection connection = dataSource.getConnection()) {
+            return inTransaction(connection, () -> {
+                byte[] payload;
+                long currentVersion;
+                try (PreparedStatement statement = connection.prepareStatement(FIND_BY_ID_FOR_UPDATE)) {
+                    statement.setString(1, id.toString());
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (!resultSet.next()) {
+                            return true;
+                        }
+                        payload = resultSet.getBytes(PAYLOAD);
+                        currentVersion = resultSet.getLong(VERSION);
+                    }
+                }
+                if (payload == null) {
+                    return true;
+                }
+                if (version != null) {
+                    if (version != currentVersion) {
+                        return false;
+                    }
+                    try (PreparedStatement statement = connection.prepareStatement(UPDATE_VERSION)) {
+                        statement.setLong(1, version + 1);
+                        statement.setString(2, id.toString());
+                        statement.executeUpdate();
+                    }
+                }
+                List<byte[]> deltas = findDeltas(connection, id);
+                if (deltas.size() + 1 >= maxDeltas) {
+                    try (PreparedStatement statement = connection.prepareStatement(UPDATE)) {
+                        statement.setBytes(1, update.payload());
+                        statement.setString(2, id.toString());
+                        statement.executeUpdate();
+                    }
+                    deleteDeltas(connection, id);
+                } else {
+                    try (PreparedStatement statement = connection.prepareStatement(INSERT_DELTA)) {
+                        statement.setString(1, id.toString());
+                        statement.setInt(2, deltas.size());
+                        statement.setBytes(3, update.delta(payload, deltas));
+                        statement.executeUpdate();
+                    }
+                }
+                return true;
+            });
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error updating deltas of process instance %s", id);
+        }
+    }
+
+    @Override
+    List<byte[]> findDeltasInternal(DataSource dataSource, UUID id) {
+        try (Connection connection = dataSource.getConnection()) {
+            return findDeltas(connection, id);
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding deltas of process instance %s", id);
+        }
+    }
+
+    private static List<byte[]> findDeltas(Connection connection, UUID id) throws SQLException {
+        List<byte[]> result = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_DELTAS)) {
+            statement.setString(1, id.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getBytes(PAYLOAD));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    Map<String, List<byte[]>> findAllDeltasInternal(DataSource dataSource, String processId) {
+        Map<String, List<byte[]>> result = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_ALL_DELTAS)) {
+            statement.setString(1, processId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.computeIfAbsent(resultSet.getString("process_instance_id"), k -> new ArrayList<>()).add(resultSet.getBytes(PAYLOAD));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding all process instance deltas, for processId %s", processId);
+        }
+    }
+
+    private static void deleteBusinessKeys(Connection connection, UUID id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_BUSINESS_KEYS)) {
+            statement.setString(1, id.toString());
+            statement.executeUpdate();
+        }
+    }
+
+    private static void deleteDeltas(Connection connection, UUID id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_DELTAS)) {
+            statement.setString(1, id.toString());
+            statement.executeUpdate();
+        }
+    }
+
+    @Override
+    boolean businessKeyTableExists(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = getDataBaseType(connection);
+            final DatabaseMetaData metaData = connection.getMetaData();
+            final String[] types = { "TABLE" };
+            try (ResultSet tables = metaData.getTables(null, null, databaseType.businessKeyTableNamePattern, types)) {
+                return tables.next();
+            }
+        } catch (SQLException e) {
+            var msg = "Failed to read table metadata";
+            throw new RuntimeException(msg);
+        }
+    }
+
+    @Override
+    void createBusinessKeyTable(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = getDataBaseType(connection);
+            final List<String> statements = FileLoader.getQueryFromFile(databaseType.dbIdentifier, "create_business_key_tables");
+            for (String s : statements) {
+                try (PreparedStatement prepareStatement = connection.prepareStatement(s.trim())) {
+                    prepareStatement.execute();
+                }
+            }
+            LOGGER.info("DDL successfully done for ProcessInstance business keys");
+        } catch (SQLException e) {
+            var msg = "Error creating process_instance_business_keys table, the database should be configured properly before starting the application";
+            LOGGER.error(msg, e);
+            throw new RuntimeException(msg);
+        }
+    }
+
+    @Override
+    Optional<String> findIdByBusinessKeyInternal(DataSource dataSource, String processId, String businessKey) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_BY_BUSINESS_KEY)) {
+            statement.setString(1, processId);
+            statement.setString(2, businessKey);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getString("process_instance_id")) : Optional.empty();
+            }
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding process instance with business key %s", businessKey);
+        }
+    }
+
+    @Override
+    boolean archiveTableExists(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = getDataBaseType(connection);
+            final DatabaseMetaData metaData = connection.getMetaData();
+            final String[] types = { "TABLE" };
+            try (ResultSet tables = metaData.getTables(null, null, databaseType.archiveTableNamePattern, types)) {
+                return tables.next();
+            }
+        } catch (SQLException e) {
+            var msg = "Failed to read table metadata";
+            throw new RuntimeException(msg);
+        }
+    }
+
+    @Override
+    void createArchiveTable(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = getDataBaseType(connection);
+            final List<String> statements = FileLoader.getQueryFromFile(databaseType.dbIdentifier, "create_archive_tables");
+            for (String s : statements) {
+                try (PreparedStatement prepareStatement = connection.prepareStatement(s.trim())) {
+                    prepareStatement.execute();
+                }
+            }
+            LOGGER.info("DDL successfully done for ProcessInstance archive");
+        } catch (SQLException e) {
+            var msg = "Error creating process_instances_archive table, the database should be configured properly before starting the application";
+            LOGGER.error(msg, e);
+            throw new RuntimeException(msg);
+        }
+    }
+
+    @Override
+    boolean archiveInternal(DataSource dataSource, String processId, UUID id, byte[] payload, String businessKey, long archivedAt, boolean withBusinessKeys,
+            boolean withDeltas) {
+        try (Connection connection = dataSource.getConnection()) {
+            return inTransaction(connection, () -> {
+                if (withDeltas) {
+                    deleteDeltas(connection, id);
+                }
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_ARCHIVE)) {
+                    statement.setString(1, id.toString());
+                    statement.setBytes(2, payload);
+                    statement.setString(3, processId);
+                    statement.setString(4, businessKey);
+                    statement.setLong(5, archivedAt);
+                    statement.executeUpdate();
+                }
+                if (withBusinessKeys) {
+                    deleteBusinessKeys(connection, id);
+                }
+                try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
+                    statement.setString(1, id.toString());
+                    int count = statement.executeUpdate();
+                    return count == 1;
+                }
+            });
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error archiving process instance %s", id);
+        }
+    }
+
+    @Override
+    Optional<byte[]> findArchivedByIdInternal(DataSource dataSource, UUID id) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_ARCHIVED_BY_ID)) {
+            statement.setString(1, id.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Optional.ofNullable(resultSet.getBytes(PAYLOAD)) : Optional.empty();
+            }
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding archived process instance %s", id);
+        }
+    }
+
+    @Override
+    List<byte[]> findAllArchivedInternal(DataSource dataSource, String processId) {
+        List<byte[]> result = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_ALL_ARCHIVED)) {
+            statement.setString(1, processId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    result.add(resultSet.getBytes(PAYLOAD));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding all archived process instances, for processId %s", processId);
+        }
+    }
+
+    @Override
+    Long countArchivedInternal(DataSource dataSource, String processId) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(COUNT_ARCHIVED)) {
+            statement.setString(1, processId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getLong("count");
+                }
+            }
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error counting archived process instances, for processId %s", processId);
+        }
+        return 0l;
+    }
+
+    @Override
+    int sweepArchiveInternal(DataSource dataSource, String processId, long archivedBefore, int maxCount, int batchSize) {
+        long excess = maxCount > 0 ? countArchivedInternal(dataSource, processId) - maxCount : 0;
+        try (Connection connection = dataSource.getConnection()) {
+            List<String> ids = new ArrayList<>();
+            if (excess > 0) {
+                ids.addAll(findArchivedIds(connection, FIND_OLDEST_ARCHIVED, processId, null, (int) Math.min(excess, batchSize)));
+            }
+            if (ids.size() < batchSize) {
+                // the oldest instances in excess may be expired as well
+                for (String id : findArchivedIds(connection, FIND_EXPIRED_ARCHIVED, processId, archivedBefore, batchSize)) {
+                    if (ids.size() == batchSize) {
+                        break;
+                    }
+                    if (!ids.contains(id)) {
+                        ids.add(id);
+                    }
+                }
+            }
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            return inTransaction(connection, () -> {
+                try (PreparedStatement statement = connection.prepareStatement(DELETE_ARCHIVED)) {
+                    for (String id : ids) {
+                        statement.setString(1, id);
+                        statement.addBatch();
+                    }
+                    int removed = 0;
+                    for (int count : statement.executeBatch()) {
+                        // drivers may not report the count of every statement of the batch
+                        removed += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+                    }
+                    return removed;
+                }
+            });
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error removing expired archived process instances, for processId %s", processId);
+        }
+    }
+
+    private List<String> findArchivedIds(Connection connection, String query, String processId, Long archivedBefore, int maxRows) throws SQLException {
+        List<String> ids = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, processId);
+            if (archivedBefore != null) {
+                statement.setLong(2, archivedBefore);
+            }
+            statement.setMaxRows(maxRows);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getString("id"));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Runs the statements in a transaction of their own, unless the connection already takes part in one.
+     */
+    private static <R> R inTransaction(Connection connection, SQLAction<R> action) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return action.execute();
+        }
+        connection.setAutoCommit(false);
+        try {
+            R result = action.execute();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SQLAction<R> {
+
+        R execute() throws SQLException;
+    }
 }
@@ -16,6 +16,8 @@
 package org.kie.kogito.persistence.jdbc;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,11 +26,14 @@ import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.ProcessInstanceRetention;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,15 +53,46 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     private final DataSource dataSource;
     private final boolean lock;
     private final Repository repository;
+    private final int deltaCompactionThreshold;
+    private final ProcessInstanceRetention retention;
+    private final Archive archive;
+    private final ArchivedProcessInstancesSweeper sweeper;
+    private final boolean businessKeyIndex;
 
     public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean autoDDL, boolean lock) {
+        this(process, dataSource, autoDDL, lock, 0);
+    }
+
+    /**
+     * When <code>deltaCompactionThreshold</code> is greater than one, updates only insert the changes of the process instance
+     * into the process_instance_deltas table and those are compacted into process_instances every <code>deltaCompactionThreshold</code> updates.
+     */
+    public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean autoDDL, boolean lock, int deltaCompactionThreshold) {
+        this(process, dataSource, autoDDL, lock, deltaCompactionThreshold, ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
+    }
+
+    public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean autoDDL, boolean lock, int deltaCompactionThreshold, ProcessInstanceMarshallerService marshaller) {
+        this(process, dataSource, autoDDL, lock, deltaCompactionThreshold, marshaller, ProcessInstanceRetention.NONE);
+    }
+
+    /**
+     * When the <code>retention</code> policy archives finished process instances, they are moved into the
+     * process_instances_archive table and removed from there once expired.
+     */
+    public JDBCProcessInstances(Process<?> process, DataSource dataSource, boolean autoDDL, boolean lock, int deltaCompactionThreshold, ProcessInstanceMarshallerService marshaller,
+            ProcessInstanceRetention retention) {
         this.dataSource = dataSource;
         this.process = process;
         this.autoDDL = autoDDL;
         this.lock = lock;
-        this.marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+        this.deltaCompactionThreshold = deltaCompactionThreshold;
+        this.marshaller = marshaller;
+        this.retention = retention;
         this.repository = new GenericRepository();
+        this.archive = retention.isArchive() ? new Archive() : null;
         init();
+        this.businessKeyIndex = hasBusinessKeyTable();
+        this.sweeper = archive != null ? ArchivedProcessInstancesSweeper.schedule(process.id(), archive, retention) : ArchivedProcessInstancesSweeper.NONE;
     }
 
     private void init() {
@@ -69,12 +105,37 @@ public class JDBCProcessInstances implements MutableProcessInstances {
                 LOGGER.info("dynamically creating process_instances table");
                 repository.createTable(dataSource);
             }
+            if (!repository.businessKeyTableExists(dataSource)) {
+                LOGGER.info("dynamically creating process_instance_business_keys table");
+                repository.createBusinessKeyTable(dataSource);
+            }
+            if (isDeltaEnabled() && !repository.deltaTableExists(dataSource)) {
+                LOGGER.info("dynamically creating process_instance_deltas table");
+                repository.createDeltaTable(dataSource);
+            }
+            if (retention.isArchive() && !repository.archiveTableExists(dataSource)) {
+                LOGGER.info("dynamically creating process_instances_archive table");
+                repository.createArchiveTable(dataSource);
+            }
         } catch (Exception e) {
             // not break the execution flow in case of any missing permission for db application user, for instance.
             LOGGER.error(e.getMessage(), e);
         }
     }
 
+    private boolean hasBusinessKeyTable() {
+        try {
+            if (repository.businessKeyTableExists(dataSource)) {
+                return true;
+            }
+        } catch (Exception e) {
+            LOGGER.debug("Cannot check whether the process_instance_business_keys table exists", e);
+        }
+        LOGGER.warn("Table process_instance_business_keys not found, business keys of process {} are neither checked for uniqueness nor indexed. "
+                + "Create it with the runtime_business_key_create.sql script.", process.id());
+        return false;
+    }
+
     @Override
     public boolean exists(String id) {
         return findById(id).isPresent();
@@ -84,7 +145,7 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     @Override
     public void create(String id, ProcessInstance instance) {
         if (isActive(instance)) {
-            repository.insertInternal(dataSource, process.id(), UUID.fromString(id), marshaller.marshallProcessInstance(instance));
+            repository.insertInternal(dataSource, process.id(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), businessKeyIndex ? instance.businessKey() : null);
         }
     }
 
@@ -92,7 +153,9 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     @Override
     public void update(String id, ProcessInstance instance) {
         if (isActive(instance)) {
-            if (lock) {
+            if (isDeltaEnabled()) {
+                updateDelta(UUID.fromString(id), instance);
+            } else if (lock) {
                 boolean isUpdated = repository.updateWithLock(dataSource, UUID.fromString(id), marshaller.marshallProcessInstance(instance), instance.version());
                 if (!isUpdated) {
                     throw uncheckedException(null, "The document with ID: %s was updated or deleted by other request.", id);
@@ -104,20 +167,57 @@ public class JDBCProcessInstances implements MutableProcessInstances {
         disconnect(instance);
     }
 
+    private void updateDelta(UUID id, ProcessInstance<?> instance) {
+        // the state is read, diffed and written while holding the row of the process instance
+        boolean isUpdated = repository.updateDeltaInternal(dataSource, id, lock ? instance.version() : null, deltaCompactionThreshold, new Repository.DeltaUpdate() {
+            @Override
+            public byte[] payload() {
+                return marshaller.marshallProcessInstance(instance);
+            }
+
+            @Override
+            public byte[] delta(byte[] payload, List<byte[]> deltas) {
+                return marshaller.marshallProcessInstanceDelta(marshaller.mergeProcessInstanceDeltas(payload, deltas), instance);
+            }
+        });
+        if (!isUpdated) {
+            throw uncheckedException(null, "The document with ID: %s was updated or deleted by other request.", id);
+        }
+    }
+
     @Override
     public void remove(String id) {
-        boolean isDeleted = repository.deleteInternal(dataSource, UUID.fromString(id));
+        boolean isDeleted = repository.deleteInternal(dataSource, UUID.fromString(id), businessKeyIndex, isDeltaEnabled());
+        if (lock && !isDeleted) {
+            throw uncheckedException(null, "The document with ID: %s was deleted by other request.", id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void archive(String id, ProcessInstance instance) {
+        if (archive == null) {
+            remove(id);
+            return;
+        }
+        boolean isDeleted = repository.archiveInternal(dataSource, process.id(), UUID.fromString(id), marshaller.marshallProcessInstance(instance), instance.businessKey(),
+                System.currentTimeMillis(), businessKeyIndex, isDeltaEnabled());
         if (lock && !isDeleted) {
             throw uncheckedException(null, "The document with ID: %s was deleted by other request.", id);
         }
     }
 
+    @Override
+    public Optional<ArchivedProcessInstances> archived() {
+        return Optional.ofNullable(archive);
+    }
+
     @Override
     public Optional<ProcessInstance> findById(String id, ProcessInstanceReadMode mode) {
         ProcessInstance<?> instance = null;
         Map<String, Object> map = repository.findByIdInternal(dataSource, UUID.fromString(id));
         if (map.containsKey(PAYLOAD)) {
-            byte[] b = (byte[]) map.get(PAYLOAD);
+            byte[] b = mergeDeltas(UUID.fromString(id), (byte[]) map.get(PAYLOAD));
             instance = mode == MUTABLE ? marshaller.unmarshallProcessInstance(b, process)
                     : marshaller.unmarshallReadOnlyProcessInstance(b, process);
             ((AbstractProcessInstance<?>) instance).setVersion((Long) map.get(VERSION));
@@ -126,9 +226,17 @@ public class JDBCProcessInstances implements MutableProcessInstances {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<ProcessInstance> findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
+        if (!businessKeyIndex) {
+            return MutableProcessInstances.super.findByBusinessKey(businessKey, mode);
+        }
+        return repository.findIdByBusinessKeyInternal(dataSource, process.id(), businessKey).flatMap(id -> findById(id, mode));
+    }
+
     @Override
     public Collection<ProcessInstance> values(ProcessInstanceReadMode mode) {
-        return repository.findAllInternal(dataSource, process.id()).stream()
+        return findAllPayloads().stream()
                 .map(b -> mode == MUTABLE ? marshaller.unmarshallProcessInstance(b, process) : marshaller.unmarshallReadOnlyProcessInstance(b, process))
                 .collect(Collectors.toList());
     }
@@ -143,11 +251,38 @@ public class JDBCProcessInstances implements MutableProcessInstances {
         return this.lock;
     }
 
+    @Override
+    public void close() {
+        sweeper.close();
+    }
+
+    private boolean isDeltaEnabled() {
+        return deltaCompactionThreshold > 1;
+    }
+
+    private byte[] mergeDeltas(UUID id, byte[] snapshot) {
+        if (!isDeltaEnabled()) {
+            return snapshot;
+        }
+        return marshaller.mergeProcessInstanceDeltas(snapshot, repository.findDeltasInternal(dataSource, id));
+    }
+
+    private Collection<byte[]> findAllPayloads() {
+        if (!isDeltaEnabled()) {
+            return repository.findAllInternal(dataSource, process.id());
+        }
+        Map<String, List<byte[]>> deltas = repository.findAllDeltasInternal(dataSource, process.id());
+        return repository.findAllWithIdInternal(dataSource, process.id()).entrySet().stream()
+                .map(e -> marshaller.mergeProcessInstanceDeltas(e.getValue(), deltas.getOrDefault(e.getKey(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
     private void disconnect(ProcessInstance instance) {
         Supplier<byte[]> supplier = () -> {
-            Map<String, Object> map = repository.findByIdInternal(dataSource, UUID.fromString(instance.id()));
+            UUID id = UUID.fromString(instance.id());
+            Map<String, Object> map = repository.findByIdInternal(dataSource, id);
             ((AbstractProcessInstance<?>) instance).setVersion((Long) map.get(VERSION));
-            return (byte[]) map.get(PAYLOAD);
+            return map.containsKey(PAYLOAD) ? mergeDeltas(id, (byte[]) map.get(PAYLOAD)) : null;
         };
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(supplier));
     }
@@ -155,4 +290,31 @@ public class JDBCProcessInstances implements MutableProcessInstances {
     private RuntimeException uncheckedException(Exception ex, String message, Object... param) {
         return new RuntimeException(String.format(message, param), ex);
     }
+
+    private class Archive implements ArchivedProcessInstances {
+
+        @Override
+        public Optional<ProcessInstance> findById(String id) {
+            return repository.findArchivedByIdInternal(dataSource, UUID.fromString(id))
+                    .map(b -> marshaller.unmarshallReadOnlyProcessInstance(b, process));
+        }
+
+        @Override
+        public Collection<ProcessInstance> values() {
+            return repository.findAllArchivedInternal(dataSource, process.id()).stream()
+                    .map(b -> marshaller.unmarshallReadOnlyProcessInstance(b, process))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public Integer size() {
+            return repository.countArchivedInternal(dataSource, process.id()).intValue();
+        }
+
+        @Override
+        public int sweep(int batchSize) {
+            long archivedBefore = retention.getTimeToLive().map(ttl -> System.currentTimeMillis() - ttl.toMillis()).orElse(Long.MIN_VALUE);
+            return repository.sweepArchiveInternal(dataSource, process.id(), archivedBefore, retention.getMaxCount(), batchSize);
+        }
+    }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package org.kie.kogito.persistence.jdbc;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.sql.DataSource;
@@ -30,18 +31,46 @@ abstract class Repository {
     static final String UPDATE_WITH_LOCK = "UPDATE process_instances SET payload = ?, version = ? WHERE id = ? and version = ?";
     static final String DELETE = "DELETE FROM process_instances WHERE id = ?";
     static final String COUNT = "SELECT COUNT(id) as count FROM process_instances WHERE process_id = ?";
+    static final String FIND_ALL_WITH_ID = "SELECT id, payload FROM process_instances WHERE process_id = ?";
+    static final String FIND_BY_ID_FOR_UPDATE = "SELECT payload, version FROM process_instances WHERE id = ? FOR UPDATE";
+    static final String UPDATE_VERSION = "UPDATE process_instances SET version = ? WHERE id = ?";
+
+    static final String INSERT_DELTA = "INSERT INTO process_instance_deltas (process_instance_id, delta_index, payload) VALUES (?, ?, ?)";
+    static final String FIND_DELTAS = "SELECT payload FROM process_instance_deltas WHERE process_instance_id = ? ORDER BY delta_index";
+    static final String FIND_ALL_DELTAS = "SELECT d.process_instance_id, d.payload FROM process_instance_deltas d " +
+            "INNER JOIN process_instances p ON p.id = d.process_instance_id WHERE p.process_id = ? ORDER BY d.process_instance_id, d.delta_index";
+    static final String DELETE_DELTAS = "DELETE FROM process_instance_deltas WHERE process_instance_id = ?";
+
+    static final String INSERT_BUSINESS_KEY = "INSERT INTO process_instance_business_keys (process_id, business_key, process_instance_id) VALUES (?, ?, ?)";
+    static final String FIND_BY_BUSINESS_KEY = "SELECT process_instance_id FROM process_instance_business_keys WHERE process_id = ? AND business_key = ?";
+    static final String DELETE_BUSINESS_KEYS = "DELETE FROM process_instance_business_keys WHERE process_instance_id = ?";
+
+    static final String INSERT_ARCHIVE = "INSERT INTO process_instances_archive (id, payload, process_id, business_key, archived_at) VALUES (?, ?, ?, ?, ?)";
+    static final String FIND_ARCHIVED_BY_ID = "SELECT payload FROM process_instances_archive WHERE id = ?";
+    static final String FIND_ALL_ARCHIVED = "SELECT payload FROM process_instances_archive WHERE process_id = ?";
+    static final String COUNT_ARCHIVED = "SELECT COUNT(id) as count FROM process_instances_archive WHERE process_id = ?";
+    static final String FIND_EXPIRED_ARCHIVED = "SELECT id FROM process_instances_archive WHERE process_id = ? AND archived_at < ? ORDER BY archived_at";
+    static final String FIND_OLDEST_ARCHIVED = "SELECT id FROM process_instances_archive WHERE process_id = ? ORDER BY archived_at";
+    static final String DELETE_ARCHIVED = "DELETE FROM process_instances_archive WHERE id = ?";
 
     abstract boolean tableExists(DataSource dataSource);
 
     abstract void createTable(DataSource dataSource);
 
-    abstract void insertInternal(DataSource dataSource, String processId, UUID id, byte[] payload);
+    /**
+     * Inserts the process instance and its business key, if any, in the same transaction.
+     */
+    abstract void insertInternal(DataSource dataSource, String processId, UUID id, byte[] payload, String businessKey);
 
     abstract void updateInternal(DataSource dataSource, UUID id, byte[] payload);
 
     abstract boolean updateWithLock(DataSource dataSource, UUID id, byte[] payload, long version);
 
-    abstract boolean deleteInternal(DataSource dataSource, UUID id);
+    /**
+     * Deletes the process instance and, when <code>withBusinessKeys</code> and <code>withDeltas</code> are set,
+     * its business key and its deltas in the same transaction.
+     */
+    abstract boolean deleteInternal(DataSource dataSource, UUID id, boolean withBusinessKeys, boolean withDeltas);
 
     abstract Map<String, Object> findByIdInternal(DataSource dataSource, UUID id);
 
@@ -49,6 +78,70 @@ abstract class Repository {
 
     abstract Long countInternal(DataSource dataSource, String processId);
 
+    abstract boolean deltaTableExists(DataSource dataSource);
+
+    abstract void createDeltaTable(DataSource dataSource);
+
+    abstract Map<String, byte[]> findAllWithIdInternal(DataSource dataSource, String processId);
+
+    /**
+     * Reads the process instance and its deltas, then either appends a new delta or, once it would hold
+     * <code>maxDeltas</code> deltas, replaces its payload and deletes its deltas, all in the same transaction.
+     * The row of the process instance is selected for update first. When <code>version</code> is given, it is also
+     * checked and incremented.
+     * Returns false when <code>version</code> is not the current version of the process instance.
+     */
+    abstract boolean updateDeltaInternal(DataSource dataSource, UUID id, Long version, int maxDeltas, DeltaUpdate update);
+
+    abstract List<byte[]> findDeltasInternal(DataSource dataSource, UUID id);
+
+    abstract Map<String, List<byte[]>> findAllDeltasInternal(DataSource dataSource, String processId);
+
+    abstract boolean businessKeyTableExists(DataSource dataSource);
+
+    abstract void createBusinessKeyTable(DataSource dataSource);
+
+    abstract Optional<String> findIdByBusinessKeyInternal(DataSource dataSource, String processId, String businessKey);
+
+    abstract boolean archiveTableExists(DataSource dataSource);
+
+    abstract void createArchiveTable(DataSource dataSource);
+
+    /**
+     * Inserts the process instance into the archive and deletes it and, when <code>withBusinessKeys</code> and <code>withDeltas</code>
+     * are set, its business key and its deltas in the same transaction.
+     */
+    abstract boolean archiveInternal(DataSource dataSource, String processId, UUID id, byte[] payload, String businessKey, long archivedAt, boolean withBusinessKeys,
+            boolean withDeltas);
+
+    abstract Optional<byte[]> findArchivedByIdInternal(DataSource dataSource, UUID id);
+
+    abstract List<byte[]> findAllArchivedInternal(DataSource dataSource, String processId);
+
+    abstract Long countArchivedInternal(DataSource dataSource, String processId);
+
+    /**
+     * Deletes at most <code>batchSize</code> archived process instances, archived before <code>archivedBefore</code>
+     * or in excess of <code>maxCount</code> when it is positive, oldest first.
+     */
+    abstract int sweepArchiveInternal(DataSource dataSource, String processId, long archivedBefore, int maxCount, int batchSize);
+
+    /**
+     * Provides the new state of a process instance whose changes are stored as deltas
+     */
+    interface DeltaUpdate {
+
+        /**
+         * Returns the whole process instance, replacing its payload and deltas
+         */
+        byte[] payload();
+
+        /**
+         * Returns the changes of the process instance since the given payload merged with the given deltas
+         */
+        byte[] delta(byte[] payload, List<byte[]> deltas);
+    }
+
     protected RuntimeException uncheckedException(Exception ex, String message, Object... param) {
         return new RuntimeException(String.format(message, param), ex);
     }
@@ -0,0 +1,8 @@
+CREATE TABLE process_instances_archive(
+    id char(36) NOT NULL,
+    payload blob NOT NULL,
+    process_id varchar2(4000) NOT NULL,
+    business_key varchar2(255),
+    archived_at number(19) NOT NULL,
+    CONSTRAINT process_instances_archive_pkey PRIMARY KEY (id));
+CREATE INDEX idx_pi_archive_proc_id ON process_instances_archive (process_id, archived_at);
\ No newline at end of file
@@ -0,0 +1,8 @@
+CREATE TABLE process_instances_archive(
+    id character(36) NOT NULL,
+    payload bytea NOT NULL,
+    process_id character varying NOT NULL,
+    business_key character varying,
+    archived_at bigint NOT NULL,
+    CONSTRAINT process_instances_archive_pkey PRIMARY KEY (id));
+CREATE INDEX idx_pi_archive_process_id ON process_instances_archive (process_id, archived_at);
\ No newline at end of file
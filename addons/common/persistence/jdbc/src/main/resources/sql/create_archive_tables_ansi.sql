@@ -0,0 +1,8 @@
+CREATE TABLE process_instances_archive(
+    id CHAR(36) NOT NULL,
+    payload BLOB NOT NULL,
+    process_id VARCHAR(4000) NOT NULL,
+    business_key VARCHAR(255),
+    archived_at BIGINT(19) NOT NULL,
+    CONSTRAINT process_instances_archive_pkey PRIMARY KEY (id));
+CREATE INDEX idx_pi_archive_process_id ON process_instances_archive (process_id, archived_at);
\ No newline at end of file
@@ -0,0 +1,6 @@
+CREATE TABLE process_instance_business_keys(
+    process_id varchar2(4000) NOT NULL,
+    business_key varchar2(255) NOT NULL,
+    process_instance_id char(36) NOT NULL,
+    CONSTRAINT pi_business_keys_pkey PRIMARY KEY (process_id, business_key));
+CREATE INDEX idx_pi_business_keys_pi_id ON process_instance_business_keys (process_instance_id);
\ No newline at end of file
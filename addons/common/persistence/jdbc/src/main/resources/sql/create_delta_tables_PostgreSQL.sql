@@ -0,0 +1,5 @@
+CREATE TABLE process_instance_deltas(
+    process_instance_id character(36) NOT NULL,
+    delta_index integer NOT NULL,
+    payload bytea NOT NULL,
+    CONSTRAINT process_instance_deltas_pkey PRIMARY KEY (process_instance_id, delta_index));
\ No newline at end of file
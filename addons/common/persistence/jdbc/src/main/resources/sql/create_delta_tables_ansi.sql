@@ -0,0 +1,5 @@
+CREATE TABLE process_instance_deltas(
+    process_instance_id CHAR(36) NOT NULL,
+    delta_index INTEGER NOT NULL,
+    payload BLOB NOT NULL,
+    CONSTRAINT process_instance_deltas_pkey PRIMARY KEY (process_instance_id, delta_index));
\ No newline at end of file
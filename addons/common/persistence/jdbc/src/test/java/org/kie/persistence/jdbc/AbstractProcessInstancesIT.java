@@ -15,8 +15,17 @@
  */
 package org.kie.persistence.jdbc;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
@@ -25,16 +34,20 @@ import org.junit.jupiter.api.Test;
 import org.kie.kogito.auth.IdentityProviders;
 import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.persistence.jdbc.JDBCProcessInstances;
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnProcessInstance;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ABORTED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ACTIVE;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_COMPLETED;
 import static org.mockito.ArgumentMatchers.any;
@@ -123,6 +136,90 @@ abstract class AbstractProcessInstancesIT {
         assertThat(process.instances().values()).isEmpty();
     }
 
+    @Test
+    void testBusinessKey() {
+        var factory = new TestProcessInstancesFactory(getDataSource(), false);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        Optional<?> found = processInstances.findByBusinessKey("order-1");
+        assertThat(found).hasValueSatisfying(pi -> assertThat(((ProcessInstance<?>) pi).id()).isEqualTo(processInstance.id()));
+        assertThat(processInstances.findByBusinessKey("order-2")).isEmpty();
+
+        ProcessInstance<BpmnVariables> duplicated = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        assertThatExceptionOfType(ProcessInstanceDuplicatedBusinessKeyException.class).isThrownBy(duplicated::start);
+        assertThat(processInstances.size()).isOne();
+
+        processInstance.abort();
+        assertThat(processInstances.findByBusinessKey("order-1")).isEmpty();
+
+        ProcessInstance<BpmnVariables> restarted = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        restarted.start();
+        WorkItem workItem = restarted.workItems(securityPolicy).get(0);
+        restarted.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(restarted.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(processInstances.findByBusinessKey("order-1")).isEmpty();
+    }
+
+    @Test
+    void testBusinessKeyWithoutTable() throws SQLException {
+        // makes sure the table exists before dropping it, not every database supports DROP TABLE IF EXISTS
+        createProcess(new TestProcessInstancesFactory(getDataSource(), false), "BPMN2-UserTask.bpmn2");
+        try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE process_instance_business_keys");
+        }
+        var factory = new TestProcessInstancesFactory(getDataSource(), false, 0, false);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        // existing deployments without the table keep working, business keys are found by going through the instances
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        Optional<?> found = processInstances.findByBusinessKey("order-1");
+        assertThat(found).hasValueSatisfying(pi -> assertThat(((ProcessInstance<?>) pi).id()).isEqualTo(processInstance.id()));
+
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(processInstances.size()).isZero();
+
+        // recreates the table for the other tests
+        createProcess(new TestProcessInstancesFactory(getDataSource(), false), "BPMN2-UserTask.bpmn2");
+    }
+
+    @Test
+    void testArchive() {
+        var factory = new TestProcessInstancesFactory(getDataSource(), false).withArchive(1);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ArchivedProcessInstances<BpmnVariables> archived = process.instances().archived().get();
+        ArchivedProcessInstancesSweeper.sweep(archived, 10);
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-archived", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+
+        assertThat(process.instances().size()).isZero();
+        assertThat(process.instances().findByBusinessKey("order-archived")).isEmpty();
+        assertThat(archived.findById(processInstance.id())).hasValueSatisfying(pi -> {
+            assertThat(pi.status()).isEqualTo(STATE_COMPLETED);
+            assertThat(pi.businessKey()).isEqualTo("order-archived");
+        });
+
+        ProcessInstance<BpmnVariables> aborted = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        aborted.start();
+        aborted.abort();
+        assertThat(archived.findById(aborted.id())).hasValueSatisfying(pi -> assertThat(pi.status()).isEqualTo(STATE_ABORTED));
+        assertThat(archived.size()).isGreaterThanOrEqualTo(2);
+
+        ArchivedProcessInstancesSweeper.sweep(archived, 1);
+        assertThat(archived.size()).isOne();
+        assertThat(archived.values()).hasSize(1);
+    }
+
     @Test
     void testException() {
         BpmnProcess process = configure(false);
@@ -186,4 +283,80 @@ abstract class AbstractProcessInstancesIT {
             assertThat(e.getMessage()).isEqualTo("The document with ID: " + instanceOne.id() + " was deleted by other request.");
         }
     }
+
+    @Test
+    public void testDeltaUpdate() {
+        var factory = new TestProcessInstancesFactory(getDataSource(), true, 3);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        for (int i = 0; i < 5; i++) {
+            processInstance.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "value" + i)));
+
+            assertThat(processInstances.size()).isOne();
+            ProcessInstance<?> stored = (ProcessInstance<?>) processInstances.findById(processInstance.id()).get();
+            assertThat(((BpmnVariables) stored.variables()).toMap()).containsEntry("test", "value" + i);
+            assertThat(stored.workItems(securityPolicy)).hasSize(1);
+        }
+        assertThat(process.instances().values()).hasSize(1);
+
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(processInstances.size()).isZero();
+    }
+
+    @Test
+    public void testDeltaUpdateWithLockRejectsStaleVersion() {
+        var factory = new TestProcessInstancesFactory(getDataSource(), true, 3);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        BpmnProcessInstance instanceOne = (BpmnProcessInstance) processInstances.findById(processInstance.id()).get();
+        BpmnProcessInstance instanceTwo = (BpmnProcessInstance) processInstances.findById(processInstance.id()).get();
+        instanceOne.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "one")));
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(() -> instanceTwo.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "two"))))
+                .withMessage("The document with ID: " + instanceOne.id() + " was updated or deleted by other request.");
+
+        // the rejected update did not move the version, so a fresh copy can still be updated
+        BpmnProcessInstance instanceThree = (BpmnProcessInstance) processInstances.findById(processInstance.id()).get();
+        assertEquals(2L, instanceThree.version());
+        instanceThree.updateVariables(BpmnVariables.create(Collections.singletonMap("test", "three")));
+        ProcessInstance<?> stored = (ProcessInstance<?>) processInstances.findById(processInstance.id()).get();
+        assertThat(((BpmnVariables) stored.variables()).toMap()).containsEntry("test", "three");
+        assertEquals(3L, ((BpmnProcessInstance) stored).version());
+    }
+
+    @Test
+    public void testConcurrentDeltaUpdatesWithoutLock() throws Exception {
+        var factory = new TestProcessInstancesFactory(getDataSource(), false, 5);
+        BpmnProcess process = createProcess(factory, "BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        JDBCProcessInstances processInstances = (JDBCProcessInstances) process.instances();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> updates = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String value = "value" + i;
+                updates.add(executor.submit(() -> ((BpmnProcessInstance) processInstances.findById(processInstance.id()).get())
+                        .updateVariables(BpmnVariables.create(Collections.singletonMap("test", value)))));
+            }
+            for (Future<?> update : updates) {
+                // updates of the same process instance are serialized on its row, none of them collides on a delta index
+                update.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        ProcessInstance<?> stored = (ProcessInstance<?>) processInstances.findById(processInstance.id()).get();
+        assertThat(((BpmnVariables) stored.variables()).toMap()).containsKey("test");
+        assertThat(stored.workItems(securityPolicy)).hasSize(1);
+    }
 }
@@ -26,10 +26,28 @@ import static org.mockito.Mockito.spy;
 public class TestProcessInstancesFactory extends KogitoProcessInstancesFactory {
 
     private boolean enableLock;
+    private int deltaCompactionThreshold;
+    private boolean archive;
+    private int retentionMaxCount;
 
     public TestProcessInstancesFactory(DataSource dataSource, boolean lock) {
-        super(dataSource, true);
+        this(dataSource, lock, 0);
+    }
+
+    public TestProcessInstancesFactory(DataSource dataSource, boolean lock, int deltaCompactionThreshold) {
+        this(dataSource, lock, deltaCompactionThreshold, true);
+    }
+
+    public TestProcessInstancesFactory(DataSource dataSource, boolean lock, int deltaCompactionThreshold, boolean autoDDL) {
+        super(dataSource, autoDDL);
         this.enableLock = lock;
+        this.deltaCompactionThreshold = deltaCompactionThreshold;
+    }
+
+    public TestProcessInstancesFactory withArchive(int retentionMaxCount) {
+        this.archive = true;
+        this.retentionMaxCount = retentionMaxCount;
+        return this;
     }
 
     @Override
@@ -43,4 +61,19 @@ public class TestProcessInstancesFactory extends KogitoProcessInstancesFactory {
         return enableLock;
     }
 
+    @Override
+    public int deltaCompactionThreshold() {
+        return deltaCompactionThreshold;
+    }
+
+    @Override
+    public boolean retentionArchive() {
+        return archive;
+    }
+
+    @Override
+    public int retentionMaxCount() {
+        return retentionMaxCount;
+    }
+
 }
@@ -26,15 +26,24 @@ import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 import org.kie.kogito.Model;
 import org.kie.kogito.mongodb.transaction.MongoDBTransactionManager;
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.ProcessInstanceRetention;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.serialization.process.MarshallerContextName;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoException;
+import com.mongodb.MongoWriteException;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
@@ -44,24 +53,47 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
 import static java.util.Collections.singletonMap;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.ARCHIVED_AT;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.ARCHIVED_AT_INDEX;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.ARCHIVE_COLLECTION_SUFFIX;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.BUSINESS_KEY;
+import static org.kie.kogito.mongodb.utils.DocumentConstants.BUSINESS_KEY_INDEX;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID;
 import static org.kie.kogito.mongodb.utils.DocumentConstants.PROCESS_INSTANCE_ID_INDEX;
 import static org.kie.kogito.process.ProcessInstanceReadMode.MUTABLE;
+import static org.kie.kogito.process.ProcessInstanceReadMode.READ_ONLY;
 
 public class MongoDBProcessInstances<T extends Model> implements MutableProcessInstances<T> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoDBProcessInstances.class);
+
     private static final String VERSION = "version";
     private org.kie.kogito.process.Process<?> process;
     private ProcessInstanceMarshallerService marshaller;
     private final MongoCollection<Document> collection;
     private MongoDBTransactionManager transactionManager;
     private final boolean lock;
+    private final ProcessInstanceRetention retention;
+    private final Archive archive;
+    private final ArchivedProcessInstancesSweeper sweeper;
 
     public MongoDBProcessInstances(MongoClient mongoClient, org.kie.kogito.process.Process<?> process, String dbName, MongoDBTransactionManager transactionManager, boolean lock) {
+        this(mongoClient, process, dbName, transactionManager, lock, ProcessInstanceRetention.NONE);
+    }
+
+    /**
+     * When the <code>retention</code> policy archives finished process instances, they are moved into the
+     * collection of the process suffixed with {@value org.kie.kogito.mongodb.utils.DocumentConstants#ARCHIVE_COLLECTION_SUFFIX}
+     * and removed from there once expired.
+     */
+    public MongoDBProcessInstances(MongoClient mongoClient, org.kie.kogito.process.Process<?> process, String dbName, MongoDBTransactionManager transactionManager, boolean lock,
+            ProcessInstanceRetention retention) {
         this.process = process;
         this.collection = getCollection(mongoClient, process.id(), dbName);
         this.marshaller = ProcessInstanceMarshallerService.newBuilder()
@@ -70,6 +102,9 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
                 .build();
         this.transactionManager = transactionManager;
         this.lock = lock;
+        this.retention = retention;
+        this.archive = retention.isArchive() ? new Archive(getArchiveCollection(mongoClient, process.id(), dbName)) : null;
+        this.sweeper = archive != null ? ArchivedProcessInstancesSweeper.schedule(process.id(), archive, retention) : ArchivedProcessInstancesSweeper.NONE;
     }
 
     @Override
@@ -83,6 +118,20 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         return Optional.empty();
     }
 
+    @Override
+    public Optional<ProcessInstance<T>> findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
+        Bson filter = Filters.eq(BUSINESS_KEY, businessKey);
+        Document piDoc = Optional.ofNullable(transactionManager.getClientSession())
+                .map(r -> collection.find(r, filter).first())
+                .orElseGet(() -> collection.find(filter).first());
+        if (piDoc != null) {
+            ProcessInstance<T> instance = unmarshall(piDoc, mode);
+            setVersion(instance, piDoc.getLong(VERSION));
+            return Optional.of(instance);
+        }
+        return Optional.empty();
+    }
+
     @Override
     public Collection<ProcessInstance<T>> values(ProcessInstanceReadMode mode) {
         FindIterable<Document> docs = Optional.ofNullable(transactionManager.getClientSession())
@@ -134,10 +183,17 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
             throw new ProcessInstanceDuplicatedException(id);
         } else {
             doc.put(VERSION, 0L);
-            if (clientSession != null) {
-                collection.insertOne(clientSession, doc);
-            } else {
-                collection.insertOne(doc);
+            try {
+                if (clientSession != null) {
+                    collection.insertOne(clientSession, doc);
+                } else {
+                    collection.insertOne(doc);
+                }
+            } catch (MongoWriteException e) {
+                if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY && e.getError().getMessage().contains(BUSINESS_KEY_INDEX)) {
+                    throw new ProcessInstanceDuplicatedBusinessKeyException(id, doc.getString(BUSINESS_KEY), e);
+                }
+                throw e;
             }
         }
     }
@@ -188,6 +244,19 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         }
     }
 
+    @Override
+    public void archive(String id, ProcessInstance<T> instance) {
+        if (archive != null) {
+            archive.store(instance);
+        }
+        remove(id);
+    }
+
+    @Override
+    public Optional<ArchivedProcessInstances<T>> archived() {
+        return Optional.ofNullable(archive);
+    }
+
     private void reloadProcessInstance(ProcessInstance<T> instance, String id) {
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(() -> {
             Document reloaded = find(id);
@@ -216,6 +285,11 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         return this.lock;
     }
 
+    @Override
+    public void close() {
+        sweeper.close();
+    }
+
     protected MongoCollection<Document> getCollection() {
         return collection;
     }
@@ -227,6 +301,111 @@ public class MongoDBProcessInstances<T extends Model> implements MutableProcessI
         //Index creation (if the index already exists it is a no-op)
         collection.createIndex(Indexes.ascending(PROCESS_INSTANCE_ID),
                 new IndexOptions().unique(true).name(PROCESS_INSTANCE_ID_INDEX).background(true));
+        // the business key is part of the process instance document, so the index is maintained in the same write
+        try {
+            collection.createIndex(Indexes.ascending(BUSINESS_KEY),
+                    new IndexOptions().unique(true).name(BUSINESS_KEY_INDEX).partialFilterExpression(Filters.exists(BUSINESS_KEY)).background(true));
+        } catch (MongoException e) {
+            // active process instances stored before may share their business key
+            LOGGER.warn("Unable to create the business key index of collection {}, business keys are not unique", processId, e);
+        }
         return collection;
     }
+
+    private MongoCollection<Document> getArchiveCollection(MongoClient mongoClient, String processId, String dbName) {
+        CodecRegistry registry = CodecRegistries.fromRegistries(MongoClientSettings.getDefaultCodecRegistry());
+        MongoDatabase mongoDatabase = mongoClient.getDatabase(dbName).withCodecRegistry(registry);
+        MongoCollection<Document> archiveCollection = mongoDatabase.getCollection(processId + ARCHIVE_COLLECTION_SUFFIX, Document.class).withCodecRegistry(registry);
+        archiveCollection.createIndex(Indexes.ascending(PROCESS_INSTANCE_ID),
+                new IndexOptions().unique(true).name(PROCESS_INSTANCE_ID_INDEX).background(true));
+        archiveCollection.createIndex(Indexes.ascending(ARCHIVED_AT), new IndexOptions().name(ARCHIVED_AT_INDEX).background(true));
+        return archiveCollection;
+    }
+
+    /**
+     * Archived process instance documents, the time they were archived at is kept in the {@value org.kie.kogito.mongodb.utils.DocumentConstants#ARCHIVED_AT} field.
+     */
+    private class Archive implements ArchivedProcessInstances<T> {
+
+        private final MongoCollection<Document> archiveCollection;
+
+        Archive(MongoCollection<Document> archiveCollection) {
+            this.archiveCollection = archiveCollection;
+        }
+
+        void store(ProcessInstance<T> instance) {
+            Document doc = Document.parse(new String(marshaller.marshallProcessInstance(instance)));
+            doc.put(ARCHIVED_AT, System.currentTimeMillis());
+            ClientSession clientSession = transactionManager.getClientSession();
+            if (clientSession != null) {
+                archiveCollection.insertOne(clientSession, doc);
+            } else {
+                archiveCollection.insertOne(doc);
+            }
+        }
+
+        @Override
+        public Optional<ProcessInstance<T>> findById(String id) {
+            return Optional.ofNullable(archiveCollection.find(Filters.eq(PROCESS_INSTANCE_ID, id)).first()).map(this::unmarshallArchived);
+        }
+
+        @Override
+        public Collection<ProcessInstance<T>> values() {
+            List<ProcessInstance<T>> list = new ArrayList<>();
+            try (MongoCursor<Document> cursor = archiveCollection.find().iterator()) {
+                while (cursor.hasNext()) {
+                    list.add(unmarshallArchived(cursor.next()));
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public Integer size() {
+            return (int) archiveCollection.countDocuments();
+        }
+
+        @Override
+        public int sweep(int batchSize) {
+            List<String> ids = new ArrayList<>();
+            if (retention.getMaxCount() > 0) {
+                long excess = archiveCollection.countDocuments() - retention.getMaxCount();
+                if (excess > 0) {
+                    ids.addAll(findOldestIds(new Document(), (int) Math.min(excess, batchSize)));
+                }
+            }
+            if (ids.size() < batchSize && retention.getTimeToLive().isPresent()) {
+                long archivedBefore = System.currentTimeMillis() - retention.getTimeToLive().get().toMillis();
+                // the oldest instances in excess may be expired as well
+                for (String id : findOldestIds(Filters.lt(ARCHIVED_AT, archivedBefore), batchSize)) {
+                    if (ids.size() == batchSize) {
+                        break;
+                    }
+                    if (!ids.contains(id)) {
+                        ids.add(id);
+                    }
+                }
+            }
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            return (int) archiveCollection.deleteMany(Filters.in(PROCESS_INSTANCE_ID, ids)).getDeletedCount();
+        }
+
+        private List<String> findOldestIds(Bson filter, int limit) {
+            List<String> ids = new ArrayList<>();
+            try (MongoCursor<Document> cursor = archiveCollection.find(filter).sort(Sorts.ascending(ARCHIVED_AT))
+                    .projection(Projections.include(PROCESS_INSTANCE_ID)).limit(limit).iterator()) {
+                while (cursor.hasNext()) {
+                    ids.add(cursor.next().getString(PROCESS_INSTANCE_ID));
+                }
+            }
+            return ids;
+        }
+
+        private ProcessInstance<T> unmarshallArchived(Document document) {
+            document.remove(ARCHIVED_AT);
+            return unmarshall(document, READ_ONLY);
+        }
+    }
 }
@@ -22,6 +22,11 @@ public class DocumentConstants {
     public static final String DOCUMENT_ID = "_id";
     public static final String PROCESS_INSTANCE_ID = "id";
     public static final String PROCESS_INSTANCE_ID_INDEX = "index_process_instance_id";
+    public static final String BUSINESS_KEY = "businessKey";
+    public static final String BUSINESS_KEY_INDEX = "index_business_key";
+    public static final String ARCHIVE_COLLECTION_SUFFIX = "_archive";
+    public static final String ARCHIVED_AT = "archivedAt";
+    public static final String ARCHIVED_AT_INDEX = "index_archived_at";
     public static final String STRATEGIES = "strategies";
     public static final String NAME = "name";
     public static final String PROCESS_INSTANCE = "processInstance";
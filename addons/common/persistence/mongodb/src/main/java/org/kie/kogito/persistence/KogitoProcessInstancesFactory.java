@@ -15,9 +15,12 @@
  */
 package org.kie.kogito.persistence;
 
+import java.time.Duration;
+
 import org.kie.kogito.mongodb.MongoDBProcessInstances;
 import org.kie.kogito.mongodb.transaction.MongoDBTransactionManager;
 import org.kie.kogito.process.Process;
+import org.kie.kogito.process.ProcessInstanceRetention;
 import org.kie.kogito.process.ProcessInstancesFactory;
 
 import com.mongodb.client.MongoClient;
@@ -40,8 +43,54 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
 
     public abstract boolean lock();
 
+    /**
+     * Whether finished process instances are moved into an archive instead of being removed
+     */
+    public boolean retentionArchive() {
+        return false;
+    }
+
+    /**
+     * Time archived process instances are kept for, as an ISO-8601 duration, they never expire by default
+     */
+    public String retentionTimeToLive() {
+        return null;
+    }
+
+    /**
+     * Maximum number of archived process instances kept per process, zero when unlimited
+     */
+    public int retentionMaxCount() {
+        return 0;
+    }
+
+    /**
+     * Maximum number of expired archived process instances removed at once
+     */
+    public int retentionSweepBatchSize() {
+        return ProcessInstanceRetention.DEFAULT_SWEEP_BATCH_SIZE;
+    }
+
+    /**
+     * Time between two removals of the expired archived process instances, as an ISO-8601 duration
+     */
+    public String retentionSweepInterval() {
+        return ProcessInstanceRetention.DEFAULT_SWEEP_INTERVAL.toString();
+    }
+
+    protected ProcessInstanceRetention retention() {
+        String timeToLive = retentionTimeToLive();
+        return ProcessInstanceRetention.newBuilder()
+                .withArchive(retentionArchive())
+                .withTimeToLive(timeToLive == null || timeToLive.isBlank() ? null : Duration.parse(timeToLive))
+                .withMaxCount(retentionMaxCount())
+                .withSweepBatchSize(retentionSweepBatchSize())
+                .withSweepInterval(Duration.parse(retentionSweepInterval()))
+                .build();
+    }
+
     @Override
     public MongoDBProcessInstances<?> createProcessInstances(Process<?> process) {
-        return new MongoDBProcessInstances<>(mongoClient, process, dbName(), transactionManager(), lock());
+        return new MongoDBProcessInstances<>(mongoClient, process, dbName(), transactionManager(), lock(), retention());
     }
 }
\ No newline at end of file
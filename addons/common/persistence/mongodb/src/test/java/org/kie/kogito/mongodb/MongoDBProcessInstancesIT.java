@@ -37,12 +37,15 @@ import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.mongodb.transaction.MongoDBTransactionManager;
 import org.kie.kogito.mongodb.utils.DocumentConstants;
 import org.kie.kogito.persistence.KogitoProcessInstancesFactory;
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.services.identity.StaticIdentityProvider;
 import org.kie.kogito.testcontainers.KogitoMongoDBContainer;
 import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
@@ -58,6 +61,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ABORTED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ACTIVE;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_COMPLETED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ERROR;
@@ -298,13 +302,98 @@ class MongoDBProcessInstancesIT {
         assertThat(instances.size()).isZero();
     }
 
+    @Test
+    void testBusinessKey() {
+        MongoDBTransactionManager transactionManager = new MongoDBTransactionManager(mongoClient) {
+            @Override
+            public boolean enabled() {
+                return false;
+            }
+        };
+        BpmnProcess process = BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        process.setProcessInstancesFactory(new MongoDBProcessInstancesFactory(mongoClient, transactionManager));
+        process.configure();
+        process.instances().values(ProcessInstanceReadMode.MUTABLE).forEach(p -> p.abort());
+
+        MongoDBProcessInstances<?> mongoDBProcessInstances = (MongoDBProcessInstances<?>) process.instances();
+        assertThat(StreamSupport.stream(mongoDBProcessInstances.getCollection().listIndexes().spliterator(), false)
+                .filter(index -> index.get("name").equals(DocumentConstants.BUSINESS_KEY_INDEX))
+                .findFirst()).isPresent();
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        ProcessInstances<BpmnVariables> instances = process.instances();
+        assertThat(instances.findByBusinessKey("order-1")).hasValueSatisfying(pi -> assertThat(pi.id()).isEqualTo(processInstance.id()));
+        assertThat(instances.findByBusinessKey("order-2")).isEmpty();
+
+        ProcessInstance<BpmnVariables> duplicated = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        assertThatExceptionOfType(ProcessInstanceDuplicatedBusinessKeyException.class).isThrownBy(duplicated::start);
+        assertThat(instances.size()).isOne();
+
+        processInstance.abort();
+        assertThat(instances.findByBusinessKey("order-1")).isEmpty();
+
+        ProcessInstance<BpmnVariables> restarted = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        restarted.start();
+        WorkItem workItem = restarted.workItems(securityPolicy).get(0);
+        restarted.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(restarted.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(instances.findByBusinessKey("order-1")).isEmpty();
+    }
+
+    @Test
+    void testArchive() {
+        MongoDBTransactionManager transactionManager = new MongoDBTransactionManager(mongoClient) {
+            @Override
+            public boolean enabled() {
+                return false;
+            }
+        };
+        BpmnProcess process = BpmnProcess.from(new ClassPathResource("BPMN2-UserTask.bpmn2")).get(0);
+        process.setProcessInstancesFactory(new MongoDBProcessInstancesFactory(mongoClient, transactionManager, 1));
+        process.configure();
+        process.instances().values(ProcessInstanceReadMode.MUTABLE).forEach(p -> p.abort());
+        ArchivedProcessInstances<BpmnVariables> archived = process.instances().archived().get();
+        ArchivedProcessInstancesSweeper.sweep(archived, 10);
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-archived", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+
+        assertThat(process.instances().size()).isZero();
+        assertThat(process.instances().findByBusinessKey("order-archived")).isEmpty();
+        assertThat(archived.findById(processInstance.id())).hasValueSatisfying(pi -> {
+            assertThat(pi.status()).isEqualTo(STATE_COMPLETED);
+            assertThat(pi.businessKey()).isEqualTo("order-archived");
+        });
+
+        ProcessInstance<BpmnVariables> aborted = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        aborted.start();
+        aborted.abort();
+        assertThat(archived.findById(aborted.id())).hasValueSatisfying(pi -> assertThat(pi.status()).isEqualTo(STATE_ABORTED));
+        assertThat(archived.size()).isGreaterThanOrEqualTo(2);
+
+        ArchivedProcessInstancesSweeper.sweep(archived, 1);
+        assertThat(archived.size()).isOne();
+        assertThat(archived.values()).hasSize(1);
+    }
+
     private class MongoDBProcessInstancesFactory extends KogitoProcessInstancesFactory {
 
         private MongoDBTransactionManager transactionManager;
+        private int retentionMaxCount;
 
         public MongoDBProcessInstancesFactory(MongoClient mongoClient, MongoDBTransactionManager transactionManager) {
+            this(mongoClient, transactionManager, 0);
+        }
+
+        public MongoDBProcessInstancesFactory(MongoClient mongoClient, MongoDBTransactionManager transactionManager, int retentionMaxCount) {
             super(mongoClient);
             this.transactionManager = transactionManager;
+            this.retentionMaxCount = retentionMaxCount;
         }
 
         @Override
@@ -321,5 +410,15 @@ class MongoDBProcessInstancesIT {
         public boolean lock() {
             return false;
         }
+
+        @Override
+        public boolean retentionArchive() {
+            return retentionMaxCount > 0;
+        }
+
+        @Override
+        public int retentionMaxCount() {
+            return retentionMaxCount;
+        }
     }
 }
@@ -30,22 +30,29 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.ProcessInstanceRetention;
 import org.kie.kogito.process.impl.AbstractProcessInstance;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.pgclient.PgException;
 import io.vertx.pgclient.PgPool;
 import io.vertx.sqlclient.Row;
 import io.vertx.sqlclient.RowIterator;
 import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.Tuple;
 
 import static org.kie.kogito.process.ProcessInstanceReadMode.MUTABLE;
@@ -57,6 +64,8 @@ public class PostgreProcessInstances implements MutableProcessInstances {
 
     private static final String PAYLOAD = "payload";
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreProcessInstances.class);
 
     private final Process<?> process;
@@ -65,16 +74,38 @@ public class PostgreProcessInstances implements MutableProcessInstances {
     private final boolean autoDDL;
     private final Long queryTimeoutMillis;
     private final boolean lock;
+    private final ProcessInstanceRetention retention;
+    private final Archive archive;
+    private final ArchivedProcessInstancesSweeper sweeper;
+    private final boolean businessKeyIndex;
 
     public PostgreProcessInstances(Process<?> process, PgPool client, boolean autoDDL, Long queryTimeoutMillis,
             boolean lock) {
+        this(process, client, autoDDL, queryTimeoutMillis, lock, ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
+    }
+
+    public PostgreProcessInstances(Process<?> process, PgPool client, boolean autoDDL, Long queryTimeoutMillis,
+            boolean lock, ProcessInstanceMarshallerService marshaller) {
+        this(process, client, autoDDL, queryTimeoutMillis, lock, marshaller, ProcessInstanceRetention.NONE);
+    }
+
+    /**
+     * When the <code>retention</code> policy archives finished process instances, they are moved into the
+     * process_instances_archive table and removed from there once expired.
+     */
+    public PostgreProcessInstances(Process<?> process, PgPool client, boolean autoDDL, Long queryTimeoutMillis,
+            boolean lock, ProcessInstanceMarshallerService marshaller, ProcessInstanceRetention retention) {
         this.process = process;
         this.client = client;
         this.autoDDL = autoDDL;
         this.queryTimeoutMillis = queryTimeoutMillis;
-        this.marshaller = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build();
+        this.marshaller = marshaller;
         this.lock = lock;
+        this.retention = retention;
+        this.archive = retention.isArchive() ? new Archive() : null;
         init();
+        this.businessKeyIndex = hasBusinessKeyTable();
+        this.sweeper = archive != null ? ArchivedProcessInstancesSweeper.schedule(process.id(), archive, retention) : ArchivedProcessInstancesSweeper.NONE;
     }
 
     @Override
@@ -89,7 +120,7 @@ public class PostgreProcessInstances implements MutableProcessInstances {
             disconnect(instance);
             return;
         }
-        insertInternal(UUID.fromString(id), marshaller.marshallProcessInstance(instance));
+        insertInternal(UUID.fromString(id), marshaller.marshallProcessInstance(instance), businessKeyIndex ? instance.businessKey() : null);
     }
 
     @SuppressWarnings("unchecked")
@@ -115,6 +146,24 @@ public class PostgreProcessInstances implements MutableProcessInstances {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public void archive(String id, ProcessInstance instance) {
+        if (archive == null) {
+            remove(id);
+            return;
+        }
+        boolean isDeleted = archiveInternal(UUID.fromString(id), marshaller.marshallProcessInstance(instance), instance.businessKey());
+        if (lock && !isDeleted) {
+            throw uncheckedException(null, "The document with ID: %s was updated or deleted by other request.", id);
+        }
+    }
+
+    @Override
+    public Optional<ArchivedProcessInstances> archived() {
+        return Optional.ofNullable(archive);
+    }
+
     @Override
     public Optional<ProcessInstance> findById(String id, ProcessInstanceReadMode mode) {
         Optional<Row> row = findByIdInternal(UUID.fromString(id));
@@ -134,6 +183,14 @@ public class PostgreProcessInstances implements MutableProcessInstances {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<ProcessInstance> findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
+        if (!businessKeyIndex) {
+            return MutableProcessInstances.super.findByBusinessKey(businessKey, mode);
+        }
+        return findIdByBusinessKeyInternal(businessKey).flatMap(id -> findById(id.toString(), mode));
+    }
+
     @Override
     public Collection<ProcessInstance> values(ProcessInstanceReadMode mode) {
         return findAllInternal().stream().map(b -> mode == MUTABLE ? marshaller.unmarshallProcessInstance(b, process)
@@ -151,6 +208,11 @@ public class PostgreProcessInstances implements MutableProcessInstances {
         return this.lock;
     }
 
+    @Override
+    public void close() {
+        sweeper.close();
+    }
+
     private void disconnect(ProcessInstance instance) {
         Supplier<byte[]> supplier = () -> {
             Optional<Row> row = findByIdInternal(UUID.fromString(instance.id()));
@@ -162,17 +224,51 @@ public class PostgreProcessInstances implements MutableProcessInstances {
         ((AbstractProcessInstance<?>) instance).internalRemoveProcessInstance(marshaller.createdReloadFunction(supplier));
     }
 
-    private boolean insertInternal(UUID id, byte[] payload) {
+    private boolean insertInternal(UUID id, byte[] payload, String businessKey) {
         try {
             final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
-            client.preparedQuery("INSERT INTO process_instances (id, payload, process_id, version) VALUES ($1, $2, $3, $4)")
-                    .execute(Tuple.of(id, Buffer.buffer(payload), process.id(), 0L), getAsyncResultHandler(future));
+            // the business key is inserted in the same transaction, a key already in use rolls back the process instance
+            client.withTransaction(connection -> {
+                Future<RowSet<Row>> insert = connection.preparedQuery("INSERT INTO process_instances (id, payload, process_id, version) VALUES ($1, $2, $3, $4)")
+                        .execute(Tuple.of(id, Buffer.buffer(payload), process.id(), 0L));
+                if (businessKey == null) {
+                    return insert;
+                }
+                return insert.compose(rows -> connection.preparedQuery("INSERT INTO process_instance_business_keys (process_id, business_key, process_instance_id) VALUES ($1, $2, $3)")
+                        .execute(Tuple.of(process.id(), businessKey, id))
+                        .recover(e -> Future.failedFuture(isUniqueViolation(e) ? new ProcessInstanceDuplicatedBusinessKeyException(id.toString(), businessKey, e) : e))
+                        .map(rows));
+            }, getAsyncResultHandler(future));
             return getExecutedResult(future);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProcessInstanceDuplicatedBusinessKeyException) {
+                throw (ProcessInstanceDuplicatedBusinessKeyException) e.getCause();
+            }
+            throw uncheckedException(e, "Error inserting process instance %s", id);
         } catch (Exception e) {
             throw uncheckedException(e, "Error inserting process instance %s", id);
         }
     }
 
+    private static boolean isUniqueViolation(Throwable e) {
+        return e instanceof PgException && UNIQUE_VIOLATION.equals(((PgException) e).getCode());
+    }
+
+    private Optional<UUID> findIdByBusinessKeyInternal(String businessKey) {
+        try {
+            final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+            client.preparedQuery("SELECT process_instance_id FROM process_instance_business_keys WHERE process_id = $1 AND business_key = $2")
+                    .execute(Tuple.of(process.id(), businessKey), getAsyncResultHandler(future));
+            return getResultFromFuture(future)
+                    .map(RowSet::iterator)
+                    .filter(Iterator::hasNext)
+                    .map(Iterator::next)
+                    .map(row -> row.getUUID("process_instance_id"));
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error finding process instance with business key %s", businessKey);
+        }
+    }
+
     private RuntimeException uncheckedException(Exception ex, String message, Object... param) {
         return new RuntimeException(String.format(message, param), ex);
     }
@@ -201,14 +297,36 @@ public class PostgreProcessInstances implements MutableProcessInstances {
     private boolean deleteInternal(UUID id) {
         try {
             final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
-            client.preparedQuery("DELETE FROM process_instances WHERE id = $1")
-                    .execute(Tuple.of(id), getAsyncResultHandler(future));
+            client.withTransaction(connection -> deleteBusinessKeys(connection, id)
+                    .compose(rows -> connection.preparedQuery("DELETE FROM process_instances WHERE id = $1").execute(Tuple.of(id))),
+                    getAsyncResultHandler(future));
             return getExecutedResult(future);
         } catch (Exception e) {
             throw uncheckedException(e, "Error deleting process instance %s", id);
         }
     }
 
+    private Future<RowSet<Row>> deleteBusinessKeys(SqlConnection connection, UUID id) {
+        if (!businessKeyIndex) {
+            return Future.succeededFuture();
+        }
+        return connection.preparedQuery("DELETE FROM process_instance_business_keys WHERE process_instance_id = $1").execute(Tuple.of(id));
+    }
+
+    private boolean archiveInternal(UUID id, byte[] payload, String businessKey) {
+        try {
+            final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+            client.withTransaction(connection -> connection.preparedQuery("INSERT INTO process_instances_archive (id, payload, process_id, business_key, archived_at) VALUES ($1, $2, $3, $4, $5)")
+                    .execute(Tuple.of(id, Buffer.buffer(payload), process.id(), businessKey, System.currentTimeMillis()))
+                    .compose(rows -> deleteBusinessKeys(connection, id))
+                    .compose(rows -> connection.preparedQuery("DELETE FROM process_instances WHERE id = $1").execute(Tuple.of(id))),
+                    getAsyncResultHandler(future));
+            return getExecutedResult(future);
+        } catch (Exception e) {
+            throw uncheckedException(e, "Error archiving process instance %s", id);
+        }
+    }
+
     private Boolean getExecutedResult(CompletableFuture<RowSet<Row>> future) throws ExecutionException, TimeoutException, InterruptedException {
         try {
             return getResultFromFuture(future)
@@ -322,6 +440,16 @@ public class PostgreProcessInstances implements MutableProcessInstances {
                             LOGGER.info("DDL executed with no changes for ProcessInstance");
                         }
                     });
+            final CompletableFuture<RowSet<Row>> futureBusinessKeys = new CompletableFuture<>();
+            client.query(getQueryFromFile("business_key_create"))
+                    .execute(getAsyncResultHandler(futureBusinessKeys));
+            getResultFromFuture(futureBusinessKeys);
+            if (retention.isArchive()) {
+                final CompletableFuture<RowSet<Row>> futureArchive = new CompletableFuture<>();
+                client.query(getQueryFromFile("archive_create"))
+                        .execute(getAsyncResultHandler(futureArchive));
+                getResultFromFuture(futureArchive);
+            }
         } catch (Exception e) {
             //not break the execution flow in case of any missing permission for db application user, for instance.
             LOGGER.error("Error creating process_instances table, the database should be configured properly before " +
@@ -329,6 +457,29 @@ public class PostgreProcessInstances implements MutableProcessInstances {
         }
     }
 
+    private boolean hasBusinessKeyTable() {
+        try {
+            final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+            client.query(getQueryFromFile("business_key_exists"))
+                    .execute(getAsyncResultHandler(future));
+            if (getResultFromFuture(future)
+                    .map(RowSet::iterator)
+                    .filter(Iterator::hasNext)
+                    .map(Iterator::next)
+                    .map(row -> row.getBoolean("exists"))
+                    .orElse(false)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.debug("Cannot check whether the process_instance_business_keys table exists", e);
+        }
+        LOGGER.warn("Table process_instance_business_keys not found, business keys of process {} are neither checked for uniqueness nor indexed. "
+                + "Create it with the runtime_business_key_create.sql script.", process.id());
+        return false;
+    }
+
     private String getQueryFromFile(String scriptName) {
         try (InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(String.format(
                 "sql/%s.sql",
@@ -358,4 +509,75 @@ public class PostgreProcessInstances implements MutableProcessInstances {
         }
         return false;
     }
+
+    private class Archive implements ArchivedProcessInstances {
+
+        @Override
+        public Optional<ProcessInstance> findById(String id) {
+            try {
+                final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+                client.preparedQuery("SELECT payload FROM process_instances_archive WHERE id = $1")
+                        .execute(Tuple.of(UUID.fromString(id)), getAsyncResultHandler(future));
+                return getResultFromFuture(future)
+                        .map(RowSet::iterator)
+                        .filter(Iterator::hasNext)
+                        .map(Iterator::next)
+                        .map(row -> row.getBuffer(PAYLOAD).getBytes())
+                        .map(b -> marshaller.unmarshallReadOnlyProcessInstance(b, process));
+            } catch (Exception e) {
+                throw uncheckedException(e, "Error finding archived process instance %s", id);
+            }
+        }
+
+        @Override
+        public Collection<ProcessInstance> values() {
+            try {
+                final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+                client.preparedQuery("SELECT payload FROM process_instances_archive WHERE process_id = $1")
+                        .execute(Tuple.of(process.id()), getAsyncResultHandler(future));
+                return getResultFromFuture(future)
+                        .map(r -> StreamSupport.stream(r.spliterator(), false)
+                                .map(row -> row.getBuffer(PAYLOAD).getBytes())
+                                .map(b -> (ProcessInstance) marshaller.unmarshallReadOnlyProcessInstance(b, process))
+                                .collect(Collectors.toList()))
+                        .orElseGet(Collections::emptyList);
+            } catch (Exception e) {
+                throw uncheckedException(e, "Error finding all archived process instances, for processId %s", process.id());
+            }
+        }
+
+        @Override
+        public Integer size() {
+            try {
+                final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+                client.preparedQuery("SELECT COUNT(id) FROM process_instances_archive WHERE process_id = $1")
+                        .execute(Tuple.of(process.id()), getAsyncResultHandler(future));
+                return getResultFromFuture(future)
+                        .map(RowSet::iterator)
+                        .map(RowIterator::next)
+                        .map(row -> row.getLong("count"))
+                        .orElse(0l)
+                        .intValue();
+            } catch (Exception e) {
+                throw uncheckedException(e, "Error counting archived process instances, for processId %s", process.id());
+            }
+        }
+
+        @Override
+        public int sweep(int batchSize) {
+            long archivedBefore = retention.getTimeToLive().map(ttl -> System.currentTimeMillis() - ttl.toMillis()).orElse(Long.MIN_VALUE);
+            long maxCount = retention.getMaxCount() > 0 ? retention.getMaxCount() : Long.MAX_VALUE;
+            try {
+                final CompletableFuture<RowSet<Row>> future = new CompletableFuture<>();
+                // instances are ranked newest first, those ranked past the maximum count are in excess
+                client.preparedQuery("DELETE FROM process_instances_archive WHERE id IN (SELECT id FROM " +
+                        "(SELECT id, archived_at, ROW_NUMBER() OVER (ORDER BY archived_at DESC) AS position FROM process_instances_archive WHERE process_id = $1) ranked " +
+                        "WHERE archived_at < $2 OR position > $3 ORDER BY archived_at LIMIT $4)")
+                        .execute(Tuple.of(process.id(), archivedBefore, maxCount, batchSize), getAsyncResultHandler(future));
+                return getResultFromFuture(future).map(RowSet::rowCount).orElse(0);
+            } catch (Exception e) {
+                throw uncheckedException(e, "Error removing expired archived process instances, for processId %s", process.id());
+            }
+        }
+    }
 }
@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS process_instances_archive(id uuid NOT NULL,
+                                                      payload bytea NOT NULL,
+                                                      process_id character varying NOT NULL,
+                                                      business_key character varying,
+                                                      archived_at bigint NOT NULL,
+                                                      CONSTRAINT process_instances_archive_pkey PRIMARY KEY (id)
+                                                      );
+CREATE INDEX IF NOT EXISTS idx_pi_archive_process_id ON process_instances_archive
+    (
+     process_id,
+     archived_at
+    );
\ No newline at end of file
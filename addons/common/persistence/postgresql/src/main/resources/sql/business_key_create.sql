@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS process_instance_business_keys(process_id character varying NOT NULL,
+                                                            business_key character varying NOT NULL,
+                                                            process_instance_id uuid NOT NULL,
+                                                            CONSTRAINT pi_business_keys_pkey PRIMARY KEY (process_id, business_key)
+                                                            );
+CREATE INDEX IF NOT EXISTS idx_pi_business_keys_pi_id ON process_instance_business_keys
+    (
+     process_instance_id
+    );
\ No newline at end of file
@@ -25,12 +25,16 @@ import org.kie.kogito.auth.IdentityProviders;
 import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.persistence.KogitoProcessInstancesFactory;
 import org.kie.kogito.persistence.postgresql.PostgreProcessInstances;
+import org.kie.kogito.process.ArchivedProcessInstances;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
+import org.kie.kogito.process.ProcessInstances;
 import org.kie.kogito.process.WorkItem;
 import org.kie.kogito.process.bpmn2.BpmnProcess;
 import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.ArchivedProcessInstancesSweeper;
 import org.kie.kogito.testcontainers.KogitoPostgreSqlContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -38,6 +42,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import io.vertx.pgclient.PgPool;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ABORTED;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_ACTIVE;
 import static org.kie.kogito.internal.process.runtime.KogitoProcessInstance.STATE_COMPLETED;
 import static org.mockito.ArgumentMatchers.any;
@@ -67,8 +73,12 @@ class PostgreProcessInstancesIT {
     }
 
     private BpmnProcess createProcess(String fileName) {
+        return createProcess(fileName, new PostgreProcessInstancesFactory(client, 0));
+    }
+
+    private BpmnProcess createProcess(String fileName, PostgreProcessInstancesFactory factory) {
         BpmnProcess process = BpmnProcess.from(new ClassPathResource(fileName)).get(0);
-        process.setProcessInstancesFactory(new PostgreProcessInstancesFactory(client));
+        process.setProcessInstancesFactory(factory);
         process.configure();
         process.instances().values(ProcessInstanceReadMode.MUTABLE).forEach(p -> p.abort());
         return process;
@@ -118,10 +128,78 @@ class PostgreProcessInstancesIT {
         assertThat(process.instances().values()).isEmpty();
     }
 
+    @Test
+    void testBusinessKey() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2");
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+
+        ProcessInstances<BpmnVariables> processInstances = process.instances();
+        assertThat(processInstances.findByBusinessKey("order-1")).hasValueSatisfying(pi -> assertThat(pi.id()).isEqualTo(processInstance.id()));
+        assertThat(processInstances.findByBusinessKey("order-2")).isEmpty();
+
+        ProcessInstance<BpmnVariables> duplicated = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        assertThatExceptionOfType(ProcessInstanceDuplicatedBusinessKeyException.class).isThrownBy(duplicated::start);
+        assertThat(processInstances.size()).isOne();
+
+        processInstance.abort();
+        assertThat(processInstances.findByBusinessKey("order-1")).isEmpty();
+
+        ProcessInstance<BpmnVariables> restarted = process.createInstance("order-1", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        restarted.start();
+        WorkItem workItem = restarted.workItems(securityPolicy).get(0);
+        restarted.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(restarted.status()).isEqualTo(STATE_COMPLETED);
+        assertThat(processInstances.findByBusinessKey("order-1")).isEmpty();
+    }
+
+    @Test
+    void testArchive() {
+        BpmnProcess process = createProcess("BPMN2-UserTask.bpmn2", new PostgreProcessInstancesFactory(client, 1));
+        ArchivedProcessInstances<BpmnVariables> archived = process.instances().archived().get();
+        ArchivedProcessInstancesSweeper.sweep(archived, 10);
+
+        ProcessInstance<BpmnVariables> processInstance = process.createInstance("order-archived", BpmnVariables.create(Collections.singletonMap("test", "test")));
+        processInstance.start();
+        WorkItem workItem = processInstance.workItems(securityPolicy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, securityPolicy);
+        assertThat(processInstance.status()).isEqualTo(STATE_COMPLETED);
+
+        assertThat(process.instances().size()).isZero();
+        assertThat(process.instances().findByBusinessKey("order-archived")).isEmpty();
+        assertThat(archived.findById(processInstance.id())).hasValueSatisfying(pi -> {
+            assertThat(pi.status()).isEqualTo(STATE_COMPLETED);
+            assertThat(pi.businessKey()).isEqualTo("order-archived");
+        });
+
+        ProcessInstance<BpmnVariables> aborted = process.createInstance(BpmnVariables.create(Collections.singletonMap("test", "test")));
+        aborted.start();
+        aborted.abort();
+        assertThat(archived.findById(aborted.id())).hasValueSatisfying(pi -> assertThat(pi.status()).isEqualTo(STATE_ABORTED));
+        assertThat(archived.size()).isGreaterThanOrEqualTo(2);
+
+        ArchivedProcessInstancesSweeper.sweep(archived, 1);
+        assertThat(archived.size()).isOne();
+        assertThat(archived.values()).hasSize(1);
+    }
+
     private class PostgreProcessInstancesFactory extends KogitoProcessInstancesFactory {
 
-        public PostgreProcessInstancesFactory(PgPool client) {
+        private final int retentionMaxCount;
+
+        public PostgreProcessInstancesFactory(PgPool client, int retentionMaxCount) {
             super(client, true, 10000l);
+            this.retentionMaxCount = retentionMaxCount;
+        }
+
+        @Override
+        public boolean retentionArchive() {
+            return retentionMaxCount > 0;
+        }
+
+        @Override
+        public int retentionMaxCount() {
+            return retentionMaxCount;
         }
 
         @Override
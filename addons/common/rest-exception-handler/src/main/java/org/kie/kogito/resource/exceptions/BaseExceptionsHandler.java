@@ -22,6 +22,7 @@ import java.util.function.Function;
 
 import org.kie.kogito.process.NodeInstanceNotFoundException;
 import org.kie.kogito.process.NodeNotFoundException;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceExecutionException;
 import org.kie.kogito.process.ProcessInstanceNotFoundException;
@@ -39,6 +40,7 @@ public abstract class BaseExceptionsHandler<T> {
     public static final String NODE_ID = "nodeId";
     public static final String FAILED_NODE_ID = "failedNodeId";
     public static final String ID = "id";
+    public static final String BUSINESS_KEY = "businessKey";
     private final Map<Class<? extends Exception>, Function<Exception, T>> mapper;
 
     protected BaseExceptionsHandler() {
@@ -81,6 +83,16 @@ public abstract class BaseExceptionsHandler<T> {
                     return conflict(response);
                 });
 
+        mapper.put(ProcessInstanceDuplicatedBusinessKeyException.class,
+                ex -> {
+                    ProcessInstanceDuplicatedBusinessKeyException exception = (ProcessInstanceDuplicatedBusinessKeyException) ex;
+                    Map<String, String> response = new HashMap<>();
+                    response.put(MESSAGE, exception.getMessage());
+                    response.put(PROCESS_INSTANCE_ID, exception.getProcessInstanceId());
+                    response.put(BUSINESS_KEY, exception.getBusinessKey());
+                    return conflict(response);
+                });
+
         mapper.put(ProcessInstanceExecutionException.class,
                 ex -> {
                     ProcessInstanceExecutionException exception = (ProcessInstanceExecutionException) ex;
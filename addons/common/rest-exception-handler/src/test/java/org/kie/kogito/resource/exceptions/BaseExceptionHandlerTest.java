@@ -19,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.kie.kogito.process.NodeInstanceNotFoundException;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceExecutionException;
 import org.kie.kogito.process.ProcessInstanceNotFoundException;
@@ -112,6 +113,12 @@ class BaseExceptionHandlerTest {
         assertThat(response).isEqualTo(conflictResponse);
     }
 
+    @Test
+    void testMapProcessInstanceDuplicatedBusinessKeyException() {
+        Object response = tested.mapException(new ProcessInstanceDuplicatedBusinessKeyException("processInstanceId", "businessKey"));
+        assertThat(response).isEqualTo(conflictResponse);
+    }
+
     @Test
     void testMapProcessInstanceExecutionException() {
         Object response = tested.mapException(new ProcessInstanceExecutionException("processInstanceId", "nodeId", "message"));
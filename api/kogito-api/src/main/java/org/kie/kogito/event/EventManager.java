@@ -48,6 +48,16 @@ public interface EventManager {
      */
     void addPublisher(EventPublisher publisher);
 
+    /**
+     * Returns true if at least one publisher has been added, meaning batches are actually published.
+     * Used to avoid building events and batches nobody is going to consume.
+     * 
+     * @return true if there are publishers available
+     */
+    default boolean hasPublishers() {
+        return true;
+    }
+
     /**
      * Sets the service information that will be attached to events as source.
      * This is expected to be URL like structure that will allow consumer of the
@@ -27,6 +27,14 @@ import org.kie.kogito.process.workitem.Transition;
 
 public interface KogitoProcessEventSupport {
 
+    /**
+     * Returns whether fired events are consumed by anybody, callers may skip building
+     * the event data when there is no one to receive it.
+     */
+    default boolean hasConsumers() {
+        return true;
+    }
+
     void fireBeforeProcessStarted(KogitoProcessInstance instance, KieRuntime kruntime);
 
     void fireAfterProcessStarted(KogitoProcessInstance instance, KieRuntime kruntime);
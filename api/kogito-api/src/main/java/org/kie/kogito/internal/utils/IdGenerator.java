@@ -0,0 +1,31 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.internal.utils;
+
+/**
+ * Generates the identifiers of process instances, node instances and work items.
+ * <p>
+ * The implementation is discovered with {@link java.util.ServiceLoader}, falling back to
+ * {@link TimeOrderedIdGenerator} when none is on the classpath. Identifiers must be unique across
+ * threads and nodes and are expected to be valid {@link java.util.UUID} strings.
+ *
+ * @see IdGenerators
+ */
+public interface IdGenerator {
+
+    String newId();
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.internal.utils;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Access to the {@link IdGenerator} used by the engine.
+ */
+public final class IdGenerators {
+
+    private static final IdGenerator GENERATOR = load();
+
+    private IdGenerators() {
+    }
+
+    public static IdGenerator get() {
+        return GENERATOR;
+    }
+
+    public static String newId() {
+        return GENERATOR.newId();
+    }
+
+    private static IdGenerator load() {
+        Iterator<IdGenerator> generators = ServiceLoader.load(IdGenerator.class).iterator();
+        return generators.hasNext() ? generators.next() : new TimeOrderedIdGenerator();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.internal.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates version 7 UUIDs: the first 48 bits are the Unix epoch time in milliseconds, followed by a
+ * 12 bits counter and 62 random bits, so identifiers sort by creation time.
+ * <p>
+ * Identifiers end up in URLs, so the random bits come from a {@link SecureRandom} like with
+ * {@link UUID#randomUUID()}, but there is no state shared between threads: every thread keeps its own
+ * last timestamp, counter and {@link SecureRandom}, which it reads {@value #POOL_SIZE} bytes at a time.
+ * Identifiers generated by the same thread are strictly increasing, the counter starts at a random value
+ * every millisecond and when it overflows the timestamp is moved one millisecond ahead. Identifiers
+ * generated by different threads are ordered by millisecond.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+    // counter starts in the lower half so that a burst within the same millisecond rarely overflows
+    private static final int COUNTER_SEED_MASK = (1 << (COUNTER_BITS - 1)) - 1;
+    // enough for the random bits of 25 identifiers with a counter seed each
+    private static final int POOL_SIZE = 256;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String newId() {
+        return newUUID().toString();
+    }
+
+    public UUID newUUID() {
+        State current = state.get();
+        long millis = clock.getAsLong();
+        if (millis > current.millis) {
+            current.millis = millis;
+            current.counter = current.nextCounterSeed();
+        } else if (current.counter < MAX_COUNTER) {
+            // same millisecond or clock moved backwards, keep the sequence increasing
+            current.counter++;
+        } else {
+            current.millis++;
+            current.counter = current.nextCounterSeed();
+        }
+        long msb = (current.millis << 16) | 0x7000L | current.counter;
+        long lsb = (current.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    private static class State {
+        private final SecureRandom random = new SecureRandom();
+        private final byte[] pool = new byte[POOL_SIZE];
+        private int position = POOL_SIZE;
+        private long millis = -1;
+        private int counter;
+
+        int nextCounterSeed() {
+            return (int) (next(Short.BYTES) & COUNTER_SEED_MASK);
+        }
+
+        long nextLong() {
+            return next(Long.BYTES);
+        }
+
+        private long next(int bytes) {
+            if (position + bytes > POOL_SIZE) {
+                random.nextBytes(pool);
+                position = 0;
+            }
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = (value << 8) | (pool[position++] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
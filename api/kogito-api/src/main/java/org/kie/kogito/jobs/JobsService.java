@@ -16,6 +16,9 @@
 package org.kie.kogito.jobs;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * JobsService provides an entry point for working with different types of jobs
@@ -42,6 +45,26 @@ public interface JobsService {
      */
     String scheduleProcessInstanceJob(ProcessInstanceJobDescription description);
 
+    /**
+     * Schedules process instance related jobs all at once. Either all of them are scheduled
+     * or, when any of them cannot be, none of them is.
+     * 
+     * @param descriptions define the context of the process instance that should be signaled by each job
+     * @return returns unique ids of the jobs, in the same order as the descriptions
+     */
+    default List<String> scheduleProcessInstanceJobs(List<ProcessInstanceJobDescription> descriptions) {
+        List<String> ids = new ArrayList<>(descriptions.size());
+        try {
+            for (ProcessInstanceJobDescription description : descriptions) {
+                ids.add(scheduleProcessInstanceJob(description));
+            }
+        } catch (RuntimeException e) {
+            cancelJobs(ids);
+            throw e;
+        }
+        return ids;
+    }
+
     /**
      * Cancels given job
      * 
@@ -50,6 +73,20 @@ public interface JobsService {
      */
     boolean cancelJob(String id);
 
+    /**
+     * Cancels all given jobs
+     * 
+     * @param ids unique ids of the jobs
+     * @return returns true if all the cancellations were successful, otherwise false
+     */
+    default boolean cancelJobs(Collection<String> ids) {
+        boolean cancelled = true;
+        for (String id : ids) {
+            cancelled &= cancelJob(id);
+        }
+        return cancelled;
+    }
+
     /**
      * Returns actual schedule time for the next expiration of given job
      * 
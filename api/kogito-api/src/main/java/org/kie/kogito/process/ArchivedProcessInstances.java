@@ -0,0 +1,40 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Finished process instances moved out of the active ones by a {@link ProcessInstanceRetention} policy that archives
+ * them. Archived process instances are stored as a single snapshot and are read only.
+ */
+public interface ArchivedProcessInstances<T> {
+
+    Optional<ProcessInstance<T>> findById(String id);
+
+    Collection<ProcessInstance<T>> values();
+
+    Integer size();
+
+    /**
+     * Removes at most <code>batchSize</code> archived process instances that are older than the time to live of the
+     * retention policy or exceed its maximum count, oldest first.
+     *
+     * @return the number of removed process instances
+     */
+    int sweep(int batchSize);
+}
@@ -19,12 +19,26 @@ public interface MutableProcessInstances<T> extends ProcessInstances<T> {
 
     boolean exists(String id);
 
+    /**
+     * Stores a new process instance along with its business key, if any, which stays reserved for it until it is removed.
+     *
+     * @throws ProcessInstanceDuplicatedException if there is already a process instance with the same id
+     * @throws ProcessInstanceDuplicatedBusinessKeyException if another process instance uses the same business key
+     */
     void create(String id, ProcessInstance<T> instance);
 
     void update(String id, ProcessInstance<T> instance);
 
     void remove(String id);
 
+    /**
+     * Removes a finished process instance. Stores with a {@link ProcessInstanceRetention} policy that archives
+     * finished process instances move it to their {@link #archived() archive} instead.
+     */
+    default void archive(String id, ProcessInstance<T> instance) {
+        remove(id);
+    }
+
     default boolean isActive(ProcessInstance<T> instance) {
         return instance.status() == ProcessInstance.STATE_ACTIVE || instance.status() == ProcessInstance.STATE_ERROR;
     }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+/**
+ * Thrown when a process instance is stored with the business key of another active instance of the same process.
+ */
+public class ProcessInstanceDuplicatedBusinessKeyException extends ProcessInstanceDuplicatedException {
+
+    private static final long serialVersionUID = -3370475830547420389L;
+
+    private final String businessKey;
+
+    public ProcessInstanceDuplicatedBusinessKeyException(String processInstanceId, String businessKey) {
+        this(processInstanceId, businessKey, null);
+    }
+
+    public ProcessInstanceDuplicatedBusinessKeyException(String processInstanceId, String businessKey, Throwable cause) {
+        super(processInstanceId, "Process instance with business key '" + businessKey + "' already exists, process instance '" + processInstanceId + "' cannot use it", cause);
+        this.businessKey = businessKey;
+    }
+
+    public String getBusinessKey() {
+        return businessKey;
+    }
+}
@@ -31,6 +31,11 @@ public class ProcessInstanceDuplicatedException extends RuntimeException {
         this.processInstanceId = processInstanceId;
     }
 
+    protected ProcessInstanceDuplicatedException(String processInstanceId, String message, Throwable cause) {
+        super(message, cause);
+        this.processInstanceId = processInstanceId;
+    }
+
     public String getProcessInstanceId() {
         return processInstanceId;
     }
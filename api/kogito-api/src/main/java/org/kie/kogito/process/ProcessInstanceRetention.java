@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Retention policy of finished, that is completed or aborted, process instances.
+ * <p>
+ * Finished process instances are removed by default. When archiving is enabled the stores move them into their
+ * archive instead (see {@link ArchivedProcessInstances}), where they are kept until they are older than the time to
+ * live or until the archive of the process holds more than the maximum count. Expired process instances are removed
+ * in the background, in batches of the sweep batch size.
+ */
+public final class ProcessInstanceRetention {
+
+    public static final int DEFAULT_SWEEP_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Finished process instances are removed right away
+     */
+    public static final ProcessInstanceRetention NONE = newBuilder().build();
+
+    private final boolean archive;
+    private final Duration timeToLive;
+    private final int maxCount;
+    private final int sweepBatchSize;
+    private final Duration sweepInterval;
+
+    private ProcessInstanceRetention(Builder builder) {
+        this.archive = builder.archive;
+        this.timeToLive = builder.timeToLive;
+        this.maxCount = builder.maxCount;
+        this.sweepBatchSize = builder.sweepBatchSize;
+        this.sweepInterval = builder.sweepInterval;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public boolean isArchive() {
+        return archive;
+    }
+
+    /**
+     * Time archived process instances are kept for, empty when they never expire
+     */
+    public Optional<Duration> getTimeToLive() {
+        return Optional.ofNullable(timeToLive);
+    }
+
+    /**
+     * Maximum number of archived process instances kept per process, zero when unlimited
+     */
+    public int getMaxCount() {
+        return maxCount;
+    }
+
+    public int getSweepBatchSize() {
+        return sweepBatchSize;
+    }
+
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    /**
+     * Returns whether archived process instances ever expire, that is whether the archive needs to be swept
+     */
+    public boolean expires() {
+        return archive && (timeToLive != null || maxCount > 0);
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessInstanceRetention [archive=" + archive + ", timeToLive=" + timeToLive + ", maxCount=" + maxCount +
+                ", sweepBatchSize=" + sweepBatchSize + ", sweepInterval=" + sweepInterval + "]";
+    }
+
+    public static class Builder {
+
+        private boolean archive;
+        private Duration timeToLive;
+        private int maxCount;
+        private int sweepBatchSize = DEFAULT_SWEEP_BATCH_SIZE;
+        private Duration sweepInterval = DEFAULT_SWEEP_INTERVAL;
+
+        private Builder() {
+        }
+
+        public Builder withArchive(boolean archive) {
+            this.archive = archive;
+            return this;
+        }
+
+        public Builder withTimeToLive(Duration timeToLive) {
+            if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+                throw new IllegalArgumentException("Time to live of archived process instances must be positive: " + timeToLive);
+            }
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Builder withMaxCount(int maxCount) {
+            if (maxCount < 0) {
+                throw new IllegalArgumentException("Maximum count of archived process instances must not be negative: " + maxCount);
+            }
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        public Builder withSweepBatchSize(int sweepBatchSize) {
+            if (sweepBatchSize < 1) {
+                throw new IllegalArgumentException("Sweep batch size must be positive: " + sweepBatchSize);
+            }
+            this.sweepBatchSize = sweepBatchSize;
+            return this;
+        }
+
+        public Builder withSweepInterval(Duration sweepInterval) {
+            Objects.requireNonNull(sweepInterval, "Sweep interval must not be null");
+            if (sweepInterval.isNegative() || sweepInterval.isZero()) {
+                throw new IllegalArgumentException("Sweep interval must be positive: " + sweepInterval);
+            }
+            this.sweepInterval = sweepInterval;
+            return this;
+        }
+
+        public ProcessInstanceRetention build() {
+            return new ProcessInstanceRetention(this);
+        }
+    }
+}
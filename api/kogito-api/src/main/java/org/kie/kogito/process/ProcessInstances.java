@@ -32,5 +32,32 @@ public interface ProcessInstances<T> {
 
     Collection<ProcessInstance<T>> values(ProcessInstanceReadMode mode);
 
+    default Optional<ProcessInstance<T>> findByBusinessKey(String businessKey) {
+        return findByBusinessKey(businessKey, ProcessInstanceReadMode.MUTABLE);
+    }
+
+    /**
+     * Returns the active process instance started with the given business key. Business keys are unique
+     * among the active instances of a process, stores keeping an index of them look it up directly while
+     * this default implementation goes through all the instances.
+     */
+    default Optional<ProcessInstance<T>> findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
+        return values(mode).stream().filter(instance -> businessKey.equals(instance.businessKey())).findFirst();
+    }
+
     Integer size();
+
+    /**
+     * Returns the finished process instances kept by the retention policy of the store, empty when they are removed.
+     */
+    default Optional<ArchivedProcessInstances<T>> archived() {
+        return Optional.empty();
+    }
+
+    /**
+     * Releases the background work of the store, such as the sweep of its archive, once its process is deactivated.
+     */
+    default void close() {
+
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.rules;
 
+import java.time.Duration;
 import java.util.Iterator;
 
 import org.kie.api.internal.utils.ServiceRegistry;
@@ -30,6 +31,15 @@ public interface DataSource<T> extends Iterable<T> {
     interface Factory {
         <T> DataStream<T> createStream();
 
+        // bounded streams retract values from the units, which needs the rule engine, so only its factory supports them
+        default <T> DataStream<T> createBoundedStream(int capacity) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support bounded streams");
+        }
+
+        default <T> DataStream<T> createWindowedStream(Duration window) {
+            throw new UnsupportedOperationException(getClass().getName() + " does not support windowed streams");
+        }
+
         <T> DataStore<T> createStore();
 
         <T> SingletonStore<T> createSingleton();
@@ -39,6 +49,20 @@ public interface DataSource<T> extends Iterable<T> {
         return FactoryHolder.get().createStream();
     }
 
+    /**
+     * Creates a stream retaining only the last <code>capacity</code> values, older ones are retracted from the units
+     */
+    static <T> DataStream<T> createBoundedStream(int capacity) {
+        return FactoryHolder.get().createBoundedStream(capacity);
+    }
+
+    /**
+     * Creates a stream retaining only the values appended within the given time window, older ones are retracted from the units
+     */
+    static <T> DataStream<T> createWindowedStream(Duration window) {
+        return FactoryHolder.get().createWindowedStream(window);
+    }
+
     static <T> DataStore<T> createStore() {
         return FactoryHolder.get().createStore();
     }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.internal.utils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void testVersionAndVariant() {
+        UUID uuid = UUID.fromString(new TimeOrderedIdGenerator().newId());
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void testTimestamp() {
+        UUID uuid = new TimeOrderedIdGenerator(() -> 1_600_000_000_123L).newUUID();
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(1_600_000_000_123L);
+    }
+
+    @Test
+    void testOrderedByTime() {
+        AtomicLong clock = new AtomicLong(1_600_000_000_000L);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            clock.addAndGet(1);
+            ids.add(generator.newId());
+        }
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void testOrderedWithinSameMillisecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1_600_000_000_000L);
+        List<String> ids = new ArrayList<>();
+        // enough ids to overflow the counter several times
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(generator.newId());
+        }
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testOrderedWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(1_600_000_000_000L);
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get);
+        String first = generator.newId();
+        clock.addAndGet(-1000);
+        assertThat(generator.newId()).isGreaterThan(first);
+    }
+
+    @Test
+    void testUniqueUnderConcurrency() throws Exception {
+        int threads = 16;
+        int idsPerThread = 50_000;
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<String> generated = new ArrayList<>(idsPerThread);
+                    for (int j = 0; j < idsPerThread; j++) {
+                        String id = generator.newId();
+                        ids.add(id);
+                        generated.add(id);
+                    }
+                    return generated;
+                }));
+            }
+            start.countDown();
+            for (Future<List<String>> future : futures) {
+                assertThat(future.get(1, TimeUnit.MINUTES)).isSorted();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(ids).hasSize(threads * idsPerThread);
+    }
+
+    @Test
+    void testRandomBitsAcrossPoolRefills() {
+        // a fixed clock keeps the counter going, so only the random bits tell the identifiers apart
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> 1000L);
+        Set<Long> randomBits = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            randomBits.add(generator.newUUID().getLeastSignificantBits());
+        }
+        assertThat(randomBits).hasSize(1000);
+    }
+
+    @Test
+    void testDefaultGenerator() {
+        assertThat(IdGenerators.get()).isInstanceOf(TimeOrderedIdGenerator.class);
+        assertThat(IdGenerators.newId()).isNotEqualTo(IdGenerators.newId());
+    }
+}
@@ -56,13 +56,18 @@ public class CollectingUnitOfWork implements UnitOfWork {
     @Override
     public void end() {
         checkStarted();
-        EventBatch batch = eventManager.newBatch();
+        // events are only collected when someone is going to publish them
+        EventBatch batch = eventManager.hasPublishers() ? eventManager.newBatch() : null;
 
         for (WorkUnit<?> work : sorted()) {
-            batch.append(work.data());
+            if (batch != null) {
+                batch.append(work.data());
+            }
             work.perform();
         }
-        eventManager.publish(batch);
+        if (batch != null) {
+            eventManager.publish(batch);
+        }
         done();
     }
 
@@ -18,6 +18,8 @@ package org.kie.services.jobs.impl;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
@@ -77,17 +79,38 @@ public class InMemoryJobService implements JobsService, AutoCloseable {
 
     @Override
     public String scheduleProcessInstanceJob(ProcessInstanceJobDescription description) {
-        ScheduledFuture<?> future;
+        scheduledJobs.put(description.id(), scheduleProcessInstanceCommand(description, calculateDelay(description)));
+        return description.id();
+    }
+
+    @Override
+    public List<String> scheduleProcessInstanceJobs(List<ProcessInstanceJobDescription> descriptions) {
+        // delays are calculated up front so that an invalid description fails before any job is scheduled
+        long[] delays = new long[descriptions.size()];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = calculateDelay(descriptions.get(i));
+        }
+        List<String> ids = new ArrayList<>(descriptions.size());
+        try {
+            for (int i = 0; i < delays.length; i++) {
+                ProcessInstanceJobDescription description = descriptions.get(i);
+                scheduledJobs.put(description.id(), scheduleProcessInstanceCommand(description, delays[i]));
+                ids.add(description.id());
+            }
+        } catch (RuntimeException e) {
+            cancelJobs(ids);
+            throw e;
+        }
+        return ids;
+    }
+
+    private ScheduledFuture<?> scheduleProcessInstanceCommand(ProcessInstanceJobDescription description, long delay) {
         if (description.expirationTime().repeatInterval() != null) {
-            future = scheduler.scheduleAtFixedRate(
+            return scheduler.scheduleAtFixedRate(
                     getSignalProcessInstanceCommand(description, false, description.expirationTime().repeatLimit()),
-                    calculateDelay(description), description.expirationTime().repeatInterval(), TimeUnit.MILLISECONDS);
-        } else {
-            future = scheduler.schedule(getSignalProcessInstanceCommand(description, true, 1), calculateDelay(description),
-                    TimeUnit.MILLISECONDS);
+                    delay, description.expirationTime().repeatInterval(), TimeUnit.MILLISECONDS);
         }
-        scheduledJobs.put(description.id(), future);
-        return description.id();
+        return scheduler.schedule(getSignalProcessInstanceCommand(description, true, 1), delay, TimeUnit.MILLISECONDS);
     }
 
     public Runnable getSignalProcessInstanceCommand(ProcessInstanceJobDescription description, boolean remove, int limit) {
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.internal.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache holding a bounded number of values.
+ * <p>
+ * Reads never lock: every hit only stamps the entry with the time of its last access. Once the cache holds more
+ * than its maximum size, the thread adding a value evicts the least recently used entries, a tenth of the maximum
+ * size at once so that the cost of sorting the entries is shared by the following additions. Eviction is
+ * approximate, entries accessed while it runs may be evicted and concurrent additions may briefly exceed the size.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final int maxSize;
+
+    public BoundedCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the value cached for the given key, or <code>null</code> if there is none.
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * Caches the given value unless the key already has one.
+     *
+     * @return the value already cached for the key, or <code>null</code> if the given value was cached
+     */
+    public V putIfAbsent(K key, V value) {
+        Entry<V> previous = entries.putIfAbsent(key, new Entry<>(value, clock.incrementAndGet()));
+        if (previous != null) {
+            previous.lastAccess = clock.incrementAndGet();
+            return previous.value;
+        }
+        evict();
+        return null;
+    }
+
+    /**
+     * Returns the value cached for the given key, computing and caching it if there is none.
+     * The value is computed without holding any lock, when the same key is computed concurrently the
+     * first value cached is returned to all the callers.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+        V value = get(key);
+        if (value == null) {
+            value = function.apply(key);
+            V previous = putIfAbsent(key, value);
+            if (previous != null) {
+                value = previous;
+            }
+        }
+        return value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evict() {
+        // checked again once evicted, as the additions of other threads skip eviction while it runs
+        while (entries.size() > maxSize && evicting.compareAndSet(false, true)) {
+            try {
+                evict(entries.size() - maxSize + maxSize / 10);
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private void evict(int toEvict) {
+        // access times are copied first, as they keep changing while sorting
+        List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> candidates.add(new Candidate<>(key, entry)));
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+        for (int i = 0; i < toEvict && i < candidates.size(); i++) {
+            Candidate<K, V> candidate = candidates.get(i);
+            entries.remove(candidate.key, candidate.entry);
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static class Candidate<K, V> {
+
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        private Candidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+}
@@ -0,0 +1,638 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.timer.impl;
+
+import java.text.ParseException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TimeZone;
+
+import org.kie.kogito.internal.cache.BoundedCache;
+
+/**
+ * Immutable evaluator of {@link CronExpression cron expressions} built on top of <code>java.time</code>.
+ * <p>
+ * The expression is parsed by {@link CronExpression} and its fields are kept as bit sets. Parsed
+ * fields are cached by expression and shared by all the evaluators of that expression, whatever
+ * their time zone; once the cache is full, the least recently used expressions are evicted.
+ * Evaluators are thread safe and can be shared between triggers.
+ * <p>
+ * {@link #getTimeAfter(Date)} follows step by step the same algorithm as
+ * {@link CronExpression#getTimeAfter(Date)}, including its lenient field arithmetic and the way
+ * daylight saving time gaps and overlaps are resolved, so both return the same fire times.
+ * The only difference is that milliseconds are ignored when checking whether the nearest weekday
+ * of a month was already missed, which does not matter for times falling on whole seconds as used
+ * by {@link CronTrigger}.
+ */
+public final class CronEvaluator {
+
+    public static final String CACHE_SIZE_PROPERTY = "kogito.cron.cache.size";
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    private static final int MAX_CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+    private static final BoundedCache<String, Fields> PARSED = new BoundedCache<>(MAX_CACHE_SIZE);
+
+    private static final int SUNDAY = 1;
+    private static final int SATURDAY = 7;
+
+    private final Fields fields;
+    private final TimeZone timeZone;
+    private final ZoneId zone;
+    private final ZoneRules rules;
+
+    private CronEvaluator(Fields fields, TimeZone timeZone) {
+        this.fields = fields;
+        this.timeZone = timeZone;
+        this.zone = timeZone.toZoneId();
+        this.rules = zone.getRules();
+    }
+
+    /**
+     * Returns an evaluator of the given expression in the given time zone.
+     *
+     * @throws ParseException if the expression is not a valid cron expression
+     */
+    public static CronEvaluator of(String cronExpression, TimeZone timeZone) throws ParseException {
+        Fields fields = PARSED.get(cronExpression);
+        if (fields == null) {
+            fields = cache(new Fields(new CronExpression(cronExpression)));
+        }
+        return new CronEvaluator(fields, timeZone);
+    }
+
+    /**
+     * Returns an evaluator of an already parsed expression, in the time zone of that expression.
+     */
+    public static CronEvaluator of(CronExpression cronExpression) {
+        Fields fields = PARSED.get(cronExpression.getCronExpression());
+        if (fields == null) {
+            fields = cache(new Fields(cronExpression));
+        }
+        return new CronEvaluator(fields, cronExpression.getTimeZone());
+    }
+
+    private static Fields cache(Fields fields) {
+        Fields previous = PARSED.putIfAbsent(fields.expression, fields);
+        return previous != null ? previous : fields;
+    }
+
+    public String getCronExpression() {
+        return fields.expression;
+    }
+
+    public TimeZone getTimeZone() {
+        return timeZone;
+    }
+
+    /**
+     * Returns whether this evaluator evaluates the given expression, in its current time zone.
+     */
+    public boolean evaluates(CronExpression cronExpression) {
+        return timeZone == cronExpression.getTimeZone() && fields.expression.equals(cronExpression.getCronExpression());
+    }
+
+    /**
+     * Returns the first time after the given one that satisfies the expression,
+     * or <code>null</code> if there is none.
+     */
+    public Date getTimeAfter(Date afterTime) {
+        // move ahead one second, since we're computing the time *after* the given time
+        long after = afterTime.getTime() + 1000;
+        Cursor cl = new Cursor(after);
+
+        while (true) {
+            if (cl.year() > 2999) { // prevent endless loop...
+                return null;
+            }
+
+            int t;
+
+            int sec = cl.second();
+            int min = cl.minute();
+
+            // get second
+            int st = next(fields.seconds, sec);
+            if (st != -1) {
+                sec = st;
+            } else {
+                sec = first(fields.seconds);
+                min++;
+                cl.setMinute(min);
+            }
+            cl.setSecond(sec);
+
+            min = cl.minute();
+            int hr = cl.hour();
+            t = -1;
+
+            // get minute
+            st = next(fields.minutes, min);
+            if (st != -1) {
+                t = min;
+                min = st;
+            } else {
+                min = first(fields.minutes);
+                hr++;
+            }
+            if (min != t) {
+                cl.setSecond(0);
+                cl.setMinute(min);
+                cl.setHourSkippingGap(hr);
+                continue;
+            }
+            cl.setMinute(min);
+
+            hr = cl.hour();
+            int day = cl.day();
+            t = -1;
+
+            // get hour
+            st = next(fields.hours, hr);
+            if (st != -1) {
+                t = hr;
+                hr = st;
+            } else {
+                hr = first(fields.hours);
+                day++;
+            }
+            if (hr != t) {
+                cl.setSecond(0);
+                cl.setMinute(0);
+                cl.setDay(day);
+                cl.setHourSkippingGap(hr);
+                continue;
+            }
+            cl.setHour(hr);
+
+            day = cl.day();
+            int mon = cl.month();
+            t = -1;
+            int tmon = mon;
+
+            // get day
+            if (fields.dayOfMonthSpec && !fields.dayOfWeekSpec) {
+                st = next(fields.daysOfMonth, day);
+                if (fields.lastdayOfMonth) {
+                    t = day;
+                    day = lastDayOfMonth(mon, cl.year());
+                    if (fields.nearestWeekday) {
+                        day = nearestWeekday(cl.year(), mon, day);
+                        if (toEpochMilli(cl.year(), mon, day, hr, min, sec) < after) {
+                            day = 1;
+                            mon++;
+                        }
+                    }
+                } else if (fields.nearestWeekday) {
+                    t = day;
+                    day = nearestWeekday(cl.year(), mon, first(fields.daysOfMonth));
+                    if (toEpochMilli(cl.year(), mon, day, hr, min, sec) < after) {
+                        day = first(fields.daysOfMonth);
+                        mon++;
+                    }
+                } else if (st != -1) {
+                    t = day;
+                    day = st;
+                    // make sure we don't over-run a short month, such as february
+                    if (day > lastDayOfMonth(mon, cl.year())) {
+                        day = first(fields.daysOfMonth);
+                        mon++;
+                    }
+                } else {
+                    day = first(fields.daysOfMonth);
+                    mon++;
+                }
+
+                if (day != t || mon != tmon) {
+                    cl.setStartOfDay(day, mon);
+                    continue;
+                }
+            } else if (fields.dayOfWeekSpec && !fields.dayOfMonthSpec) {
+                if (fields.lastdayOfWeek) {
+                    // looking for the last given day of week of the month
+                    int dow = first(fields.daysOfWeek);
+                    int daysToAdd = daysToAdd(cl.dayOfWeek(), dow);
+                    int lDay = lastDayOfMonth(mon, cl.year());
+
+                    if (day + daysToAdd > lDay) {
+                        // already missed the last one
+                        cl.setStartOfDay(1, mon + 1);
+                        continue;
+                    }
+
+                    // find date of last occurrence of this day in this month
+                    while ((day + daysToAdd + 7) <= lDay) {
+                        daysToAdd += 7;
+                    }
+
+                    day += daysToAdd;
+
+                    if (daysToAdd > 0) {
+                        cl.setStartOfDay(day, mon);
+                        continue;
+                    }
+                } else if (fields.nthdayOfWeek != 0) {
+                    // looking for the nth given day of week of the month
+                    int dow = first(fields.daysOfWeek);
+                    int daysToAdd = daysToAdd(cl.dayOfWeek(), dow);
+                    boolean dayShifted = daysToAdd > 0;
+
+                    day += daysToAdd;
+                    int weekOfMonth = day / 7;
+                    if (day % 7 > 0) {
+                        weekOfMonth++;
+                    }
+
+                    daysToAdd = (fields.nthdayOfWeek - weekOfMonth) * 7;
+                    day += daysToAdd;
+                    if (daysToAdd < 0 || day > lastDayOfMonth(mon, cl.year())) {
+                        cl.setStartOfDay(1, mon + 1);
+                        continue;
+                    } else if (daysToAdd > 0 || dayShifted) {
+                        cl.setStartOfDay(day, mon);
+                        continue;
+                    }
+                } else {
+                    int cDow = cl.dayOfWeek();
+                    int dow = next(fields.daysOfWeek, cDow);
+                    if (dow == -1) {
+                        dow = first(fields.daysOfWeek);
+                    }
+                    int daysToAdd = daysToAdd(cDow, dow);
+                    int lDay = lastDayOfMonth(mon, cl.year());
+
+                    if (day + daysToAdd > lDay) {
+                        // will pass the end of the month
+                        cl.setStartOfDay(1, mon + 1);
+                        continue;
+                    } else if (daysToAdd > 0) {
+                        cl.setStartOfDay(day + daysToAdd, mon);
+                        continue;
+                    }
+                }
+            } else {
+                throw new UnsupportedOperationException(
+                        "Support for specifying both a day-of-week AND a day-of-month parameter is not implemented.");
+            }
+            cl.setDay(day);
+
+            mon = cl.month();
+            int year = cl.year();
+            t = -1;
+
+            // test for expressions that never generate a valid fire date, but keep looping...
+            if (year > CronTrigger.YEAR_TO_GIVEUP_SCHEDULING_AT) {
+                return null;
+            }
+
+            // get month
+            st = next(fields.months, mon);
+            if (st != -1) {
+                t = mon;
+                mon = st;
+            } else {
+                mon = first(fields.months);
+                year++;
+            }
+            if (mon != t) {
+                cl.setStartOfDay(1, mon);
+                cl.setYear(year);
+                continue;
+            }
+            cl.setMonth(mon);
+
+            year = cl.year();
+            t = -1;
+
+            // get year
+            st = fields.years.nextSetBit(year);
+            if (st != -1) {
+                t = year;
+                year = st;
+            } else {
+                return null; // ran out of years...
+            }
+
+            if (year != t) {
+                cl.setStartOfDay(1, 1);
+                cl.setYear(year);
+                continue;
+            }
+            cl.setYear(year);
+
+            return new Date(cl.toEpochMilli());
+        }
+    }
+
+    private int nearestWeekday(int year, int mon, int day) {
+        int dow = calendarDayOfWeek(lenient(year, mon, day, 0, 0, 0).getDayOfWeek());
+        int ldom = lastDayOfMonth(mon, year);
+
+        if (dow == SATURDAY && day == 1) {
+            return day + 2;
+        } else if (dow == SATURDAY) {
+            return day - 1;
+        } else if (dow == SUNDAY && day == ldom) {
+            return day - 2;
+        } else if (dow == SUNDAY) {
+            return day + 1;
+        }
+        return day;
+    }
+
+    private long toEpochMilli(int year, int mon, int day, int hr, int min, int sec) {
+        return toEpochMilli(resolve(lenient(year, mon, day, hr, min, sec)));
+    }
+
+    /**
+     * Wall times falling in a gap are moved forward by the length of the gap.
+     */
+    private LocalDateTime resolve(LocalDateTime dateTime) {
+        if (!rules.isFixedOffset()) {
+            ZoneOffsetTransition transition = rules.getTransition(dateTime);
+            if (transition != null && transition.isGap()) {
+                return dateTime.plusSeconds(transition.getDuration().getSeconds());
+            }
+        }
+        return dateTime;
+    }
+
+    /**
+     * Ambiguous wall times, falling in an overlap, are resolved to the offset after the transition.
+     */
+    private long toEpochMilli(LocalDateTime dateTime) {
+        ZoneOffsetTransition transition = rules.isFixedOffset() ? null : rules.getTransition(dateTime);
+        ZoneOffset offset = transition != null ? transition.getOffsetAfter() : rules.getOffset(dateTime);
+        return dateTime.toEpochSecond(offset) * 1000;
+    }
+
+    private static LocalDateTime lenient(int year, int mon, int day, int hr, int min, int sec) {
+        if (mon >= 1 && mon <= 12 && day >= 1 && day <= 28 && hr >= 0 && hr <= 23 && min >= 0 && min <= 59 && sec >= 0 && sec <= 59) {
+            return LocalDateTime.of(year, mon, day, hr, min, sec);
+        }
+        return LocalDate.of(year, 1, 1)
+                .plusMonths(mon - 1L)
+                .plusDays(day - 1L)
+                .atStartOfDay()
+                .plusSeconds(hr * 3600L + min * 60L + sec);
+    }
+
+    private static int daysToAdd(int currentDow, int dow) {
+        if (currentDow < dow) {
+            return dow - currentDow;
+        }
+        if (currentDow > dow) {
+            return dow + (7 - currentDow);
+        }
+        return 0;
+    }
+
+    private static int calendarDayOfWeek(DayOfWeek dayOfWeek) {
+        // Calendar numbering, sunday is 1 and saturday 7
+        return dayOfWeek.getValue() % 7 + 1;
+    }
+
+    private static int lastDayOfMonth(int month, int year) {
+        switch (month) {
+            case 2:
+                return ((year % 4 == 0 && year % 100 != 0) || (year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            case 1:
+            case 3:
+            case 5:
+            case 7:
+            case 8:
+            case 10:
+            case 12:
+                return 31;
+            default:
+                throw new IllegalArgumentException("Illegal month number: " + month);
+        }
+    }
+
+    private static int next(long values, int from) {
+        if (from >= Long.SIZE) {
+            return -1;
+        }
+        long tail = values & (-1L << Math.max(from, 0));
+        return tail == 0 ? -1 : Long.numberOfTrailingZeros(tail);
+    }
+
+    private static int first(long values) {
+        if (values == 0) {
+            throw new NoSuchElementException();
+        }
+        return Long.numberOfTrailingZeros(values);
+    }
+
+    /**
+     * Lenient date time fields, emulating the way {@link java.util.Calendar} accepts out of range
+     * values on set and normalizes them, in its time zone, on the next get.
+     */
+    private final class Cursor {
+
+        private int year;
+        private int month;
+        private int day;
+        private int hour;
+        private int minute;
+        private int second;
+        private boolean dirty;
+
+        private Cursor(long epochMilli) {
+            long epochSecond = Math.floorDiv(epochMilli, 1000);
+            // the time is truncated to seconds and resolved again from its wall time
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(epochSecond, 0, rules.getOffset(Instant.ofEpochSecond(epochSecond)));
+            load(resolve(dateTime));
+        }
+
+        private void load(LocalDateTime dateTime) {
+            year = dateTime.getYear();
+            month = dateTime.getMonthValue();
+            day = dateTime.getDayOfMonth();
+            hour = dateTime.getHour();
+            minute = dateTime.getMinute();
+            second = dateTime.getSecond();
+            dirty = false;
+        }
+
+        private LocalDateTime normalize() {
+            LocalDateTime dateTime = resolve(lenient(year, month, day, hour, minute, second));
+            load(dateTime);
+            return dateTime;
+        }
+
+        private void ensureNormalized() {
+            if (dirty) {
+                normalize();
+            }
+        }
+
+        int year() {
+            ensureNormalized();
+            return year;
+        }
+
+        int month() {
+            ensureNormalized();
+            return month;
+        }
+
+        int day() {
+            ensureNormalized();
+            return day;
+        }
+
+        int hour() {
+            ensureNormalized();
+            return hour;
+        }
+
+        int minute() {
+            ensureNormalized();
+            return minute;
+        }
+
+        int second() {
+            ensureNormalized();
+            return second;
+        }
+
+        int dayOfWeek() {
+            ensureNormalized();
+            return calendarDayOfWeek(LocalDate.of(year, month, day).getDayOfWeek());
+        }
+
+        void setYear(int year) {
+            this.year = year;
+            dirty = true;
+        }
+
+        void setMonth(int month) {
+            this.month = month;
+            dirty = true;
+        }
+
+        void setDay(int day) {
+            this.day = day;
+            dirty = true;
+        }
+
+        void setHour(int hour) {
+            this.hour = hour;
+            dirty = true;
+        }
+
+        void setMinute(int minute) {
+            this.minute = minute;
+            dirty = true;
+        }
+
+        void setSecond(int second) {
+            this.second = second;
+            dirty = true;
+        }
+
+        void setStartOfDay(int day, int month) {
+            this.second = 0;
+            this.minute = 0;
+            this.hour = 0;
+            this.day = day;
+            this.month = month;
+            dirty = true;
+        }
+
+        /**
+         * Advances to the given hour, moving one more hour ahead when it falls in a daylight saving gap.
+         */
+        void setHourSkippingGap(int hour) {
+            setHour(hour);
+            if (hour() != hour && hour != 24) {
+                setHour(hour + 1);
+            }
+        }
+
+        long toEpochMilli() {
+            return CronEvaluator.this.toEpochMilli(dirty ? normalize() : LocalDateTime.of(year, month, day, hour, minute, second));
+        }
+    }
+
+    private static final class Fields {
+
+        private final String expression;
+        private final long seconds;
+        private final long minutes;
+        private final long hours;
+        private final long daysOfMonth;
+        private final long months;
+        private final long daysOfWeek;
+        private final BitSet years;
+        private final boolean dayOfMonthSpec;
+        private final boolean dayOfWeekSpec;
+        private final boolean lastdayOfWeek;
+        private final int nthdayOfWeek;
+        private final boolean lastdayOfMonth;
+        private final boolean nearestWeekday;
+
+        private Fields(CronExpression parsed) {
+            this.expression = parsed.getCronExpression();
+            this.seconds = toBits(parsed.seconds);
+            this.minutes = toBits(parsed.minutes);
+            this.hours = toBits(parsed.hours);
+            this.daysOfMonth = toBits(parsed.daysOfMonth);
+            this.months = toBits(parsed.months);
+            this.daysOfWeek = toBits(parsed.daysOfWeek);
+            this.years = new BitSet();
+            for (Object year : parsed.years) {
+                int value = (Integer) year;
+                if (value != CronExpression.ALL_SPEC_INT && value != CronExpression.NO_SPEC_INT) {
+                    years.set(value);
+                }
+            }
+            this.dayOfMonthSpec = !parsed.daysOfMonth.contains(CronExpression.NO_SPEC);
+            this.dayOfWeekSpec = !parsed.daysOfWeek.contains(CronExpression.NO_SPEC);
+            this.lastdayOfWeek = parsed.lastdayOfWeek;
+            this.nthdayOfWeek = parsed.nthdayOfWeek;
+            this.lastdayOfMonth = parsed.lastdayOfMonth;
+            this.nearestWeekday = parsed.nearestWeekday;
+        }
+
+        private static long toBits(Set<?> values) {
+            long bits = 0;
+            for (Object value : values) {
+                int v = (Integer) value;
+                // all and no spec markers are above any valid value
+                if (v < Long.SIZE) {
+                    bits |= 1L << v;
+                }
+            }
+            return bits;
+        }
+    }
+}
@@ -39,6 +39,7 @@ public class CronTrigger
     private transient TimeZone timeZone = null;
     private String[] calendarNames;
     private Calendars calendars;
+    private transient CronEvaluator evaluator;
 
     public CronTrigger() {
 
@@ -335,7 +336,13 @@ public class CronTrigger
 
     protected Date getTimeAfter(Date afterTime) {
         this.repeatCount++;
-        return (this.cronEx == null) ? null : this.cronEx.getTimeAfter(afterTime);
+        if (this.cronEx == null) {
+            return null;
+        }
+        if (this.evaluator == null || !this.evaluator.evaluates(this.cronEx)) {
+            this.evaluator = CronEvaluator.of(this.cronEx);
+        }
+        return this.evaluator.getTimeAfter(afterTime);
     }
 
     public void updateToNextIncludeDate() {
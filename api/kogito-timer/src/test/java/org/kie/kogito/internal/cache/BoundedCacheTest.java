@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.internal.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testComputedOnce() {
+        BoundedCache<String, Object> cache = new BoundedCache<>(2);
+        AtomicInteger computations = new AtomicInteger();
+        Object value = cache.computeIfAbsent("a", key -> computations.incrementAndGet());
+        assertThat(cache.computeIfAbsent("a", key -> computations.incrementAndGet())).isSameAs(value);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    public void testPutIfAbsentKeepsFirstValue() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        assertThat(cache.putIfAbsent("a", "first")).isNull();
+        assertThat(cache.putIfAbsent("a", "second")).isEqualTo("first");
+        assertThat(cache.get("a")).isEqualTo("first");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        BoundedCache<String, String> cache = new BoundedCache<>(2);
+        cache.putIfAbsent("a", "a");
+        cache.putIfAbsent("b", "b");
+        cache.get("a");
+        cache.putIfAbsent("c", "c");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo("a");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("c");
+    }
+
+    @Test
+    public void testEvictsTenthOfMaxSize() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i <= 100; i++) {
+            cache.putIfAbsent(i, i);
+        }
+        assertThat(cache.size()).isEqualTo(90);
+        for (int i = 0; i <= 10; i++) {
+            assertThat(cache.get(i)).isNull();
+        }
+        assertThat(cache.get(100)).isEqualTo(100);
+    }
+
+    @Test
+    public void testConcurrentAccessStaysBounded() throws Exception {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = (i * 7 + offset) % 500;
+                        assertThat(cache.computeIfAbsent(key, k -> k)).isEqualTo(key);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+    }
+
+    @Test
+    public void testInvalidMaxSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedCache<>(0));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.timer.impl;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CronEvaluatorTest {
+
+    private static final String[] SECONDS = { "0", "*/15", "5,35", "0/20", "10-20" };
+    private static final String[] MINUTES = { "0", "*/7", "30", "0-10/5", "*" };
+    private static final String[] HOURS = { "*", "2", "1,2,3", "0/5", "23", "2-3" };
+    private static final String[] DAYS_OF_MONTH = { "*", "L", "15W", "1W", "LW", "31", "29", "5-10" };
+    private static final String[] MONTHS = { "*", "2", "1,3,11", "*/3", "10-12" };
+    private static final String[] DAYS_OF_WEEK = { "MON-FRI", "6L", "2#5", "1#1", "SUN", "4#3", "7L", "*" };
+    private static final String[] ZONES = { "UTC", "Europe/Rome", "America/New_York", "Australia/Lord_Howe", "America/Sao_Paulo",
+            "Asia/Kolkata", "Europe/Dublin", "America/Santiago" };
+
+    private static final long FROM = Instant.parse("2000-01-01T00:00:00Z").getEpochSecond();
+    private static final long TO = Instant.parse("2030-01-01T00:00:00Z").getEpochSecond();
+
+    @Test
+    void testSameFireTimesAsCronExpression() throws ParseException {
+        Random random = new Random(20211019L);
+        for (int i = 0; i < 1000; i++) {
+            String expression = randomExpression(random);
+            TimeZone timeZone = TimeZone.getTimeZone(ZONES[random.nextInt(ZONES.length)]);
+            CronExpression cronExpression = new CronExpression(expression);
+            cronExpression.setTimeZone(timeZone);
+            CronEvaluator evaluator = CronEvaluator.of(expression, timeZone);
+
+            Date date = new Date((FROM + (long) (random.nextDouble() * (TO - FROM))) * 1000);
+            for (int j = 0; j < 10 && date != null; j++) {
+                Date expected = cronExpression.getNextValidTimeAfter(date);
+                assertThat(evaluator.getTimeAfter(date))
+                        .as("%s in %s after %s", expression, timeZone.getID(), date.toInstant())
+                        .isEqualTo(expected);
+                date = expected;
+            }
+        }
+    }
+
+    @Test
+    void testDaylightSavingTransitions() throws ParseException {
+        TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        CronEvaluator evaluator = CronEvaluator.of("0 30 1,2 * * ?", timeZone);
+
+        // 2:30 does not exist on spring forward day, so it is skipped
+        assertThat(evaluator.getTimeAfter(Date.from(Instant.parse("2021-03-14T06:00:00Z"))))
+                .isEqualTo(Date.from(Instant.parse("2021-03-14T06:30:00Z")));
+        assertThat(evaluator.getTimeAfter(Date.from(Instant.parse("2021-03-14T06:30:00Z"))))
+                .isEqualTo(Date.from(Instant.parse("2021-03-15T05:30:00Z")));
+        // 1:30 happens twice on fall back day
+        assertThat(evaluator.getTimeAfter(Date.from(Instant.parse("2021-11-07T04:00:00Z"))))
+                .isEqualTo(Date.from(Instant.parse("2021-11-07T06:30:00Z")));
+    }
+
+    @Test
+    void testExpressionsWithoutFireTimes() throws ParseException {
+        assertThat(CronEvaluator.of("0 0 0 30 2 ?", TimeZone.getTimeZone("UTC")).getTimeAfter(new Date())).isNull();
+        assertThat(CronEvaluator.of("0 0 0 * * ? 2020", TimeZone.getTimeZone("UTC")).getTimeAfter(new Date())).isNull();
+    }
+
+    @Test
+    void testCronTriggerFollowsTimeZoneChanges() {
+        CronTrigger trigger = new CronTrigger(0, Date.from(Instant.parse("2021-06-01T00:00:00Z")), null, 0, "0 0 12 * * ?", null, null);
+        trigger.setTimeZone(TimeZone.getTimeZone("UTC"));
+        assertThat(trigger.getTimeAfter(Date.from(Instant.parse("2021-06-01T00:00:00Z"))))
+                .isEqualTo(Date.from(Instant.parse("2021-06-01T12:00:00Z")));
+
+        trigger.setTimeZone(TimeZone.getTimeZone("Europe/Rome"));
+        assertThat(trigger.getTimeAfter(Date.from(Instant.parse("2021-06-01T00:00:00Z"))))
+                .isEqualTo(Date.from(Instant.parse("2021-06-01T10:00:00Z")));
+    }
+
+    private static String randomExpression(Random random) {
+        String dayOfMonth = "?";
+        String dayOfWeek = "?";
+        if (random.nextBoolean()) {
+            dayOfMonth = DAYS_OF_MONTH[random.nextInt(DAYS_OF_MONTH.length)];
+        } else {
+            dayOfWeek = DAYS_OF_WEEK[random.nextInt(DAYS_OF_WEEK.length)];
+        }
+        String expression = String.join(" ",
+                SECONDS[random.nextInt(SECONDS.length)],
+                MINUTES[random.nextInt(MINUTES.length)],
+                HOURS[random.nextInt(HOURS.length)],
+                dayOfMonth,
+                MONTHS[random.nextInt(MONTHS.length)],
+                dayOfWeek);
+        return random.nextInt(10) == 0 ? expression + " 2025-2027" : expression;
+    }
+}
@@ -17,22 +17,15 @@ package org.drools.core.event;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.kie.api.event.process.MessageEvent;
-import org.kie.api.event.process.ProcessCompletedEvent;
 import org.kie.api.event.process.ProcessEventListener;
-import org.kie.api.event.process.ProcessNodeLeftEvent;
-import org.kie.api.event.process.ProcessNodeTriggeredEvent;
-import org.kie.api.event.process.ProcessStartedEvent;
-import org.kie.api.event.process.ProcessVariableChangedEvent;
-import org.kie.api.event.process.SLAViolatedEvent;
 import org.kie.api.event.process.SignalEvent;
 import org.kie.api.runtime.KieRuntime;
-import org.kie.kogito.internal.process.event.HumanTaskDeadlineEvent;
 import org.kie.kogito.internal.process.event.HumanTaskDeadlineEvent.DeadlineType;
 import org.kie.kogito.internal.process.event.KogitoProcessEventListener;
 import org.kie.kogito.internal.process.event.KogitoProcessEventSupport;
-import org.kie.kogito.internal.process.event.ProcessWorkItemTransitionEvent;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
@@ -55,84 +48,69 @@ public class KogitoProcessEventSupportImpl extends AbstractEventSupport<KogitoPr
     public KogitoProcessEventSupportImpl() {
     }
 
+    /**
+     * Events are consumed by the registered listeners and, through the unit of work event batch,
+     * by the event publishers. When there are none, events are not even created.
+     */
+    @Override
+    public boolean hasConsumers() {
+        return hasListeners() || unitOfWorkManager.eventManager().hasPublishers();
+    }
+
     @Override
     public void fireBeforeProcessStarted(final KogitoProcessInstance instance, KieRuntime kruntime) {
-        final ProcessStartedEvent event = new ProcessStartedEventImpl(instance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeProcessStarted(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new ProcessStartedEventImpl(instance, kruntime), KogitoProcessEventListener::beforeProcessStarted);
+        }
     }
 
     @Override
     public void fireAfterProcessStarted(final KogitoProcessInstance instance, KieRuntime kruntime) {
-        final ProcessStartedEvent event = new ProcessStartedEventImpl(instance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterProcessStarted(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new ProcessStartedEventImpl(instance, kruntime), KogitoProcessEventListener::afterProcessStarted);
+        }
     }
 
     @Override
     public void fireBeforeProcessCompleted(final KogitoProcessInstance instance, KieRuntime kruntime) {
-        final ProcessCompletedEvent event = new ProcessCompletedEventImpl(instance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeProcessCompleted(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new ProcessCompletedEventImpl(instance, kruntime), KogitoProcessEventListener::beforeProcessCompleted);
+        }
     }
 
     @Override
     public void fireAfterProcessCompleted(final KogitoProcessInstance instance, KieRuntime kruntime) {
-        final ProcessCompletedEvent event = new ProcessCompletedEventImpl(instance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterProcessCompleted(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new ProcessCompletedEventImpl(instance, kruntime), KogitoProcessEventListener::afterProcessCompleted);
+        }
     }
 
     @Override
     public void fireBeforeNodeTriggered(final KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final ProcessNodeTriggeredEvent event = new KogitoProcessNodeTriggeredEventImpl(nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeNodeTriggered(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessNodeTriggeredEventImpl(nodeInstance, kruntime), KogitoProcessEventListener::beforeNodeTriggered);
+        }
     }
 
     @Override
     public void fireAfterNodeTriggered(final KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final ProcessNodeTriggeredEvent event = new KogitoProcessNodeTriggeredEventImpl(nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterNodeTriggered(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessNodeTriggeredEventImpl(nodeInstance, kruntime), KogitoProcessEventListener::afterNodeTriggered);
+        }
     }
 
     @Override
     public void fireBeforeNodeLeft(final KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final ProcessNodeLeftEvent event = new KogitoProcessNodeLeftEventImpl(nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeNodeLeft(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessNodeLeftEventImpl(nodeInstance, kruntime), KogitoProcessEventListener::beforeNodeLeft);
+        }
     }
 
     @Override
     public void fireAfterNodeLeft(final KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final ProcessNodeLeftEvent event = new KogitoProcessNodeLeftEventImpl(nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterNodeLeft(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessNodeLeftEventImpl(nodeInstance, kruntime), KogitoProcessEventListener::afterNodeLeft);
+        }
     }
 
     @Override
@@ -140,13 +118,10 @@ public class KogitoProcessEventSupportImpl extends AbstractEventSupport<KogitoPr
             final Object oldValue, final Object newValue,
             final List<String> tags,
             final KogitoProcessInstance processInstance, KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final ProcessVariableChangedEvent event = new KogitoProcessVariableChangedEventImpl(
-                id, instanceId, oldValue, newValue, tags, processInstance, nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeVariableChanged(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessVariableChangedEventImpl(id, instanceId, oldValue, newValue, tags, processInstance, nodeInstance, kruntime),
+                    KogitoProcessEventListener::beforeVariableChanged);
+        }
     }
 
     @Override
@@ -154,73 +129,54 @@ public class KogitoProcessEventSupportImpl extends AbstractEventSupport<KogitoPr
             final Object oldValue, final Object newValue,
             final List<String> tags,
             final KogitoProcessInstance processInstance, KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final ProcessVariableChangedEvent event = new KogitoProcessVariableChangedEventImpl(
-                name, id, oldValue, newValue, tags, processInstance, nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterVariableChanged(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessVariableChangedEventImpl(name, id, oldValue, newValue, tags, processInstance, nodeInstance, kruntime),
+                    KogitoProcessEventListener::afterVariableChanged);
+        }
     }
 
     @Override
     public void fireBeforeSLAViolated(final KogitoProcessInstance instance, KieRuntime kruntime) {
-        final SLAViolatedEvent event = new SLAViolatedEventImpl(instance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeSLAViolated(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new SLAViolatedEventImpl(instance, kruntime), KogitoProcessEventListener::beforeSLAViolated);
+        }
     }
 
     @Override
     public void fireAfterSLAViolated(final KogitoProcessInstance instance, KieRuntime kruntime) {
-        final SLAViolatedEvent event = new SLAViolatedEventImpl(instance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterSLAViolated(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new SLAViolatedEventImpl(instance, kruntime), KogitoProcessEventListener::afterSLAViolated);
+        }
     }
 
     @Override
     public void fireBeforeSLAViolated(final KogitoProcessInstance instance, KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final SLAViolatedEvent event = new SLAViolatedEventImpl(instance, nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeSLAViolated(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new SLAViolatedEventImpl(instance, nodeInstance, kruntime), KogitoProcessEventListener::beforeSLAViolated);
+        }
     }
 
     @Override
     public void fireAfterSLAViolated(final KogitoProcessInstance instance, KogitoNodeInstance nodeInstance, KieRuntime kruntime) {
-        final SLAViolatedEvent event = new SLAViolatedEventImpl(instance, nodeInstance, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterSLAViolated(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new SLAViolatedEventImpl(instance, nodeInstance, kruntime), KogitoProcessEventListener::afterSLAViolated);
+        }
     }
 
     @Override
     public void fireBeforeWorkItemTransition(final KogitoProcessInstance instance, KogitoWorkItem workitem, Transition<?> transition, KieRuntime kruntime) {
-        final ProcessWorkItemTransitionEvent event = new KogitoProcessWorkItemTransitionEventImpl(instance, workitem, transition, kruntime, false);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.beforeWorkItemTransition(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessWorkItemTransitionEventImpl(instance, workitem, transition, kruntime, false),
+                    KogitoProcessEventListener::beforeWorkItemTransition);
+        }
     }
 
     @Override
     public void fireAfterWorkItemTransition(final KogitoProcessInstance instance, KogitoWorkItem workitem, Transition<?> transition, KieRuntime kruntime) {
-        final ProcessWorkItemTransitionEvent event = new KogitoProcessWorkItemTransitionEventImpl(instance, workitem, transition, kruntime, true);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event, e -> {
-            if (hasListeners()) {
-                notifyAllListeners(event, (l, e1) -> l.afterWorkItemTransition(e1));
-            }
-        }));
+        if (hasConsumers()) {
+            enlist(new KogitoProcessWorkItemTransitionEventImpl(instance, workitem, transition, kruntime, true),
+                    KogitoProcessEventListener::afterWorkItemTransition);
+        }
     }
 
     @Override
@@ -261,13 +217,49 @@ public class KogitoProcessEventSupportImpl extends AbstractEventSupport<KogitoPr
             Map<String, Object> notification,
             DeadlineType type,
             KieRuntime kruntime) {
-        final HumanTaskDeadlineEvent event = new HumanTaskDeadlineEventImpl(instance, workItem, notification, type, kruntime);
-        unitOfWorkManager.currentUnitOfWork().intercept(WorkUnit.create(event,
-                e -> notifyAllListeners(event, KogitoProcessEventListener::onHumanTaskDeadline)));
+        if (hasConsumers()) {
+            enlist(new HumanTaskDeadlineEventImpl(instance, workItem, notification, type, kruntime),
+                    KogitoProcessEventListener::onHumanTaskDeadline);
+        }
     }
 
     @Override
     public void reset() {
         this.clear();
     }
+
+    /**
+     * Enlists the event in the current unit of work, the listeners are notified when the unit of work ends,
+     * in the order the events were enlisted relatively to the other work of the unit of work.
+     */
+    private <T> void enlist(T event, BiConsumer<KogitoProcessEventListener, T> notification) {
+        unitOfWorkManager.currentUnitOfWork().intercept(new ProcessEventWorkUnit<>(event, notification));
+    }
+
+    /**
+     * Notifies the listeners of a single event, the notification is a method reference that captures nothing
+     * so that enlisting an event allocates only this work unit
+     */
+    private class ProcessEventWorkUnit<T> implements WorkUnit<T> {
+
+        private final T event;
+        private final BiConsumer<KogitoProcessEventListener, T> notification;
+
+        private ProcessEventWorkUnit(T event, BiConsumer<KogitoProcessEventListener, T> notification) {
+            this.event = event;
+            this.notification = notification;
+        }
+
+        @Override
+        public T data() {
+            return event;
+        }
+
+        @Override
+        public void perform() {
+            if (hasListeners()) {
+                notifyAllListeners(event, notification);
+            }
+        }
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.rules.units;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.kogito.factory.KogitoInternalFactHandle;
+import org.drools.core.reteoo.TerminalNode;
+import org.drools.core.ruleunit.InternalStoreCallback;
+import org.drools.core.spi.Activation;
+import org.drools.core.util.bitmask.BitMask;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.kogito.rules.DataHandle;
+import org.kie.kogito.rules.DataProcessor;
+import org.kie.kogito.rules.DataStream;
+import org.kie.kogito.rules.units.impl.DataHandleImpl;
+
+/**
+ * {@link DataStream} that only retains the most recent values, either up to a maximum number of values or
+ * for a time window, and retracts the evicted values from all the subscribed units.
+ * Values are evicted when new values are appended and, for time windows, also whenever the stream is read
+ * ({@link #subscribe(DataProcessor)}, {@link #iterator()}, {@link #size()}) or {@link #evictExpired()} is invoked.
+ */
+public class BoundedDataStream<T> implements DataStream<T>, InternalStoreCallback {
+
+    // values by handle in append order, with the time they were appended
+    private final Map<DataHandle, Long> values = new LinkedHashMap<>();
+
+    private final List<EntryPointDataProcessor> entryPointSubscribers = new ArrayList<>();
+    private final List<DataProcessor<T>> subscribers = new ArrayList<>();
+
+    private final int capacity;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    public static <T> BoundedDataStream<T> ofSize(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero: " + capacity);
+        }
+        return new BoundedDataStream<>(capacity, -1, System::currentTimeMillis);
+    }
+
+    public static <T> BoundedDataStream<T> ofWindow(Duration window) {
+        return ofWindow(window, System::currentTimeMillis);
+    }
+
+    public static <T> BoundedDataStream<T> ofWindow(Duration window, LongSupplier clock) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        return new BoundedDataStream<>(Integer.MAX_VALUE, window.toMillis(), clock);
+    }
+
+    private BoundedDataStream(int capacity, long windowMillis, LongSupplier clock) {
+        this.capacity = capacity;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public void append(T t) {
+        long now = clock.getAsLong();
+        evict(now);
+        DataHandle dh = new DataHandleImpl(t);
+        values.put(dh, now);
+        entryPointSubscribers.forEach(s -> internalInsert(dh, s));
+        subscribers.forEach(s -> internalInsert(dh, s));
+        if (values.size() > capacity) {
+            Iterator<DataHandle> oldest = values.keySet().iterator();
+            DataHandle evicted = oldest.next();
+            oldest.remove();
+            retract(evicted);
+        }
+    }
+
+    @Override
+    public void subscribe(DataProcessor subscriber) {
+        evictExpired();
+        if (subscriber instanceof EntryPointDataProcessor) {
+            entryPointSubscribers.add((EntryPointDataProcessor) subscriber);
+        } else {
+            subscribers.add(subscriber);
+        }
+        values.keySet().forEach(dh -> internalInsert(dh, subscriber));
+    }
+
+    /**
+     * Retracts the values that fell out of the time window, if any
+     */
+    public void evictExpired() {
+        evict(clock.getAsLong());
+    }
+
+    public int size() {
+        evictExpired();
+        return values.size();
+    }
+
+    /**
+     * Returns the values still retained, in append order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        evictExpired();
+        List<T> retained = new ArrayList<>(values.size());
+        values.keySet().forEach(dh -> retained.add((T) dh.getObject()));
+        return Collections.unmodifiableList(retained).iterator();
+    }
+
+    @Override
+    public void update(KogitoInternalFactHandle fh, Object obj, BitMask mask, Class<?> modifiedClass, Activation activation) {
+        DataHandle dh = fh.getDataHandle();
+        entryPointSubscribers.forEach(s -> s.update(dh, obj, mask, modifiedClass, activation));
+        subscribers.forEach(s -> s.update(dh, (T) obj));
+    }
+
+    @Override
+    public void delete(KogitoInternalFactHandle fh, RuleImpl rule, TerminalNode terminalNode, FactHandle.State fhState) {
+        DataHandle dh = fh.getDataHandle();
+        entryPointSubscribers.forEach(s -> s.delete(dh, rule, terminalNode, fhState));
+        subscribers.forEach(s -> s.delete(dh));
+        values.remove(dh);
+    }
+
+    private void evict(long now) {
+        if (windowMillis < 0) {
+            return;
+        }
+        Iterator<Map.Entry<DataHandle, Long>> iterator = values.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<DataHandle, Long> oldest = iterator.next();
+            if (now - oldest.getValue() < windowMillis) {
+                return;
+            }
+            iterator.remove();
+            retract(oldest.getKey());
+        }
+    }
+
+    private void retract(DataHandle dh) {
+        entryPointSubscribers.forEach(s -> s.delete(dh));
+        subscribers.forEach(s -> s.delete(dh));
+    }
+
+    private void internalInsert(DataHandle dh, DataProcessor s) {
+        FactHandle fh = s.insert(dh, dh.getObject());
+        if (fh instanceof KogitoInternalFactHandle) {
+            ((KogitoInternalFactHandle) fh).setDataStore(this);
+            ((KogitoInternalFactHandle) fh).setDataHandle(dh);
+        }
+    }
+}
@@ -63,7 +63,10 @@ public class EntryPointDataProcessor implements DataProcessor {
 
     @Override
     public void delete(DataHandle handle) {
-        entryPoint.delete(handles.remove(handle));
+        InternalFactHandle fh = handles.remove(handle);
+        if (fh != null) {
+            entryPoint.delete(fh);
+        }
     }
 
     public void delete(DataHandle dh, RuleImpl rule, TerminalNode terminalNode, FactHandle.State fhState) {
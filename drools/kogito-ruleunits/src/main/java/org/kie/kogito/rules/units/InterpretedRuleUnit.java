@@ -15,14 +15,20 @@
  */
 package org.kie.kogito.rules.units;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.impl.KnowledgeBaseFactory;
 import org.drools.core.impl.RuleUnitExecutorImpl;
-import org.drools.core.io.impl.InputStreamResource;
+import org.drools.core.io.impl.ByteArrayResource;
 import org.kie.api.io.ResourceType;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.kogito.Config;
@@ -39,6 +45,15 @@ import org.kie.kogito.uow.UnitOfWorkManager;
  */
 public class InterpretedRuleUnit<T extends RuleUnitData> extends AbstractRuleUnit<T> {
 
+    // compiled rule bases by unit class, shared by all the instances created from the same DRL content; held by the
+    // class itself so that a class loader replaced by a reload is released together with its rule bases
+    private static final ClassValue<AtomicReference<CachedKieBase>> KIE_BASES = new ClassValue<AtomicReference<CachedKieBase>>() {
+        @Override
+        protected AtomicReference<CachedKieBase> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
     public static <T extends RuleUnitData> RuleUnit<T> of(Class<T> type) {
         return new InterpretedRuleUnit<>(type.getCanonicalName());
     }
@@ -49,21 +64,94 @@ public class InterpretedRuleUnit<T extends RuleUnitData> extends AbstractRuleUni
 
     @Override
     public RuleUnitInstance<T> internalCreateInstance(T data) {
-        KnowledgeBuilder kBuilder = new KnowledgeBuilderImpl();
         Class<? extends RuleUnitData> wmClass = data.getClass();
         String canonicalName = wmClass.getCanonicalName();
 
         // transform foo.bar.Baz to /foo/bar/Baz.drl
         // this currently only works for single files
-        InputStream resourceAsStream = wmClass.getResourceAsStream(
-                String.format("/%s.drl", canonicalName.replace('.', '/')));
-        kBuilder.add(new InputStreamResource(resourceAsStream), ResourceType.DRL);
+        byte[] drl = readResource(wmClass, String.format("/%s.drl", canonicalName.replace('.', '/')));
+        ReteEvaluator reteEvaluator = new RuleUnitExecutorImpl(kieBase(wmClass, drl));
+
+        return new InterpretedRuleUnitInstance<>(this, data, reteEvaluator);
+    }
+
+    /**
+     * Returns the rule base compiled from the given DRL content, building it only when the unit
+     * has not been compiled yet or when its DRL content changed since the last build.
+     * Concurrent callers asking for the same content wait for a single build, outside of any lock.
+     */
+    static InternalKnowledgeBase kieBase(Class<?> unitClass, byte[] drl) {
+        AtomicReference<CachedKieBase> holder = KIE_BASES.get(unitClass);
+        while (true) {
+            CachedKieBase cached = holder.get();
+            if (cached != null && cached.matches(drl)) {
+                return cached.get();
+            }
+            CachedKieBase building = new CachedKieBase(drl);
+            if (holder.compareAndSet(cached, building)) {
+                building.build(holder);
+                return building.get();
+            }
+        }
+    }
+
+    static void clearKieBase(Class<?> unitClass) {
+        KIE_BASES.remove(unitClass);
+    }
+
+    private static InternalKnowledgeBase buildKieBase(byte[] drl) {
+        KnowledgeBuilder kBuilder = new KnowledgeBuilderImpl();
+        kBuilder.add(new ByteArrayResource(drl), ResourceType.DRL);
 
         InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
         kBase.addPackages(kBuilder.getKnowledgePackages());
-        ReteEvaluator reteEvaluator = new RuleUnitExecutorImpl(kBase);
+        return kBase;
+    }
 
-        return new InterpretedRuleUnitInstance<>(this, data, reteEvaluator);
+    private static byte[] readResource(Class<?> type, String path) {
+        try (InputStream resourceAsStream = type.getResourceAsStream(path)) {
+            if (resourceAsStream == null) {
+                throw new IllegalArgumentException("Cannot find rule unit resource " + path);
+            }
+            return resourceAsStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class CachedKieBase {
+
+        private final byte[] drl;
+        private final CompletableFuture<InternalKnowledgeBase> kBase = new CompletableFuture<>();
+
+        private CachedKieBase(byte[] drl) {
+            this.drl = drl;
+        }
+
+        private boolean matches(byte[] content) {
+            return Arrays.equals(drl, content);
+        }
+
+        private void build(AtomicReference<CachedKieBase> holder) {
+            try {
+                kBase.complete(buildKieBase(drl));
+            } catch (RuntimeException | Error e) {
+                // not cached, the next caller builds it again
+                holder.compareAndSet(this, null);
+                kBase.completeExceptionally(e);
+            }
+        }
+
+        private InternalKnowledgeBase get() {
+            try {
+                return kBase.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
     }
 
     public static class DummyApplication implements org.kie.kogito.Application {
@@ -25,10 +25,17 @@ import org.kie.kogito.rules.RuleUnitData;
 
 public abstract class ReteEvaluatorBasedRuleUnitInstance<T extends RuleUnitData> extends AbstractRuleUnitInstance<ReteEvaluator, T> {
 
+    private ReteEvaluatorPool pool;
+    private boolean disposed;
+
     public ReteEvaluatorBasedRuleUnitInstance(RuleUnit<T> unit, T unitMemory, ReteEvaluator evaluator) {
         super(unit, unitMemory, evaluator);
     }
 
+    void releaseTo(ReteEvaluatorPool pool) {
+        this.pool = pool;
+    }
+
     @Override
     public int fire() {
         return evaluator.fireAllRules();
@@ -36,7 +43,15 @@ public abstract class ReteEvaluatorBasedRuleUnitInstance<T extends RuleUnitData>
 
     @Override
     public void dispose() {
-        evaluator.dispose();
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        if (pool != null) {
+            pool.release(evaluator);
+        } else {
+            evaluator.dispose();
+        }
     }
 
     @Override
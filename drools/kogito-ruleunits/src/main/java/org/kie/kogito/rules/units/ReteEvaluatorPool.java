@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.rules.units;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.rule.EntryPointId;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
+
+/**
+ * Bounded pool of {@link ReteEvaluator}s created on the same knowledge base. Evaluators are handed out
+ * by {@link #acquire()} and given back when the rule unit instance using them is disposed: at that point
+ * all the facts are deleted from every entry point, the agenda and the timers are reset and the globals are
+ * removed, so the next instance starts from an empty evaluator, which is kept for reuse unless the pool is
+ * already full. An evaluator that cannot be reset is disposed instead.
+ * The data sources of a pooled instance stay subscribed to the evaluator, so they must not be changed after
+ * the instance has been disposed. A pool with a size lower than 1 never keeps evaluators, creating a new one
+ * for each instance.
+ */
+public class ReteEvaluatorPool {
+
+    private final InternalKnowledgeBase kBase;
+    private final Supplier<ReteEvaluator> factory;
+    private final BlockingQueue<ReteEvaluator> idle;
+
+    public ReteEvaluatorPool(InternalKnowledgeBase kBase, int size, Supplier<ReteEvaluator> factory) {
+        this.kBase = kBase;
+        this.factory = factory;
+        this.idle = size > 0 ? new ArrayBlockingQueue<>(size) : null;
+    }
+
+    public ReteEvaluator acquire() {
+        ReteEvaluator evaluator = idle == null ? null : idle.poll();
+        return evaluator == null ? factory.get() : evaluator;
+    }
+
+    /**
+     * Makes the given instance give its evaluator back to this pool when disposed
+     */
+    public <I extends ReteEvaluatorBasedRuleUnitInstance<?>> I pooled(I instance) {
+        instance.releaseTo(this);
+        return instance;
+    }
+
+    void release(ReteEvaluator evaluator) {
+        if (idle == null || !reset(evaluator) || !idle.offer(evaluator)) {
+            evaluator.dispose();
+        }
+    }
+
+    int idle() {
+        return idle == null ? 0 : idle.size();
+    }
+
+    private boolean reset(ReteEvaluator evaluator) {
+        try {
+            for (EntryPointId entryPointId : kBase.getRete().getEntryPointNodes().keySet()) {
+                EntryPoint entryPoint = evaluator.getEntryPoint(entryPointId.getEntryPointId());
+                if (entryPoint != null) {
+                    List<FactHandle> handles = new ArrayList<>(entryPoint.getFactHandles());
+                    handles.forEach(entryPoint::delete);
+                }
+            }
+            // pending activations and scheduled timers must not fire for the next instance
+            evaluator.getActivationsManager().reset();
+            evaluator.getTimerService().reset();
+            // globals are bound again by the next instance, those it leaves unset must not keep the previous values
+            for (String global : kBase.getGlobals().keySet()) {
+                evaluator.getGlobalResolver().removeGlobal(global);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            // an evaluator that cannot be cleaned is not reused
+            return false;
+        }
+    }
+}
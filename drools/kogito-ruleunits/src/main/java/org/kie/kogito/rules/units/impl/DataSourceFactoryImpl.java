@@ -15,10 +15,13 @@
  */
 package org.kie.kogito.rules.units.impl;
 
+import java.time.Duration;
+
 import org.kie.kogito.rules.DataSource;
 import org.kie.kogito.rules.DataStore;
 import org.kie.kogito.rules.DataStream;
 import org.kie.kogito.rules.SingletonStore;
+import org.kie.kogito.rules.units.BoundedDataStream;
 import org.kie.kogito.rules.units.FieldDataStore;
 import org.kie.kogito.rules.units.ListDataStore;
 import org.kie.kogito.rules.units.ListDataStream;
@@ -29,6 +32,14 @@ public class DataSourceFactoryImpl implements DataSource.Factory {
         return new ListDataStream<>();
     }
 
+    public <T> DataStream<T> createBoundedStream(int capacity) {
+        return BoundedDataStream.ofSize(capacity);
+    }
+
+    public <T> DataStream<T> createWindowedStream(Duration window) {
+        return BoundedDataStream.ofWindow(window);
+    }
+
     public <T> DataStore<T> createStore() {
         return new ListDataStore<>();
     }
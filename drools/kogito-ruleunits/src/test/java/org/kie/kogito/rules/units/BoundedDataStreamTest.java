@@ -0,0 +1,160 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.rules.units;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.rule.EntryPoint;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.kogito.rules.DataHandle;
+import org.kie.kogito.rules.DataProcessor;
+import org.kie.kogito.rules.RuleUnitInstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedDataStreamTest {
+
+    private static final int EVENTS = 2_000_000;
+
+    @Test
+    public void testBoundedBySize() {
+        Tracker<Integer> tracker = new Tracker<>();
+        BoundedDataStream<Integer> integers = BoundedDataStream.ofSize(2);
+        integers.append(1);
+        integers.subscribe(tracker);
+        integers.append(2);
+        integers.append(3);
+
+        assertEquals(2, integers.size());
+        assertEquals(List.of(2, 3), List.copyOf(tracker.live.values()));
+        assertEquals(3, tracker.inserted);
+    }
+
+    @Test
+    public void testBoundedByWindow() {
+        AtomicLong now = new AtomicLong();
+        Tracker<Integer> tracker = new Tracker<>();
+        BoundedDataStream<Integer> integers = BoundedDataStream.ofWindow(Duration.ofSeconds(10), now::get);
+        integers.subscribe(tracker);
+
+        integers.append(1);
+        now.set(5_000);
+        integers.append(2);
+        now.set(10_000);
+        integers.append(3);
+        assertEquals(List.of(2, 3), List.copyOf(tracker.live.values()));
+
+        now.set(20_000);
+        integers.evictExpired();
+        assertEquals(0, integers.size());
+        assertTrue(tracker.live.isEmpty());
+    }
+
+    @Test
+    public void testIdleWindowEvictedOnRead() {
+        AtomicLong now = new AtomicLong();
+        Tracker<Integer> tracker = new Tracker<>();
+        BoundedDataStream<Integer> integers = BoundedDataStream.ofWindow(Duration.ofSeconds(10), now::get);
+        integers.subscribe(tracker);
+        integers.append(1);
+        now.set(5_000);
+        integers.append(2);
+
+        now.set(12_000);
+        List<Integer> retained = new ArrayList<>();
+        integers.forEach(retained::add);
+        assertEquals(List.of(2), retained);
+        assertEquals(List.of(2), List.copyOf(tracker.live.values()));
+
+        now.set(20_000);
+        Tracker<Integer> late = new Tracker<>();
+        integers.subscribe(late);
+        assertEquals(0, late.inserted);
+        assertTrue(tracker.live.isEmpty());
+        assertEquals(0, integers.size());
+    }
+
+    @Test
+    public void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> BoundedDataStream.ofSize(0));
+        assertThrows(IllegalArgumentException.class, () -> BoundedDataStream.ofWindow(Duration.ZERO));
+    }
+
+    @Test
+    public void testMillionsOfEventsKeepMemoryFlat() {
+        Tracker<Integer> tracker = new Tracker<>();
+        BoundedDataStream<Integer> integers = BoundedDataStream.ofSize(1000);
+        integers.subscribe(tracker);
+
+        for (int i = 0; i < EVENTS; i++) {
+            integers.append(i);
+            assertTrue(tracker.live.size() <= 1000);
+        }
+
+        assertEquals(1000, integers.size());
+        assertEquals(EVENTS, tracker.inserted);
+        assertEquals(EVENTS - 1000, tracker.deleted);
+    }
+
+    @Test
+    public void testMillionsOfEventsThroughRuleUnit() {
+        BoundedDataStream<Integer> numbers = BoundedDataStream.ofSize(100);
+        RuleUnitInstance<NumberStreamUnit> instance = InterpretedRuleUnit.of(NumberStreamUnit.class).createInstance(new NumberStreamUnit(numbers));
+        EntryPoint entryPoint = ((ReteEvaluatorBasedRuleUnitInstance<NumberStreamUnit>) instance).getEvaluator()
+                .getEntryPoint(NumberStreamUnit.class.getCanonicalName() + ".numbers");
+
+        for (int i = 0; i < EVENTS; i++) {
+            numbers.append(i);
+        }
+
+        assertEquals(100, entryPoint.getFactCount());
+        assertEquals(50, instance.executeQuery("FindEven").size());
+        instance.dispose();
+    }
+
+    private static class Tracker<T> implements DataProcessor<T> {
+
+        final Map<DataHandle, T> live = new LinkedHashMap<>();
+        long inserted;
+        long deleted;
+
+        @Override
+        public FactHandle insert(DataHandle handle, T object) {
+            inserted++;
+            live.put(handle, object);
+            return null;
+        }
+
+        @Override
+        public void update(DataHandle handle, T object) {
+            live.put(handle, object);
+        }
+
+        @Override
+        public void delete(DataHandle handle) {
+            deleted++;
+            live.remove(handle);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.rules.units;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.rules.RuleUnit;
+import org.kie.kogito.rules.RuleUnitInstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class InterpretedRuleUnitTest {
+
+    @BeforeEach
+    public void clearCache() {
+        InterpretedRuleUnit.clearKieBase(AgeUnit.class);
+    }
+
+    @Test
+    public void testKieBaseSharedAcrossInstances() {
+        RuleUnit<AgeUnit> ruleUnit = InterpretedRuleUnit.of(AgeUnit.class);
+        InternalKnowledgeBase kBase = null;
+        for (int i = 0; i < 10; i++) {
+            AgeUnit data = new AgeUnit();
+            data.getAges().add(10);
+            data.getAges().add(20);
+            data.getAges().add(30);
+
+            RuleUnitInstance<AgeUnit> instance = InterpretedRuleUnit.of(AgeUnit.class).createInstance(data);
+            InternalKnowledgeBase instanceKBase = ((ReteEvaluatorBasedRuleUnitInstance<AgeUnit>) instance).getEvaluator().getKnowledgeBase();
+            if (kBase == null) {
+                kBase = instanceKBase;
+            }
+            assertSame(kBase, instanceKBase);
+
+            assertEquals(2, instance.fire());
+            List<Map<String, Object>> adults = instance.executeQuery("FindAdults");
+            assertEquals(2, adults.size());
+            instance.dispose();
+        }
+        assertSame(kBase, ((ReteEvaluatorBasedRuleUnitInstance<AgeUnit>) ruleUnit.createInstance(new AgeUnit())).getEvaluator().getKnowledgeBase());
+    }
+
+    @Test
+    public void testKieBaseRebuiltWhenContentChanges() {
+        byte[] drl = ("package org.kie.kogito.rules.units;\n" +
+                "unit AgeUnit;\n" +
+                "query FindAdults\n" +
+                "    $age: /ages[ this >= 18 ]\n" +
+                "end\n").getBytes(StandardCharsets.UTF_8);
+        byte[] changedDrl = new String(drl, StandardCharsets.UTF_8).replace("18", "21").getBytes(StandardCharsets.UTF_8);
+
+        InternalKnowledgeBase kBase = InterpretedRuleUnit.kieBase(AgeUnit.class, drl);
+        assertSame(kBase, InterpretedRuleUnit.kieBase(AgeUnit.class, drl.clone()));
+
+        InternalKnowledgeBase changed = InterpretedRuleUnit.kieBase(AgeUnit.class, changedDrl);
+        assertNotSame(kBase, changed);
+        assertSame(changed, InterpretedRuleUnit.kieBase(AgeUnit.class, changedDrl));
+    }
+
+    @Test
+    public void testKieBaseNotSharedAcrossClassLoaders() throws Exception {
+        byte[] drl = readAllBytes(AgeUnit.class, "AgeUnit.drl");
+        Class<?> reloaded = new ReloadingClassLoader(AgeUnit.class).loadClass(AgeUnit.class.getName());
+        assertNotSame(AgeUnit.class, reloaded);
+
+        InternalKnowledgeBase kBase = InterpretedRuleUnit.kieBase(AgeUnit.class, drl);
+        InternalKnowledgeBase reloadedKBase = InterpretedRuleUnit.kieBase(reloaded, drl);
+        assertNotSame(kBase, reloadedKBase);
+        assertSame(kBase, InterpretedRuleUnit.kieBase(AgeUnit.class, drl));
+    }
+
+    @Test
+    public void testKieBaseBuiltOnceByConcurrentCallers() throws Exception {
+        byte[] drl = readAllBytes(AgeUnit.class, "AgeUnit.drl");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<InternalKnowledgeBase>> kBases = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                kBases.add(executor.submit(() -> InterpretedRuleUnit.kieBase(AgeUnit.class, drl)));
+            }
+            InternalKnowledgeBase kBase = kBases.get(0).get();
+            for (Future<InternalKnowledgeBase> other : kBases) {
+                assertSame(kBase, other.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static byte[] readAllBytes(Class<?> type, String resource) throws IOException {
+        try (InputStream input = type.getResourceAsStream(resource)) {
+            return input.readAllBytes();
+        }
+    }
+
+    /**
+     * Loads its own copy of the given class, as a new class loader does after a reload
+     */
+    private static class ReloadingClassLoader extends ClassLoader {
+
+        private final String reloadedName;
+
+        private ReloadingClassLoader(Class<?> reloaded) {
+            super(reloaded.getClassLoader());
+            this.reloadedName = reloaded.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(reloadedName)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = input.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.rules.units;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.RuleUnitExecutorImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.rules.RuleUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ReteEvaluatorPoolTest {
+
+    private final RuleUnit<AgeUnit> unit = InterpretedRuleUnit.of(AgeUnit.class);
+    private final AtomicInteger created = new AtomicInteger();
+
+    private InternalKnowledgeBase kBase;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        try (InputStream drl = AgeUnit.class.getResourceAsStream("AgeUnit.drl")) {
+            kBase = InterpretedRuleUnit.kieBase(AgeUnit.class, drl.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testEvaluatorReusedWithoutLeakingFacts() {
+        ReteEvaluatorPool pool = newPool(1);
+
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> first = createInstance(pool, 20, 30, 10);
+        ReteEvaluator evaluator = first.getEvaluator();
+        assertEquals(2, first.executeQuery("FindAdults").size());
+        first.dispose();
+        assertEquals(1, pool.idle());
+
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> second = createInstance(pool, 40);
+        assertSame(evaluator, second.getEvaluator());
+        List<Map<String, Object>> adults = second.executeQuery("FindAdults");
+        assertEquals(1, adults.size());
+        assertEquals(40, adults.get(0).get("$age"));
+        second.dispose();
+
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> third = createInstance(pool);
+        assertSame(evaluator, third.getEvaluator());
+        assertEquals(0, third.fire());
+        assertEquals(0, third.executeQuery("FindAdults").size());
+        third.dispose();
+
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testEvaluatorReusedWithoutLeakingAgendaOrGlobals() {
+        ReteEvaluatorPool pool = newPool(1);
+        String global = AgeUnit.class.getCanonicalName() + ".ages";
+
+        // disposed with pending activations
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> first = createInstance(pool, 20, 30);
+        ReteEvaluator evaluator = first.getEvaluator();
+        assertNotNull(evaluator.getGlobalResolver().resolveGlobal(global));
+        first.dispose();
+        assertNull(evaluator.getGlobalResolver().resolveGlobal(global));
+
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> second = createInstance(pool);
+        assertSame(evaluator, second.getEvaluator());
+        assertSame(second.ruleUnitData().getAges(), evaluator.getGlobalResolver().resolveGlobal(global));
+        assertEquals(0, second.fire());
+        second.dispose();
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        ReteEvaluatorPool pool = newPool(1);
+
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> first = createInstance(pool, 20);
+        ReteEvaluatorBasedRuleUnitInstance<AgeUnit> second = createInstance(pool, 30);
+        assertNotSame(first.getEvaluator(), second.getEvaluator());
+        assertEquals(2, created.get());
+
+        first.dispose();
+        second.dispose();
+        assertEquals(1, pool.idle());
+
+        // disposing twice must not give the same evaluator back twice
+        first.dispose();
+        assertEquals(1, pool.idle());
+    }
+
+    @Test
+    public void testDisabledPool() {
+        ReteEvaluatorPool pool = newPool(0);
+
+        createInstance(pool, 20).dispose();
+        createInstance(pool, 30).dispose();
+
+        assertEquals(0, pool.idle());
+        assertEquals(2, created.get());
+    }
+
+    private ReteEvaluatorPool newPool(int size) {
+        return new ReteEvaluatorPool(kBase, size, () -> {
+            created.incrementAndGet();
+            return new RuleUnitExecutorImpl(kBase);
+        });
+    }
+
+    private ReteEvaluatorBasedRuleUnitInstance<AgeUnit> createInstance(ReteEvaluatorPool pool, int... ages) {
+        AgeUnit data = new AgeUnit();
+        for (int age : ages) {
+            data.getAges().add(age);
+        }
+        return pool.pooled(new InterpretedRuleUnitInstance<>(unit, data, pool.acquire()));
+    }
+}
@@ -17,11 +17,14 @@ package org.jbpm.bpmn2;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.drools.core.io.impl.ClassPathResource;
 import org.jbpm.bpmn2.handler.ReceiveTaskHandler;
 import org.jbpm.bpmn2.handler.SendTaskHandler;
 import org.jbpm.bpmn2.handler.ServiceTaskHandler;
@@ -71,6 +74,7 @@ import org.kie.api.event.rule.MatchCancelledEvent;
 import org.kie.api.event.rule.MatchCreatedEvent;
 import org.kie.api.runtime.process.DataTransformer;
 import org.kie.api.runtime.process.NodeInstance;
+import org.kie.kogito.auth.SecurityPolicy;
 import org.kie.kogito.internal.process.event.DefaultKogitoProcessEventListener;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstanceContainer;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
@@ -78,7 +82,20 @@ import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcessInstance;
+import org.kie.kogito.jobs.JobsService;
+import org.kie.kogito.jobs.ProcessInstanceJobDescription;
+import org.kie.kogito.process.ProcessConfig;
+import org.kie.kogito.process.WorkItem;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.process.impl.DefaultProcessEventListenerConfig;
+import org.kie.kogito.process.impl.DefaultWorkItemHandlerConfig;
+import org.kie.kogito.process.impl.StaticProcessConfig;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
+import org.kie.kogito.services.identity.StaticIdentityProvider;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.mockito.ArgumentCaptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -87,6 +104,12 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ActivityTest extends JbpmBpmn2TestCase {
 
@@ -365,6 +388,36 @@ public class ActivityTest extends JbpmBpmn2TestCase {
         assertProcessInstanceFinished(processInstance, kruntime);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUserTaskDeadlinesCancelledOnCompletion() {
+        JobsService jobsService = mock(JobsService.class);
+        when(jobsService.scheduleProcessInstanceJobs(anyList())).thenAnswer(invocation -> ((List<ProcessInstanceJobDescription>) invocation.getArgument(0))
+                .stream().map(ProcessInstanceJobDescription::id).collect(Collectors.toList()));
+        ProcessConfig config = new StaticProcessConfig(new DefaultWorkItemHandlerConfig(), new DefaultProcessEventListenerConfig(),
+                new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory()), jobsService);
+        BpmnProcess process = BpmnProcess.from(config, new ClassPathResource("BPMN2-UserTaskWithDeadlines.bpmn2")).get(0);
+        SecurityPolicy policy = SecurityPolicy.of(new StaticIdentityProvider("john"));
+
+        org.kie.kogito.process.ProcessInstance<BpmnVariables> processInstance = process.createInstance(BpmnVariables.create());
+        processInstance.start();
+
+        ArgumentCaptor<List<ProcessInstanceJobDescription>> scheduled = ArgumentCaptor.forClass(List.class);
+        verify(jobsService).scheduleProcessInstanceJobs(scheduled.capture());
+        verify(jobsService, never()).scheduleProcessInstanceJob(any());
+        List<String> ids = scheduled.getValue().stream().map(ProcessInstanceJobDescription::id).collect(Collectors.toList());
+        assertThat(ids).hasSize(4).doesNotHaveDuplicates();
+
+        WorkItem workItem = processInstance.workItems(policy).get(0);
+        processInstance.completeWorkItem(workItem.getId(), null, policy);
+        assertEquals(KogitoProcessInstance.STATE_COMPLETED, processInstance.status());
+
+        ArgumentCaptor<Collection<String>> cancelled = ArgumentCaptor.forClass(Collection.class);
+        verify(jobsService).cancelJobs(cancelled.capture());
+        verify(jobsService, never()).cancelJob(any());
+        assertThat(cancelled.getValue()).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
     @Test
     public void testUserTaskVerifyParameters() throws Exception {
         kruntime = createKogitoProcessRuntime("BPMN2-UserTask.bpmn2");
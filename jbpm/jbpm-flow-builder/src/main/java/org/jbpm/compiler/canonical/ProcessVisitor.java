@@ -88,7 +88,7 @@ import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_GLOBAL;
 import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_IMPORTS;
 import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_NAME;
 import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_PACKAGE_NAME;
-import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_VALIDATE;
+import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_LINK;
 import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_VERSION;
 import static org.jbpm.ruleflow.core.RuleFlowProcessFactory.METHOD_VISIBILITY;
 
@@ -166,7 +166,8 @@ public class ProcessVisitor extends AbstractVisitor {
         visitNodes(processNodes, body, variableScope, metadata);
         visitConnections(process.getNodes(), body);
 
-        body.addStatement(getFactoryMethod(FACTORY_FIELD_NAME, METHOD_VALIDATE));
+        // the definition was already validated when it was compiled, only its nodes have to be linked
+        body.addStatement(getFactoryMethod(FACTORY_FIELD_NAME, METHOD_LINK));
 
         MethodCallExpr getProcessMethod = new MethodCallExpr(new NameExpr(FACTORY_FIELD_NAME), "getProcess");
         body.addStatement(new ReturnStmt(getProcessMethod));
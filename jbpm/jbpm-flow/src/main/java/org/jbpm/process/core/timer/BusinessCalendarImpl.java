@@ -17,11 +17,14 @@ package org.jbpm.process.core.timer;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -72,6 +75,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     private Properties businessCalendarConfiguration;
 
     private static final long HOUR_IN_MILLIS = 60 * 60 * 1000;
+    private static final long DAY_IN_MILLIS = 24 * HOUR_IN_MILLIS;
 
     private int daysPerWeek;
     private int hoursInDay;
@@ -79,9 +83,9 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     private int endHour;
     private String timezone;
 
-    private List<TimePeriod> holidays;
     private List<Integer> weekendDays = new ArrayList<Integer>();
     private SessionClock clock;
+    private volatile WorkingTimeIndex index;
 
     private static final int SIM_WEEK = 3;
     private static final int SIM_DAY = 5;
@@ -144,9 +148,10 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         hoursInDay = getPropertyAsInt(HOURS_PER_DAY, "8");
         startHour = getPropertyAsInt(START_HOUR, "9");
         endHour = getPropertyAsInt(END_HOUR, "17");
-        holidays = parseHolidays();
         parseWeekendDays();
         this.timezone = businessCalendarConfiguration.getProperty(TIMEZONE);
+        int currentYear = Calendar.getInstance().get(Calendar.YEAR);
+        index = new WorkingTimeIndex(weekendDays, currentYear - 1, currentYear + 1, parseHolidays(currentYear - 1, currentYear + 1));
     }
 
     protected String adoptISOFormat(String timeExpression) {
@@ -240,11 +245,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         // calculate number of days
         int numberOfDays = hours / hoursInDay;
         if (numberOfDays > 0) {
-            for (int i = 0; i < numberOfDays; i++) {
-                c.add(Calendar.DAY_OF_YEAR, 1);
-                handleWeekend(c, false);
-                handleHoliday(c, hours > 0 || min > 0);
-            }
+            addWorkingDays(c, numberOfDays, hours > 0 || min > 0);
         }
 
         int currentCalHour = c.get(Calendar.HOUR_OF_DAY);
@@ -306,33 +307,96 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         return c.getTime();
     }
 
+    /**
+     * Moves the calendar the given number of working days ahead, as if moving one day at a time and then
+     * past weekends and holidays. Days are skipped in bulk up to the next holiday or time zone offset
+     * change, only the days around them are visited one by one.
+     */
+    protected void addWorkingDays(Calendar c, int numberOfDays, boolean resetTime) {
+        int remaining = numberOfDays;
+        while (remaining > 0) {
+            int steps = workingDaysInBulk(c, remaining);
+            if (steps > 0) {
+                c.add(Calendar.DAY_OF_YEAR, index.daysToAdd(c.get(Calendar.DAY_OF_WEEK), steps));
+                remaining -= steps;
+            } else {
+                c.add(Calendar.DAY_OF_YEAR, 1);
+                handleWeekend(c, false);
+                handleHoliday(c, resetTime);
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * Returns the largest number of working days, up to the given one, that can be added at once
+     * because neither a holiday nor a time zone offset change is found on the way.
+     */
+    private int workingDaysInBulk(Calendar c, int maxSteps) {
+        long time = c.getTimeInMillis();
+        int dayOfWeek = c.get(Calendar.DAY_OF_WEEK);
+        ZoneOffsetTransition transition = c.getTimeZone().toZoneId().getRules().nextTransition(Instant.ofEpochMilli(time));
+        long limit = transition == null ? Long.MAX_VALUE : transition.toEpochSecond() * 1000;
+        int low = 0;
+        int high = maxSteps;
+        while (low < high) {
+            int steps = (low + high + 1) >>> 1;
+            long target = time + index.daysToAdd(dayOfWeek, steps) * DAY_IN_MILLIS;
+            if (target < limit && target <= getIndex(time, target).nextHolidayStart(time)) {
+                low = steps;
+            } else {
+                high = steps - 1;
+            }
+        }
+        return low;
+    }
+
     protected void handleHoliday(Calendar c, boolean resetTime) {
-        if (!holidays.isEmpty()) {
-            Date current = c.getTime();
-            for (TimePeriod holiday : holidays) {
-                // check each holiday if it overlaps current date and break after first match
-                if (current.after(holiday.getFrom()) && current.before(holiday.getTo())) {
+        Date current = c.getTime();
+        // end of the first configured holiday that overlaps current date
+        long holidayEnd = getIndex(current.getTime(), current.getTime()).holidayEnd(current.getTime());
+        if (holidayEnd != WorkingTimeIndex.NONE) {
+            Calendar tmp = new GregorianCalendar();
+            tmp.setTimeInMillis(holidayEnd);
 
-                    Calendar tmp = new GregorianCalendar();
-                    tmp.setTime(holiday.getTo());
+            Calendar tmp2 = new GregorianCalendar();
+            tmp2.setTime(current);
+            tmp2.set(Calendar.HOUR_OF_DAY, 0);
+            tmp2.set(Calendar.MINUTE, 0);
+            tmp2.set(Calendar.SECOND, 0);
+            tmp2.set(Calendar.MILLISECOND, 0);
 
-                    Calendar tmp2 = new GregorianCalendar();
-                    tmp2.setTime(current);
-                    tmp2.set(Calendar.HOUR_OF_DAY, 0);
-                    tmp2.set(Calendar.MINUTE, 0);
-                    tmp2.set(Calendar.SECOND, 0);
-                    tmp2.set(Calendar.MILLISECOND, 0);
+            long difference = tmp.getTimeInMillis() - tmp2.getTimeInMillis();
 
-                    long difference = tmp.getTimeInMillis() - tmp2.getTimeInMillis();
+            c.add(Calendar.HOUR_OF_DAY, (int) (difference / HOUR_IN_MILLIS));
 
-                    c.add(Calendar.HOUR_OF_DAY, (int) (difference / HOUR_IN_MILLIS));
+            handleWeekend(c, resetTime);
+        }
+    }
 
-                    handleWeekend(c, resetTime);
-                    break;
-                }
-            }
+    /**
+     * Returns an index whose holidays cover both given times, recurring holidays are expanded
+     * again for a wider range of years when needed.
+     */
+    private WorkingTimeIndex getIndex(long from, long to) {
+        WorkingTimeIndex current = index;
+        if (current.covers(from, to)) {
+            return current;
         }
+        int fromYear = Math.min(yearOf(from) - 1, current.getFromYear());
+        int toYear = Math.max(yearOf(to), current.getToYear());
+        current = new WorkingTimeIndex(weekendDays, fromYear, toYear, parseHolidays(fromYear, toYear));
+        index = current;
+        return current;
+    }
 
+    private int yearOf(long time) {
+        Calendar c = new GregorianCalendar();
+        if (timezone != null) {
+            c.setTimeZone(TimeZone.getTimeZone(timezone));
+        }
+        c.setTimeInMillis(time);
+        return c.get(Calendar.YEAR);
     }
 
     protected int getPropertyAsInt(String propertyName, String defaultValue) {
@@ -342,91 +406,32 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     }
 
     protected List<TimePeriod> parseHolidays() {
+        int currentYear = Calendar.getInstance().get(Calendar.YEAR);
+        return parseHolidays(currentYear, currentYear + 1);
+    }
+
+    /**
+     * Parses the configured holidays, holidays recurring every year (given with <code>*</code> as year)
+     * are returned once for every year of the given range.
+     */
+    protected List<TimePeriod> parseHolidays(int fromYear, int toYear) {
         String holidaysString = businessCalendarConfiguration.getProperty(HOLIDAYS);
         List<TimePeriod> holidays = new ArrayList<TimePeriod>();
-        int currentYear = Calendar.getInstance().get(Calendar.YEAR);
         if (holidaysString != null) {
             String[] hPeriods = holidaysString.split(",");
             SimpleDateFormat sdf = new SimpleDateFormat(businessCalendarConfiguration.getProperty(HOLIDAY_DATE_FORMAT, "yyyy-MM-dd"));
+            if (timezone != null) {
+                sdf.setTimeZone(TimeZone.getTimeZone(timezone));
+            }
             for (String hPeriod : hPeriods) {
-                boolean addNextYearHolidays = false;
-
                 String[] fromTo = hPeriod.split(":");
-                if (fromTo[0].startsWith("*")) {
-                    addNextYearHolidays = true;
-
-                    fromTo[0] = fromTo[0].replaceFirst("\\*", currentYear + "");
-                }
                 try {
-                    if (fromTo.length == 2) {
-                        Calendar tmpFrom = new GregorianCalendar();
-                        if (timezone != null) {
-                            tmpFrom.setTimeZone(TimeZone.getTimeZone(timezone));
-                        }
-                        tmpFrom.setTime(sdf.parse(fromTo[0]));
-
-                        if (fromTo[1].startsWith("*")) {
-
-                            fromTo[1] = fromTo[1].replaceFirst("\\*", currentYear + "");
-                        }
-
-                        Calendar tmpTo = new GregorianCalendar();
-                        if (timezone != null) {
-                            tmpTo.setTimeZone(TimeZone.getTimeZone(timezone));
-                        }
-                        tmpTo.setTime(sdf.parse(fromTo[1]));
-                        Date from = tmpFrom.getTime();
-
-                        tmpTo.add(Calendar.DAY_OF_YEAR, 1);
-
-                        if ((tmpFrom.get(Calendar.MONTH) > tmpTo.get(Calendar.MONTH)) && (tmpFrom.get(Calendar.YEAR) == tmpTo.get(Calendar.YEAR))) {
-                            tmpTo.add(Calendar.YEAR, 1);
-                        }
-
-                        Date to = tmpTo.getTime();
-                        holidays.add(new TimePeriod(from, to));
-
-                        holidays.add(new TimePeriod(from, to));
-                        if (addNextYearHolidays) {
-                            tmpFrom = new GregorianCalendar();
-                            if (timezone != null) {
-                                tmpFrom.setTimeZone(TimeZone.getTimeZone(timezone));
-                            }
-                            tmpFrom.setTime(sdf.parse(fromTo[0]));
-                            tmpFrom.add(Calendar.YEAR, 1);
-
-                            from = tmpFrom.getTime();
-                            tmpTo = new GregorianCalendar();
-                            if (timezone != null) {
-                                tmpTo.setTimeZone(TimeZone.getTimeZone(timezone));
-                            }
-                            tmpTo.setTime(sdf.parse(fromTo[1]));
-                            tmpTo.add(Calendar.YEAR, 1);
-                            tmpTo.add(Calendar.DAY_OF_YEAR, 1);
-
-                            if ((tmpFrom.get(Calendar.MONTH) > tmpTo.get(Calendar.MONTH)) && (tmpFrom.get(Calendar.YEAR) == tmpTo.get(Calendar.YEAR))) {
-                                tmpTo.add(Calendar.YEAR, 1);
-                            }
-
-                            to = tmpTo.getTime();
-                            holidays.add(new TimePeriod(from, to));
+                    if (fromTo[0].startsWith("*")) {
+                        for (int year = fromYear; year <= toYear; year++) {
+                            holidays.add(parseHoliday(sdf, fromTo, year));
                         }
                     } else {
-
-                        Calendar c = new GregorianCalendar();
-                        c.setTime(sdf.parse(fromTo[0]));
-                        c.add(Calendar.DAY_OF_YEAR, 1);
-                        // handle one day holiday
-                        holidays.add(new TimePeriod(sdf.parse(fromTo[0]), c.getTime()));
-                        if (addNextYearHolidays) {
-                            Calendar tmp = Calendar.getInstance();
-                            tmp.setTime(sdf.parse(fromTo[0]));
-                            tmp.add(Calendar.YEAR, 1);
-
-                            Date from = tmp.getTime();
-                            c.add(Calendar.YEAR, 1);
-                            holidays.add(new TimePeriod(from, c.getTime()));
-                        }
+                        holidays.add(parseHoliday(sdf, fromTo, 0));
                     }
                 } catch (Exception e) {
                     logger.error("Error while parsing holiday in business calendar", e);
@@ -436,6 +441,34 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         return holidays;
     }
 
+    private TimePeriod parseHoliday(SimpleDateFormat sdf, String[] fromTo, int year) throws ParseException {
+        // holiday dates are parsed, and so resolved, in the configured time zone
+        String fromDate = fromTo[0].startsWith("*") ? fromTo[0].replaceFirst("\\*", year + "") : fromTo[0];
+        if (fromTo.length == 2) {
+            Calendar tmpFrom = new GregorianCalendar(sdf.getTimeZone());
+            tmpFrom.setTime(sdf.parse(fromDate));
+
+            String toDate = fromTo[1].startsWith("*") ? fromTo[1].replaceFirst("\\*", year + "") : fromTo[1];
+            Calendar tmpTo = new GregorianCalendar(sdf.getTimeZone());
+            tmpTo.setTime(sdf.parse(toDate));
+            Date from = tmpFrom.getTime();
+
+            tmpTo.add(Calendar.DAY_OF_YEAR, 1);
+
+            if ((tmpFrom.get(Calendar.MONTH) > tmpTo.get(Calendar.MONTH)) && (tmpFrom.get(Calendar.YEAR) == tmpTo.get(Calendar.YEAR))) {
+                tmpTo.add(Calendar.YEAR, 1);
+            }
+
+            return new TimePeriod(from, tmpTo.getTime());
+        } else {
+            Calendar c = new GregorianCalendar(sdf.getTimeZone());
+            c.setTime(sdf.parse(fromDate));
+            c.add(Calendar.DAY_OF_YEAR, 1);
+            // handle one day holiday
+            return new TimePeriod(sdf.parse(fromDate), c.getTime());
+        }
+    }
+
     protected void parseWeekendDays() {
         String weekendDays = businessCalendarConfiguration.getProperty(WEEKEND_DAYS);
 
@@ -450,7 +483,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
         }
     }
 
-    private class TimePeriod {
+    static class TimePeriod {
         private Date from;
         private Date to;
 
@@ -477,11 +510,7 @@ public class BusinessCalendarImpl implements BusinessCalendar {
     }
 
     protected boolean isWorkingDay(int day) {
-        if (weekendDays.contains(day)) {
-            return false;
-        }
-
-        return true;
+        return index.isWorkingDay(day);
     }
 
     protected void handleWeekend(Calendar c, boolean resetTime) {
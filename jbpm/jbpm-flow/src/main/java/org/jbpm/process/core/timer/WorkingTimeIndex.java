@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.core.timer;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.jbpm.process.core.timer.BusinessCalendarImpl.TimePeriod;
+
+/**
+ * Immutable index of the working days of a week and of the holidays of a business calendar.
+ * <p>
+ * Holidays are split at their boundaries into sorted, non overlapping segments, each one knowing the
+ * holiday that covers it first in configuration order, so finding the holiday containing a given time
+ * is a binary search instead of a scan of all the holidays. The working days are kept as a mask of
+ * {@link Calendar#DAY_OF_WEEK} values, which lets whole weeks be skipped at once.
+ * <p>
+ * Recurring holidays are only expanded for the years between {@link #getFromYear()} and
+ * {@link #getToYear()}, the business calendar builds a wider index when it needs times that are
+ * not {@link #covers(long, long) covered}.
+ */
+final class WorkingTimeIndex {
+
+    static final long NONE = Long.MIN_VALUE;
+
+    private final int workingDays;
+    private final int workingDaysPerWeek;
+    private final int fromYear;
+    private final int toYear;
+    private final long coveredFrom;
+    private final long coveredTo;
+
+    // holiday boundaries, with the end of the first holiday strictly containing each boundary
+    // and each open segment between two consecutive boundaries
+    private final long[] boundaries;
+    private final long[] endAtBoundary;
+    private final long[] endInSegment;
+
+    // union of all holidays, sorted and merged
+    private final long[] unionStart;
+    private final long[] unionEnd;
+
+    WorkingTimeIndex(List<Integer> weekendDays, int fromYear, int toYear, List<TimePeriod> holidays) {
+        int mask = 0;
+        for (int day = Calendar.SUNDAY; day <= Calendar.SATURDAY; day++) {
+            if (!weekendDays.contains(day)) {
+                mask |= 1 << day;
+            }
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("Business calendar must have at least one working day per week");
+        }
+        this.workingDays = mask;
+        this.workingDaysPerWeek = Integer.bitCount(mask);
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        // holidays recurring in the year before the first one may still last into it
+        this.coveredFrom = new GregorianCalendar(fromYear + 1, Calendar.JANUARY, 1).getTimeInMillis();
+        this.coveredTo = new GregorianCalendar(toYear + 1, Calendar.JANUARY, 1).getTimeInMillis();
+
+        TreeSet<Long> points = new TreeSet<>();
+        for (TimePeriod holiday : holidays) {
+            points.add(holiday.getFrom().getTime());
+            points.add(holiday.getTo().getTime());
+        }
+        this.boundaries = points.stream().mapToLong(Long::longValue).toArray();
+        this.endAtBoundary = new long[boundaries.length];
+        this.endInSegment = new long[boundaries.length];
+        Arrays.fill(endAtBoundary, NONE);
+        Arrays.fill(endInSegment, NONE);
+        for (TimePeriod holiday : holidays) {
+            long from = holiday.getFrom().getTime();
+            long to = holiday.getTo().getTime();
+            if (from >= to) {
+                continue;
+            }
+            int start = Arrays.binarySearch(boundaries, from);
+            int end = Arrays.binarySearch(boundaries, to);
+            for (int i = start; i < end; i++) {
+                if (i > start && endAtBoundary[i] == NONE) {
+                    endAtBoundary[i] = to;
+                }
+                if (endInSegment[i] == NONE) {
+                    endInSegment[i] = to;
+                }
+            }
+        }
+
+        long[][] union = holidays.stream()
+                .map(holiday -> new long[] { holiday.getFrom().getTime(), holiday.getTo().getTime() })
+                .filter(period -> period[0] < period[1])
+                .sorted((a, b) -> Long.compare(a[0], b[0]))
+                .toArray(long[][]::new);
+        long[] starts = new long[union.length];
+        long[] ends = new long[union.length];
+        int size = 0;
+        for (long[] period : union) {
+            if (size > 0 && period[0] <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], period[1]);
+            } else {
+                starts[size] = period[0];
+                ends[size] = period[1];
+                size++;
+            }
+        }
+        this.unionStart = Arrays.copyOf(starts, size);
+        this.unionEnd = Arrays.copyOf(ends, size);
+    }
+
+    int getFromYear() {
+        return fromYear;
+    }
+
+    int getToYear() {
+        return toYear;
+    }
+
+    /**
+     * Returns whether all the holidays that may contain a time between the given ones are indexed.
+     */
+    boolean covers(long from, long to) {
+        return from >= coveredFrom && to < coveredTo;
+    }
+
+    boolean isWorkingDay(int dayOfWeek) {
+        return (workingDays & (1 << dayOfWeek)) != 0;
+    }
+
+    /**
+     * Returns the end of the first configured holiday that strictly contains the given time,
+     * or {@link #NONE} if the time is not within a holiday.
+     */
+    long holidayEnd(long time) {
+        int i = Arrays.binarySearch(boundaries, time);
+        if (i >= 0) {
+            return endAtBoundary[i];
+        }
+        int segment = -i - 2;
+        return segment < 0 || segment >= boundaries.length - 1 ? NONE : endInSegment[segment];
+    }
+
+    /**
+     * Returns the start of the first holiday ending after the given time, which is before the given
+     * time when it falls within a holiday, or {@link Long#MAX_VALUE} if there are no more holidays.
+     */
+    long nextHolidayStart(long time) {
+        int i = Arrays.binarySearch(unionEnd, time);
+        int next = i >= 0 ? i + 1 : -i - 1;
+        return next < unionStart.length ? unionStart[next] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns how many days must be added to a day of the given day of week to get to the working
+     * day reached after the given number of steps, each step moving to the next day and then
+     * past any weekend day.
+     */
+    int daysToAdd(int dayOfWeek, int steps) {
+        int weeks = (steps - 1) / workingDaysPerWeek;
+        int days = weeks * 7;
+        int remaining = steps - weeks * workingDaysPerWeek;
+        int day = dayOfWeek;
+        while (remaining > 0) {
+            days++;
+            day = day % 7 + 1;
+            if (isWorkingDay(day)) {
+                remaining--;
+            }
+        }
+        return days;
+    }
+}
@@ -33,6 +33,8 @@ public abstract class AbstractProcessRuntime implements InternalProcessRuntime {
     protected KogitoProcessEventSupport processEventSupport;
     protected KogitoProcessRuntimeImpl kogitoProcessRuntime = new KogitoProcessRuntimeImpl(this);
     private final Application application;
+    private ParallelWorkItemExecutor parallelWorkItemExecutor;
+    private boolean ownsParallelWorkItemExecutor;
 
     private final Map<ProcessEventListener, KogitoProcessEventListener> listenersMap = new IdentityHashMap<>();
 
@@ -40,6 +42,31 @@ public abstract class AbstractProcessRuntime implements InternalProcessRuntime {
         this.application = application;
     }
 
+    /**
+     * Uses the given executor for the handlers of parallel nodes, when <code>null</code> the runtime creates
+     * its own executor on first use and closes it in {@link #closeParallelWorkItemExecutor()}.
+     */
+    protected void setParallelWorkItemExecutor(ParallelWorkItemExecutor parallelWorkItemExecutor) {
+        this.parallelWorkItemExecutor = parallelWorkItemExecutor;
+    }
+
+    @Override
+    public synchronized ParallelWorkItemExecutor getParallelWorkItemExecutor() {
+        if (parallelWorkItemExecutor == null) {
+            parallelWorkItemExecutor = new ParallelWorkItemExecutor();
+            ownsParallelWorkItemExecutor = true;
+        }
+        return parallelWorkItemExecutor;
+    }
+
+    protected synchronized void closeParallelWorkItemExecutor() {
+        if (ownsParallelWorkItemExecutor) {
+            parallelWorkItemExecutor.close();
+            parallelWorkItemExecutor = null;
+            ownsParallelWorkItemExecutor = false;
+        }
+    }
+
     @Override
     public KogitoProcessRuntime getKogitoProcessRuntime() {
         return kogitoProcessRuntime;
@@ -39,13 +39,24 @@ public class AbstractProcessRuntimeServiceProvider implements ProcessRuntimeServ
     private final KogitoWorkItemManager workItemManager;
     private final KogitoProcessEventSupportImpl eventSupport;
     private final UnitOfWorkManager unitOfWorkManager;
+    private final ParallelWorkItemExecutor parallelWorkItemExecutor;
 
     public AbstractProcessRuntimeServiceProvider(JobsService jobsService,
             WorkItemHandlerConfig workItemHandlerProvider,
             ProcessEventListenerConfig processEventListenerProvider,
             SignalManagerHub compositeSignalManager,
             UnitOfWorkManager unitOfWorkManager) {
+        this(jobsService, workItemHandlerProvider, processEventListenerProvider, compositeSignalManager, unitOfWorkManager, null);
+    }
+
+    public AbstractProcessRuntimeServiceProvider(JobsService jobsService,
+            WorkItemHandlerConfig workItemHandlerProvider,
+            ProcessEventListenerConfig processEventListenerProvider,
+            SignalManagerHub compositeSignalManager,
+            UnitOfWorkManager unitOfWorkManager,
+            ParallelWorkItemExecutor parallelWorkItemExecutor) {
         this.unitOfWorkManager = unitOfWorkManager;
+        this.parallelWorkItemExecutor = parallelWorkItemExecutor;
         processInstanceManager = new DefaultProcessInstanceManager();
         signalManager = new LightSignalManager(
                 id -> Optional.ofNullable(
@@ -94,4 +105,9 @@ public class AbstractProcessRuntimeServiceProvider implements ProcessRuntimeServ
     public UnitOfWorkManager getUnitOfWorkManager() {
         return unitOfWorkManager;
     }
+
+    @Override
+    public ParallelWorkItemExecutor getParallelWorkItemExecutor() {
+        return parallelWorkItemExecutor;
+    }
 }
@@ -39,4 +39,6 @@ public interface InternalProcessRuntime extends org.drools.core.runtime.process.
 
     Application getApplication();
 
+    ParallelWorkItemExecutor getParallelWorkItemExecutor();
+
 }
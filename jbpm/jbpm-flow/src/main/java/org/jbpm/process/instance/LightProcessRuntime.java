@@ -90,6 +90,7 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
         this.jobService = services.getJobsService() == null ? InMemoryJobService.get(application.get(Processes.class), this.unitOfWorkManager) : services.getJobsService();
         this.processEventSupport = services.getEventSupport();
         this.workItemManager = services.getKogitoWorkItemManager();
+        setParallelWorkItemExecutor(services.getParallelWorkItemExecutor());
         if (isActive()) {
             initProcessEventListeners();
             initStartTimers();
@@ -427,6 +428,7 @@ public class LightProcessRuntime extends AbstractProcessRuntime {
     @Override
     public void dispose() {
         this.processEventSupport.reset();
+        closeParallelWorkItemExecutor();
         runtimeContext = null;
     }
 
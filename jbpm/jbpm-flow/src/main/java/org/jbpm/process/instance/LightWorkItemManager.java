@@ -22,9 +22,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import org.drools.core.process.instance.WorkItem;
 import org.jbpm.process.instance.impl.workitem.Abort;
@@ -34,6 +34,7 @@ import org.kie.kogito.internal.process.event.KogitoProcessEventSupport;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.internal.process.runtime.WorkItemNotFoundException;
+import org.kie.kogito.internal.utils.IdGenerators;
 import org.kie.kogito.process.workitem.NotAuthorizedException;
 import org.kie.kogito.process.workitem.Policy;
 import org.kie.kogito.process.workitem.Transition;
@@ -69,7 +70,12 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
 
     @Override
     public void internalExecuteWorkItem(InternalKogitoWorkItem workItem) {
-        ((KogitoWorkItemImpl) workItem).setId(UUID.randomUUID().toString());
+        internalExecuteWorkItem(workItem, UnaryOperator.identity());
+    }
+
+    @Override
+    public void internalExecuteWorkItem(InternalKogitoWorkItem workItem, UnaryOperator<KogitoWorkItemHandler> handlerDecorator) {
+        ((KogitoWorkItemImpl) workItem).setId(IdGenerators.newId());
         internalAddWorkItem(workItem);
         KogitoWorkItemHandler handler = this.workItemHandlers.get(workItem.getName());
         if (handler != null) {
@@ -77,7 +83,7 @@ public class LightWorkItemManager implements InternalKogitoWorkItemManager {
             Transition<?> transition = new TransitionToActive();
             eventSupport.fireBeforeWorkItemTransition(processInstance, workItem, transition, null);
 
-            handler.executeWorkItem(workItem, this);
+            handlerDecorator.apply(handler).executeWorkItem(workItem, this);
 
             eventSupport.fireAfterWorkItemTransition(processInstance, workItem, transition, null);
         } else {
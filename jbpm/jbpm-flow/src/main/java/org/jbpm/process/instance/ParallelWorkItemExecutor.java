@@ -0,0 +1,147 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.MDC;
+
+/**
+ * Executor running the work item handlers of the nodes flagged for parallel execution, i.e. parallel
+ * multi-instance nodes and parallel AND splits.
+ * <p>
+ * It runs at most <code>parallelism</code> handlers at a time and queues at most <code>queueSize</code> more.
+ * Handlers submitted from one of its own threads, e.g. by a handler starting a process, and handlers submitted
+ * while the queue is full or the executor is closed run on the submitting thread, so nested parallel nodes never
+ * wait for a thread of the same pool. Idle threads are released after {@value #KEEP_ALIVE_SECONDS} seconds.
+ * <p>
+ * Only the logging context (MDC) of the submitting thread is propagated, handlers do not run within its transaction,
+ * unit of work or security context.
+ * <p>
+ * The executor is owned by the process runtime or the process configuration that created it and is closed with them,
+ * one provided to the process configuration is closed by whoever provides it.
+ */
+public class ParallelWorkItemExecutor implements AutoCloseable {
+
+    public static final String PARALLELISM_PROPERTY = "org.jbpm.foreach.parallelism";
+    public static final String QUEUE_SIZE_PROPERTY = "org.jbpm.foreach.queue.size";
+
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final AtomicInteger EXECUTOR_COUNTER = new AtomicInteger();
+
+    private final ThreadPoolExecutor executor;
+
+    public ParallelWorkItemExecutor() {
+        this(Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE));
+    }
+
+    public ParallelWorkItemExecutor(int parallelism, int queueSize) {
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new ParallelThreadFactory(), new CallerRunsAlwaysPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submits the given handler execution, running it on the calling thread when the calling thread belongs
+     * to this executor.
+     */
+    public Future<?> submit(Runnable task) {
+        FutureTask<?> future = new FutureTask<>(withLoggingContext(task), null);
+        if (isExecutorThread()) {
+            future.run();
+        } else {
+            executor.execute(future);
+        }
+        return future;
+    }
+
+    public boolean isExecutorThread() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ParallelThread && ((ParallelThread) thread).owner == this;
+    }
+
+    /**
+     * Stops the threads of the executor once the handlers they run complete, handlers submitted afterwards
+     * run on the submitting thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static Runnable withLoggingContext(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            MDC.setContextMap(context);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        };
+    }
+
+    private static class CallerRunsAlwaysPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            // unlike CallerRunsPolicy, also once closed: the process instance is still waiting for the handler
+            task.run();
+        }
+    }
+
+    private class ParallelThreadFactory implements ThreadFactory {
+
+        private final int executorId = EXECUTOR_COUNTER.incrementAndGet();
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new ParallelThread(ParallelWorkItemExecutor.this, runnable, "jbpm-parallel-" + executorId + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class ParallelThread extends Thread {
+
+        private final ParallelWorkItemExecutor owner;
+
+        ParallelThread(ParallelWorkItemExecutor owner, Runnable runnable, String name) {
+            super(runnable, name);
+            this.owner = owner;
+        }
+    }
+}
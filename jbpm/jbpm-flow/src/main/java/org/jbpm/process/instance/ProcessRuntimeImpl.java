@@ -431,6 +431,7 @@ public class ProcessRuntimeImpl extends AbstractProcessRuntime {
     @Override
     public void dispose() {
         this.processEventSupport.reset();
+        closeParallelWorkItemExecutor();
         kruntime = null;
     }
 
@@ -34,4 +34,11 @@ public interface ProcessRuntimeServiceProvider {
     KogitoProcessEventSupport getEventSupport();
 
     UnitOfWorkManager getUnitOfWorkManager();
+
+    /**
+     * Returns the executor of the work item handlers of parallel nodes, <code>null</code> to let the process runtime create its own.
+     */
+    default ParallelWorkItemExecutor getParallelWorkItemExecutor() {
+        return null;
+    }
 }
@@ -17,6 +17,7 @@ package org.jbpm.process.instance.context.variable;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jbpm.process.core.context.variable.Variable;
@@ -97,17 +98,18 @@ public class VariableScopeInstance extends AbstractContextInstance {
         }
         KogitoProcessEventSupport processEventSupport = (KogitoProcessEventSupport) ((InternalProcessRuntime) getProcessInstance()
                 .getKnowledgeRuntime().getProcessRuntime()).getProcessEventSupport();
-        processEventSupport.fireBeforeVariableChanged(
-                (variableIdPrefix == null ? "" : variableIdPrefix + ":") + name,
-                (variableInstanceIdPrefix == null ? "" : variableInstanceIdPrefix + ":") + name,
-                oldValue, value, getVariableScope().tags(name), getProcessInstance(),
+        if (!processEventSupport.hasConsumers()) {
+            internalSetVariable(name, value);
+            return;
+        }
+        String id = (variableIdPrefix == null ? "" : variableIdPrefix + ":") + name;
+        String instanceId = (variableInstanceIdPrefix == null ? "" : variableInstanceIdPrefix + ":") + name;
+        List<String> tags = getVariableScope().tags(name);
+        processEventSupport.fireBeforeVariableChanged(id, instanceId, oldValue, value, tags, getProcessInstance(),
                 nodeInstance,
                 getProcessInstance().getKnowledgeRuntime());
         internalSetVariable(name, value);
-        processEventSupport.fireAfterVariableChanged(
-                (variableIdPrefix == null ? "" : variableIdPrefix + ":") + name,
-                (variableInstanceIdPrefix == null ? "" : variableInstanceIdPrefix + ":") + name,
-                oldValue, value, getVariableScope().tags(name), getProcessInstance(),
+        processEventSupport.fireAfterVariableChanged(id, instanceId, oldValue, value, tags, getProcessInstance(),
                 nodeInstance,
                 getProcessInstance().getKnowledgeRuntime());
     }
@@ -19,13 +19,13 @@ import java.io.Serializable;
 import java.nio.file.Paths;
 import java.util.Date;
 import java.util.Map;
-import java.util.UUID;
 
 import org.jbpm.workflow.instance.node.WorkItemNodeInstance;
 import org.kie.kogito.MapOutput;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.WorkItemNotFoundException;
+import org.kie.kogito.internal.utils.IdGenerators;
 import org.kie.kogito.process.ProcessInstance;
 import org.kie.kogito.process.workitem.Attachment;
 import org.kie.kogito.process.workitem.AttachmentInfo;
@@ -149,6 +149,6 @@ public class HumanTaskHelper {
     }
 
     private static Object getNewId() {
-        return UUID.randomUUID().toString();
+        return IdGenerators.newId();
     }
 }
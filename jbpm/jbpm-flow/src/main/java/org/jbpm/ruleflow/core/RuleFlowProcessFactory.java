@@ -74,6 +74,7 @@ public class RuleFlowProcessFactory extends RuleFlowNodeContainerFactory<RuleFlo
     public static final String METHOD_VERSION = "version";
     public static final String METHOD_VISIBILITY = "visibility";
     public static final String METHOD_VALIDATE = "validate";
+    public static final String METHOD_LINK = "link";
     public static final String METHOD_IMPORTS = "imports";
     public static final String METHOD_GLOBAL = "global";
     public static final String METHOD_VARIABLE = "variable";
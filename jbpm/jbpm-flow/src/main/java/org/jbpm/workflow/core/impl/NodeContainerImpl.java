@@ -41,7 +41,8 @@ public class NodeContainerImpl implements NodeContainer {
     @Override
     public void addNode(final Node node) {
         validateAddNode(node);
-        if (!this.nodes.containsValue(node)) {
+        // nodes are keyed by id, so a lookup is enough to detect the same node being added twice
+        if (this.nodes.get(node.getId()) != node) {
             this.nodes.put(node.getId(), node);
         }
     }
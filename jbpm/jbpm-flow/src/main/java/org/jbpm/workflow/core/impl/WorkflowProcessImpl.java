@@ -57,8 +57,7 @@ public class WorkflowProcessImpl extends ProcessImpl implements WorkflowProcess,
             String paramName = matcher.group(1);
             if (replacements.get(paramName) == null) {
                 try {
-                    String value = (String) MVELProcessHelper.evaluator()
-                            .eval(paramName, new ProcessInstanceResolverFactory(((WorkflowProcessInstance) p)));
+                    String value = (String) MVELProcessHelper.eval(paramName, new ProcessInstanceResolverFactory(((WorkflowProcessInstance) p)));
                     replacements.put(paramName, value);
                 } catch (Throwable t) {
                     logger.error("Could not resolve, parameter {} while evaluating expression {}", paramName, expression, t);
@@ -23,6 +23,7 @@ import org.jbpm.process.core.context.AbstractContext;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
 import org.jbpm.process.core.datatype.DataType;
+import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.impl.ConnectionImpl;
 import org.jbpm.workflow.core.impl.ExtendedNodeImpl;
@@ -310,4 +311,13 @@ public class ForEachNode extends CompositeContextNode {
     public void setSequential(boolean sequential) {
         this.sequential = sequential;
     }
+
+    /**
+     * Parallel execution runs the work item handlers of the iterations concurrently.
+     * It is opt-in through the {@link Metadata#CUSTOM_PARALLEL_EXECUTION} metadata and
+     * only applies to non sequential multi-instance nodes.
+     */
+    public boolean isParallelExecution() {
+        return !sequential && Boolean.parseBoolean(String.valueOf(getMetaData().get(Metadata.CUSTOM_PARALLEL_EXECUTION)));
+    }
 }
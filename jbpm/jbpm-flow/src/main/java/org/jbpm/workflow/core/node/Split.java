@@ -18,6 +18,7 @@ package org.jbpm.workflow.core.node;
 import java.util.Collections;
 import java.util.Map;
 
+import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.workflow.core.Constraint;
 import org.jbpm.workflow.core.Node;
 import org.jbpm.workflow.core.impl.ConnectionRef;
@@ -184,4 +185,12 @@ public class Split extends NodeImpl implements Constrainable {
         this.constraints.remove(ref);
     }
 
+    /**
+     * Parallel execution runs the work item handlers of the branches concurrently, up to the join of the branches.
+     * It is opt-in through the {@link Metadata#CUSTOM_PARALLEL_EXECUTION} metadata and
+     * only applies to AND splits.
+     */
+    public boolean isParallelExecution() {
+        return type == TYPE_AND && Boolean.parseBoolean(String.valueOf(getMetaData().get(Metadata.CUSTOM_PARALLEL_EXECUTION)));
+    }
 }
@@ -23,13 +23,19 @@ import java.util.function.Supplier;
 import org.drools.mvel.MVELSafeHelper;
 import org.drools.mvel.util.MVELEvaluator;
 import org.kie.kogito.internal.RuntimeEnvironment;
+import org.kie.kogito.internal.cache.BoundedCache;
 import org.mvel2.ErrorDetail;
 import org.mvel2.MVEL;
 import org.mvel2.ParserContext;
 import org.mvel2.compiler.ExpressionCompiler;
+import org.mvel2.integration.VariableResolverFactory;
 
 public class MVELProcessHelper {
 
+    // expressions compiled with the default parser context, shared by all process instances
+    static final int MAX_COMPILED_EXPRESSIONS = Integer.getInteger("org.jbpm.mvel.compiled.cache.size", 2048);
+    private static final BoundedCache<String, Serializable> COMPILED_EXPRESSIONS = new BoundedCache<>(MAX_COMPILED_EXPRESSIONS);
+
     private static final Supplier<MVELEvaluator> EVALUATOR_SUPPLIER =
             RuntimeEnvironment.isJdk() ? MVELSafeHelper::getEvaluator : () -> {
                 throw new UnsupportedOperationException("MVEL evaluation is not supported in native image");
@@ -49,8 +55,27 @@ public class MVELProcessHelper {
         return EVALUATOR_SUPPLIER.get();
     }
 
+    /**
+     * Returns the compiled form of the given expression, compiling it only when it is not cached.
+     * Once the cache is full, the least recently used expressions are evicted to make room for new ones.
+     */
     public static Serializable compileExpression(String expr) {
-        return EXPR_COMPILER.apply(expr);
+        return COMPILED_EXPRESSIONS.computeIfAbsent(expr, EXPR_COMPILER);
+    }
+
+    /**
+     * Evaluates the given expression through its cached compiled form
+     */
+    public static Object eval(String expr, VariableResolverFactory factory) {
+        return evaluator().executeExpression(compileExpression(expr), factory);
+    }
+
+    static void clearCompiledExpressions() {
+        COMPILED_EXPRESSIONS.clear();
+    }
+
+    static int compiledExpressions() {
+        return COMPILED_EXPRESSIONS.size();
     }
 
     public static List<ErrorDetail> validateExpression(String expression) {
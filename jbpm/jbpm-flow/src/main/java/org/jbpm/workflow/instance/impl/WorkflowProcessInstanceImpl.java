@@ -23,10 +23,8 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -35,7 +33,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
-import org.drools.mvel.util.MVELEvaluator;
 import org.jbpm.process.core.ContextContainer;
 import org.jbpm.process.core.context.variable.Variable;
 import org.jbpm.process.core.context.variable.VariableScope;
@@ -79,6 +76,7 @@ import org.kie.kogito.internal.process.runtime.KogitoNodeInstanceContainer;
 import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
+import org.kie.kogito.internal.utils.IdGenerators;
 import org.kie.kogito.jobs.DurationExpirationTime;
 import org.kie.kogito.jobs.ProcessInstanceJobDescription;
 import org.kie.kogito.jobs.TimerJobId;
@@ -115,6 +113,8 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     private static final Logger logger = LoggerFactory.getLogger(WorkflowProcessInstanceImpl.class);
 
     private final List<NodeInstance> nodeInstances = new ArrayList<>();
+    // same node instances keyed by id, ids are assigned before node instances are added
+    private final Map<String, NodeInstance> nodeInstancesById = new HashMap<>();
 
     private Map<String, List<KogitoEventListener>> eventListeners = new HashMap<>();
     private Map<String, List<KogitoEventListener>> externalEventListeners = new HashMap<>();
@@ -127,6 +127,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
     private Object faultData;
 
     private boolean signalCompletion = true;
+    private transient KogitoEventListener parentCompletionListener;
 
     private String deploymentId;
     private String correlationKey;
@@ -155,9 +156,10 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         if (nodeInstance.getStringId() == null) {
             // assign new id only if it does not exist as it might already be set by marshalling
             // it's important to keep same ids of node instances as they might be references e.g. exclusive group
-            ((NodeInstanceImpl) nodeInstance).setId(UUID.randomUUID().toString());
+            ((NodeInstanceImpl) nodeInstance).setId(IdGenerators.newId());
         }
         this.nodeInstances.add(nodeInstance);
+        this.nodeInstancesById.put(nodeInstance.getStringId(), nodeInstance);
     }
 
     @Override
@@ -185,7 +187,9 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
             getKnowledgeRuntime().delete(
                     getKnowledgeRuntime().getFactHandle(nodeInstance));
         }
-        this.nodeInstances.remove(nodeInstance);
+        if (this.nodeInstances.remove(nodeInstance)) {
+            this.nodeInstancesById.remove(nodeInstance.getStringId(), nodeInstance);
+        }
     }
 
     @Override
@@ -235,10 +239,18 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public NodeInstance getNodeInstance(String nodeInstanceId, boolean recursive) {
-        return getNodeInstances(recursive).stream()
-                .filter(nodeInstance -> Objects.equals(nodeInstance.getStringId(), nodeInstanceId))
-                .findFirst()
-                .orElse(null);
+        NodeInstance result = nodeInstancesById.get(nodeInstanceId);
+        if (result == null && recursive) {
+            for (NodeInstance nodeInstance : nodeInstances) {
+                if (nodeInstance instanceof org.jbpm.workflow.instance.NodeInstanceContainer) {
+                    result = ((org.jbpm.workflow.instance.NodeInstanceContainer) nodeInstance).getNodeInstance(nodeInstanceId, true);
+                    if (result != null) {
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
     }
 
     public List<String> getActiveNodeIds() {
@@ -423,7 +435,13 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                     }
                 }
 
-                processRuntime.getSignalManager().signalEvent("processInstanceCompleted:" + getStringId(), this);
+                KogitoEventListener parentListener = parentCompletionListener;
+                if (parentListener != null) {
+                    parentCompletionListener = null;
+                    parentListener.signalEvent("processInstanceCompleted:" + getStringId(), this);
+                } else {
+                    processRuntime.getSignalManager().signalEvent("processInstanceCompleted:" + getStringId(), this);
+                }
             }
         } else {
             super.setState(state, outcome);
@@ -710,8 +728,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
                     replacements.put(paramName, variableValue.toString());
                 } else {
                     try {
-                        MVELEvaluator mvelEvaluator = MVELProcessHelper.evaluator();
-                        variableValue = mvelEvaluator.eval(paramName, factory);
+                        variableValue = MVELProcessHelper.eval(paramName, factory);
                         String variableValueString = variableValue == null ? "" : variableValue.toString();
                         replacements.put(paramName, variableValueString);
                     } catch (Throwable t) {
@@ -961,6 +978,15 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
         this.signalCompletion = signalCompletion;
     }
 
+    /**
+     * Sets the listener notified in place of the signal manager broadcast when this instance completes.
+     * Used by the parent node instance while it starts this instance, so that a completion happening
+     * in the same call is handed over directly instead of being looked up again by process instance id.
+     */
+    public void setParentCompletionListener(KogitoEventListener parentCompletionListener) {
+        this.parentCompletionListener = parentCompletionListener;
+    }
+
     @Override
     public String getDeploymentId() {
         return deploymentId;
@@ -1070,7 +1096,7 @@ public abstract class WorkflowProcessInstanceImpl extends ProcessInstanceImpl im
 
     @Override
     public void setErrorState(NodeInstance nodeInstanceInError, Exception e) {
-        String errorId = UUID.randomUUID().toString();
+        String errorId = IdGenerators.newId();
         this.nodeIdInError = nodeInstanceInError.getNodeDefinitionId();
         Throwable rootException = getRootException(e);
         this.errorMessage = errorId + " - " + rootException.getClass().getCanonicalName() + " - " + rootException.getMessage();
@@ -22,7 +22,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.function.Predicate;
 
 import org.jbpm.workflow.core.Node;
@@ -41,6 +40,7 @@ import org.kie.api.definition.process.Connection;
 import org.kie.api.definition.process.NodeContainer;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstanceContainer;
+import org.kie.kogito.internal.utils.IdGenerators;
 
 import static org.jbpm.ruleflow.core.Metadata.IS_FOR_COMPENSATION;
 import static org.jbpm.workflow.instance.impl.DummyEventListener.EMPTY_EVENT_LISTENER;
@@ -56,6 +56,7 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
     private static final long serialVersionUID = 510l;
 
     private final List<NodeInstance> nodeInstances = new ArrayList<>();
+    private final Map<String, NodeInstance> nodeInstancesById = new HashMap<>();
 
     private int state = STATE_ACTIVE;
     private Map<String, Integer> iterationLevels = new HashMap<>();
@@ -187,14 +188,17 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
         if (nodeInstance.getStringId() == null) {
             // assign new id only if it does not exist as it might already be set by marshalling 
             // it's important to keep same ids of node instances as they might be references e.g. exclusive group
-            ((NodeInstanceImpl) nodeInstance).setId(UUID.randomUUID().toString());
+            ((NodeInstanceImpl) nodeInstance).setId(IdGenerators.newId());
         }
         this.nodeInstances.add(nodeInstance);
+        this.nodeInstancesById.put(nodeInstance.getStringId(), nodeInstance);
     }
 
     @Override
     public void removeNodeInstance(final NodeInstance nodeInstance) {
-        this.nodeInstances.remove(nodeInstance);
+        if (this.nodeInstances.remove(nodeInstance)) {
+            this.nodeInstancesById.remove(nodeInstance.getStringId(), nodeInstance);
+        }
     }
 
     @Override
@@ -241,22 +245,23 @@ public class CompositeNodeInstance extends StateBasedNodeInstance implements Nod
 
     @Override
     public NodeInstance getNodeInstance(String nodeInstanceId) {
-        for (NodeInstance nodeInstance : nodeInstances) {
-            if (nodeInstance.getStringId().equals(nodeInstanceId)) {
-                return nodeInstance;
-            }
-        }
-        return null;
+        return nodeInstancesById.get(nodeInstanceId);
     }
 
     @Override
     public NodeInstance getNodeInstance(String nodeInstanceId, boolean recursive) {
-        for (NodeInstance nodeInstance : getNodeInstances(recursive)) {
-            if (nodeInstance.getStringId().equals(nodeInstanceId)) {
-                return nodeInstance;
+        NodeInstance result = nodeInstancesById.get(nodeInstanceId);
+        if (result == null && recursive) {
+            for (NodeInstance nodeInstance : nodeInstances) {
+                if (nodeInstance instanceof NodeInstanceContainer) {
+                    result = ((NodeInstanceContainer) nodeInstance).getNodeInstance(nodeInstanceId, true);
+                    if (result != null) {
+                        break;
+                    }
+                }
             }
         }
-        return null;
+        return result;
     }
 
     @Override
@@ -106,7 +106,7 @@ public class DynamicUtils {
                     variableValue = processInstance.getVariable(paramName);
                     if (variableValue == null) {
                         try {
-                            variableValue = MVELProcessHelper.evaluator().eval(paramName,
+                            variableValue = MVELProcessHelper.eval(paramName,
                                     new ProcessInstanceResolverFactory(processInstance));
                         } catch (Throwable t) {
                             logger.error("Could not find variable scope for variable {}",
@@ -136,7 +136,7 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
             collection = variableScopeInstance.getVariable(collectionExpression);
         } else {
             try {
-                collection = MVELProcessHelper.evaluator().eval(collectionExpression, new NodeInstanceResolverFactory(this));
+                collection = MVELProcessHelper.eval(collectionExpression, new NodeInstanceResolverFactory(this));
             } catch (Throwable t) {
                 throw new IllegalArgumentException(
                         "Could not find collection " + collectionExpression);
@@ -189,16 +189,10 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                     nodeInstances.add(nodeInstance);
                 }
 
-                for (NodeInstance nodeInstance : nodeInstances) {
-                    logger.debug("Triggering [{}] in multi-instance loop.", nodeInstance.getNodeId());
-                    nodeInstance.trigger(this, getForEachSplitNode().getTo().getToType());
-
-                    //this is required because Parallel instances execution does not work with async, so it fallbacks to sequential
-                    hasAsyncInstances = checkAsyncInstance(nodeInstance);
-                    if (isSequential()) {
-                        // for sequential mode trigger only first item from the list
-                        break;
-                    }
+                if (getForEachNode().isParallelExecution()) {
+                    ParallelWorkItemExecution.of(ForEachNodeInstance.this, ForEachNodeInstance.this, iteration -> true).execute(() -> triggerNodeInstances(nodeInstances));
+                } else {
+                    triggerNodeInstances(nodeInstances);
                 }
 
                 if (!getForEachNode().isWaitForCompletion()) {
@@ -206,6 +200,20 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                 }
             }
         }
+
+        private void triggerNodeInstances(List<NodeInstance> nodeInstances) {
+            for (NodeInstance nodeInstance : nodeInstances) {
+                logger.debug("Triggering [{}] in multi-instance loop.", nodeInstance.getNodeId());
+                nodeInstance.trigger(this, getForEachSplitNode().getTo().getToType());
+
+                //this is required because Parallel instances execution does not work with async, so it fallbacks to sequential
+                hasAsyncInstances = checkAsyncInstance(nodeInstance);
+                if (isSequential()) {
+                    // for sequential mode trigger only first item from the list
+                    break;
+                }
+            }
+        }
     }
 
     private boolean checkAsyncInstance(NodeInstance nodeInstance) {
@@ -306,7 +314,7 @@ public class ForEachNodeInstance extends CompositeContextNodeInstance {
                 return false;
             }
             try {
-                Object result = MVELProcessHelper.evaluator().eval(expression, new ForEachNodeInstanceResolverFactory(this, tempVariables));
+                Object result = MVELProcessHelper.eval(expression, new ForEachNodeInstanceResolverFactory(this, tempVariables));
                 if (!(result instanceof Boolean)) {
                     throw new RuntimeException("Completion condition expression must return boolean values: " + result
                             + " for expression " + expression);
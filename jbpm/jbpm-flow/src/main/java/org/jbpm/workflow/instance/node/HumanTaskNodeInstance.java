@@ -15,8 +15,9 @@
  */
 package org.jbpm.workflow.instance.node;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -114,28 +115,46 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
         workItem.setTaskDescription((String) workItem.getParameter(DESCRIPTION));
         workItem.setTaskPriority((String) workItem.getParameter(PRIORITY));
         workItem.setReferenceName((String) workItem.getParameter(NODE_NAME));
-        Work work = workItemNode.getWork();
-        scheduleDeadlines(work.getNotStartedDeadlines(), notStartedDeadlines);
-        scheduleDeadlines(work.getNotCompletedDeadlines(), notCompletedDeadlines);
-        scheduleDeadlines(work.getNotStartedReassignments(), notStartedReassignments);
-        scheduleDeadlines(work.getNotCompletedReassigments(), notCompletedReassignments);
+        scheduleDeadlines(workItemNode.getWork());
         return workItem;
     }
 
-    private <T> void scheduleDeadlines(Collection<DeadlineInfo<T>> deadlines,
-            Map<String, T> timers) {
+    /*
+     * All deadlines and reassignments of the task are scheduled with a single call to the job service,
+     * so either all of them are registered or none is
+     */
+    private void scheduleDeadlines(Work work) {
+        List<ProcessInstanceJobDescription> descriptions = new ArrayList<>();
+        List<Consumer<String>> registrations = new ArrayList<>();
+        addDeadlines(work.getNotStartedDeadlines(), notStartedDeadlines, descriptions, registrations);
+        addDeadlines(work.getNotCompletedDeadlines(), notCompletedDeadlines, descriptions, registrations);
+        addDeadlines(work.getNotStartedReassignments(), notStartedReassignments, descriptions, registrations);
+        addDeadlines(work.getNotCompletedReassigments(), notCompletedReassignments, descriptions, registrations);
+        if (!descriptions.isEmpty()) {
+            List<String> ids = getJobsService().scheduleProcessInstanceJobs(descriptions);
+            for (int i = 0; i < ids.size(); i++) {
+                registrations.get(i).accept(ids.get(i));
+            }
+        }
+    }
+
+    private <T> void addDeadlines(Collection<DeadlineInfo<T>> deadlines,
+            Map<String, T> timers,
+            List<ProcessInstanceJobDescription> descriptions,
+            List<Consumer<String>> registrations) {
         if (!deadlines.isEmpty()) {
             ProcessInstance pi = getProcessInstance();
             for (DeadlineInfo<T> deadline : deadlines) {
                 for (ScheduleInfo info : deadline.getScheduleInfo()) {
-                    timers.put(getJobsService().scheduleProcessInstanceJob(ProcessInstanceJobDescription.of(
+                    descriptions.add(ProcessInstanceJobDescription.of(
                             new TimerJobId(-1L),
                             DeadlineHelper.getExpirationTime(info),
                             pi.getStringId(),
                             pi.getRootProcessInstanceId(),
                             pi.getProcessId(),
                             pi.getRootProcessId(),
-                            getStringId())), deadline.getNotification());
+                            getStringId()));
+                    registrations.add(id -> timers.put(id, deadline.getNotification()));
                 }
             }
         }
@@ -145,8 +164,7 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
     public void signalEvent(String type, Object event) {
         switch (type) {
             case WORK_ITEM_TRANSITION:
-                cancelTimers(notStartedDeadlines);
-                cancelTimers(notStartedReassignments);
+                cancelTimers(notStartedDeadlines, notStartedReassignments);
                 break;
             case TIMER_TRIGGERED:
                 if (!sendNotification((TimerInstance) event)) {
@@ -296,10 +314,7 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
 
     @Override
     public void triggerCompleted(InternalKogitoWorkItem workItem) {
-        cancelTimers(notStartedDeadlines);
-        cancelTimers(notCompletedDeadlines);
-        cancelTimers(notStartedReassignments);
-        cancelTimers(notCompletedReassignments);
+        cancelTimers(notStartedDeadlines, notCompletedDeadlines, notStartedReassignments, notCompletedReassignments);
         String swimlaneName = getHumanTaskNode().getSwimlane();
         SwimlaneContextInstance swimlaneContextInstance = getSwimlaneContextInstance(swimlaneName);
         if (swimlaneContextInstance != null) {
@@ -311,11 +326,17 @@ public class HumanTaskNodeInstance extends WorkItemNodeInstance {
         super.triggerCompleted(workItem);
     }
 
-    private <T> void cancelTimers(Map<String, T> timers) {
-        Iterator<String> iter = timers.keySet().iterator();
-        while (iter.hasNext()) {
-            getJobsService().cancelJob(iter.next());
-            iter.remove();
+    @SafeVarargs
+    private final void cancelTimers(Map<String, ?>... timers) {
+        List<String> ids = new ArrayList<>();
+        for (Map<String, ?> timer : timers) {
+            ids.addAll(timer.keySet());
+        }
+        if (!ids.isEmpty()) {
+            getJobsService().cancelJobs(ids);
+            for (Map<String, ?> timer : timers) {
+                timer.keySet().removeAll(ids);
+            }
         }
     }
 
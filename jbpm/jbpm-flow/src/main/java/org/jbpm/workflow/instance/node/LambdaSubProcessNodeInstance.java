@@ -42,6 +42,7 @@ import org.jbpm.workflow.core.node.SubProcessFactory;
 import org.jbpm.workflow.core.node.SubProcessNode;
 import org.jbpm.workflow.instance.impl.MVELProcessHelper;
 import org.jbpm.workflow.instance.impl.NodeInstanceResolverFactory;
+import org.jbpm.workflow.instance.impl.WorkflowProcessInstanceImpl;
 import org.kie.kogito.internal.process.event.KogitoEventListener;
 import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
@@ -96,17 +97,26 @@ public class LambdaSubProcessNodeInstance extends StateBasedNodeInstance impleme
         ((ProcessInstanceImpl) pi).setRootProcessId(StringUtils.isEmpty(getProcessInstance().getRootProcessId()) ? getProcessInstance().getProcessId() : getProcessInstance().getRootProcessId());
         ((ProcessInstanceImpl) pi).setSignalCompletion(getSubProcessNode().isWaitForCompletion());
 
-        processInstance.start();
+        // completion of the sub process while it is being started is reported straight to this node instance
+        StartCompletionListener completionListener = new StartCompletionListener();
+        if (getSubProcessNode().isWaitForCompletion()) {
+            ((WorkflowProcessInstanceImpl) pi).setParentCompletionListener(completionListener);
+        }
+        try {
+            processInstance.start();
+        } finally {
+            ((WorkflowProcessInstanceImpl) pi).setParentCompletionListener(null);
+        }
         this.processInstanceId = processInstance.id();
         this.asyncWaitingNodeInstance = hasAsyncNodeInstance(pi);
 
-        subProcessFactory.unbind(context, processInstance.variables());
-
         if (!getSubProcessNode().isWaitForCompletion()) {
+            subProcessFactory.unbind(context, processInstance.variables());
             triggerCompleted();
-        } else if (processInstance.status() == ProcessInstance.STATE_COMPLETED || processInstance.status() == ProcessInstance.STATE_ABORTED) {
-            triggerCompleted();
+        } else if (completionListener.completed != null) {
+            processInstanceCompleted(completionListener.completed);
         } else {
+            subProcessFactory.unbind(context, processInstance.variables());
             addProcessListener();
         }
     }
@@ -215,6 +225,21 @@ public class LambdaSubProcessNodeInstance extends StateBasedNodeInstance impleme
         }
     }
 
+    private static class StartCompletionListener implements KogitoEventListener {
+
+        private ProcessInstance completed;
+
+        @Override
+        public void signalEvent(String type, Object event) {
+            completed = (ProcessInstance) event;
+        }
+
+        @Override
+        public String[] getEventTypes() {
+            return new String[0];
+        }
+    }
+
     public String getNodeName() {
         org.kie.api.definition.process.Node node = getNode();
         if (node == null) {
@@ -286,7 +311,7 @@ public class LambdaSubProcessNodeInstance extends StateBasedNodeInstance impleme
                 parameterValue = variableScopeInstance.getVariable(sourceParam);
             } else {
                 try {
-                    parameterValue = MVELProcessHelper.evaluator().eval(sourceParam, new NodeInstanceResolverFactory(this));
+                    parameterValue = MVELProcessHelper.eval(sourceParam, new NodeInstanceResolverFactory(this));
                 } catch (Throwable t) {
                     logger.warn("Could not find variable scope for variable {}", sourceParam);
                 }
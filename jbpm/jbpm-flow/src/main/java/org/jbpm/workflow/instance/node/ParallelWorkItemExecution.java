@@ -0,0 +1,358 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.instance.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jbpm.process.instance.InternalProcessRuntime;
+import org.jbpm.process.instance.ParallelWorkItemExecutor;
+import org.jbpm.process.instance.ProcessInstanceManager;
+import org.jbpm.workflow.instance.NodeInstance;
+import org.kie.api.runtime.process.NodeInstanceContainer;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.kie.kogito.process.workitem.Policy;
+import org.kie.kogito.process.workitem.Transition;
+import org.kie.kogito.process.workitem.WorkItemExecutionException;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
+
+/**
+ * Runs the work item handlers triggered by the iterations of a parallel multi-instance node,
+ * or by the branches of a parallel AND split, on the {@link ParallelWorkItemExecutor} of the process runtime.
+ * <p>
+ * The process instance is not thread safe, so the handlers only start once all iterations have been
+ * triggered and the calling thread does nothing but wait for them while they run. Handlers only see a
+ * recording work item manager, the recorded outcomes are then applied on the calling thread in iteration
+ * order, which keeps the output collection ordering, the completion condition evaluation and the join of
+ * the branches the same as in sequential execution. Iterations cancelled by an early completion are skipped.
+ * <p>
+ * Applying the outcomes moves the iterations forward to their next work items, which run concurrently in
+ * turn, until every iteration completes or waits for something else than a handler. Only the work items
+ * within the scope of the parallel node are collected this way, those following it run as usual.
+ * <p>
+ * Handlers of parallel nodes must therefore only read the work item and its process instance and must not
+ * rely on the transaction, unit of work or security context of the calling thread, which are not available
+ * to them: parallel execution is meant for handlers calling external services.
+ */
+final class ParallelWorkItemExecution {
+
+    private static final ThreadLocal<ParallelWorkItemExecution> CURRENT = new ThreadLocal<>();
+
+    private final ParallelWorkItemExecutor executor;
+    private final Predicate<NodeInstance> scope;
+    private final List<DeferredWorkItemHandler> deferred = new ArrayList<>();
+    private final List<DeferredWorkItemHandler> running = new ArrayList<>();
+    private ParallelWorkItemExecution outer;
+
+    ParallelWorkItemExecution(ParallelWorkItemExecutor executor, Predicate<NodeInstance> scope) {
+        this.executor = executor;
+        this.scope = scope;
+    }
+
+    /**
+     * Returns a parallel execution on the executor of the process runtime of the given node instance.
+     * Its scope covers the node instances nested in <code>container</code> whose ancestor at the level of the
+     * container matches <code>scope</code>, as well as the node instances of the sub-processes they start.
+     */
+    static ParallelWorkItemExecution of(NodeInstance nodeInstance, NodeInstanceContainer container, Predicate<NodeInstance> scope) {
+        InternalProcessRuntime runtime = (InternalProcessRuntime) nodeInstance.getProcessInstance().getKnowledgeRuntime().getProcessRuntime();
+        String processInstanceId = nodeInstance.getKogitoProcessInstance().getStringId();
+        ProcessInstanceManager processInstanceManager = runtime.getProcessInstanceManager();
+        return new ParallelWorkItemExecution(runtime.getParallelWorkItemExecutor(),
+                candidate -> isNested(candidate, container, scope, processInstanceId, processInstanceManager));
+    }
+
+    /**
+     * Returns the innermost parallel execution of the current thread whose scope covers the given node instance, if any.
+     */
+    static ParallelWorkItemExecution current(NodeInstance nodeInstance) {
+        for (ParallelWorkItemExecution execution = CURRENT.get(); execution != null; execution = execution.outer) {
+            if (execution.scope.test(nodeInstance)) {
+                return execution;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNested(NodeInstance nodeInstance, NodeInstanceContainer container, Predicate<NodeInstance> scope, String processInstanceId,
+            ProcessInstanceManager processInstanceManager) {
+        KogitoProcessInstance processInstance = nodeInstance.getKogitoProcessInstance();
+        if (!processInstanceId.equals(processInstance.getStringId())) {
+            return isSubProcess(processInstance, processInstanceId, processInstanceManager);
+        }
+        NodeInstance current = nodeInstance;
+        NodeInstanceContainer parent = current.getNodeInstanceContainer();
+        while (parent != container) {
+            if (!(parent instanceof NodeInstance)) {
+                return false;
+            }
+            current = (NodeInstance) parent;
+            parent = current.getNodeInstanceContainer();
+        }
+        return scope.test(current);
+    }
+
+    private static boolean isSubProcess(KogitoProcessInstance processInstance, String processInstanceId, ProcessInstanceManager processInstanceManager) {
+        String parentId = processInstance.getParentProcessInstanceStringId();
+        while (parentId != null && !parentId.isEmpty()) {
+            if (parentId.equals(processInstanceId)) {
+                return true;
+            }
+            KogitoProcessInstance parent = processInstanceManager.getProcessInstance(parentId);
+            if (parent == null) {
+                return false;
+            }
+            parentId = parent.getParentProcessInstanceStringId();
+        }
+        return false;
+    }
+
+    /**
+     * Runs the given trigger with this execution collecting the work items it executes, runs their handlers
+     * concurrently and then applies their outcomes in the order they were triggered, as long as that
+     * triggers more work items in scope.
+     */
+    void execute(Runnable trigger) {
+        this.outer = CURRENT.get();
+        withCurrent(trigger);
+        while (!deferred.isEmpty()) {
+            running.addAll(deferred);
+            deferred.clear();
+            try {
+                for (DeferredWorkItemHandler handler : running) {
+                    handler.start();
+                }
+                // the process instance is left alone while the handlers run
+                for (DeferredWorkItemHandler handler : running) {
+                    handler.join();
+                }
+            } catch (RuntimeException | Error e) {
+                cancel();
+                throw e;
+            }
+            for (DeferredWorkItemHandler handler : running) {
+                withCurrent(handler::apply);
+            }
+            running.clear();
+        }
+    }
+
+    private void withCurrent(Runnable action) {
+        CURRENT.set(this);
+        try {
+            action.run();
+        } catch (RuntimeException | Error e) {
+            cancel();
+            throw e;
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    KogitoWorkItemHandler defer(WorkItemNodeInstance nodeInstance, KogitoWorkItemHandler handler) {
+        DeferredWorkItemHandler deferredHandler = new DeferredWorkItemHandler(nodeInstance, handler);
+        deferred.add(deferredHandler);
+        return deferredHandler;
+    }
+
+    private void cancel() {
+        for (DeferredWorkItemHandler handler : running) {
+            handler.cancel();
+        }
+        for (DeferredWorkItemHandler handler : deferred) {
+            handler.cancel();
+        }
+    }
+
+    private class DeferredWorkItemHandler implements KogitoWorkItemHandler {
+
+        private final WorkItemNodeInstance nodeInstance;
+        private final KogitoWorkItemHandler delegate;
+        private KogitoWorkItem workItem;
+        private InternalKogitoWorkItemManager manager;
+        private RecordingWorkItemManager recorder;
+        private boolean cancelled;
+        private Future<?> future;
+
+        DeferredWorkItemHandler(WorkItemNodeInstance nodeInstance, KogitoWorkItemHandler delegate) {
+            this.nodeInstance = nodeInstance;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            this.workItem = workItem;
+            this.manager = (InternalKogitoWorkItemManager) manager;
+            this.recorder = new RecordingWorkItemManager(manager);
+        }
+
+        @Override
+        public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            cancel();
+            delegate.abortWorkItem(workItem, manager);
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public void transitionToPhase(KogitoWorkItem workItem, KogitoWorkItemManager manager, Transition<?> transition) {
+            delegate.transitionToPhase(workItem, manager, transition);
+        }
+
+        void start() {
+            if (workItem != null && !cancelled) {
+                future = executor.submit(() -> delegate.executeWorkItem(workItem, recorder));
+            }
+        }
+
+        void join() {
+            if (future != null) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WorkItemExecutionException(e.getClass().getName(), e);
+                } catch (ExecutionException e) {
+                    // reported when the outcome is applied
+                }
+            }
+        }
+
+        void apply() {
+            if (future == null) {
+                return;
+            }
+            // work item was aborted in the meantime, e.g. completion condition met by a previous iteration
+            if (manager.getWorkItem(workItem.getStringId()) == null) {
+                cancel();
+                return;
+            }
+            nodeInstance.applyDeferredExecution(() -> {
+                await();
+                recorder.replay();
+            });
+        }
+
+        void cancel() {
+            cancelled = true;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private void await() {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WorkItemExecutionException(e.getClass().getName(), e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new WorkItemExecutionException(cause.getClass().getName(), cause);
+            }
+        }
+    }
+
+    /**
+     * Work item manager handed to handlers running on the executor. It records the calls until they
+     * are replayed on the calling thread and forwards any call made after that, e.g. by handlers
+     * that complete their work items asynchronously.
+     */
+    private static class RecordingWorkItemManager implements KogitoWorkItemManager {
+
+        private final KogitoWorkItemManager delegate;
+        private final List<Consumer<KogitoWorkItemManager>> calls = new ArrayList<>();
+        private boolean replayed;
+
+        RecordingWorkItemManager(KogitoWorkItemManager delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void completeWorkItem(String id, Map<String, Object> results, Policy<?>... policies) {
+            record(manager -> manager.completeWorkItem(id, results, policies));
+        }
+
+        @Override
+        public void abortWorkItem(String id, Policy<?>... policies) {
+            record(manager -> manager.abortWorkItem(id, policies));
+        }
+
+        @Override
+        public void transitionWorkItem(String id, Transition<?> transition) {
+            record(manager -> manager.transitionWorkItem(id, transition));
+        }
+
+        @Override
+        public <T> T updateWorkItem(String id, Function<KogitoWorkItem, T> updater, Policy<?>... policies) {
+            synchronized (this) {
+                if (!replayed) {
+                    throw new UnsupportedOperationException("Work item " + id + " cannot be updated while its handler runs in parallel");
+                }
+            }
+            return delegate.updateWorkItem(id, updater, policies);
+        }
+
+        @Override
+        public void registerWorkItemHandler(String workItemName, KogitoWorkItemHandler handler) {
+            throw new UnsupportedOperationException("Work item handlers cannot be registered while running in parallel");
+        }
+
+        private void record(Consumer<KogitoWorkItemManager> call) {
+            synchronized (this) {
+                if (!replayed) {
+                    calls.add(call);
+                    return;
+                }
+            }
+            call.accept(delegate);
+        }
+
+        void replay() {
+            List<Consumer<KogitoWorkItemManager>> recorded;
+            synchronized (this) {
+                replayed = true;
+                recorded = new ArrayList<>(calls);
+                calls.clear();
+            }
+            for (Consumer<KogitoWorkItemManager> call : recorded) {
+                call.accept(delegate);
+            }
+        }
+    }
+}
@@ -15,14 +15,17 @@
  */
 package org.jbpm.workflow.instance.node;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.jbpm.process.core.context.exclusive.ExclusiveGroup;
@@ -32,6 +35,7 @@ import org.jbpm.process.instance.ProcessInstance;
 import org.jbpm.process.instance.context.exclusive.ExclusiveGroupInstance;
 import org.jbpm.process.instance.impl.ConstraintEvaluator;
 import org.jbpm.workflow.core.Node;
+import org.jbpm.workflow.core.node.Join;
 import org.jbpm.workflow.core.node.Split;
 import org.jbpm.workflow.instance.NodeInstanceContainer;
 import org.jbpm.workflow.instance.WorkflowRuntimeException;
@@ -72,7 +76,13 @@ public class SplitInstance extends NodeInstanceImpl {
         // TODO make different strategies for each type
         switch (split.getType()) {
             case Split.TYPE_AND:
-                triggerCompleted(Node.CONNECTION_DEFAULT_TYPE, true);
+                if (split.isParallelExecution()) {
+                    // branch handlers run concurrently, their outcomes are applied in branch order
+                    ParallelWorkItemExecution.of(this, getNodeInstanceContainer(), branchScope(split))
+                            .execute(() -> triggerCompleted(Node.CONNECTION_DEFAULT_TYPE, true));
+                } else {
+                    triggerCompleted(Node.CONNECTION_DEFAULT_TYPE, true);
+                }
                 break;
             case Split.TYPE_XOR:
                 List<Connection> outgoing = split.getDefaultOutgoingConnections();
@@ -260,4 +270,27 @@ public class SplitInstance extends NodeInstanceImpl {
         return false;
     }
 
+    /**
+     * Returns whether a node instance belongs to one of the branches of the split, i.e. its node is reachable
+     * from the split without going through a join.
+     */
+    private static Predicate<org.jbpm.workflow.instance.NodeInstance> branchScope(Split split) {
+        Set<Long> branchNodeIds = new HashSet<>();
+        Deque<org.kie.api.definition.process.Node> pending = new ArrayDeque<>();
+        for (Connection connection : split.getDefaultOutgoingConnections()) {
+            pending.push(connection.getTo());
+        }
+        while (!pending.isEmpty()) {
+            org.kie.api.definition.process.Node node = pending.pop();
+            if (node instanceof Join || !branchNodeIds.add(node.getId())) {
+                continue;
+            }
+            for (List<Connection> connections : node.getOutgoingConnections().values()) {
+                for (Connection connection : connections) {
+                    pending.push(connection.getTo());
+                }
+            }
+        }
+        return nodeInstance -> branchNodeIds.contains(nodeInstance.getNodeId());
+    }
 }
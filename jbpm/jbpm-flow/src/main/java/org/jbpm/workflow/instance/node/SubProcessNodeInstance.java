@@ -106,7 +106,7 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
                     parameterValue = variableScopeInstance.getVariable(mapping.getSources().get(0));
                 } else {
                     try {
-                        parameterValue = MVELProcessHelper.evaluator().eval(mapping.getSources().get(0), new NodeInstanceResolverFactory(this));
+                        parameterValue = MVELProcessHelper.eval(mapping.getSources().get(0), new NodeInstanceResolverFactory(this));
                     } catch (Throwable t) {
                         parameterValue = VariableUtil.resolveVariable(mapping.getSources().get(0), this);
                         if (parameterValue != null) {
@@ -141,7 +141,7 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
                     replacements.put(paramName, variableValueString);
                 } else {
                     try {
-                        Object variableValue = MVELProcessHelper.evaluator().eval(paramName, new NodeInstanceResolverFactory(this));
+                        Object variableValue = MVELProcessHelper.eval(paramName, new NodeInstanceResolverFactory(this));
                         String variableValueString = variableValue == null ? "" : variableValue.toString();
                         replacements.put(paramName, variableValueString);
                     } catch (Throwable t) {
@@ -319,7 +319,7 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
                         Object value = subProcessVariableScopeInstance.getVariable(mapping.getSources().get(0));
                         if (value == null) {
                             try {
-                                value = MVELProcessHelper.evaluator().eval(mapping.getSources().get(0), new VariableScopeResolverFactory(subProcessVariableScopeInstance));
+                                value = MVELProcessHelper.eval(mapping.getSources().get(0), new VariableScopeResolverFactory(subProcessVariableScopeInstance));
                             } catch (Throwable t) {
                                 // do nothing
                             }
@@ -423,7 +423,7 @@ public class SubProcessNodeInstance extends StateBasedNodeInstance implements Ev
                 parameterValue = variableScopeInstance.getVariable(sourceParam);
             } else {
                 try {
-                    parameterValue = MVELProcessHelper.evaluator().eval(sourceParam, new NodeInstanceResolverFactory(this));
+                    parameterValue = MVELProcessHelper.eval(sourceParam, new NodeInstanceResolverFactory(this));
                 } catch (Throwable t) {
                     logger.warn("Could not find variable scope for variable {}", sourceParam);
                 }
@@ -66,8 +66,8 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
     protected List<String> startTimerInstances = new ArrayList<>();
     protected KogitoProcessRuntime processRuntime;
 
-    private org.kie.api.definition.process.Process process;
-    private Lock processInitLock = new ReentrantLock();
+    private volatile org.kie.api.definition.process.Process process;
+    private final Lock processInitLock = new ReentrantLock();
 
     protected AbstractProcess() {
         this(new LightProcessRuntimeServiceProvider());
@@ -154,10 +154,10 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
         if (this.activated) {
             return;
         }
-        WorkflowProcessImpl p = (WorkflowProcessImpl) get();
         configure();
-        List<StartNode> startNodes = p.getTimerStart();
-        if (startNodes != null && !startNodes.isEmpty()) {
+        // the definition is only built here when it has to schedule start timers, otherwise on first use
+        if (hasTimerStartNodes()) {
+            List<StartNode> startNodes = ((WorkflowProcessImpl) get()).getTimerStart();
             this.processRuntime = createProcessRuntime().getKogitoProcessRuntime();
             for (StartNode startNode : startNodes) {
                 if (startNode != null && startNode.getTimer() != null) {
@@ -169,11 +169,22 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
         this.activated = true;
     }
 
+    /**
+     * Returns whether the process definition has start events triggered by a timer.
+     * Generated processes know it at build time and override this method, so that
+     * activating them does not require building the definition.
+     */
+    protected boolean hasTimerStartNodes() {
+        List<StartNode> startNodes = ((WorkflowProcessImpl) get()).getTimerStart();
+        return startNodes != null && !startNodes.isEmpty();
+    }
+
     @Override
     public void deactivate() {
         for (String startTimerId : startTimerInstances) {
             this.processRuntime.getJobsService().cancelJob(startTimerId);
         }
+        this.instances.close();
         this.activated = false;
     }
 
@@ -209,15 +220,21 @@ public abstract class AbstractProcess<T extends Model> implements Process<T>, Pr
 
     @Override
     public org.kie.api.definition.process.Process get() {
-        processInitLock.lock();
-        try {
-            if (process == null) {
-                process = process();
+        // lock is only taken until the definition is built, later calls just read the volatile field
+        org.kie.api.definition.process.Process result = process;
+        if (result == null) {
+            processInitLock.lock();
+            try {
+                result = process;
+                if (result == null) {
+                    result = process();
+                    process = result;
+                }
+            } finally {
+                processInitLock.unlock();
             }
-        } finally {
-            processInitLock.unlock();
         }
-        return process;
+        return result;
     }
 
     public abstract org.kie.api.definition.process.Process process();
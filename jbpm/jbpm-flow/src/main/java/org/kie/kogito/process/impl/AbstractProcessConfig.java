@@ -16,6 +16,7 @@
 package org.kie.kogito.process.impl;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Supplier;
@@ -23,6 +24,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.jbpm.process.instance.ParallelWorkItemExecutor;
 import org.kie.api.event.process.ProcessEventListener;
 import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.jobs.JobsService;
@@ -43,6 +45,8 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
     private final ProcessEventListenerConfig processEventListenerConfig;
     private final UnitOfWorkManager unitOfWorkManager;
     private final JobsService jobsService;
+    private final ParallelWorkItemExecutor parallelWorkItemExecutor;
+    private final boolean ownsParallelWorkItemExecutor;
 
     protected AbstractProcessConfig(
             Iterable<WorkItemHandlerConfig> workItemHandlerConfig,
@@ -53,6 +57,23 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
             Iterable<EventPublisher> eventPublishers,
             String kogitoService,
             Iterable<UnitOfWorkEventListener> unitOfWorkListeners) {
+        this(workItemHandlerConfig, processEventListenerConfigs, processEventListeners, unitOfWorkManager, jobsService, eventPublishers, kogitoService,
+                unitOfWorkListeners, Collections.emptyList());
+    }
+
+    /**
+     * When no <code>parallelWorkItemExecutor</code> is provided, the configuration creates one and closes it in {@link #close()}.
+     */
+    protected AbstractProcessConfig(
+            Iterable<WorkItemHandlerConfig> workItemHandlerConfig,
+            Iterable<ProcessEventListenerConfig> processEventListenerConfigs,
+            Iterable<ProcessEventListener> processEventListeners,
+            Iterable<UnitOfWorkManager> unitOfWorkManager,
+            Iterable<JobsService> jobsService,
+            Iterable<EventPublisher> eventPublishers,
+            String kogitoService,
+            Iterable<UnitOfWorkEventListener> unitOfWorkListeners,
+            Iterable<ParallelWorkItemExecutor> parallelWorkItemExecutor) {
 
         this.workItemHandlerConfig = orDefault(workItemHandlerConfig, DefaultWorkItemHandlerConfig::new);
         this.processEventListenerConfig = merge(processEventListenerConfigs, processEventListeners);
@@ -60,6 +81,8 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
                 () -> new DefaultUnitOfWorkManager(
                         new CollectingUnitOfWorkFactory()));
         this.jobsService = orDefault(jobsService, () -> null);
+        this.ownsParallelWorkItemExecutor = !parallelWorkItemExecutor.iterator().hasNext();
+        this.parallelWorkItemExecutor = orDefault(parallelWorkItemExecutor, ParallelWorkItemExecutor::new);
 
         eventPublishers.forEach(publisher -> unitOfWorkManager().eventManager().addPublisher(publisher));
         unitOfWorkListeners.forEach(listener -> unitOfWorkManager().register(listener));
@@ -91,6 +114,19 @@ public abstract class AbstractProcessConfig implements ProcessConfig {
         return jobsService;
     }
 
+    public ParallelWorkItemExecutor parallelWorkItemExecutor() {
+        return parallelWorkItemExecutor;
+    }
+
+    /**
+     * Releases the resources created by the configuration, to be called on application shutdown.
+     */
+    public void close() {
+        if (ownsParallelWorkItemExecutor) {
+            parallelWorkItemExecutor.close();
+        }
+    }
+
     public org.kie.kogito.Addons addons() {
         return new org.kie.kogito.Addons(Arrays.asList());
     }
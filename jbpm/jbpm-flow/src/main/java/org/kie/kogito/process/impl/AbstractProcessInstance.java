@@ -63,6 +63,7 @@ import org.kie.kogito.process.flexible.AdHocFragment;
 import org.kie.kogito.process.flexible.Milestone;
 import org.kie.kogito.process.workitem.Policy;
 import org.kie.kogito.process.workitem.Transition;
+import org.kie.kogito.process.workitems.InternalKogitoWorkItemManager;
 import org.kie.kogito.services.uow.ProcessInstanceWorkUnit;
 
 public abstract class AbstractProcessInstance<T extends Model> implements ProcessInstance<T> {
@@ -250,7 +251,7 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         unbind(variables, processInstance().getVariables());
         getProcessRuntime().getKogitoProcessRuntime().abortProcessInstance(pid);
         this.status = processInstance.getState();
-        addToUnitOfWork(pi -> ((MutableProcessInstances<T>) process.instances()).remove(pi.id()));
+        addToUnitOfWork(pi -> ((MutableProcessInstances<T>) process.instances()).archive(pi.id(), pi));
     }
 
     private InternalProcessRuntime getProcessRuntime() {
@@ -377,12 +378,7 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
 
     @Override
     public void cancelNodeInstance(String nodeInstanceId) {
-        NodeInstance nodeInstance = processInstance()
-                .getNodeInstances(true)
-                .stream()
-                .filter(ni -> ni.getStringId().equals(nodeInstanceId))
-                .findFirst()
-                .orElseThrow(() -> new NodeInstanceNotFoundException(this.id, nodeInstanceId));
+        NodeInstance nodeInstance = findNodeInstance(nodeInstanceId);
 
         nodeInstance.cancel();
         removeOnFinish();
@@ -390,17 +386,20 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
 
     @Override
     public void retriggerNodeInstance(String nodeInstanceId) {
-        NodeInstance nodeInstance = processInstance()
-                .getNodeInstances(true)
-                .stream()
-                .filter(ni -> ni.getStringId().equals(nodeInstanceId))
-                .findFirst()
-                .orElseThrow(() -> new NodeInstanceNotFoundException(this.id, nodeInstanceId));
+        NodeInstance nodeInstance = findNodeInstance(nodeInstanceId);
 
         ((NodeInstanceImpl) nodeInstance).retrigger(true);
         removeOnFinish();
     }
 
+    private NodeInstance findNodeInstance(String nodeInstanceId) {
+        NodeInstance nodeInstance = processInstance().getNodeInstance(nodeInstanceId, true);
+        if (nodeInstance == null) {
+            throw new NodeInstanceNotFoundException(this.id, nodeInstanceId);
+        }
+        return nodeInstance;
+    }
+
     protected WorkflowProcessInstance processInstance() {
         if (this.processInstance == null) {
             reloadSupplier.accept(this);
@@ -421,11 +420,10 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
 
     @Override
     public WorkItem workItem(String workItemId, Policy<?>... policies) {
-        WorkItemNodeInstance workItemInstance = (WorkItemNodeInstance) processInstance().getNodeInstances(true)
-                .stream()
-                .filter(ni -> ni instanceof WorkItemNodeInstance && ((WorkItemNodeInstance) ni).getWorkItemId().equals(workItemId) && ((WorkItemNodeInstance) ni).getWorkItem().enforce(policies))
-                .findFirst()
-                .orElseThrow(() -> new WorkItemNotFoundException("Work item with id " + workItemId + " was not found in process instance " + id(), workItemId));
+        WorkItemNodeInstance workItemInstance = findWorkItemNodeInstance(workItemId);
+        if (workItemInstance == null || !workItemInstance.getWorkItem().enforce(policies)) {
+            throw new WorkItemNotFoundException("Work item with id " + workItemId + " was not found in process instance " + id(), workItemId);
+        }
         return new BaseWorkItem(workItemInstance.getStringId(),
                 workItemInstance.getWorkItem().getStringId(),
                 Long.toString(workItemInstance.getNode().getId()),
@@ -437,6 +435,24 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
                 workItemInstance.getWorkItem().getResults());
     }
 
+    private WorkItemNodeInstance findWorkItemNodeInstance(String workItemId) {
+        WorkflowProcessInstance wpi = processInstance();
+        // the work item manager indexes work items by id, use it to get to the node instance directly
+        if (rt != null) {
+            KogitoWorkItem workItem = ((InternalKogitoWorkItemManager) rt.getKogitoProcessRuntime().getKogitoWorkItemManager()).getWorkItem(workItemId);
+            KogitoNodeInstance owner = workItem == null ? null : workItem.getNodeInstance();
+            if (owner instanceof WorkItemNodeInstance && wpi.getNodeInstance(owner.getStringId(), true) == owner
+                    && workItemId.equals(((WorkItemNodeInstance) owner).getWorkItemId())) {
+                return (WorkItemNodeInstance) owner;
+            }
+        }
+        return (WorkItemNodeInstance) wpi.getNodeInstances(true)
+                .stream()
+                .filter(ni -> ni instanceof WorkItemNodeInstance && workItemId.equals(((WorkItemNodeInstance) ni).getWorkItemId()))
+                .findFirst()
+                .orElse(null);
+    }
+
     @Override
     public List<WorkItem> workItems(Policy<?>... policies) {
         return workItems(WorkItemNodeInstance.class::isInstance, policies);
@@ -504,7 +520,7 @@ public abstract class AbstractProcessInstance<T extends Model> implements Proces
         if (processInstance.getState() != KogitoProcessInstance.STATE_ACTIVE && processInstance.getState() != KogitoProcessInstance.STATE_ERROR) {
             removeCompletionListener();
             syncProcessInstance(processInstance);
-            addToUnitOfWork(pi -> ((MutableProcessInstances<T>) process.instances()).remove(pi.id()));
+            addToUnitOfWork(pi -> ((MutableProcessInstances<T>) process.instances()).archive(pi.id(), pi));
         } else {
             addToUnitOfWork(pi -> ((MutableProcessInstances<T>) process.instances()).update(pi.id(), pi));
         }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.kogito.process.ArchivedProcessInstances;
+import org.kie.kogito.process.ProcessInstanceRetention;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes expired archived process instances in the background.
+ * <p>
+ * Every sweep removes batches of at most the sweep batch size of the retention policy until a batch comes back
+ * incomplete, so stores never load or delete more than one batch at a time. All the archives share a single daemon
+ * thread, a failed sweep is logged and retried on the next run.
+ * <p>
+ * The sweep belongs to the store that scheduled it, which must {@link #close() close} it when the store is closed.
+ */
+public final class ArchivedProcessInstancesSweeper implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchivedProcessInstancesSweeper.class);
+
+    /**
+     * Sweeper of the archives whose process instances never expire, closing it does nothing.
+     */
+    public static final ArchivedProcessInstancesSweeper NONE = new ArchivedProcessInstancesSweeper(null);
+
+    private final ScheduledFuture<?> future;
+
+    private ArchivedProcessInstancesSweeper(ScheduledFuture<?> future) {
+        this.future = future;
+    }
+
+    /**
+     * Schedules the periodic sweep of the given archive, when the retention policy lets archived process instances expire.
+     *
+     * @return the scheduled sweep, {@link #NONE} when archived process instances never expire
+     */
+    public static ArchivedProcessInstancesSweeper schedule(String processId, ArchivedProcessInstances<?> archive, ProcessInstanceRetention retention) {
+        if (!retention.expires()) {
+            return NONE;
+        }
+        long interval = retention.getSweepInterval().toMillis();
+        return new ArchivedProcessInstancesSweeper(
+                ExecutorHolder.EXECUTOR.scheduleWithFixedDelay(() -> run(processId, archive, retention.getSweepBatchSize()), interval, interval, TimeUnit.MILLISECONDS));
+    }
+
+    public boolean isScheduled() {
+        return future != null && !future.isDone();
+    }
+
+    /**
+     * Cancels the next runs of the sweep, a run already in progress completes.
+     */
+    @Override
+    public void close() {
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Removes all the expired process instances of the archive, one batch at a time.
+     *
+     * @return the number of removed process instances
+     */
+    public static int sweep(ArchivedProcessInstances<?> archive, int batchSize) {
+        int total = 0;
+        int removed;
+        do {
+            removed = archive.sweep(batchSize);
+            total += removed;
+        } while (removed >= batchSize);
+        return total;
+    }
+
+    private static void run(String processId, ArchivedProcessInstances<?> archive, int batchSize) {
+        try {
+            int removed = sweep(archive, batchSize);
+            if (removed > 0) {
+                LOGGER.debug("Removed {} expired archived instances of process {}", removed, processId);
+            }
+        } catch (RuntimeException e) {
+            // an exception would cancel the next runs
+            LOGGER.warn("Unable to remove the expired archived instances of process {}", processId, e);
+        }
+    }
+
+    private static class ExecutorHolder {
+
+        private static final ScheduledThreadPoolExecutor EXECUTOR = newExecutor();
+
+        private static ScheduledThreadPoolExecutor newExecutor() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new SweeperThreadFactory());
+            // closed stores must not leave their sweeps in the queue
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    private static class SweeperThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "kogito-archive-sweeper-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -21,12 +21,14 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.kie.kogito.process.MutableProcessInstances;
 import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
 import org.kie.kogito.process.ProcessInstanceDuplicatedException;
 import org.kie.kogito.process.ProcessInstanceReadMode;
 
 class MapProcessInstances<T> implements MutableProcessInstances<T> {
 
     private final ConcurrentHashMap<String, ProcessInstance<T>> instances = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> businessKeys = new ConcurrentHashMap<>();
 
     @Override
     public Integer size() {
@@ -43,11 +45,25 @@ class MapProcessInstances<T> implements MutableProcessInstances<T> {
         return instances.values();
     }
 
+    @Override
+    public Optional<ProcessInstance<T>> findByBusinessKey(String businessKey, ProcessInstanceReadMode mode) {
+        String id = businessKeys.get(businessKey);
+        return id == null ? Optional.empty() : findById(id, mode);
+    }
+
     @Override
     public void create(String id, ProcessInstance<T> instance) {
         if (isActive(instance)) {
+            String businessKey = instance.businessKey();
+            String owner = businessKey == null ? null : businessKeys.putIfAbsent(businessKey, id);
+            if (owner != null && !owner.equals(id)) {
+                throw new ProcessInstanceDuplicatedBusinessKeyException(id, businessKey);
+            }
             ProcessInstance<T> existing = instances.putIfAbsent(id, instance);
             if (existing != null) {
+                if (businessKey != null && owner == null) {
+                    businessKeys.remove(businessKey, id);
+                }
                 throw new ProcessInstanceDuplicatedException(id);
             }
         }
@@ -62,7 +78,10 @@ class MapProcessInstances<T> implements MutableProcessInstances<T> {
 
     @Override
     public void remove(String id) {
-        instances.remove(id);
+        ProcessInstance<T> removed = instances.remove(id);
+        if (removed != null && removed.businessKey() != null) {
+            businessKeys.remove(removed.businessKey(), id);
+        }
     }
 
     @Override
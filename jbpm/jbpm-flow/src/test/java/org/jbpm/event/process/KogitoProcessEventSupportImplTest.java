@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.event.process;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.drools.core.event.KogitoProcessEventSupportImpl;
+import org.junit.jupiter.api.Test;
+import org.kie.api.event.process.ProcessCompletedEvent;
+import org.kie.api.event.process.ProcessStartedEvent;
+import org.kie.kogito.event.EventManager;
+import org.kie.kogito.internal.process.event.DefaultKogitoProcessEventListener;
+import org.kie.kogito.internal.process.runtime.KogitoNodeInstance;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.kie.kogito.uow.WorkUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KogitoProcessEventSupportImplTest {
+
+    private final KogitoProcessInstance processInstance = mock(KogitoProcessInstance.class);
+
+    @Test
+    public void testNoEventsWithoutConsumers() {
+        UnitOfWork unitOfWork = mock(UnitOfWork.class);
+        EventManager eventManager = mock(EventManager.class);
+        UnitOfWorkManager unitOfWorkManager = mock(UnitOfWorkManager.class);
+        when(unitOfWorkManager.currentUnitOfWork()).thenReturn(unitOfWork);
+        when(unitOfWorkManager.eventManager()).thenReturn(eventManager);
+
+        KogitoProcessEventSupportImpl eventSupport = new KogitoProcessEventSupportImpl(unitOfWorkManager);
+        assertThat(eventSupport.hasConsumers()).isFalse();
+
+        eventSupport.fireBeforeProcessStarted(processInstance, null);
+        eventSupport.fireAfterProcessStarted(processInstance, null);
+
+        verify(unitOfWork, never()).intercept(any());
+    }
+
+    @Test
+    public void testEventsNotifiedInOrderWhenUnitOfWorkEnds() {
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        KogitoProcessEventSupportImpl eventSupport = new KogitoProcessEventSupportImpl(unitOfWorkManager);
+        List<String> notified = recordEvents(eventSupport);
+
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        eventSupport.fireBeforeProcessStarted(processInstance, null);
+        eventSupport.fireAfterProcessStarted(processInstance, null);
+        eventSupport.fireBeforeProcessCompleted(processInstance, null);
+        eventSupport.fireAfterProcessCompleted(processInstance, null);
+        assertThat(notified).isEmpty();
+        unitOfWork.end();
+
+        assertThat(notified).containsExactly("beforeProcessStarted", "afterProcessStarted", "beforeProcessCompleted", "afterProcessCompleted");
+
+        // next unit of work collects its own events
+        unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        eventSupport.fireBeforeProcessStarted(processInstance, null);
+        unitOfWork.end();
+
+        assertThat(notified).hasSize(5).last().isEqualTo("beforeProcessStarted");
+    }
+
+    @Test
+    public void testEventsNotifiedInOrderWithOtherWork() {
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        KogitoProcessEventSupportImpl eventSupport = new KogitoProcessEventSupportImpl(unitOfWorkManager);
+        List<String> notified = recordEvents(eventSupport);
+
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+        eventSupport.fireBeforeProcessStarted(processInstance, null);
+        unitOfWork.intercept(WorkUnit.create(notified, n -> n.add("work")));
+        eventSupport.fireAfterProcessStarted(processInstance, null);
+        unitOfWork.end();
+
+        assertThat(notified).containsExactly("beforeProcessStarted", "work", "afterProcessStarted");
+    }
+
+    @Test
+    public void testNoAllocationWithoutConsumers() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        KogitoProcessEventSupportImpl eventSupport = new KogitoProcessEventSupportImpl(unitOfWorkManager);
+        KogitoNodeInstance nodeInstance = mock(KogitoNodeInstance.class);
+        List<String> tags = Collections.emptyList();
+        UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+        unitOfWork.start();
+
+        // warm up, so that the measure does not include the allocations of the interpreter and of class loading
+        fireEvents(eventSupport, nodeInstance, tags, 10_000);
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        fireEvents(eventSupport, nodeInstance, tags, 100_000);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        unitOfWork.end();
+
+        // events were allocating several objects each, i.e. megabytes for that many events
+        assertThat(allocated).isLessThan(64 * 1024);
+    }
+
+    private void fireEvents(KogitoProcessEventSupportImpl eventSupport, KogitoNodeInstance nodeInstance, List<String> tags, int count) {
+        for (int i = 0; i < count; i++) {
+            eventSupport.fireBeforeNodeTriggered(nodeInstance, null);
+            eventSupport.fireAfterNodeTriggered(nodeInstance, null);
+            eventSupport.fireBeforeVariableChanged("id", "instanceId", null, "value", tags, processInstance, nodeInstance, null);
+            eventSupport.fireAfterVariableChanged("id", "instanceId", null, "value", tags, processInstance, nodeInstance, null);
+            eventSupport.fireBeforeNodeLeft(nodeInstance, null);
+            eventSupport.fireAfterNodeLeft(nodeInstance, null);
+        }
+    }
+
+    @Test
+    public void testEventsNotifiedRightAwayWithoutUnitOfWork() {
+        UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+        KogitoProcessEventSupportImpl eventSupport = new KogitoProcessEventSupportImpl(unitOfWorkManager);
+        List<String> notified = recordEvents(eventSupport);
+
+        eventSupport.fireBeforeProcessStarted(processInstance, null);
+        assertThat(notified).containsExactly("beforeProcessStarted");
+        eventSupport.fireAfterProcessStarted(processInstance, null);
+        assertThat(notified).containsExactly("beforeProcessStarted", "afterProcessStarted");
+    }
+
+    private static List<String> recordEvents(KogitoProcessEventSupportImpl eventSupport) {
+        List<String> notified = new ArrayList<>();
+        eventSupport.addEventListener(new DefaultKogitoProcessEventListener() {
+
+            @Override
+            public void beforeProcessStarted(ProcessStartedEvent event) {
+                notified.add("beforeProcessStarted");
+            }
+
+            @Override
+            public void afterProcessStarted(ProcessStartedEvent event) {
+                notified.add("afterProcessStarted");
+            }
+
+            @Override
+            public void beforeProcessCompleted(ProcessCompletedEvent event) {
+                notified.add("beforeProcessCompleted");
+            }
+
+            @Override
+            public void afterProcessCompleted(ProcessCompletedEvent event) {
+                notified.add("afterProcessCompleted");
+            }
+        });
+        return notified;
+    }
+}
@@ -16,17 +16,38 @@
 package org.jbpm.process;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.ruleflow.core.Metadata;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
 import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.ruleflow.core.factory.ForEachNodeFactory;
 import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.node.ForEachNode;
+import org.jbpm.workflow.instance.WorkflowProcessInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
 import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
 import org.slf4j.LoggerFactory;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class ForEachTest extends AbstractBaseTest {
 
     public void addLogger() {
@@ -90,4 +111,148 @@ public class ForEachTest extends AbstractBaseTest {
         kruntime.startProcess("ParentProcess", parameters);
     }
 
+
+    private static String parallelism;
+
+    @BeforeAll
+    public static void configureParallelism() {
+        parallelism = System.setProperty("org.jbpm.foreach.parallelism", "4");
+    }
+
+    @AfterAll
+    public static void restoreParallelism() {
+        if (parallelism == null) {
+            System.clearProperty("org.jbpm.foreach.parallelism");
+        } else {
+            System.setProperty("org.jbpm.foreach.parallelism", parallelism);
+        }
+    }
+
+    @Test
+    public void testParallelExecutionKeepsIterationOrder() {
+        List<String> list = Arrays.asList("a", "b", "c", "d");
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch started = new CountDownLatch(2);
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelForEachProcess(null));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Upper", new UpperCaseHandler(input -> {
+            threads.add(Thread.currentThread().getName());
+            started.countDown();
+            // two iterations must be running at the same time to get past the latch
+            await(started);
+            // later iterations finish first
+            sleep(20L * (list.size() - list.indexOf(input)));
+        }));
+
+        KogitoProcessInstance processInstance = kruntime.startProcess("ParallelProcess", parameters(list));
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("listOut")).isEqualTo(Arrays.asList("A", "B", "C", "D"));
+        assertThat(threads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testParallelExecutionPropagatesFailure() {
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelForEachProcess(null));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Upper", new UpperCaseHandler(input -> {
+            if ("b".equals(input)) {
+                throw new IllegalStateException("Cannot process " + input);
+            }
+        }));
+
+        assertThatThrownBy(() -> kruntime.startProcess("ParallelProcess", parameters(Arrays.asList("a", "b", "c"))))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Cannot process b");
+    }
+
+    @Test
+    public void testParallelExecutionCompletesEarly() {
+        UpperCaseHandler handler = new UpperCaseHandler(input -> sleep("a".equals(input) ? 50 : 0));
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelForEachProcess("listOut.size() == 2"));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Upper", handler);
+
+        KogitoProcessInstance processInstance = kruntime.startProcess("ParallelProcess", parameters(Arrays.asList("a", "b", "c", "d", "e")));
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("listOut")).isEqualTo(Arrays.asList("A", "B"));
+        assertThat(handler.aborted).hasSize(3);
+    }
+
+    private RuleFlowProcess getParallelForEachProcess(String completionCondition) {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("ParallelProcess");
+        factory.variable("list", new ObjectDataType("java.util.List"));
+        factory.variable("listOut", new ObjectDataType("java.util.List"));
+        factory.name("Parallel Process");
+        factory.packageName("org.drools.bpmn2");
+        factory.dynamic(false);
+        factory.version("1.0");
+        factory.visibility("Private");
+        factory.startNode(1).name("StartProcess").done();
+        ForEachNodeFactory<RuleFlowProcessFactory> forEachNode = factory.forEachNode(2);
+        forEachNode.metaData("UniqueId", "_2");
+        forEachNode.metaData(Metadata.CUSTOM_PARALLEL_EXECUTION, "true");
+        forEachNode.sequential(false);
+        forEachNode.collectionExpression("list");
+        forEachNode.variable("x", new ObjectDataType("java.lang.String"));
+        forEachNode.outputCollectionExpression("listOut");
+        forEachNode.outputVariable("y", new ObjectDataType("java.lang.String"));
+        ((ForEachNode) forEachNode.getNode()).setCompletionConditionExpression(completionCondition);
+        forEachNode.workItemNode(5).workName("Upper").inMapping("Input", "x").outMapping("Output", "y").done();
+        forEachNode.linkIncomingConnections(5);
+        forEachNode.linkOutgoingConnections(5);
+        forEachNode.done();
+        factory.endNode(3).name("EndProcess").terminate(true).done();
+        factory.connection(1, 2, "_1-_2");
+        factory.connection(2, 3, "_2-_3");
+        factory.validate();
+        return factory.getProcess();
+    }
+
+    private static Map<String, Object> parameters(List<String> list) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("list", list);
+        parameters.put("listOut", new ArrayList<>());
+        return parameters;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Iterations did not run in parallel");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class UpperCaseHandler implements KogitoWorkItemHandler {
+
+        private final Consumer<String> work;
+        private final List<String> aborted = Collections.synchronizedList(new ArrayList<>());
+
+        UpperCaseHandler(Consumer<String> work) {
+            this.work = work;
+        }
+
+        @Override
+        public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            String input = (String) workItem.getParameter("Input");
+            work.accept(input);
+            manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap("Output", input.toUpperCase()));
+        }
+
+        @Override
+        public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            aborted.add((String) workItem.getParameter("Input"));
+        }
+    }
 }
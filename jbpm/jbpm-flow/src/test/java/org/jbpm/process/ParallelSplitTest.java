@@ -0,0 +1,279 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
+import org.jbpm.ruleflow.core.Metadata;
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.test.util.AbstractBaseTest;
+import org.jbpm.workflow.core.node.Join;
+import org.jbpm.workflow.core.node.Split;
+import org.jbpm.workflow.instance.WorkflowProcessInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.internal.process.runtime.KogitoProcessInstance;
+import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
+import org.kie.kogito.internal.process.runtime.KogitoWorkItemManager;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ParallelSplitTest extends AbstractBaseTest {
+
+    private static final long DELAY = 400;
+
+    public void addLogger() {
+        logger = LoggerFactory.getLogger(this.getClass());
+    }
+
+    private static String parallelism;
+
+    @BeforeAll
+    public static void configureParallelism() {
+        parallelism = System.setProperty("org.jbpm.foreach.parallelism", "4");
+    }
+
+    @AfterAll
+    public static void restoreParallelism() {
+        if (parallelism == null) {
+            System.clearProperty("org.jbpm.foreach.parallelism");
+        } else {
+            System.setProperty("org.jbpm.foreach.parallelism", parallelism);
+        }
+    }
+
+    @Test
+    public void testParallelBranchesTakeAsLongAsTheSlowestOne() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelSplitProcess(true));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Slow", new SlowHandler(threads));
+
+        long start = System.nanoTime();
+        KogitoProcessInstance processInstance = kruntime.startProcess("ParallelSplit");
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("a")).isEqualTo("A");
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("b")).isEqualTo("B");
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("c")).isEqualTo("C");
+        assertThat(threads).hasSize(3).doesNotContain(Thread.currentThread().getName());
+        assertThat(elapsed).isGreaterThanOrEqualTo(DELAY);
+    }
+
+    @Test
+    public void testAllBranchesRunConcurrently() {
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelSplitProcess(true));
+        // none of the branches completes before all of them have started
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Slow", new LatchHandler(new CountDownLatch(3), ConcurrentHashMap.newKeySet()));
+
+        KogitoProcessInstance processInstance = kruntime.startProcess("ParallelSplit");
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("a")).isEqualTo("A");
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("b")).isEqualTo("B");
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("c")).isEqualTo("C");
+    }
+
+    @Test
+    public void testBranchesRunConcurrentlyPastTheirFirstWorkItem() {
+        Set<String> afterJoin = ConcurrentHashMap.newKeySet();
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getTwoStepParallelSplitProcess());
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("First", new LatchHandler(new CountDownLatch(3), ConcurrentHashMap.newKeySet()));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Second", new LatchHandler(new CountDownLatch(3), ConcurrentHashMap.newKeySet()));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("After", new LatchHandler(new CountDownLatch(1), afterJoin));
+
+        KogitoProcessInstance processInstance = kruntime.startProcess("TwoStepParallelSplit");
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("a")).isEqualTo("A");
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("b")).isEqualTo("B");
+        assertThat(((WorkflowProcessInstance) processInstance).getVariable("c")).isEqualTo("C");
+        // the work items following the join are not part of the branches
+        assertThat(afterJoin).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testBranchesRunOnCallingThreadByDefault() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelSplitProcess(false));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Slow", new SlowHandler(threads));
+
+        KogitoProcessInstance processInstance = kruntime.startProcess("ParallelSplit");
+
+        assertThat(processInstance.getState()).isEqualTo(KogitoProcessInstance.STATE_COMPLETED);
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void testParallelBranchFailure() {
+        KogitoProcessRuntime kruntime = createKogitoProcessRuntime(getParallelSplitProcess(true));
+        kruntime.getKogitoWorkItemManager().registerWorkItemHandler("Slow", new KogitoWorkItemHandler() {
+
+            @Override
+            public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+                if ("b".equals(workItem.getParameter("Input"))) {
+                    throw new IllegalStateException("Branch b failed");
+                }
+                manager.completeWorkItem(workItem.getStringId(), Collections.emptyMap());
+            }
+
+            @Override
+            public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            }
+        });
+
+        assertThatThrownBy(() -> kruntime.startProcess("ParallelSplit"))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Branch b failed");
+    }
+
+    private RuleFlowProcess getParallelSplitProcess(boolean parallel) {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("ParallelSplit");
+        factory.variable("a", new ObjectDataType("java.lang.String"));
+        factory.variable("b", new ObjectDataType("java.lang.String"));
+        factory.variable("c", new ObjectDataType("java.lang.String"));
+        factory.name("Parallel Split");
+        factory.packageName("org.jbpm.process");
+        factory.dynamic(false);
+        factory.version("1.0");
+        factory.visibility("Private");
+        factory.startNode(1).name("Start").done();
+        factory.splitNode(2).name("Split").type(Split.TYPE_AND).metaData(Metadata.CUSTOM_PARALLEL_EXECUTION, parallel).done();
+        factory.workItemNode(3).name("A").workName("Slow").workParameter("Input", "a").outMapping("Output", "a").done();
+        factory.workItemNode(4).name("B").workName("Slow").workParameter("Input", "b").outMapping("Output", "b").done();
+        factory.workItemNode(5).name("C").workName("Slow").workParameter("Input", "c").outMapping("Output", "c").done();
+        factory.joinNode(6).name("Join").type(Join.TYPE_AND).done();
+        factory.endNode(7).name("End").terminate(true).done();
+        factory.connection(1, 2);
+        factory.connection(2, 3);
+        factory.connection(2, 4);
+        factory.connection(2, 5);
+        factory.connection(3, 6);
+        factory.connection(4, 6);
+        factory.connection(5, 6);
+        factory.connection(6, 7);
+        factory.validate();
+        return factory.getProcess();
+    }
+
+    private RuleFlowProcess getTwoStepParallelSplitProcess() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("TwoStepParallelSplit");
+        factory.variable("a", new ObjectDataType("java.lang.String"));
+        factory.variable("b", new ObjectDataType("java.lang.String"));
+        factory.variable("c", new ObjectDataType("java.lang.String"));
+        factory.name("Two Step Parallel Split");
+        factory.packageName("org.jbpm.process");
+        factory.dynamic(false);
+        factory.version("1.0");
+        factory.visibility("Private");
+        factory.startNode(1).name("Start").done();
+        factory.splitNode(2).name("Split").type(Split.TYPE_AND).metaData(Metadata.CUSTOM_PARALLEL_EXECUTION, true).done();
+        factory.workItemNode(3).name("A1").workName("First").workParameter("Input", "a").outMapping("Output", "a").done();
+        factory.workItemNode(4).name("B1").workName("First").workParameter("Input", "b").outMapping("Output", "b").done();
+        factory.workItemNode(5).name("C1").workName("First").workParameter("Input", "c").outMapping("Output", "c").done();
+        factory.workItemNode(6).name("A2").workName("Second").inMapping("Input", "a").outMapping("Output", "a").done();
+        factory.workItemNode(7).name("B2").workName("Second").inMapping("Input", "b").outMapping("Output", "b").done();
+        factory.workItemNode(8).name("C2").workName("Second").inMapping("Input", "c").outMapping("Output", "c").done();
+        factory.joinNode(9).name("Join").type(Join.TYPE_AND).done();
+        factory.workItemNode(10).name("After").workName("After").workParameter("Input", "after").done();
+        factory.endNode(11).name("End").terminate(true).done();
+        factory.connection(1, 2);
+        factory.connection(2, 3);
+        factory.connection(2, 4);
+        factory.connection(2, 5);
+        factory.connection(3, 6);
+        factory.connection(4, 7);
+        factory.connection(5, 8);
+        factory.connection(6, 9);
+        factory.connection(7, 9);
+        factory.connection(8, 9);
+        factory.connection(9, 10);
+        factory.connection(10, 11);
+        factory.validate();
+        return factory.getProcess();
+    }
+
+    /**
+     * Completes its work items only once as many of them as the latch count have been started at the same time.
+     */
+    private static class LatchHandler implements KogitoWorkItemHandler {
+
+        private final CountDownLatch latch;
+        private final Set<String> threads;
+
+        LatchHandler(CountDownLatch latch, Set<String> threads) {
+            this.latch = latch;
+            this.threads = threads;
+        }
+
+        @Override
+        public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Work items did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            String input = (String) workItem.getParameter("Input");
+            manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap("Output", input.toUpperCase()));
+        }
+
+        @Override
+        public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+        }
+    }
+
+    private static class SlowHandler implements KogitoWorkItemHandler {
+
+        private final Set<String> threads;
+
+        SlowHandler(Set<String> threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public void executeWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+            threads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            String input = (String) workItem.getParameter("Input");
+            manager.completeWorkItem(workItem.getStringId(), Collections.singletonMap("Output", input.toUpperCase()));
+        }
+
+        @Override
+        public void abortWorkItem(KogitoWorkItem workItem, KogitoWorkItemManager manager) {
+        }
+    }
+}
@@ -19,7 +19,11 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.Random;
+import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
 import org.jbpm.test.util.AbstractBaseTest;
@@ -29,6 +33,7 @@ import org.slf4j.LoggerFactory;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BusinessCalendarImplTest extends AbstractBaseTest {
 
@@ -244,7 +249,7 @@ public class BusinessCalendarImplTest extends AbstractBaseTest {
     public void testCalculateDaysPassingOverHolidayAtYearEndWithWildcards() {
         Properties config = new Properties();
         config.setProperty(BusinessCalendarImpl.HOLIDAYS, "*-12-31:*-01-01");
-        String expectedDate = "2013-01-02 09:15";
+        String expectedDate = "2013-01-04 09:15";
 
         SessionPseudoClock clock = new StaticPseudoClock(parseToDateWithTime("2012-12-28 16:45").getTime());
         BusinessCalendarImpl businessCal = new BusinessCalendarImpl(config, clock);
@@ -371,6 +376,83 @@ public class BusinessCalendarImplTest extends AbstractBaseTest {
         assertEquals(expectedDate, formatDate("yyyy-MM-dd HH:mm:ss", result));
     }
 
+    @Test
+    public void testRecurringHolidaysInFollowingYears() {
+        Properties config = new Properties();
+        config.setProperty(BusinessCalendarImpl.HOLIDAYS, "*-12-24:*-12-26");
+        BusinessCalendarImpl businessCal = new BusinessCalendarImpl(config, new StaticPseudoClock(parseToDateWithTime("2012-12-21 16:45").getTime()));
+        assertEquals("2012-12-27 09:15", formatDate("yyyy-MM-dd HH:mm", businessCal.calculateBusinessTimeAsDate("30m")));
+
+        int farYear = Calendar.getInstance().get(Calendar.YEAR) + 5;
+        Calendar start = new GregorianCalendar(farYear, Calendar.DECEMBER, 23, 16, 45);
+        while (start.get(Calendar.DAY_OF_WEEK) == Calendar.SATURDAY || start.get(Calendar.DAY_OF_WEEK) == Calendar.SUNDAY) {
+            start.add(Calendar.DAY_OF_YEAR, -1);
+        }
+        businessCal = new BusinessCalendarImpl(config, new StaticPseudoClock(start.getTimeInMillis()));
+        Calendar result = Calendar.getInstance();
+        result.setTime(businessCal.calculateBusinessTimeAsDate("30m"));
+        assertTrue(result.get(Calendar.DAY_OF_MONTH) >= 27);
+    }
+
+    @Test
+    public void testHolidaysParsedInConfiguredTimeZone() {
+        String timezone = TimeZone.getDefault().getRawOffset() > 0 ? "Pacific/Pago_Pago" : "Pacific/Kiritimati";
+        Properties config = new Properties();
+        config.setProperty(BusinessCalendarImpl.HOLIDAYS, "2012-12-24:2012-12-26,2012-12-31");
+        config.setProperty(BusinessCalendarImpl.TIMEZONE, timezone);
+        List<BusinessCalendarImpl.TimePeriod> holidays = new BusinessCalendarImpl(config).parseHolidays(2012, 2012);
+
+        Calendar expected = new GregorianCalendar(TimeZone.getTimeZone(timezone));
+        expected.clear();
+        expected.set(2012, Calendar.DECEMBER, 24);
+        assertEquals(expected.getTime(), holidays.get(0).getFrom());
+        expected.set(2012, Calendar.DECEMBER, 27);
+        assertEquals(expected.getTime(), holidays.get(0).getTo());
+        expected.set(2012, Calendar.DECEMBER, 31);
+        assertEquals(expected.getTime(), holidays.get(1).getFrom());
+        expected.set(2013, Calendar.JANUARY, 1);
+        assertEquals(expected.getTime(), holidays.get(1).getTo());
+    }
+
+    @Test
+    public void testSameResultsAsDayByDayCalculation() throws ParseException {
+        Random random = new Random(42);
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+        long base = sdf.parse("2010-01-01").getTime();
+        for (int i = 0; i < 1000; i++) {
+            Properties config = new Properties();
+            int startHour = 6 + random.nextInt(4);
+            int endHour = startHour + 6 + random.nextInt(6);
+            config.setProperty(BusinessCalendarImpl.START_HOUR, String.valueOf(startHour));
+            config.setProperty(BusinessCalendarImpl.END_HOUR, String.valueOf(endHour));
+            config.setProperty(BusinessCalendarImpl.HOURS_PER_DAY, String.valueOf(endHour - startHour));
+            if (random.nextBoolean()) {
+                config.setProperty(BusinessCalendarImpl.WEEKEND_DAYS, Calendar.FRIDAY + "," + Calendar.SATURDAY);
+            }
+            if (random.nextInt(3) == 0) {
+                config.setProperty(BusinessCalendarImpl.TIMEZONE, random.nextBoolean() ? "America/New_York" : "Europe/Rome");
+            }
+            StringBuilder holidays = new StringBuilder();
+            for (int j = random.nextInt(30); j > 0; j--) {
+                long day = base + random.nextInt(365 * 8) * TimeUnit.DAYS.toMillis(1);
+                holidays.append(sdf.format(new Date(day)));
+                if (random.nextBoolean()) {
+                    holidays.append(':').append(sdf.format(new Date(day + random.nextInt(15) * TimeUnit.DAYS.toMillis(1))));
+                }
+                holidays.append(',');
+            }
+            if (holidays.length() > 0) {
+                config.setProperty(BusinessCalendarImpl.HOLIDAYS, holidays.substring(0, holidays.length() - 1));
+            }
+            String timeExpression = random.nextInt(500) + "d" + random.nextInt(3000) + "h" + random.nextInt(200) + "m";
+            SessionPseudoClock clock = new StaticPseudoClock(base + (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(365 * 6)));
+
+            assertEquals(new DayByDayBusinessCalendar(config, clock).calculateBusinessTimeAsDate(timeExpression),
+                    new BusinessCalendarImpl(config, clock).calculateBusinessTimeAsDate(timeExpression),
+                    () -> timeExpression + " from " + new Date(clock.getCurrentTime()) + " with " + config);
+        }
+    }
+
     private Date parseToDate(String dateString) {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.process.instance;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelWorkItemExecutorTest {
+
+    @Test
+    public void testNestedSubmissionRunsInline() throws Exception {
+        try (ParallelWorkItemExecutor executor = new ParallelWorkItemExecutor(1, 1)) {
+            AtomicReference<Thread> outer = new AtomicReference<>();
+            AtomicReference<Thread> inner = new AtomicReference<>();
+            executor.submit(() -> {
+                outer.set(Thread.currentThread());
+                // a single thread pool would otherwise wait for itself
+                Future<?> nested = executor.submit(() -> inner.set(Thread.currentThread()));
+                assertThat(nested.isDone()).isTrue();
+            }).get(5, TimeUnit.SECONDS);
+
+            assertThat(outer.get()).isNotSameAs(Thread.currentThread());
+            assertThat(inner.get()).isSameAs(outer.get());
+        }
+    }
+
+    @Test
+    public void testSaturatedExecutorRunsOnCallingThread() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ParallelWorkItemExecutor executor = new ParallelWorkItemExecutor(1, 1)) {
+            Future<?> running = executor.submit(() -> await(release));
+            Future<?> queued = executor.submit(() -> {
+            });
+            AtomicReference<Thread> rejected = new AtomicReference<>();
+            Future<?> overflow = executor.submit(() -> rejected.set(Thread.currentThread()));
+
+            assertThat(overflow.isDone()).isTrue();
+            assertThat(rejected.get()).isSameAs(Thread.currentThread());
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testClosedExecutorRunsOnCallingThread() throws ExecutionException, InterruptedException {
+        ParallelWorkItemExecutor executor = new ParallelWorkItemExecutor(1, 1);
+        executor.close();
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        executor.submit(() -> thread.set(Thread.currentThread())).get();
+
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void testLoggingContextIsPropagated() throws Exception {
+        AtomicReference<String> processInstanceId = new AtomicReference<>();
+        MDC.put("processInstanceId", "pi-1");
+        try (ParallelWorkItemExecutor executor = new ParallelWorkItemExecutor(1, 1)) {
+            executor.submit(() -> processInstanceId.set(MDC.get("processInstanceId"))).get(5, TimeUnit.SECONDS);
+        } finally {
+            MDC.remove("processInstanceId");
+        }
+
+        assertThat(processInstanceId.get()).isEqualTo("pi-1");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.instance.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mvel2.integration.impl.MapVariableResolverFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MVELProcessHelperTest {
+
+    @BeforeEach
+    public void clear() {
+        MVELProcessHelper.clearCompiledExpressions();
+    }
+
+    @Test
+    public void testCompiledOnce() {
+        assertThat(MVELProcessHelper.compileExpression("a + b")).isSameAs(MVELProcessHelper.compileExpression("a + b"));
+        assertThat(MVELProcessHelper.compiledExpressions()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        Serializable recentlyUsed = MVELProcessHelper.compileExpression("a + 0");
+        Serializable leastRecentlyUsed = MVELProcessHelper.compileExpression("a + 1");
+        for (int i = 2; i <= MVELProcessHelper.MAX_COMPILED_EXPRESSIONS; i++) {
+            MVELProcessHelper.compileExpression("a + " + i);
+            assertThat(MVELProcessHelper.compileExpression("a + 0")).isSameAs(recentlyUsed);
+        }
+        assertThat(MVELProcessHelper.compiledExpressions()).isEqualTo(MVELProcessHelper.MAX_COMPILED_EXPRESSIONS);
+        assertThat(MVELProcessHelper.compileExpression("a + 0")).isSameAs(recentlyUsed);
+        assertThat(MVELProcessHelper.compileExpression("a + 1")).isNotSameAs(leastRecentlyUsed);
+    }
+
+    @Test
+    public void testSameResultsAsInterpreted() {
+        List<String> expressions = Arrays.asList("a + b", "items.size() > 1", "person.name", "items", "a > 5 && person.age < 30", "'x' + a");
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> variables = variables(i);
+            for (String expression : expressions) {
+                assertThat(MVELProcessHelper.eval(expression, new MapVariableResolverFactory(variables)))
+                        .isEqualTo(MVELProcessHelper.evaluator().eval(expression, new MapVariableResolverFactory(variables)));
+            }
+        }
+        assertThat(MVELProcessHelper.compiledExpressions()).isEqualTo(expressions.size());
+    }
+
+    private static Map<String, Object> variables(int i) {
+        Map<String, Object> person = new HashMap<>();
+        person.put("name", "john" + i);
+        person.put("age", 20 + i * 10);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", i * 4);
+        variables.put("b", i);
+        variables.put("items", Arrays.asList("x", i));
+        variables.put("person", person);
+        return variables;
+    }
+}
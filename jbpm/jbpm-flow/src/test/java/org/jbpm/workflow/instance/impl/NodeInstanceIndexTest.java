@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jbpm.workflow.instance.impl;
+
+import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
+import org.jbpm.workflow.instance.node.ActionNodeInstance;
+import org.jbpm.workflow.instance.node.CompositeNodeInstance;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NodeInstanceIndexTest {
+
+    @Test
+    public void testNodeInstanceLookupFollowsAddAndRemove() {
+        RuleFlowProcessInstance processInstance = new RuleFlowProcessInstance();
+
+        ActionNodeInstance first = new ActionNodeInstance();
+        first.setNodeInstanceContainer(processInstance);
+        ActionNodeInstance second = new ActionNodeInstance();
+        second.setNodeInstanceContainer(processInstance);
+
+        assertThat(first.getStringId()).isNotNull();
+        assertThat(processInstance.getNodeInstance(first.getStringId())).isSameAs(first);
+        assertThat(processInstance.getNodeInstance(second.getStringId())).isSameAs(second);
+
+        processInstance.removeNodeInstance(first);
+
+        assertThat(processInstance.getNodeInstance(first.getStringId())).isNull();
+        assertThat(processInstance.getNodeInstance(second.getStringId())).isSameAs(second);
+        assertThat(processInstance.getNodeInstances()).containsExactly(second);
+
+        // removing twice does not affect the remaining node instances
+        processInstance.removeNodeInstance(first);
+        assertThat(processInstance.getNodeInstance(second.getStringId())).isSameAs(second);
+    }
+
+    @Test
+    public void testNodeInstanceLookupKeepsAssignedId() {
+        RuleFlowProcessInstance processInstance = new RuleFlowProcessInstance();
+
+        // as done when unmarshalling, the id is set before the node instance is added
+        ActionNodeInstance nodeInstance = new ActionNodeInstance();
+        nodeInstance.setId("unmarshalled");
+        nodeInstance.setNodeInstanceContainer(processInstance);
+
+        assertThat(nodeInstance.getStringId()).isEqualTo("unmarshalled");
+        assertThat(processInstance.getNodeInstance("unmarshalled")).isSameAs(nodeInstance);
+        assertThat(processInstance.getNodeInstance("unknown")).isNull();
+    }
+
+    @Test
+    public void testRecursiveNodeInstanceLookup() {
+        RuleFlowProcessInstance processInstance = new RuleFlowProcessInstance();
+
+        CompositeNodeInstance composite = new CompositeNodeInstance();
+        composite.setNodeInstanceContainer(processInstance);
+        ActionNodeInstance nested = new ActionNodeInstance();
+        nested.setNodeInstanceContainer(composite);
+
+        assertThat(processInstance.getNodeInstance(nested.getStringId(), false)).isNull();
+        assertThat(processInstance.getNodeInstance(nested.getStringId(), true)).isSameAs(nested);
+        assertThat(processInstance.getNodeInstance(composite.getStringId(), true)).isSameAs(composite);
+        assertThat(composite.getNodeInstance(nested.getStringId())).isSameAs(nested);
+
+        composite.removeNodeInstance(nested);
+
+        assertThat(processInstance.getNodeInstance(nested.getStringId(), true)).isNull();
+        assertThat(composite.getNodeInstance(nested.getStringId())).isNull();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import org.jbpm.ruleflow.core.RuleFlowProcess;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.process.WorkflowProcessInstance;
+import org.kie.kogito.Model;
+import org.kie.kogito.process.ProcessInstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AbstractProcessTest {
+
+    @Test
+    public void testActivateWithoutTimerStartNodesDoesNotBuildDefinition() {
+        TestProcess process = new TestProcess(false);
+        process.activate();
+        assertThat(process.built).isEqualTo(0);
+
+        process.get();
+        process.get();
+        assertThat(process.built).isEqualTo(1);
+    }
+
+    @Test
+    public void testActivateBuildsDefinitionWhenTimerStartNodesAreUnknown() {
+        TestProcess process = new TestProcess(null);
+        process.activate();
+        assertThat(process.built).isEqualTo(1);
+    }
+
+    private static class TestProcess extends AbstractProcess<Model> {
+
+        private final Boolean hasTimerStartNodes;
+        private int built;
+
+        TestProcess(Boolean hasTimerStartNodes) {
+            this.hasTimerStartNodes = hasTimerStartNodes;
+        }
+
+        @Override
+        protected boolean hasTimerStartNodes() {
+            return hasTimerStartNodes == null ? super.hasTimerStartNodes() : hasTimerStartNodes;
+        }
+
+        @Override
+        public org.kie.api.definition.process.Process process() {
+            built++;
+            RuleFlowProcess process = new RuleFlowProcess();
+            process.setId("test");
+            return process;
+        }
+
+        @Override
+        public ProcessInstance<Model> createInstance(Model model) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<Model> createInstance(WorkflowProcessInstance wpi) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ProcessInstance<Model> createReadOnlyInstance(WorkflowProcessInstance wpi) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.ArchivedProcessInstances;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceRetention;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchivedProcessInstancesSweeperTest {
+
+    @Test
+    void testSweepInBatches() {
+        CountingArchive archive = new CountingArchive(7);
+
+        assertThat(ArchivedProcessInstancesSweeper.sweep(archive, 3)).isEqualTo(7);
+        assertThat(archive.batches).containsExactly(3, 3, 1);
+        assertThat(archive.expired).isZero();
+    }
+
+    @Test
+    void testSweepStopsOnEmptyBatch() {
+        CountingArchive archive = new CountingArchive(4);
+
+        assertThat(ArchivedProcessInstancesSweeper.sweep(archive, 2)).isEqualTo(4);
+        assertThat(archive.batches).containsExactly(2, 2, 0);
+        assertThat(ArchivedProcessInstancesSweeper.sweep(archive, 2)).isZero();
+    }
+
+    @Test
+    void testNotScheduledWhenNeverExpiring() {
+        CountingArchive archive = new CountingArchive(1);
+
+        assertThat(ArchivedProcessInstancesSweeper.schedule("process", archive, ProcessInstanceRetention.NONE)).isSameAs(ArchivedProcessInstancesSweeper.NONE);
+        assertThat(ArchivedProcessInstancesSweeper.schedule("process", archive, ProcessInstanceRetention.newBuilder().withArchive(true).build()))
+                .isSameAs(ArchivedProcessInstancesSweeper.NONE);
+        assertThat(ArchivedProcessInstancesSweeper.NONE.isScheduled()).isFalse();
+    }
+
+    @Test
+    void testClosedSweepIsCancelled() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(1);
+        ArchivedProcessInstances<Object> archive = new CountingArchive(0) {
+            @Override
+            public int sweep(int batchSize) {
+                runs.countDown();
+                return super.sweep(batchSize);
+            }
+        };
+        ProcessInstanceRetention retention = ProcessInstanceRetention.newBuilder()
+                .withArchive(true)
+                .withMaxCount(10)
+                .withSweepInterval(Duration.ofMillis(10))
+                .build();
+
+        ArchivedProcessInstancesSweeper sweeper = ArchivedProcessInstancesSweeper.schedule("process", archive, retention);
+        assertThat(runs.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sweeper.isScheduled()).isTrue();
+
+        sweeper.close();
+        assertThat(sweeper.isScheduled()).isFalse();
+    }
+
+    @Test
+    void testScheduledSweepSurvivesFailures() throws InterruptedException {
+        CountDownLatch runs = new CountDownLatch(2);
+        ArchivedProcessInstances<Object> failing = new CountingArchive(0) {
+            @Override
+            public int sweep(int batchSize) {
+                runs.countDown();
+                throw new IllegalStateException("unavailable");
+            }
+        };
+        ProcessInstanceRetention retention = ProcessInstanceRetention.newBuilder()
+                .withArchive(true)
+                .withMaxCount(10)
+                .withSweepInterval(Duration.ofMillis(10))
+                .build();
+
+        try (ArchivedProcessInstancesSweeper sweeper = ArchivedProcessInstancesSweeper.schedule("process", failing, retention)) {
+            assertThat(runs.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static class CountingArchive implements ArchivedProcessInstances<Object> {
+
+        private final List<Integer> batches = new ArrayList<>();
+        private int expired;
+
+        CountingArchive(int expired) {
+            this.expired = expired;
+        }
+
+        @Override
+        public Optional<ProcessInstance<Object>> findById(String id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Collection<ProcessInstance<Object>> values() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public Integer size() {
+            return expired;
+        }
+
+        @Override
+        public int sweep(int batchSize) {
+            int removed = Math.min(expired, batchSize);
+            expired -= removed;
+            batches.add(removed);
+            return removed;
+        }
+    }
+}
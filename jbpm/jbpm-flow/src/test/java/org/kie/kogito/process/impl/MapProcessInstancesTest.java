@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.impl;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.ProcessInstanceDuplicatedBusinessKeyException;
+import org.kie.kogito.process.ProcessInstanceDuplicatedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MapProcessInstancesTest {
+
+    private final MapProcessInstances<Object> instances = new MapProcessInstances<>();
+
+    @Test
+    void testFindByBusinessKey() {
+        ProcessInstance<Object> instance = instance("1", "key");
+        instances.create("1", instance);
+        instances.create("2", instance("2", null));
+
+        assertThat(instances.findByBusinessKey("key")).containsSame(instance);
+        assertThat(instances.findByBusinessKey("other")).isEmpty();
+    }
+
+    @Test
+    void testDuplicatedBusinessKey() {
+        instances.create("1", instance("1", "key"));
+
+        assertThatExceptionOfType(ProcessInstanceDuplicatedBusinessKeyException.class)
+                .isThrownBy(() -> instances.create("2", instance("2", "key")))
+                .satisfies(e -> {
+                    assertThat(e.getProcessInstanceId()).isEqualTo("2");
+                    assertThat(e.getBusinessKey()).isEqualTo("key");
+                });
+        assertThat(instances.exists("2")).isFalse();
+        assertThat(instances.findByBusinessKey("key")).hasValueSatisfying(pi -> assertThat(pi.id()).isEqualTo("1"));
+    }
+
+    @Test
+    void testDuplicatedIdKeepsBusinessKeyOfExistingInstance() {
+        instances.create("1", instance("1", "key"));
+
+        assertThatExceptionOfType(ProcessInstanceDuplicatedException.class).isThrownBy(() -> instances.create("1", instance("1", "other")));
+        assertThat(instances.findByBusinessKey("other")).isEmpty();
+        assertThat(instances.findByBusinessKey("key")).isPresent();
+    }
+
+    @Test
+    void testBusinessKeyReleasedOnRemove() {
+        instances.create("1", instance("1", "key"));
+        instances.remove("1");
+
+        assertThat(instances.findByBusinessKey("key")).isEmpty();
+        instances.create("2", instance("2", "key"));
+        assertThat(instances.findByBusinessKey("key")).hasValueSatisfying(pi -> assertThat(pi.id()).isEqualTo("2"));
+    }
+
+    @Test
+    void testInactiveInstanceDoesNotReserveBusinessKey() {
+        ProcessInstance<Object> completed = instance("1", "key");
+        when(completed.status()).thenReturn(ProcessInstance.STATE_COMPLETED);
+        instances.create("1", completed);
+
+        assertThat(instances.findByBusinessKey("key")).isEmpty();
+        instances.create("2", instance("2", "key"));
+        assertThat(instances.findByBusinessKey("key")).isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProcessInstance<Object> instance(String id, String businessKey) {
+        ProcessInstance<Object> instance = mock(ProcessInstance.class);
+        when(instance.id()).thenReturn(id);
+        when(instance.businessKey()).thenReturn(businessKey);
+        when(instance.status()).thenReturn(ProcessInstance.STATE_ACTIVE);
+        return instance;
+    }
+}
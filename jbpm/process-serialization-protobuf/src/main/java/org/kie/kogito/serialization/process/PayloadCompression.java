@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.serialization.process;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Optional compression of marshalled process instances.
+ * Compressed payloads start with a zero byte, which is never the first byte of a protobuf or JSON payload,
+ * followed by the {@link PayloadCompressor#id()} and the uncompressed length. This way payloads stored
+ * before compression was enabled (or below the threshold) are still read as they are.
+ */
+public final class PayloadCompression {
+
+    public static final String NONE = "none";
+
+    private static final byte MARKER = 0;
+    private static final int HEADER_LENGTH = 2 + Integer.BYTES;
+
+    private static final PayloadCompression DISABLED = new PayloadCompression(null, Integer.MAX_VALUE);
+
+    private static Map<Byte, PayloadCompressor> compressors;
+
+    private final PayloadCompressor compressor;
+    private final int threshold;
+
+    private PayloadCompression(PayloadCompressor compressor, int threshold) {
+        this.compressor = compressor;
+        this.threshold = threshold;
+    }
+
+    public static PayloadCompression none() {
+        return DISABLED;
+    }
+
+    /**
+     * @param name name of the compressor or {@value #NONE}
+     * @param threshold payloads smaller than this number of bytes are stored uncompressed
+     */
+    public static PayloadCompression of(String name, int threshold) {
+        if (name == null || name.isBlank() || NONE.equalsIgnoreCase(name)) {
+            return DISABLED;
+        }
+        return compressors().values().stream()
+                .filter(c -> c.name().equalsIgnoreCase(name))
+                .findFirst()
+                .map(c -> new PayloadCompression(c, threshold))
+                .orElseThrow(() -> new IllegalArgumentException("Unknown payload compression " + name + ", available ones are " + compressors().values()));
+    }
+
+    public boolean isEnabled() {
+        return compressor != null;
+    }
+
+    public byte[] compress(byte[] data) throws IOException {
+        if (compressor == null || data.length < threshold) {
+            return data;
+        }
+        byte[] compressed = compressor.compress(data);
+        if (compressed.length + HEADER_LENGTH >= data.length) {
+            return data;
+        }
+        return ByteBuffer.allocate(HEADER_LENGTH + compressed.length)
+                .put(MARKER)
+                .put(compressor.id())
+                .putInt(data.length)
+                .put(compressed)
+                .array();
+    }
+
+    public static boolean isCompressed(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MARKER;
+    }
+
+    public static byte[] decompress(byte[] data) throws IOException {
+        if (!isCompressed(data)) {
+            return data;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        buffer.get();
+        byte id = buffer.get();
+        int length = buffer.getInt();
+        PayloadCompressor compressor = compressors().get(id);
+        if (compressor == null) {
+            throw new ProcessInstanceMarshallerException("No payload compressor available for id " + id);
+        }
+        byte[] compressed = new byte[buffer.remaining()];
+        buffer.get(compressed);
+        return compressor.decompress(compressed, length);
+    }
+
+    private static synchronized Map<Byte, PayloadCompressor> compressors() {
+        if (compressors == null) {
+            Map<Byte, PayloadCompressor> loaded = new HashMap<>();
+            for (PayloadCompressor compressor : ServiceLoader.load(PayloadCompressor.class)) {
+                loaded.putIfAbsent(compressor.id(), compressor);
+            }
+            compressors = Collections.unmodifiableMap(loaded);
+        }
+        return compressors;
+    }
+}
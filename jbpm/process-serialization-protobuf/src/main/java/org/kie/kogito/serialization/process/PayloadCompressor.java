@@ -0,0 +1,44 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.serialization.process;
+
+import java.io.IOException;
+
+/**
+ * Compression algorithm applied to marshalled process instances.
+ * Implementations are discovered with {@link java.util.ServiceLoader}, so algorithms like LZ4 or Zstd
+ * can be plugged in by just adding their implementation to the classpath.
+ *
+ * @see PayloadCompression
+ */
+public interface PayloadCompressor {
+
+    /**
+     * Identifier written in the payload header, it must be unique and never change once payloads were stored with it
+     */
+    byte id();
+
+    /**
+     * Name used to select the compressor in the configuration
+     */
+    String name();
+
+    byte[] compress(byte[] data) throws IOException;
+
+    byte[] decompress(byte[] data, int length) throws IOException;
+
+}
@@ -16,6 +16,8 @@
 package org.kie.kogito.serialization.process;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 import org.kie.kogito.process.ProcessInstance;
 
@@ -37,4 +39,14 @@ public interface ProcessInstanceMarshaller {
 
     void reloadProcessInstance(MarshallerReaderContext context, ProcessInstance<?> processInstance) throws IOException;
 
+    /**
+     * Writes only the changes of the given process instance against the state read from <code>base</code>
+     */
+    void writeProcessInstanceDelta(MarshallerWriterContext context, MarshallerReaderContext base, ProcessInstance<?> processInstance) throws IOException;
+
+    /**
+     * Writes the full state obtained by applying, in order, the given deltas on top of the <code>snapshot</code>
+     */
+    void mergeProcessInstanceDeltas(MarshallerWriterContext context, MarshallerReaderContext snapshot, List<InputStream> deltas) throws IOException;
+
 }
@@ -17,6 +17,7 @@ package org.kie.kogito.serialization.process;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,12 +37,16 @@ import org.slf4j.LoggerFactory;
 public class ProcessInstanceMarshallerService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstanceMarshallerService.class);
 
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
     private List<ObjectMarshallerStrategy> strats;
 
     private Map<MarshallerContextName<Object>, Object> contextEntries;
 
     private ProcessInstanceMarshallerFactory processInstanceMarshallerFactory;
 
+    private PayloadCompression compression;
+
     public class Builder {
 
         public Builder() {
@@ -76,6 +81,17 @@ public class ProcessInstanceMarshallerService {
             return this;
         }
 
+        /**
+         * Compresses marshalled process instances bigger than <code>threshold</code> bytes with the given {@link PayloadCompressor}.
+         * Uncompressed payloads are always readable, whatever the compression configured.
+         *
+         * @param compression name of the compressor, {@value PayloadCompression#NONE} or <code>null</code> to disable it
+         */
+        public Builder withCompression(String compression, int threshold) {
+            ProcessInstanceMarshallerService.this.compression = PayloadCompression.of(compression, threshold);
+            return this;
+        }
+
         public ProcessInstanceMarshallerService build() {
             Collections.sort(ProcessInstanceMarshallerService.this.strats);
             return ProcessInstanceMarshallerService.this;
@@ -90,6 +106,7 @@ public class ProcessInstanceMarshallerService {
     private ProcessInstanceMarshallerService() {
         this.strats = new ArrayList<>();
         this.contextEntries = new HashMap<>();
+        this.compression = PayloadCompression.none();
     }
 
     protected void setupEnvironment(MarshallerContext env) {
@@ -106,14 +123,59 @@ public class ProcessInstanceMarshallerService {
             setupEnvironment(context);
             org.kie.kogito.serialization.process.ProcessInstanceMarshaller marshaller = processInstanceMarshallerFactory.newKogitoProcessInstanceMarshaller();
             marshaller.writeProcessInstance(context, processInstance);
-            return baos.toByteArray();
+            return compression.compress(baos.toByteArray());
         } catch (Exception e) {
             throw new ProcessInstanceMarshallerException("Error while marshalling process instance", e);
         }
     }
 
+    /**
+     * Marshalls only what changed in the process instance since the state stored in <code>base</code>.
+     * The result is meant to be appended to a log and applied later on with {@link #mergeProcessInstanceDeltas(byte[], List)}
+     */
+    public byte[] marshallProcessInstanceDelta(byte[] base, ProcessInstance<?> processInstance) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                ByteArrayInputStream bais = new ByteArrayInputStream(PayloadCompression.decompress(base))) {
+            MarshallerWriterContext context = processInstanceMarshallerFactory.newWriterContext(baos);
+            setupEnvironment(context);
+            MarshallerReaderContext baseContext = processInstanceMarshallerFactory.newReaderContext(bais);
+            setupEnvironment(baseContext);
+            org.kie.kogito.serialization.process.ProcessInstanceMarshaller marshaller = processInstanceMarshallerFactory.newKogitoProcessInstanceMarshaller();
+            marshaller.writeProcessInstanceDelta(context, baseContext, processInstance);
+            return compression.compress(baos.toByteArray());
+        } catch (Exception e) {
+            throw new ProcessInstanceMarshallerException("Error while marshalling process instance delta", e);
+        }
+    }
+
+    /**
+     * Applies the deltas, in order, on top of the snapshot and returns the full marshalled process instance,
+     * the same it would have been produced by {@link #marshallProcessInstance(ProcessInstance)}
+     */
+    public byte[] mergeProcessInstanceDeltas(byte[] snapshot, List<byte[]> deltas) {
+        if (deltas.isEmpty()) {
+            return snapshot;
+        }
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                ByteArrayInputStream bais = new ByteArrayInputStream(PayloadCompression.decompress(snapshot))) {
+            MarshallerWriterContext context = processInstanceMarshallerFactory.newWriterContext(baos);
+            setupEnvironment(context);
+            MarshallerReaderContext snapshotContext = processInstanceMarshallerFactory.newReaderContext(bais);
+            setupEnvironment(snapshotContext);
+            List<InputStream> deltaStreams = new ArrayList<>(deltas.size());
+            for (byte[] delta : deltas) {
+                deltaStreams.add(new ByteArrayInputStream(PayloadCompression.decompress(delta)));
+            }
+            org.kie.kogito.serialization.process.ProcessInstanceMarshaller marshaller = processInstanceMarshallerFactory.newKogitoProcessInstanceMarshaller();
+            marshaller.mergeProcessInstanceDeltas(context, snapshotContext, deltaStreams);
+            return compression.compress(baos.toByteArray());
+        } catch (Exception e) {
+            throw new ProcessInstanceMarshallerException("Error while merging process instance deltas", e);
+        }
+    }
+
     public ProcessInstance<?> unmarshallProcessInstance(byte[] data, Process<?> process, boolean readOnly) {
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
+        try (ByteArrayInputStream bais = new ByteArrayInputStream(PayloadCompression.decompress(data))) {
             MarshallerReaderContext context = processInstanceMarshallerFactory.newReaderContext(bais);
             context.set(MarshallerContextName.MARSHALLER_PROCESS, process);
             context.set(MarshallerContextName.MARSHALLER_INSTANCE_READ_ONLY, readOnly);
@@ -139,7 +201,7 @@ public class ProcessInstanceMarshallerService {
             if (data == null) {
                 LOGGER.warn("Process Instance {} cannot be found", processInstance.id());
             }
-            try (ByteArrayInputStream bais = new ByteArrayInputStream(data)) {
+            try (ByteArrayInputStream bais = new ByteArrayInputStream(PayloadCompression.decompress(data))) {
                 MarshallerReaderContext context = processInstanceMarshallerFactory.newReaderContext(bais);
                 context.set(MarshallerContextName.MARSHALLER_PROCESS, processInstance.process());
                 setupEnvironment(context);
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.kie.kogito.serialization.process.PayloadCompressor;
+
+/**
+ * JDK deflate, tuned for speed as payloads are compressed on every process instance update
+ */
+public class DeflatePayloadCompressor implements PayloadCompressor {
+
+    public static final byte ID = 1;
+    public static final String NAME = "deflate";
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(data.length / 2)) {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                baos.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return baos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int length) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] result = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(result, read, length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != length) {
+                throw new IOException("Corrupted deflate payload, expected " + length + " bytes but got " + read);
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted deflate payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return NAME;
+    }
+}
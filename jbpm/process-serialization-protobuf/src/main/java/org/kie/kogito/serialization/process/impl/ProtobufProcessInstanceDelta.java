@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.WorkflowContext;
+
+/**
+ * Computes and applies the changes between two protobuf representations of the same process instance.
+ * Variables and top level node instances are compared one by one, so only the ones that changed
+ * (or were removed) are part of the delta. Everything else is small and always written in full.
+ */
+public final class ProtobufProcessInstanceDelta {
+
+    private ProtobufProcessInstanceDelta() {
+    }
+
+    public static ProcessInstanceDelta diff(ProcessInstance base, ProcessInstance current) {
+        WorkflowContext baseContext = base.getContext();
+        WorkflowContext currentContext = current.getContext();
+
+        ProcessInstanceDelta.Builder delta = ProcessInstanceDelta.newBuilder()
+                .setHeader(current.toBuilder().clearContext())
+                .addAllExclusiveGroup(currentContext.getExclusiveGroupList())
+                .addAllIterationLevels(currentContext.getIterationLevelsList());
+
+        Map<String, Variable> baseVariables = index(baseContext.getVariableList(), Variable::getName);
+        for (Variable variable : currentContext.getVariableList()) {
+            if (!variable.equals(baseVariables.remove(variable.getName()))) {
+                delta.addChangedVariable(variable);
+            }
+        }
+        delta.addAllRemovedVariable(baseVariables.keySet());
+
+        Map<String, NodeInstance> baseNodeInstances = index(baseContext.getNodeInstanceList(), NodeInstance::getId);
+        for (NodeInstance nodeInstance : currentContext.getNodeInstanceList()) {
+            if (!nodeInstance.equals(baseNodeInstances.remove(nodeInstance.getId()))) {
+                delta.addChangedNodeInstance(nodeInstance);
+            }
+        }
+        delta.addAllRemovedNodeInstance(baseNodeInstances.keySet());
+
+        return delta.build();
+    }
+
+    public static ProcessInstance merge(ProcessInstance base, ProcessInstanceDelta delta) {
+        WorkflowContext baseContext = base.getContext();
+
+        Map<String, Variable> variables = index(baseContext.getVariableList(), Variable::getName);
+        delta.getRemovedVariableList().forEach(variables::remove);
+        delta.getChangedVariableList().forEach(variable -> variables.put(variable.getName(), variable));
+
+        Map<String, NodeInstance> nodeInstances = index(baseContext.getNodeInstanceList(), NodeInstance::getId);
+        delta.getRemovedNodeInstanceList().forEach(nodeInstances::remove);
+        delta.getChangedNodeInstanceList().forEach(nodeInstance -> nodeInstances.put(nodeInstance.getId(), nodeInstance));
+        // same ordering used by the writer so merged and fully written instances are identical
+        List<NodeInstance> sortedNodeInstances = new ArrayList<>(nodeInstances.values());
+        sortedNodeInstances.sort(Comparator.comparing(NodeInstance::getId));
+
+        WorkflowContext context = WorkflowContext.newBuilder()
+                .addAllVariable(variables.values())
+                .addAllNodeInstance(sortedNodeInstances)
+                .addAllExclusiveGroup(delta.getExclusiveGroupList())
+                .addAllIterationLevels(delta.getIterationLevelsList())
+                .build();
+
+        return delta.getHeader().toBuilder().setContext(context).build();
+    }
+
+    private static <T> Map<String, T> index(List<T> items, Function<T, String> key) {
+        Map<String, T> index = new LinkedHashMap<>();
+        for (T item : items) {
+            index.putIfAbsent(key.apply(item), item);
+        }
+        return index;
+    }
+}
@@ -16,6 +16,8 @@
 package org.kie.kogito.serialization.process.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 import org.jbpm.ruleflow.instance.RuleFlowProcessInstance;
 import org.kie.kogito.process.ProcessInstance;
@@ -25,6 +27,8 @@ import org.kie.kogito.serialization.process.MarshallerContextName;
 import org.kie.kogito.serialization.process.MarshallerReaderContext;
 import org.kie.kogito.serialization.process.MarshallerWriterContext;
 import org.kie.kogito.serialization.process.ProcessInstanceMarshaller;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf;
 
 /**
  * Marshaller class for RuleFlowProcessInstances
@@ -53,4 +57,21 @@ public class ProtobufProcessInstanceMarshaller implements ProcessInstanceMarshal
         ((AbstractProcessInstance<?>) processInstance).internalSetProcessInstance(reader.read(context.input()));
     }
 
+    @Override
+    public void writeProcessInstanceDelta(MarshallerWriterContext context, MarshallerReaderContext base, ProcessInstance<?> processInstance) throws IOException {
+        RuleFlowProcessInstance pi = (RuleFlowProcessInstance) ((AbstractProcessInstance<?>) processInstance).internalGetProcessInstance();
+        KogitoProcessInstanceProtobuf.ProcessInstance previous = new ProtobufProcessInstanceReader(base).parseProcessInstance(base.input());
+        KogitoProcessInstanceProtobuf.ProcessInstance current = new ProtobufProcessInstanceWriter(context).buildProcessInstance(pi);
+        ProtobufProcessInstanceDelta.diff(previous, current).writeTo(context.output());
+    }
+
+    @Override
+    public void mergeProcessInstanceDeltas(MarshallerWriterContext context, MarshallerReaderContext snapshot, List<InputStream> deltas) throws IOException {
+        KogitoProcessInstanceProtobuf.ProcessInstance merged = new ProtobufProcessInstanceReader(snapshot).parseProcessInstance(snapshot.input());
+        for (InputStream delta : deltas) {
+            merged = ProtobufProcessInstanceDelta.merge(merged, ProcessInstanceDelta.parseFrom(delta));
+        }
+        new ProtobufProcessInstanceWriter(context).writeProcessInstance(merged, context.output());
+    }
+
 }
@@ -102,17 +102,18 @@ public class ProtobufProcessInstanceReader {
     }
 
     public RuleFlowProcessInstance read(InputStream input) throws IOException {
-        KogitoProcessInstanceProtobuf.ProcessInstance processInstanceProtobuf;
+        return buildWorkflow(parseProcessInstance(input));
+    }
 
+    public KogitoProcessInstanceProtobuf.ProcessInstance parseProcessInstance(InputStream input) throws IOException {
         String format = this.context.get(MarshallerContextName.MARSHALLER_FORMAT);
         if (format != null && MarshallerContextName.MARSHALLER_FORMAT_JSON.equals(format)) {
             KogitoProcessInstanceProtobuf.ProcessInstance.Builder builder = KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder();
             JsonFormat.parser().usingTypeRegistry(protobufTypeRegistryFactoryInstance().create()).ignoringUnknownFields().merge(new InputStreamReader(input), builder);
-            processInstanceProtobuf = builder.build();
+            return builder.build();
         } else {
-            processInstanceProtobuf = KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(input);
+            return KogitoProcessInstanceProtobuf.ProcessInstance.parseFrom(input);
         }
-        return buildWorkflow(processInstanceProtobuf);
     }
 
     private RuleFlowProcessInstance buildWorkflow(KogitoProcessInstanceProtobuf.ProcessInstance processInstanceProtobuf) {
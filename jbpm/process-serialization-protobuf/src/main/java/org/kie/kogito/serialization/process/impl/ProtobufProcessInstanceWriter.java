@@ -98,6 +98,19 @@ public class ProtobufProcessInstanceWriter {
     }
 
     public void writeProcessInstance(WorkflowProcessInstanceImpl workFlow, OutputStream os) throws IOException {
+        writeProcessInstance(buildProcessInstance(workFlow), os);
+    }
+
+    public void writeProcessInstance(KogitoProcessInstanceProtobuf.ProcessInstance piProtobuf, OutputStream os) throws IOException {
+        String format = this.context.get(MARSHALLER_FORMAT);
+        if (format != null && MARSHALLER_FORMAT_JSON.equals(format)) {
+            os.write(JsonFormat.printer().usingTypeRegistry(protobufTypeRegistryFactoryInstance().create()).print(piProtobuf).getBytes());
+        } else {
+            piProtobuf.writeTo(os);
+        }
+    }
+
+    public KogitoProcessInstanceProtobuf.ProcessInstance buildProcessInstance(WorkflowProcessInstanceImpl workFlow) {
 
         KogitoProcessInstanceProtobuf.ProcessInstance.Builder instance = KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder()
                 .setId(workFlow.getStringId())
@@ -150,14 +163,7 @@ public class ProtobufProcessInstanceWriter {
         List<Map.Entry<String, Integer>> iterationlevels = new ArrayList<>(workFlow.getIterationLevels().entrySet());
         instance.setContext(buildWorkflowContext(nodeInstances, exclusiveGroupInstances, variables, iterationlevels));
 
-        KogitoProcessInstanceProtobuf.ProcessInstance piProtobuf = instance.build();
-
-        String format = this.context.get(MARSHALLER_FORMAT);
-        if (format != null && MARSHALLER_FORMAT_JSON.equals(format)) {
-            os.write(JsonFormat.printer().usingTypeRegistry(protobufTypeRegistryFactoryInstance().create()).print(piProtobuf).getBytes());
-        } else {
-            piProtobuf.writeTo(os);
-        }
+        return instance.build();
     }
 
     private KogitoTypesProtobuf.SLAContext buildSLAContext(int slaCompliance, Date slaDueDate, String slaTimerId) {
@@ -0,0 +1,2809 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.kogito.serialization.process.protobuf;
+
+public final class KogitoProcessInstanceDeltaProtobuf {
+  private KogitoProcessInstanceDeltaProtobuf() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface ProcessInstanceDeltaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * process instance fields outside the workflow context, always written in full
+     * </pre>
+     *
+     * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <pre>
+     * process instance fields outside the workflow context, always written in full
+     * </pre>
+     *
+     * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+     * @return The header.
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance getHeader();
+    /**
+     * <pre>
+     * process instance fields outside the workflow context, always written in full
+     * </pre>
+     *
+     * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstanceOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable> 
+        getChangedVariableList();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable getChangedVariable(int index);
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    int getChangedVariableCount();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder> 
+        getChangedVariableOrBuilderList();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder getChangedVariableOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @return A list containing the removedVariable.
+     */
+    java.util.List<java.lang.String>
+        getRemovedVariableList();
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @return The count of removedVariable.
+     */
+    int getRemovedVariableCount();
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @param index The index of the element to return.
+     * @return The removedVariable at the given index.
+     */
+    java.lang.String getRemovedVariable(int index);
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedVariable at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedVariableBytes(int index);
+
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance> 
+        getChangedNodeInstanceList();
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance getChangedNodeInstance(int index);
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    int getChangedNodeInstanceCount();
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder> 
+        getChangedNodeInstanceOrBuilderList();
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder getChangedNodeInstanceOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @return A list containing the removedNodeInstance.
+     */
+    java.util.List<java.lang.String>
+        getRemovedNodeInstanceList();
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @return The count of removedNodeInstance.
+     */
+    int getRemovedNodeInstanceCount();
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedNodeInstance at the given index.
+     */
+    java.lang.String getRemovedNodeInstance(int index);
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedNodeInstance at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedNodeInstanceBytes(int index);
+
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup> 
+        getExclusiveGroupList();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup getExclusiveGroup(int index);
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    int getExclusiveGroupCount();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder> 
+        getExclusiveGroupOrBuilderList();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder getExclusiveGroupOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel> 
+        getIterationLevelsList();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel getIterationLevels(int index);
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    int getIterationLevelsCount();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder> 
+        getIterationLevelsOrBuilderList();
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder getIterationLevelsOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   * changes of a process instance against its previous persisted state
+   * </pre>
+   *
+   * Protobuf type {@code org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta}
+   */
+  public static final class ProcessInstanceDelta extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta)
+      ProcessInstanceDeltaOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ProcessInstanceDelta.newBuilder() to construct.
+    private ProcessInstanceDelta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ProcessInstanceDelta() {
+      changedVariable_ = java.util.Collections.emptyList();
+      removedVariable_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      changedNodeInstance_ = java.util.Collections.emptyList();
+      removedNodeInstance_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      exclusiveGroup_ = java.util.Collections.emptyList();
+      iterationLevels_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ProcessInstanceDelta();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProcessInstanceDelta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.Builder subBuilder = null;
+              if (header_ != null) {
+                subBuilder = header_.toBuilder();
+              }
+              header_ = input.readMessage(org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(header_);
+                header_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                changedVariable_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              changedVariable_.add(
+                  input.readMessage(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.parser(), extensionRegistry));
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                removedVariable_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              removedVariable_.add(s);
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                changedNodeInstance_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              changedNodeInstance_.add(
+                  input.readMessage(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.parser(), extensionRegistry));
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                removedNodeInstance_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              removedNodeInstance_.add(s);
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                exclusiveGroup_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              exclusiveGroup_.add(
+                  input.readMessage(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.parser(), extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                iterationLevels_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              iterationLevels_.add(
+                  input.readMessage(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          changedVariable_ = java.util.Collections.unmodifiableList(changedVariable_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) != 0)) {
+          removedVariable_ = removedVariable_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          changedNodeInstance_ = java.util.Collections.unmodifiableList(changedNodeInstance_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          removedNodeInstance_ = removedNodeInstance_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          exclusiveGroup_ = java.util.Collections.unmodifiableList(exclusiveGroup_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          iterationLevels_ = java.util.Collections.unmodifiableList(iterationLevels_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.class, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance header_;
+    /**
+     * <pre>
+     * process instance fields outside the workflow context, always written in full
+     * </pre>
+     *
+     * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <pre>
+     * process instance fields outside the workflow context, always written in full
+     * </pre>
+     *
+     * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance getHeader() {
+      return header_ == null ? org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.getDefaultInstance() : header_;
+    }
+    /**
+     * <pre>
+     * process instance fields outside the workflow context, always written in full
+     * </pre>
+     *
+     * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstanceOrBuilder getHeaderOrBuilder() {
+      return getHeader();
+    }
+
+    public static final int CHANGED_VARIABLE_FIELD_NUMBER = 2;
+    private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable> changedVariable_;
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable> getChangedVariableList() {
+      return changedVariable_;
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder> 
+        getChangedVariableOrBuilderList() {
+      return changedVariable_;
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    @java.lang.Override
+    public int getChangedVariableCount() {
+      return changedVariable_.size();
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable getChangedVariable(int index) {
+      return changedVariable_.get(index);
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder getChangedVariableOrBuilder(
+        int index) {
+      return changedVariable_.get(index);
+    }
+
+    public static final int REMOVED_VARIABLE_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList removedVariable_;
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @return A list containing the removedVariable.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedVariableList() {
+      return removedVariable_;
+    }
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @return The count of removedVariable.
+     */
+    public int getRemovedVariableCount() {
+      return removedVariable_.size();
+    }
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @param index The index of the element to return.
+     * @return The removedVariable at the given index.
+     */
+    public java.lang.String getRemovedVariable(int index) {
+      return removedVariable_.get(index);
+    }
+    /**
+     * <code>repeated string removed_variable = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedVariable at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedVariableBytes(int index) {
+      return removedVariable_.getByteString(index);
+    }
+
+    public static final int CHANGED_NODE_INSTANCE_FIELD_NUMBER = 4;
+    private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance> changedNodeInstance_;
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance> getChangedNodeInstanceList() {
+      return changedNodeInstance_;
+    }
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder> 
+        getChangedNodeInstanceOrBuilderList() {
+      return changedNodeInstance_;
+    }
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    @java.lang.Override
+    public int getChangedNodeInstanceCount() {
+      return changedNodeInstance_.size();
+    }
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance getChangedNodeInstance(int index) {
+      return changedNodeInstance_.get(index);
+    }
+    /**
+     * <pre>
+     * top level node instances, work item transitions are part of the node instance content
+     * </pre>
+     *
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder getChangedNodeInstanceOrBuilder(
+        int index) {
+      return changedNodeInstance_.get(index);
+    }
+
+    public static final int REMOVED_NODE_INSTANCE_FIELD_NUMBER = 5;
+    private com.google.protobuf.LazyStringList removedNodeInstance_;
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @return A list containing the removedNodeInstance.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedNodeInstanceList() {
+      return removedNodeInstance_;
+    }
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @return The count of removedNodeInstance.
+     */
+    public int getRemovedNodeInstanceCount() {
+      return removedNodeInstance_.size();
+    }
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedNodeInstance at the given index.
+     */
+    public java.lang.String getRemovedNodeInstance(int index) {
+      return removedNodeInstance_.get(index);
+    }
+    /**
+     * <code>repeated string removed_node_instance = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedNodeInstance at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedNodeInstanceBytes(int index) {
+      return removedNodeInstance_.getByteString(index);
+    }
+
+    public static final int EXCLUSIVE_GROUP_FIELD_NUMBER = 6;
+    private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup> exclusiveGroup_;
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup> getExclusiveGroupList() {
+      return exclusiveGroup_;
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder> 
+        getExclusiveGroupOrBuilderList() {
+      return exclusiveGroup_;
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    @java.lang.Override
+    public int getExclusiveGroupCount() {
+      return exclusiveGroup_.size();
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup getExclusiveGroup(int index) {
+      return exclusiveGroup_.get(index);
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder getExclusiveGroupOrBuilder(
+        int index) {
+      return exclusiveGroup_.get(index);
+    }
+
+    public static final int ITERATIONLEVELS_FIELD_NUMBER = 7;
+    private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel> iterationLevels_;
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel> getIterationLevelsList() {
+      return iterationLevels_;
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder> 
+        getIterationLevelsOrBuilderList() {
+      return iterationLevels_;
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    @java.lang.Override
+    public int getIterationLevelsCount() {
+      return iterationLevels_.size();
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel getIterationLevels(int index) {
+      return iterationLevels_.get(index);
+    }
+    /**
+     * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+     */
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder getIterationLevelsOrBuilder(
+        int index) {
+      return iterationLevels_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      for (int i = 0; i < changedVariable_.size(); i++) {
+        output.writeMessage(2, changedVariable_.get(i));
+      }
+      for (int i = 0; i < removedVariable_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, removedVariable_.getRaw(i));
+      }
+      for (int i = 0; i < changedNodeInstance_.size(); i++) {
+        output.writeMessage(4, changedNodeInstance_.get(i));
+      }
+      for (int i = 0; i < removedNodeInstance_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, removedNodeInstance_.getRaw(i));
+      }
+      for (int i = 0; i < exclusiveGroup_.size(); i++) {
+        output.writeMessage(6, exclusiveGroup_.get(i));
+      }
+      for (int i = 0; i < iterationLevels_.size(); i++) {
+        output.writeMessage(7, iterationLevels_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      for (int i = 0; i < changedVariable_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, changedVariable_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedVariable_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedVariable_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedVariableList().size();
+      }
+      for (int i = 0; i < changedNodeInstance_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, changedNodeInstance_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedNodeInstance_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedNodeInstance_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedNodeInstanceList().size();
+      }
+      for (int i = 0; i < exclusiveGroup_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, exclusiveGroup_.get(i));
+      }
+      for (int i = 0; i < iterationLevels_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, iterationLevels_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta)) {
+        return super.equals(obj);
+      }
+      org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta other = (org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getChangedVariableList()
+          .equals(other.getChangedVariableList())) return false;
+      if (!getRemovedVariableList()
+          .equals(other.getRemovedVariableList())) return false;
+      if (!getChangedNodeInstanceList()
+          .equals(other.getChangedNodeInstanceList())) return false;
+      if (!getRemovedNodeInstanceList()
+          .equals(other.getRemovedNodeInstanceList())) return false;
+      if (!getExclusiveGroupList()
+          .equals(other.getExclusiveGroupList())) return false;
+      if (!getIterationLevelsList()
+          .equals(other.getIterationLevelsList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (getChangedVariableCount() > 0) {
+        hash = (37 * hash) + CHANGED_VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getChangedVariableList().hashCode();
+      }
+      if (getRemovedVariableCount() > 0) {
+        hash = (37 * hash) + REMOVED_VARIABLE_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedVariableList().hashCode();
+      }
+      if (getChangedNodeInstanceCount() > 0) {
+        hash = (37 * hash) + CHANGED_NODE_INSTANCE_FIELD_NUMBER;
+        hash = (53 * hash) + getChangedNodeInstanceList().hashCode();
+      }
+      if (getRemovedNodeInstanceCount() > 0) {
+        hash = (37 * hash) + REMOVED_NODE_INSTANCE_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedNodeInstanceList().hashCode();
+      }
+      if (getExclusiveGroupCount() > 0) {
+        hash = (37 * hash) + EXCLUSIVE_GROUP_FIELD_NUMBER;
+        hash = (53 * hash) + getExclusiveGroupList().hashCode();
+      }
+      if (getIterationLevelsCount() > 0) {
+        hash = (37 * hash) + ITERATIONLEVELS_FIELD_NUMBER;
+        hash = (53 * hash) + getIterationLevelsList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * changes of a process instance against its previous persisted state
+     * </pre>
+     *
+     * Protobuf type {@code org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta)
+        org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDeltaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.class, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.Builder.class);
+      }
+
+      // Construct using org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getChangedVariableFieldBuilder();
+          getChangedNodeInstanceFieldBuilder();
+          getExclusiveGroupFieldBuilder();
+          getIterationLevelsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (headerBuilder_ == null) {
+          header_ = null;
+        } else {
+          header_ = null;
+          headerBuilder_ = null;
+        }
+        if (changedVariableBuilder_ == null) {
+          changedVariable_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          changedVariableBuilder_.clear();
+        }
+        removedVariable_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (changedNodeInstanceBuilder_ == null) {
+          changedNodeInstance_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          changedNodeInstanceBuilder_.clear();
+        }
+        removedNodeInstance_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (exclusiveGroupBuilder_ == null) {
+          exclusiveGroup_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          exclusiveGroupBuilder_.clear();
+        }
+        if (iterationLevelsBuilder_ == null) {
+          iterationLevels_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          iterationLevelsBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_descriptor;
+      }
+
+      @java.lang.Override
+      public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta getDefaultInstanceForType() {
+        return org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta build() {
+        org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta buildPartial() {
+        org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta result = new org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta(this);
+        int from_bitField0_ = bitField0_;
+        if (headerBuilder_ == null) {
+          result.header_ = header_;
+        } else {
+          result.header_ = headerBuilder_.build();
+        }
+        if (changedVariableBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            changedVariable_ = java.util.Collections.unmodifiableList(changedVariable_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.changedVariable_ = changedVariable_;
+        } else {
+          result.changedVariable_ = changedVariableBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          removedVariable_ = removedVariable_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removedVariable_ = removedVariable_;
+        if (changedNodeInstanceBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            changedNodeInstance_ = java.util.Collections.unmodifiableList(changedNodeInstance_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.changedNodeInstance_ = changedNodeInstance_;
+        } else {
+          result.changedNodeInstance_ = changedNodeInstanceBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          removedNodeInstance_ = removedNodeInstance_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.removedNodeInstance_ = removedNodeInstance_;
+        if (exclusiveGroupBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            exclusiveGroup_ = java.util.Collections.unmodifiableList(exclusiveGroup_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.exclusiveGroup_ = exclusiveGroup_;
+        } else {
+          result.exclusiveGroup_ = exclusiveGroupBuilder_.build();
+        }
+        if (iterationLevelsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            iterationLevels_ = java.util.Collections.unmodifiableList(iterationLevels_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.iterationLevels_ = iterationLevels_;
+        } else {
+          result.iterationLevels_ = iterationLevelsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta) {
+          return mergeFrom((org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta other) {
+        if (other == org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (changedVariableBuilder_ == null) {
+          if (!other.changedVariable_.isEmpty()) {
+            if (changedVariable_.isEmpty()) {
+              changedVariable_ = other.changedVariable_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureChangedVariableIsMutable();
+              changedVariable_.addAll(other.changedVariable_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.changedVariable_.isEmpty()) {
+            if (changedVariableBuilder_.isEmpty()) {
+              changedVariableBuilder_.dispose();
+              changedVariableBuilder_ = null;
+              changedVariable_ = other.changedVariable_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              changedVariableBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getChangedVariableFieldBuilder() : null;
+            } else {
+              changedVariableBuilder_.addAllMessages(other.changedVariable_);
+            }
+          }
+        }
+        if (!other.removedVariable_.isEmpty()) {
+          if (removedVariable_.isEmpty()) {
+            removedVariable_ = other.removedVariable_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedVariableIsMutable();
+            removedVariable_.addAll(other.removedVariable_);
+          }
+          onChanged();
+        }
+        if (changedNodeInstanceBuilder_ == null) {
+          if (!other.changedNodeInstance_.isEmpty()) {
+            if (changedNodeInstance_.isEmpty()) {
+              changedNodeInstance_ = other.changedNodeInstance_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureChangedNodeInstanceIsMutable();
+              changedNodeInstance_.addAll(other.changedNodeInstance_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.changedNodeInstance_.isEmpty()) {
+            if (changedNodeInstanceBuilder_.isEmpty()) {
+              changedNodeInstanceBuilder_.dispose();
+              changedNodeInstanceBuilder_ = null;
+              changedNodeInstance_ = other.changedNodeInstance_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              changedNodeInstanceBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getChangedNodeInstanceFieldBuilder() : null;
+            } else {
+              changedNodeInstanceBuilder_.addAllMessages(other.changedNodeInstance_);
+            }
+          }
+        }
+        if (!other.removedNodeInstance_.isEmpty()) {
+          if (removedNodeInstance_.isEmpty()) {
+            removedNodeInstance_ = other.removedNodeInstance_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRemovedNodeInstanceIsMutable();
+            removedNodeInstance_.addAll(other.removedNodeInstance_);
+          }
+          onChanged();
+        }
+        if (exclusiveGroupBuilder_ == null) {
+          if (!other.exclusiveGroup_.isEmpty()) {
+            if (exclusiveGroup_.isEmpty()) {
+              exclusiveGroup_ = other.exclusiveGroup_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureExclusiveGroupIsMutable();
+              exclusiveGroup_.addAll(other.exclusiveGroup_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.exclusiveGroup_.isEmpty()) {
+            if (exclusiveGroupBuilder_.isEmpty()) {
+              exclusiveGroupBuilder_.dispose();
+              exclusiveGroupBuilder_ = null;
+              exclusiveGroup_ = other.exclusiveGroup_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              exclusiveGroupBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getExclusiveGroupFieldBuilder() : null;
+            } else {
+              exclusiveGroupBuilder_.addAllMessages(other.exclusiveGroup_);
+            }
+          }
+        }
+        if (iterationLevelsBuilder_ == null) {
+          if (!other.iterationLevels_.isEmpty()) {
+            if (iterationLevels_.isEmpty()) {
+              iterationLevels_ = other.iterationLevels_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureIterationLevelsIsMutable();
+              iterationLevels_.addAll(other.iterationLevels_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.iterationLevels_.isEmpty()) {
+            if (iterationLevelsBuilder_.isEmpty()) {
+              iterationLevelsBuilder_.dispose();
+              iterationLevelsBuilder_ = null;
+              iterationLevels_ = other.iterationLevels_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              iterationLevelsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getIterationLevelsFieldBuilder() : null;
+            } else {
+              iterationLevelsBuilder_.addAllMessages(other.iterationLevels_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.Builder, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstanceOrBuilder> headerBuilder_;
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return headerBuilder_ != null || header_ != null;
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       * @return The header.
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      public Builder setHeader(org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      public Builder setHeader(
+          org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      public Builder mergeHeader(org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance value) {
+        if (headerBuilder_ == null) {
+          if (header_ != null) {
+            header_ =
+              org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.newBuilder(header_).mergeFrom(value).buildPartial();
+          } else {
+            header_ = value;
+          }
+          onChanged();
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          header_ = null;
+          onChanged();
+        } else {
+          header_ = null;
+          headerBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.Builder getHeaderBuilder() {
+        
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstanceOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <pre>
+       * process instance fields outside the workflow context, always written in full
+       * </pre>
+       *
+       * <code>.org.kie.kogito.serialization.process.protobuf.ProcessInstance header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.Builder, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstanceOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance.Builder, org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstanceOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable> changedVariable_ =
+        java.util.Collections.emptyList();
+      private void ensureChangedVariableIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          changedVariable_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable>(changedVariable_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder> changedVariableBuilder_;
+
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable> getChangedVariableList() {
+        if (changedVariableBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(changedVariable_);
+        } else {
+          return changedVariableBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public int getChangedVariableCount() {
+        if (changedVariableBuilder_ == null) {
+          return changedVariable_.size();
+        } else {
+          return changedVariableBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable getChangedVariable(int index) {
+        if (changedVariableBuilder_ == null) {
+          return changedVariable_.get(index);
+        } else {
+          return changedVariableBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder setChangedVariable(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable value) {
+        if (changedVariableBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedVariableIsMutable();
+          changedVariable_.set(index, value);
+          onChanged();
+        } else {
+          changedVariableBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder setChangedVariable(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder builderForValue) {
+        if (changedVariableBuilder_ == null) {
+          ensureChangedVariableIsMutable();
+          changedVariable_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedVariableBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder addChangedVariable(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable value) {
+        if (changedVariableBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedVariableIsMutable();
+          changedVariable_.add(value);
+          onChanged();
+        } else {
+          changedVariableBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder addChangedVariable(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable value) {
+        if (changedVariableBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedVariableIsMutable();
+          changedVariable_.add(index, value);
+          onChanged();
+        } else {
+          changedVariableBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder addChangedVariable(
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder builderForValue) {
+        if (changedVariableBuilder_ == null) {
+          ensureChangedVariableIsMutable();
+          changedVariable_.add(builderForValue.build());
+          onChanged();
+        } else {
+          changedVariableBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder addChangedVariable(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder builderForValue) {
+        if (changedVariableBuilder_ == null) {
+          ensureChangedVariableIsMutable();
+          changedVariable_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedVariableBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder addAllChangedVariable(
+          java.lang.Iterable<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable> values) {
+        if (changedVariableBuilder_ == null) {
+          ensureChangedVariableIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, changedVariable_);
+          onChanged();
+        } else {
+          changedVariableBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder clearChangedVariable() {
+        if (changedVariableBuilder_ == null) {
+          changedVariable_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          changedVariableBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public Builder removeChangedVariable(int index) {
+        if (changedVariableBuilder_ == null) {
+          ensureChangedVariableIsMutable();
+          changedVariable_.remove(index);
+          onChanged();
+        } else {
+          changedVariableBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder getChangedVariableBuilder(
+          int index) {
+        return getChangedVariableFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder getChangedVariableOrBuilder(
+          int index) {
+        if (changedVariableBuilder_ == null) {
+          return changedVariable_.get(index);  } else {
+          return changedVariableBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder> 
+           getChangedVariableOrBuilderList() {
+        if (changedVariableBuilder_ != null) {
+          return changedVariableBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(changedVariable_);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder addChangedVariableBuilder() {
+        return getChangedVariableFieldBuilder().addBuilder(
+            org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder addChangedVariableBuilder(
+          int index) {
+        return getChangedVariableFieldBuilder().addBuilder(
+            index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.Variable changed_variable = 2;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder> 
+           getChangedVariableBuilderList() {
+        return getChangedVariableFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder> 
+          getChangedVariableFieldBuilder() {
+        if (changedVariableBuilder_ == null) {
+          changedVariableBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.VariableOrBuilder>(
+                  changedVariable_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          changedVariable_ = null;
+        }
+        return changedVariableBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringList removedVariable_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedVariableIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          removedVariable_ = new com.google.protobuf.LazyStringArrayList(removedVariable_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @return A list containing the removedVariable.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedVariableList() {
+        return removedVariable_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @return The count of removedVariable.
+       */
+      public int getRemovedVariableCount() {
+        return removedVariable_.size();
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @param index The index of the element to return.
+       * @return The removedVariable at the given index.
+       */
+      public java.lang.String getRemovedVariable(int index) {
+        return removedVariable_.get(index);
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedVariable at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedVariableBytes(int index) {
+        return removedVariable_.getByteString(index);
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The removedVariable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedVariable(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedVariableIsMutable();
+        removedVariable_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @param value The removedVariable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedVariable(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedVariableIsMutable();
+        removedVariable_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @param values The removedVariable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedVariable(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedVariableIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedVariable_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedVariable() {
+        removedVariable_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_variable = 3;</code>
+       * @param value The bytes of the removedVariable to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedVariableBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRemovedVariableIsMutable();
+        removedVariable_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance> changedNodeInstance_ =
+        java.util.Collections.emptyList();
+      private void ensureChangedNodeInstanceIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          changedNodeInstance_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance>(changedNodeInstance_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder> changedNodeInstanceBuilder_;
+
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance> getChangedNodeInstanceList() {
+        if (changedNodeInstanceBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(changedNodeInstance_);
+        } else {
+          return changedNodeInstanceBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public int getChangedNodeInstanceCount() {
+        if (changedNodeInstanceBuilder_ == null) {
+          return changedNodeInstance_.size();
+        } else {
+          return changedNodeInstanceBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance getChangedNodeInstance(int index) {
+        if (changedNodeInstanceBuilder_ == null) {
+          return changedNodeInstance_.get(index);
+        } else {
+          return changedNodeInstanceBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder setChangedNodeInstance(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance value) {
+        if (changedNodeInstanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.set(index, value);
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder setChangedNodeInstance(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder builderForValue) {
+        if (changedNodeInstanceBuilder_ == null) {
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder addChangedNodeInstance(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance value) {
+        if (changedNodeInstanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.add(value);
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder addChangedNodeInstance(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance value) {
+        if (changedNodeInstanceBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.add(index, value);
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder addChangedNodeInstance(
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder builderForValue) {
+        if (changedNodeInstanceBuilder_ == null) {
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.add(builderForValue.build());
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder addChangedNodeInstance(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder builderForValue) {
+        if (changedNodeInstanceBuilder_ == null) {
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder addAllChangedNodeInstance(
+          java.lang.Iterable<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance> values) {
+        if (changedNodeInstanceBuilder_ == null) {
+          ensureChangedNodeInstanceIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, changedNodeInstance_);
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder clearChangedNodeInstance() {
+        if (changedNodeInstanceBuilder_ == null) {
+          changedNodeInstance_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public Builder removeChangedNodeInstance(int index) {
+        if (changedNodeInstanceBuilder_ == null) {
+          ensureChangedNodeInstanceIsMutable();
+          changedNodeInstance_.remove(index);
+          onChanged();
+        } else {
+          changedNodeInstanceBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder getChangedNodeInstanceBuilder(
+          int index) {
+        return getChangedNodeInstanceFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder getChangedNodeInstanceOrBuilder(
+          int index) {
+        if (changedNodeInstanceBuilder_ == null) {
+          return changedNodeInstance_.get(index);  } else {
+          return changedNodeInstanceBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder> 
+           getChangedNodeInstanceOrBuilderList() {
+        if (changedNodeInstanceBuilder_ != null) {
+          return changedNodeInstanceBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(changedNodeInstance_);
+        }
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder addChangedNodeInstanceBuilder() {
+        return getChangedNodeInstanceFieldBuilder().addBuilder(
+            org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder addChangedNodeInstanceBuilder(
+          int index) {
+        return getChangedNodeInstanceFieldBuilder().addBuilder(
+            index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * top level node instances, work item transitions are part of the node instance content
+       * </pre>
+       *
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstance changed_node_instance = 4;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder> 
+           getChangedNodeInstanceBuilderList() {
+        return getChangedNodeInstanceFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder> 
+          getChangedNodeInstanceFieldBuilder() {
+        if (changedNodeInstanceBuilder_ == null) {
+          changedNodeInstanceBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceOrBuilder>(
+                  changedNodeInstance_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          changedNodeInstance_ = null;
+        }
+        return changedNodeInstanceBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringList removedNodeInstance_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedNodeInstanceIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          removedNodeInstance_ = new com.google.protobuf.LazyStringArrayList(removedNodeInstance_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @return A list containing the removedNodeInstance.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedNodeInstanceList() {
+        return removedNodeInstance_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @return The count of removedNodeInstance.
+       */
+      public int getRemovedNodeInstanceCount() {
+        return removedNodeInstance_.size();
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @param index The index of the element to return.
+       * @return The removedNodeInstance at the given index.
+       */
+      public java.lang.String getRemovedNodeInstance(int index) {
+        return removedNodeInstance_.get(index);
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedNodeInstance at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedNodeInstanceBytes(int index) {
+        return removedNodeInstance_.getByteString(index);
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The removedNodeInstance to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedNodeInstance(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedNodeInstanceIsMutable();
+        removedNodeInstance_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @param value The removedNodeInstance to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedNodeInstance(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedNodeInstanceIsMutable();
+        removedNodeInstance_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @param values The removedNodeInstance to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedNodeInstance(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedNodeInstanceIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedNodeInstance_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedNodeInstance() {
+        removedNodeInstance_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_node_instance = 5;</code>
+       * @param value The bytes of the removedNodeInstance to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedNodeInstanceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRemovedNodeInstanceIsMutable();
+        removedNodeInstance_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup> exclusiveGroup_ =
+        java.util.Collections.emptyList();
+      private void ensureExclusiveGroupIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          exclusiveGroup_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup>(exclusiveGroup_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder> exclusiveGroupBuilder_;
+
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup> getExclusiveGroupList() {
+        if (exclusiveGroupBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(exclusiveGroup_);
+        } else {
+          return exclusiveGroupBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public int getExclusiveGroupCount() {
+        if (exclusiveGroupBuilder_ == null) {
+          return exclusiveGroup_.size();
+        } else {
+          return exclusiveGroupBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup getExclusiveGroup(int index) {
+        if (exclusiveGroupBuilder_ == null) {
+          return exclusiveGroup_.get(index);
+        } else {
+          return exclusiveGroupBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder setExclusiveGroup(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup value) {
+        if (exclusiveGroupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.set(index, value);
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder setExclusiveGroup(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder builderForValue) {
+        if (exclusiveGroupBuilder_ == null) {
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder addExclusiveGroup(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup value) {
+        if (exclusiveGroupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.add(value);
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder addExclusiveGroup(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup value) {
+        if (exclusiveGroupBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.add(index, value);
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder addExclusiveGroup(
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder builderForValue) {
+        if (exclusiveGroupBuilder_ == null) {
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.add(builderForValue.build());
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder addExclusiveGroup(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder builderForValue) {
+        if (exclusiveGroupBuilder_ == null) {
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder addAllExclusiveGroup(
+          java.lang.Iterable<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup> values) {
+        if (exclusiveGroupBuilder_ == null) {
+          ensureExclusiveGroupIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, exclusiveGroup_);
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder clearExclusiveGroup() {
+        if (exclusiveGroupBuilder_ == null) {
+          exclusiveGroup_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public Builder removeExclusiveGroup(int index) {
+        if (exclusiveGroupBuilder_ == null) {
+          ensureExclusiveGroupIsMutable();
+          exclusiveGroup_.remove(index);
+          onChanged();
+        } else {
+          exclusiveGroupBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder getExclusiveGroupBuilder(
+          int index) {
+        return getExclusiveGroupFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder getExclusiveGroupOrBuilder(
+          int index) {
+        if (exclusiveGroupBuilder_ == null) {
+          return exclusiveGroup_.get(index);  } else {
+          return exclusiveGroupBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder> 
+           getExclusiveGroupOrBuilderList() {
+        if (exclusiveGroupBuilder_ != null) {
+          return exclusiveGroupBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(exclusiveGroup_);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder addExclusiveGroupBuilder() {
+        return getExclusiveGroupFieldBuilder().addBuilder(
+            org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder addExclusiveGroupBuilder(
+          int index) {
+        return getExclusiveGroupFieldBuilder().addBuilder(
+            index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.NodeInstanceGroup exclusive_group = 6;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder> 
+           getExclusiveGroupBuilderList() {
+        return getExclusiveGroupFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder> 
+          getExclusiveGroupFieldBuilder() {
+        if (exclusiveGroupBuilder_ == null) {
+          exclusiveGroupBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroup.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstanceGroupOrBuilder>(
+                  exclusiveGroup_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          exclusiveGroup_ = null;
+        }
+        return exclusiveGroupBuilder_;
+      }
+
+      private java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel> iterationLevels_ =
+        java.util.Collections.emptyList();
+      private void ensureIterationLevelsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          iterationLevels_ = new java.util.ArrayList<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel>(iterationLevels_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder> iterationLevelsBuilder_;
+
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel> getIterationLevelsList() {
+        if (iterationLevelsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(iterationLevels_);
+        } else {
+          return iterationLevelsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public int getIterationLevelsCount() {
+        if (iterationLevelsBuilder_ == null) {
+          return iterationLevels_.size();
+        } else {
+          return iterationLevelsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel getIterationLevels(int index) {
+        if (iterationLevelsBuilder_ == null) {
+          return iterationLevels_.get(index);
+        } else {
+          return iterationLevelsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder setIterationLevels(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel value) {
+        if (iterationLevelsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.set(index, value);
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder setIterationLevels(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder builderForValue) {
+        if (iterationLevelsBuilder_ == null) {
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder addIterationLevels(org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel value) {
+        if (iterationLevelsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.add(value);
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder addIterationLevels(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel value) {
+        if (iterationLevelsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.add(index, value);
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder addIterationLevels(
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder builderForValue) {
+        if (iterationLevelsBuilder_ == null) {
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.add(builderForValue.build());
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder addIterationLevels(
+          int index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder builderForValue) {
+        if (iterationLevelsBuilder_ == null) {
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder addAllIterationLevels(
+          java.lang.Iterable<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel> values) {
+        if (iterationLevelsBuilder_ == null) {
+          ensureIterationLevelsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, iterationLevels_);
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder clearIterationLevels() {
+        if (iterationLevelsBuilder_ == null) {
+          iterationLevels_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public Builder removeIterationLevels(int index) {
+        if (iterationLevelsBuilder_ == null) {
+          ensureIterationLevelsIsMutable();
+          iterationLevels_.remove(index);
+          onChanged();
+        } else {
+          iterationLevelsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder getIterationLevelsBuilder(
+          int index) {
+        return getIterationLevelsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder getIterationLevelsOrBuilder(
+          int index) {
+        if (iterationLevelsBuilder_ == null) {
+          return iterationLevels_.get(index);  } else {
+          return iterationLevelsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public java.util.List<? extends org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder> 
+           getIterationLevelsOrBuilderList() {
+        if (iterationLevelsBuilder_ != null) {
+          return iterationLevelsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(iterationLevels_);
+        }
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder addIterationLevelsBuilder() {
+        return getIterationLevelsFieldBuilder().addBuilder(
+            org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder addIterationLevelsBuilder(
+          int index) {
+        return getIterationLevelsFieldBuilder().addBuilder(
+            index, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.kie.kogito.serialization.process.protobuf.IterationLevel iterationLevels = 7;</code>
+       */
+      public java.util.List<org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder> 
+           getIterationLevelsBuilderList() {
+        return getIterationLevelsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder> 
+          getIterationLevelsFieldBuilder() {
+        if (iterationLevelsBuilder_ == null) {
+          iterationLevelsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevel.Builder, org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.IterationLevelOrBuilder>(
+                  iterationLevels_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          iterationLevels_ = null;
+        }
+        return iterationLevelsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.kie.kogito.serialization.process.protobuf.ProcessInstanceDelta)
+    private static final org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta();
+    }
+
+    public static org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ProcessInstanceDelta>
+        PARSER = new com.google.protobuf.AbstractParser<ProcessInstanceDelta>() {
+      @java.lang.Override
+      public ProcessInstanceDelta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProcessInstanceDelta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ProcessInstanceDelta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProcessInstanceDelta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\nQorg/kie/kogito/serialization/process/p" +
+      "rotobuf/kogito_process_instance_delta.pr" +
+      "oto\022-org.kie.kogito.serialization.proces" +
+      "s.protobuf\032@org/kie/kogito/serialization" +
+      "/process/protobuf/kogito_types.proto\032Kor" +
+      "g/kie/kogito/serialization/process/proto" +
+      "buf/kogito_process_instance.proto\"\201\004\n\024Pr" +
+      "ocessInstanceDelta\022N\n\006header\030\001 \001(\0132>.org" +
+      ".kie.kogito.serialization.process.protob" +
+      "uf.ProcessInstance\022Q\n\020changed_variable\030\002" +
+      " \003(\01327.org.kie.kogito.serialization.proc" +
+      "ess.protobuf.Variable\022\030\n\020removed_variabl" +
+      "e\030\003 \003(\t\022Z\n\025changed_node_instance\030\004 \003(\0132;" +
+      ".org.kie.kogito.serialization.process.pr" +
+      "otobuf.NodeInstance\022\035\n\025removed_node_inst" +
+      "ance\030\005 \003(\t\022Y\n\017exclusive_group\030\006 \003(\0132@.or" +
+      "g.kie.kogito.serialization.process.proto" +
+      "buf.NodeInstanceGroup\022V\n\017iterationLevels" +
+      "\030\007 \003(\0132=.org.kie.kogito.serialization.pr" +
+      "ocess.protobuf.IterationLevelB$B\"KogitoP" +
+      "rocessInstanceDeltaProtobufb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.getDescriptor(),
+          org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.getDescriptor(),
+        });
+    internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_kie_kogito_serialization_process_protobuf_ProcessInstanceDelta_descriptor,
+        new java.lang.String[] { "Header", "ChangedVariable", "RemovedVariable", "ChangedNodeInstance", "RemovedNodeInstance", "ExclusiveGroup", "IterationLevels", });
+    org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.getDescriptor();
+    org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
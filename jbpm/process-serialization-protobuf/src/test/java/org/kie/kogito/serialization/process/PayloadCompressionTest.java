@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.serialization.process.impl.DeflatePayloadCompressor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class PayloadCompressionTest {
+
+    private static final byte[] PAYLOAD = ("{\"variables\":[" + "{\"name\":\"value\"},".repeat(200) + "]}").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testRoundtrip() throws IOException {
+        byte[] compressed = PayloadCompression.of(DeflatePayloadCompressor.NAME, 0).compress(PAYLOAD);
+
+        assertThat(PayloadCompression.isCompressed(compressed)).isTrue();
+        assertThat(compressed.length).isLessThan(PAYLOAD.length);
+        assertThat(PayloadCompression.decompress(compressed)).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    public void testBelowThreshold() throws IOException {
+        byte[] data = PayloadCompression.of(DeflatePayloadCompressor.NAME, PAYLOAD.length + 1).compress(PAYLOAD);
+
+        assertThat(data).isSameAs(PAYLOAD);
+        assertThat(PayloadCompression.decompress(data)).isSameAs(PAYLOAD);
+    }
+
+    @Test
+    public void testDisabled() throws IOException {
+        assertThat(PayloadCompression.of(null, 0).isEnabled()).isFalse();
+        assertThat(PayloadCompression.of(PayloadCompression.NONE, 0).compress(PAYLOAD)).isSameAs(PAYLOAD);
+    }
+
+    @Test
+    public void testUnknownCompression() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> PayloadCompression.of("unknown", 0));
+    }
+}
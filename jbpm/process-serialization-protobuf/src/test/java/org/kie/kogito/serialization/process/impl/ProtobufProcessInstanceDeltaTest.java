@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.serialization.process.impl;
+
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceDeltaProtobuf.ProcessInstanceDelta;
+import org.kie.kogito.serialization.process.protobuf.KogitoProcessInstanceProtobuf.ProcessInstance;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.NodeInstance;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.Variable;
+import org.kie.kogito.serialization.process.protobuf.KogitoTypesProtobuf.WorkflowContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProtobufProcessInstanceDeltaTest {
+
+    private static final ProcessInstance BASE = ProcessInstance.newBuilder()
+            .setId("pi")
+            .setProcessId("process")
+            .setState(1)
+            .setContext(WorkflowContext.newBuilder()
+                    .addVariable(variable("unchanged", "string"))
+                    .addVariable(variable("changed", "string"))
+                    .addVariable(variable("removed", "string"))
+                    .addNodeInstance(nodeInstance("1", 1))
+                    .addNodeInstance(nodeInstance("2", 2)))
+            .build();
+
+    @Test
+    public void testDiffContainsOnlyChanges() {
+        ProcessInstance current = BASE.toBuilder()
+                .setState(2)
+                .setContext(WorkflowContext.newBuilder()
+                        .addVariable(variable("unchanged", "string"))
+                        .addVariable(variable("changed", "integer"))
+                        .addVariable(variable("added", "string"))
+                        .addNodeInstance(nodeInstance("2", 2))
+                        .addNodeInstance(nodeInstance("3", 3)))
+                .build();
+
+        ProcessInstanceDelta delta = ProtobufProcessInstanceDelta.diff(BASE, current);
+
+        assertThat(delta.getHeader().getState()).isEqualTo(2);
+        assertThat(delta.getHeader().hasContext()).isFalse();
+        assertThat(delta.getChangedVariableList()).extracting(Variable::getName).containsExactly("changed", "added");
+        assertThat(delta.getRemovedVariableList()).containsExactly("removed");
+        assertThat(delta.getChangedNodeInstanceList()).extracting(NodeInstance::getId).containsExactly("3");
+        assertThat(delta.getRemovedNodeInstanceList()).containsExactly("1");
+        assertThat(ProtobufProcessInstanceDelta.merge(BASE, delta)).isEqualTo(current);
+    }
+
+    @Test
+    public void testMergeSeveralDeltas() {
+        ProcessInstance first = BASE.toBuilder()
+                .setContext(BASE.getContext().toBuilder().addNodeInstance(nodeInstance("3", 3)))
+                .build();
+        ProcessInstance second = first.toBuilder()
+                .setContext(first.getContext().toBuilder().removeNodeInstance(0).removeVariable(2))
+                .build();
+
+        ProcessInstance merged = ProtobufProcessInstanceDelta.merge(BASE, ProtobufProcessInstanceDelta.diff(BASE, first));
+        merged = ProtobufProcessInstanceDelta.merge(merged, ProtobufProcessInstanceDelta.diff(first, second));
+
+        assertThat(merged).isEqualTo(second);
+    }
+
+    @Test
+    public void testNoChanges() {
+        ProcessInstanceDelta delta = ProtobufProcessInstanceDelta.diff(BASE, BASE);
+
+        assertThat(delta.getChangedVariableList()).isEmpty();
+        assertThat(delta.getRemovedVariableList()).isEmpty();
+        assertThat(delta.getChangedNodeInstanceList()).isEmpty();
+        assertThat(delta.getRemovedNodeInstanceList()).isEmpty();
+        assertThat(ProtobufProcessInstanceDelta.merge(BASE, delta)).isEqualTo(BASE);
+    }
+
+    private static Variable variable(String name, String dataType) {
+        return Variable.newBuilder().setName(name).setDataType(dataType).build();
+    }
+
+    private static NodeInstance nodeInstance(String id, long nodeId) {
+        return NodeInstance.newBuilder().setId(id).setNodeId(nodeId).build();
+    }
+}
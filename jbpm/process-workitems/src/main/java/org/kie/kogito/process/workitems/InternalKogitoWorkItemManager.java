@@ -17,6 +17,7 @@ package org.kie.kogito.process.workitems;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import org.drools.core.process.instance.WorkItem;
 import org.kie.api.runtime.process.WorkItemHandler;
@@ -26,6 +27,17 @@ public interface InternalKogitoWorkItemManager extends org.drools.core.process.i
 
     void internalExecuteWorkItem(InternalKogitoWorkItem workItem);
 
+    /**
+     * Executes the given work item through the registered handler as returned by the given decorator.
+     * Managers that do not support decorating handlers execute the work item as usual.
+     *
+     * @param workItem the work item to execute
+     * @param handlerDecorator function applied to the registered handler before execution
+     */
+    default void internalExecuteWorkItem(InternalKogitoWorkItem workItem, UnaryOperator<KogitoWorkItemHandler> handlerDecorator) {
+        internalExecuteWorkItem(workItem);
+    }
+
     void internalAddWorkItem(InternalKogitoWorkItem workItem);
 
     void internalAbortWorkItem(String id);
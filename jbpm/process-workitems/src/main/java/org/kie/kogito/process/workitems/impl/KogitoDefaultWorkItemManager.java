@@ -21,9 +21,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import org.drools.core.process.instance.WorkItem;
 import org.kie.internal.runtime.Closeable;
@@ -32,6 +32,7 @@ import org.kie.kogito.internal.process.runtime.KogitoProcessRuntime;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItem;
 import org.kie.kogito.internal.process.runtime.KogitoWorkItemHandler;
 import org.kie.kogito.internal.process.runtime.WorkItemNotFoundException;
+import org.kie.kogito.internal.utils.IdGenerators;
 import org.kie.kogito.process.workitem.NotAuthorizedException;
 import org.kie.kogito.process.workitem.Policy;
 import org.kie.kogito.process.workitems.InternalKogitoWorkItem;
@@ -59,11 +60,16 @@ public class KogitoDefaultWorkItemManager implements InternalKogitoWorkItemManag
 
     @Override
     public void internalExecuteWorkItem(InternalKogitoWorkItem workItem) {
-        ((KogitoWorkItemImpl) workItem).setId(UUID.randomUUID().toString());
+        internalExecuteWorkItem(workItem, UnaryOperator.identity());
+    }
+
+    @Override
+    public void internalExecuteWorkItem(InternalKogitoWorkItem workItem, UnaryOperator<KogitoWorkItemHandler> handlerDecorator) {
+        ((KogitoWorkItemImpl) workItem).setId(IdGenerators.newId());
         internalAddWorkItem(workItem);
         KogitoWorkItemHandler handler = this.workItemHandlers.get(workItem.getName());
         if (handler != null) {
-            handler.executeWorkItem(workItem, this);
+            handlerDecorator.apply(handler).executeWorkItem(workItem, this);
         } else
             throw new KogitoWorkItemHandlerNotFoundException(workItem.getName());
     }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl.expr;
+
+import org.kie.kogito.internal.cache.BoundedCache;
+
+/**
+ * Expression handler that parses every expression once and shares the parsed form.
+ * <p>
+ * Handlers are singletons per language (see {@link ExpressionHandlerFactory}), so the cache is shared
+ * by all the process instances. Parsed expressions must therefore be safe to evaluate concurrently.
+ * The cache holds at most {@value #DEFAULT_CACHE_SIZE} expressions, which can be changed with the
+ * {@value #CACHE_SIZE_PROPERTY} system property; once full, the least recently used expressions are
+ * evicted to make room for new ones.
+ */
+public abstract class CachingExpressionHandler implements ExpressionHandler {
+
+    public static final String CACHE_SIZE_PROPERTY = "kogito.expression.cache.size";
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final BoundedCache<String, ParsedExpression> parsedExpressions;
+
+    protected CachingExpressionHandler() {
+        this(Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE));
+    }
+
+    protected CachingExpressionHandler(int maxSize) {
+        this.parsedExpressions = new BoundedCache<>(maxSize);
+    }
+
+    @Override
+    public ParsedExpression parse(String expr) {
+        return parsedExpressions.computeIfAbsent(expr, this::doParse);
+    }
+
+    protected abstract ParsedExpression doParse(String expr);
+}
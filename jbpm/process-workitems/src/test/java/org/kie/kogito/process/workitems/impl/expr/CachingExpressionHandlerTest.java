@@ -0,0 +1,63 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.process.workitems.impl.expr;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CachingExpressionHandlerTest {
+
+    private static class TestExpressionHandler extends CachingExpressionHandler {
+
+        TestExpressionHandler(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        public boolean isExpr(String expr) {
+            return true;
+        }
+
+        @Override
+        protected ParsedExpression doParse(String expr) {
+            return new ParsedExpression() {
+                @Override
+                public <T> T eval(Object context, Class<T> returnClass) {
+                    return returnClass.cast(expr);
+                }
+            };
+        }
+    }
+
+    @Test
+    public void testExpressionIsParsedOnce() {
+        ExpressionHandler handler = new TestExpressionHandler(2);
+        assertSame(handler.parse("a"), handler.parse("a"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        ExpressionHandler handler = new TestExpressionHandler(2);
+        ParsedExpression recentlyUsed = handler.parse("a");
+        ParsedExpression leastRecentlyUsed = handler.parse("b");
+        assertSame(recentlyUsed, handler.parse("a"));
+        handler.parse("c");
+        assertSame(recentlyUsed, handler.parse("a"));
+        assertNotSame(leastRecentlyUsed, handler.parse("b"));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.drools.core.io.impl.ClassPathResource;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+
+/**
+ * Loads the sample processes shipped with the benchmarks. Every process uses the default in-memory process instances.
+ * <p>
+ * Processes are parsed from BPMN at runtime and run interpreted, not through the code generated at build time by an
+ * application, see the limitations in the README of this module.
+ */
+public final class BenchmarkProcesses {
+
+    public static final String STRAIGHT_THROUGH = "StraightThrough.bpmn2";
+    public static final String USER_TASK = "UserTask.bpmn2";
+    public static final String SIGNAL = "IntermediateCatchEventSignal.bpmn2";
+
+    public static final String SIGNAL_NAME = "MyMessage";
+    public static final String USER = "john";
+
+    private BenchmarkProcesses() {
+    }
+
+    public static BpmnProcess load(String resource) {
+        BpmnProcess process = BpmnProcess.from(new ClassPathResource(resource)).get(0);
+        process.configure();
+        return process;
+    }
+
+    public static ProcessInstance<BpmnVariables> createInstance(BpmnProcess process) {
+        return createInstance(process, Collections.emptyMap());
+    }
+
+    public static ProcessInstance<BpmnVariables> createInstance(BpmnProcess process, Map<String, Object> variables) {
+        return process.createInstance(BpmnVariables.create(variables));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.timer.impl.CronEvaluator;
+import org.kie.kogito.timer.impl.CronExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computation of the next fire time of cron timers, with the calendar based algorithm of the
+ * expression against the precomputed evaluator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CronEvaluatorBenchmark {
+
+    @Param({ "0 */5 9-17 ? * MON-FRI", "0 0 12 LW * ?", "0 30 2 ? * 6#3" })
+    public String expression;
+
+    private final Date after = new Date(1634644800000L);
+
+    private CronExpression cronExpression;
+    private CronEvaluator evaluator;
+
+    @Setup
+    public void setup() throws ParseException {
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Rome");
+        cronExpression = new CronExpression(expression);
+        cronExpression.setTimeZone(timeZone);
+        evaluator = CronEvaluator.of(expression, timeZone);
+    }
+
+    @Benchmark
+    public Date calendar() {
+        return cronExpression.getNextValidTimeAfter(after);
+    }
+
+    @Benchmark
+    public Date evaluator() {
+        return evaluator.getTimeAfter(after);
+    }
+}
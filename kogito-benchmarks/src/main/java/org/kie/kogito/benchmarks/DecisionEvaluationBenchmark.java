@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.kogito.dmn.DMNKogito;
+import org.kie.kogito.dmn.DmnDecisionModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DmnDecisionModel#evaluateAll} on the Traffic Violation model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionEvaluationBenchmark {
+
+    private static final String MODEL_RESOURCE = "/TrafficViolation.dmn";
+    private static final String MODEL_NAMESPACE = "https://github.com/kiegroup/drools/kie-dmn/_A4BCA8B8-CF08-433F-93B2-A2598F19ECFF";
+    private static final String MODEL_NAME = "Traffic Violation";
+
+    private DmnDecisionModel decisionModel;
+    private Map<String, Object> inputs;
+
+    @Setup
+    public void setup() {
+        DMNRuntime dmnRuntime = DMNKogito.createGenericDMNRuntime(
+                new InputStreamReader(DecisionEvaluationBenchmark.class.getResourceAsStream(MODEL_RESOURCE), StandardCharsets.UTF_8));
+        decisionModel = new DmnDecisionModel(dmnRuntime, MODEL_NAMESPACE, MODEL_NAME);
+
+        Map<String, Object> driver = new HashMap<>();
+        driver.put("Age", 25);
+        driver.put("Points", 10);
+        Map<String, Object> violation = new HashMap<>();
+        violation.put("Type", "speed");
+        violation.put("Actual Speed", 115);
+        violation.put("Speed Limit", 100);
+        inputs = new HashMap<>();
+        inputs.put("Driver", driver);
+        inputs.put("Violation", violation);
+    }
+
+    @Benchmark
+    public DMNResult evaluateAll() {
+        return decisionModel.evaluateAll(decisionModel.newContext(inputs));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jbpm.workflow.instance.impl.MVELProcessHelper;
+import org.mvel2.integration.impl.MapVariableResolverFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of the MVEL expressions used by for each collections, completion conditions and data mappings,
+ * interpreted from the expression text against the cached compiled form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MvelExpressionBenchmark {
+
+    @Param({ "items", "person.name", "items.size() > 1 && person.age >= 18" })
+    public String expression;
+
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> person = new HashMap<>();
+        person.put("name", "john");
+        person.put("age", 30);
+
+        variables = new HashMap<>();
+        variables.put("items", Arrays.asList("a", "b", "c"));
+        variables.put("person", person);
+    }
+
+    @Benchmark
+    public Object interpreted() {
+        return MVELProcessHelper.evaluator().eval(expression, new MapVariableResolverFactory(variables));
+    }
+
+    @Benchmark
+    public Object compiled() {
+        return MVELProcessHelper.eval(expression, new MapVariableResolverFactory(variables));
+    }
+}
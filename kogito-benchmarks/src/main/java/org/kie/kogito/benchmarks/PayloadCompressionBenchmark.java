@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CPU cost of payload compression in {@link ProcessInstanceMarshallerService} against the bytes it saves.
+ * The <code>payloadBytes</code> secondary result is the size of the marshalled instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadCompressionBenchmark {
+
+    @Param({ "none", "deflate" })
+    public String compression;
+
+    @Param({ "1024", "65536" })
+    public int variableSize;
+
+    private BpmnProcess process;
+    private ProcessInstanceMarshallerService marshaller;
+    private ProcessInstance<BpmnVariables> processInstance;
+    private byte[] marshalled;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        process = BenchmarkProcesses.load(BenchmarkProcesses.USER_TASK);
+        marshaller = ProcessInstanceMarshallerService.newBuilder()
+                .withDefaultObjectMarshallerStrategies()
+                .withCompression(compression, 0)
+                .build();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("s", jsonLike(variableSize));
+        processInstance = BenchmarkProcesses.createInstance(process, variables);
+        processInstance.start();
+        marshalled = marshaller.marshallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public byte[] marshall(PayloadSize size) {
+        byte[] data = marshaller.marshallProcessInstance(processInstance);
+        size.payloadBytes = data.length;
+        return data;
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshall() {
+        return marshaller.unmarshallProcessInstance(marshalled, process);
+    }
+
+    private static String jsonLike(int size) {
+        StringBuilder sb = new StringBuilder(size + 64).append('[');
+        for (int i = 0; sb.length() < size; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append("\",\"active\":").append(i % 2 == 0).append("},");
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.kie.api.definition.process.Process;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of a process definition the way the generated {@code process()} method builds it
+ * on startup, validating the definition against only linking it, for an increasing number of nodes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessDefinitionBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int nodes;
+
+    @Benchmark
+    public Process validated() {
+        return build().validate().getProcess();
+    }
+
+    @Benchmark
+    public Process linked() {
+        return build().link().getProcess();
+    }
+
+    private RuleFlowProcessFactory build() {
+        RuleFlowProcessFactory factory = RuleFlowProcessFactory.createProcess("org.kie.kogito.benchmarks.Definition");
+        factory.name("Definition").packageName("org.kie.kogito.benchmarks").dynamic(false).version("1.0");
+        factory.startNode(1).name("Start").done();
+        for (long id = 2; id <= nodes + 1; id++) {
+            factory.actionNode(id).name("Action " + id).action(kcontext -> {
+            }).done();
+            factory.connection(id - 1, id);
+        }
+        factory.endNode(nodes + 2L).name("End").done();
+        factory.connection(nodes + 1L, nodes + 2L);
+        return factory;
+    }
+}
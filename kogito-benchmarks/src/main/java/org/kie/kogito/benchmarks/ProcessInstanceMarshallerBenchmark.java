@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.serialization.process.MarshallerContextName;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ProcessInstanceMarshallerService} marshalling and unmarshalling of an instance waiting at a user task,
+ * in both protobuf and JSON formats and with variables of growing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessInstanceMarshallerBenchmark {
+
+    @Param({ "protobuf", "json" })
+    public String format;
+
+    @Param({ "16", "16384" })
+    public int variableSize;
+
+    private BpmnProcess process;
+    private ProcessInstanceMarshallerService marshaller;
+    private ProcessInstance<BpmnVariables> processInstance;
+    private byte[] marshalled;
+
+    @Setup
+    public void setup() {
+        process = BenchmarkProcesses.load(BenchmarkProcesses.USER_TASK);
+        ProcessInstanceMarshallerService.Builder builder = ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies();
+        if ("json".equals(format)) {
+            builder.withContextEntries(Collections.singletonMap(MarshallerContextName.MARSHALLER_FORMAT, MarshallerContextName.MARSHALLER_FORMAT_JSON));
+        }
+        marshaller = builder.build();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("s", "x".repeat(variableSize));
+        processInstance = BenchmarkProcesses.createInstance(process, variables);
+        processInstance.start();
+        marshalled = marshaller.marshallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public byte[] marshall() {
+        return marshaller.marshallProcessInstance(processInstance);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshall() {
+        return marshaller.unmarshallProcessInstance(marshalled, process);
+    }
+
+    @Benchmark
+    public ProcessInstance<?> unmarshallReadOnly() {
+        return marshaller.unmarshallReadOnlyProcessInstance(marshalled, process);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.auth.SecurityPolicy;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.WorkItem;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.services.identity.StaticIdentityProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the process definition retrieval from concurrent threads, and the lookup of a work item
+ * by id in an active process instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessLookupBenchmark {
+
+    private final SecurityPolicy policy = SecurityPolicy.of(new StaticIdentityProvider(BenchmarkProcesses.USER));
+
+    private BpmnProcess process;
+    private ProcessInstance<BpmnVariables> processInstance;
+    private String workItemId;
+
+    @Setup
+    public void setup() {
+        process = BenchmarkProcesses.load(BenchmarkProcesses.USER_TASK);
+        processInstance = BenchmarkProcesses.createInstance(process);
+        processInstance.start();
+        workItemId = processInstance.workItems(policy).get(0).getId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public org.kie.api.definition.process.Process processDefinition() {
+        return process.get();
+    }
+
+    @Benchmark
+    public WorkItem workItem() {
+        return processInstance.workItem(workItemId, policy);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code AbstractProcessInstance.start} for a process that completes straight through
+ * and for one that stops at a user task.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessStartBenchmark {
+
+    private BpmnProcess straightThrough;
+    private BpmnProcess userTask;
+
+    @Setup
+    public void setup() {
+        straightThrough = BenchmarkProcesses.load(BenchmarkProcesses.STRAIGHT_THROUGH);
+        userTask = BenchmarkProcesses.load(BenchmarkProcesses.USER_TASK);
+    }
+
+    @Benchmark
+    public ProcessInstance<BpmnVariables> startStraightThrough() {
+        ProcessInstance<BpmnVariables> processInstance = BenchmarkProcesses.createInstance(straightThrough);
+        processInstance.start();
+        return processInstance;
+    }
+
+    @Benchmark
+    public ProcessInstance<BpmnVariables> startAndAbortUserTask() {
+        ProcessInstance<BpmnVariables> processInstance = BenchmarkProcesses.createInstance(userTask);
+        processInstance.start();
+        // abort so the in-memory store does not grow during the measurement
+        processInstance.abort();
+        return processInstance;
+    }
+}
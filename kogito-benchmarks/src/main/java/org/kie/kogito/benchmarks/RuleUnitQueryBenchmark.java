@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.benchmarks.ruleunit.AdultUnit;
+import org.kie.kogito.benchmarks.ruleunit.Person;
+import org.kie.kogito.rules.RuleUnit;
+import org.kie.kogito.rules.RuleUnitInstance;
+import org.kie.kogito.rules.units.InterpretedRuleUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rule unit {@code executeQuery} on an already created instance, and the whole
+ * create, query and dispose cycle performed by the generated query endpoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleUnitQueryBenchmark {
+
+    private static final String QUERY = "FindAdults";
+
+    @Param({ "10", "1000" })
+    public int persons;
+
+    private RuleUnit<AdultUnit> ruleUnit;
+    private RuleUnitInstance<AdultUnit> instance;
+
+    @Setup
+    public void setup() {
+        ruleUnit = InterpretedRuleUnit.of(AdultUnit.class);
+        instance = ruleUnit.createInstance(populate(new AdultUnit()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.dispose();
+    }
+
+    private AdultUnit populate(AdultUnit unit) {
+        for (int i = 0; i < persons; i++) {
+            unit.getPersons().add(new Person("person" + i, i % 40));
+        }
+        return unit;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executeQuery() {
+        return instance.executeQuery(QUERY);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> createExecuteQueryAndDispose() {
+        RuleUnitInstance<AdultUnit> unitInstance = ruleUnit.createInstance(populate(new AdultUnit()));
+        try {
+            return unitInstance.executeQuery(QUERY);
+        } finally {
+            unitInstance.dispose();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.auth.SecurityPolicy;
+import org.kie.kogito.process.ProcessInstance;
+import org.kie.kogito.process.bpmn2.BpmnProcess;
+import org.kie.kogito.process.bpmn2.BpmnVariables;
+import org.kie.kogito.services.identity.StaticIdentityProvider;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the completion of a user task work item, and the end of a {@code CollectingUnitOfWork}
+ * that collected the work produced by starting and completing an instance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitOfWorkBenchmark {
+
+    private final SecurityPolicy policy = SecurityPolicy.of(new StaticIdentityProvider(BenchmarkProcesses.USER));
+
+    private BpmnProcess process;
+    private UnitOfWorkManager unitOfWorkManager;
+
+    @Setup
+    public void setup() {
+        process = BenchmarkProcesses.load(BenchmarkProcesses.USER_TASK);
+        unitOfWorkManager = process.getApplication().unitOfWorkManager();
+    }
+
+    @State(Scope.Thread)
+    public static class WaitingInstance {
+
+        ProcessInstance<BpmnVariables> processInstance;
+        String workItemId;
+
+        @Setup(Level.Invocation)
+        public void startInstance(UnitOfWorkBenchmark benchmark) {
+            processInstance = BenchmarkProcesses.createInstance(benchmark.process);
+            processInstance.start();
+            workItemId = processInstance.workItems(benchmark.policy).get(0).getId();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CollectedWork {
+
+        UnitOfWork unitOfWork;
+
+        @Setup(Level.Invocation)
+        public void collectWork(UnitOfWorkBenchmark benchmark) {
+            unitOfWork = benchmark.unitOfWorkManager.newUnitOfWork();
+            unitOfWork.start();
+            ProcessInstance<BpmnVariables> processInstance = BenchmarkProcesses.createInstance(benchmark.process);
+            processInstance.start();
+            String workItemId = processInstance.workItems(benchmark.policy).get(0).getId();
+            processInstance.completeWorkItem(workItemId, Collections.emptyMap(), benchmark.policy);
+        }
+    }
+
+    @Benchmark
+    public ProcessInstance<BpmnVariables> completeWorkItem(WaitingInstance waiting) {
+        waiting.processInstance.completeWorkItem(waiting.workItemId, Collections.emptyMap(), policy);
+        return waiting.processInstance;
+    }
+
+    @Benchmark
+    public UnitOfWork endUnitOfWork(CollectedWork collected) {
+        collected.unitOfWork.end();
+        return collected.unitOfWork;
+    }
+}
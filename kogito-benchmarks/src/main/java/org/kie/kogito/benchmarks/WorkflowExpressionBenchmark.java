@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.kogito.expr.jq.JqParsedExpression;
+import org.kie.kogito.expr.jsonpath.JsonPathParsedExpression;
+import org.kie.kogito.jackson.utils.ObjectMapperFactory;
+import org.kie.kogito.process.workitems.impl.expr.ExpressionHandlerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import net.thisptr.jackson.jq.BuiltinFunctionLoader;
+import net.thisptr.jackson.jq.Versions;
+
+/**
+ * Per evaluation cost of the jq and JsonPath expressions used by serverless workflow state data filters,
+ * parsing the expression on every call against the parsed expressions shared through the expression handlers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkflowExpressionBenchmark {
+
+    private static final String JQ_EXPRESSION = ".person.name";
+    private static final String JSONPATH_EXPRESSION = "$.person.name";
+
+    private net.thisptr.jackson.jq.Scope jqScope;
+    private ObjectNode workflowData;
+
+    @Setup
+    public void setup() {
+        jqScope = net.thisptr.jackson.jq.Scope.newEmptyScope();
+        BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, jqScope);
+
+        workflowData = ObjectMapperFactory.get().createObjectNode();
+        workflowData.putObject("person").put("name", "john").put("age", 30);
+        workflowData.putArray("items").add("a").add("b").add("c");
+    }
+
+    @Benchmark
+    public String jqParsedEveryTime() {
+        return new JqParsedExpression(jqScope, JQ_EXPRESSION).eval(workflowData, String.class);
+    }
+
+    @Benchmark
+    public String jqCached() {
+        return ExpressionHandlerFactory.get("jq").parse(JQ_EXPRESSION).eval(workflowData, String.class);
+    }
+
+    @Benchmark
+    public String jsonPathParsedEveryTime() {
+        return new JsonPathParsedExpression(JSONPATH_EXPRESSION).eval(workflowData, String.class);
+    }
+
+    @Benchmark
+    public String jsonPathCached() {
+        return ExpressionHandlerFactory.get("jsonpath").parse(JSONPATH_EXPRESSION).eval(workflowData, String.class);
+    }
+}
@@ -219,4 +219,78 @@ public class CallActivityTaskIT extends AbstractCodegenIT {
         assertThat(result.toMap().get("y")).isNotNull().isEqualTo("new value");
         assertThat(result.toMap().get("x")).isNotNull().isEqualTo("a");
     }
+
+    @Test
+    public void testNestedCallActivityTask() throws Exception {
+
+        Application app = generateCodeProcessesOnly("subprocess/CallActivityNested.bpmn2", "subprocess/CallActivity.bpmn2", "subprocess/CallActivitySubProcess.bpmn2");
+        assertThat(app).isNotNull();
+
+        Process<? extends Model> p = app.get(Processes.class).processById("NestedParentProcess");
+
+        Model m = p.createModel();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("x", "a");
+        parameters.put("y", "b");
+        m.fromMap(parameters);
+
+        ProcessInstance<?> processInstance = p.createInstance(m);
+        processInstance.start();
+
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_COMPLETED);
+        Model result = (Model) processInstance.variables();
+        assertThat(result.toMap()).hasSize(2).containsKeys("x", "y");
+        assertThat(result.toMap().get("y")).isNotNull().isEqualTo("new value");
+        assertThat(result.toMap().get("x")).isNotNull().isEqualTo("a");
+
+        assertThat(app.get(Processes.class).processById("ParentProcess").instances().values()).isEmpty();
+        assertThat(app.get(Processes.class).processById("SubProcess").instances().values()).isEmpty();
+    }
+
+    @Test
+    public void testCallActivityTaskWithFailingSubProcess() throws Exception {
+
+        Application app = generateCodeProcessesOnly("subprocess/CallActivityBoundaryError.bpmn2", "subprocess/CallActivitySubProcessError.bpmn2");
+        assertThat(app).isNotNull();
+
+        Process<? extends Model> p = app.get(Processes.class).processById("ParentProcessBoundaryError");
+
+        Model m = p.createModel();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("x", "a");
+        parameters.put("y", "b");
+        m.fromMap(parameters);
+
+        ProcessInstance<?> processInstance = p.createInstance(m);
+        processInstance.start();
+
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_COMPLETED);
+        Model result = (Model) processInstance.variables();
+        assertThat(result.toMap().get("x")).isEqualTo("handled");
+        assertThat(result.toMap().get("y")).isEqualTo("failed");
+        assertThat(app.get(Processes.class).processById("SubProcessError").instances().values()).isEmpty();
+    }
+
+    @Test
+    public void testCallActivityTaskWithSubProcessAbortingParent() throws Exception {
+
+        Application app = generateCodeProcessesOnly("subprocess/CallActivityAbortParent.bpmn2", "subprocess/CallActivitySubProcessError.bpmn2");
+        assertThat(app).isNotNull();
+
+        Process<? extends Model> p = app.get(Processes.class).processById("ParentProcessAbortParent");
+
+        Model m = p.createModel();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("x", "a");
+        parameters.put("y", "b");
+        m.fromMap(parameters);
+
+        ProcessInstance<?> processInstance = p.createInstance(m);
+        processInstance.start();
+
+        // the sub process aborts while the call activity is starting it, with no boundary event to handle its error
+        assertThat(processInstance.status()).isEqualTo(ProcessInstance.STATE_ABORTED);
+        assertThat(p.instances().values()).isEmpty();
+        assertThat(app.get(Processes.class).processById("SubProcessError").instances().values()).isEmpty();
+    }
 }
@@ -95,6 +95,10 @@ public class MessageConsumerGenerator {
         return generator.generatedFilePath();
     }
 
+    public String processId() {
+        return processId;
+    }
+
     public String generate() {
         CompilationUnit clazz = generator.compilationUnitOrThrow("Cannot generate message consumer");
 
@@ -68,6 +68,10 @@ public class MessageDataEventGenerator {
         return generator.generatedFilePath();
     }
 
+    public String processId() {
+        return processId;
+    }
+
     public String generate() {
         CompilationUnit clazz = generator.compilationUnitOrThrow();
 
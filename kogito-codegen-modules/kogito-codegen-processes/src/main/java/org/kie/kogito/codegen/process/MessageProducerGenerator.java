@@ -118,4 +118,8 @@ public class MessageProducerGenerator {
     public String generatedFilePath() {
         return generator.generatedFilePath();
     }
+
+    public String processId() {
+        return processId;
+    }
 }
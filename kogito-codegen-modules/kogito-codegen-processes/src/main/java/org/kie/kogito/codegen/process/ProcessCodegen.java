@@ -26,11 +26,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.drools.core.io.impl.FileSystemResource;
@@ -75,6 +79,8 @@ import org.xml.sax.SAXException;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.kie.kogito.grafana.GrafanaConfigurationWriter.buildDashboardName;
 import static org.kie.kogito.grafana.GrafanaConfigurationWriter.generateOperationalDashboard;
@@ -85,6 +91,14 @@ import static org.kie.kogito.grafana.GrafanaConfigurationWriter.generateOperatio
 public class ProcessCodegen extends AbstractGenerator {
 
     public static final String GENERATOR_NAME = "processes";
+    /**
+     * Renders the classes of the different processes in parallel
+     */
+    public static final String PARALLEL_CONFIGURATION_KEY = CONFIG_PREFIX + GENERATOR_NAME + ".parallel";
+    /**
+     * Reuses the classes generated by the previous build for the processes that did not change
+     */
+    public static final String INCREMENTAL_CONFIGURATION_KEY = CONFIG_PREFIX + GENERATOR_NAME + ".incremental";
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessCodegen.class);
 
     private static final GeneratedFileType PROCESS_TYPE = GeneratedFileType.of("PROCESS", GeneratedFileType.Category.SOURCE);
@@ -248,7 +262,9 @@ public class ProcessCodegen extends AbstractGenerator {
     private static Process parseWorkflowFile(Resource r, String parser) {
         try (Reader reader = r.getReader()) {
             ServerlessWorkflowParser workflowParser = ServerlessWorkflowParser.of(reader, parser);
-            return workflowParser.getProcess();
+            Process process = workflowParser.getProcess();
+            ((org.jbpm.process.core.Process) process).setResource(r);
+            return process;
         } catch (IOException e) {
             throw new ProcessParsingException("Could not parse file " + r.getSourcePath(), e);
         } catch (RuntimeException e) {
@@ -261,15 +277,21 @@ public class ProcessCodegen extends AbstractGenerator {
             XmlProcessReader xmlReader = new XmlProcessReader(
                     BPMN_SEMANTIC_MODULES,
                     Thread.currentThread().getContextClassLoader());
-            return xmlReader.read(reader);
+            List<Process> processes = xmlReader.read(reader);
+            // keep track of the definition, used by the incremental generation
+            processes.forEach(process -> ((org.jbpm.process.core.Process) process).setResource(r));
+            return processes;
         } catch (SAXException | IOException e) {
             throw new ProcessParsingException("Could not parse file " + r.getSourcePath(), e);
         }
     }
 
     private final Map<String, KogitoWorkflowProcess> processes;
-    private final Set<GeneratedFile> generatedFiles = new HashSet<>();
+    private final List<PendingFiles> pendingFiles = new ArrayList<>();
+    private final Map<String, GeneratedFile> generatedFiles = new LinkedHashMap<>();
     private final Optional<ChannelMappingStrategy> mappingStrategy;
+    private final boolean parallel;
+    private final Optional<ProcessCodegenCache> cache;
 
     public ProcessCodegen(KogitoBuildContext context, Collection<? extends Process> processes) {
         super(context, GENERATOR_NAME, new ProcessConfigGenerator(context));
@@ -281,6 +303,14 @@ public class ProcessCodegen extends AbstractGenerator {
             this.processes.put(process.getId(), (KogitoWorkflowProcess) process);
         }
         mappingStrategy = context().getAddonsConfig().useCloudEvents() ? Optional.of(getChannelMappingStrategy()) : Optional.empty();
+        parallel = isEnabled(context, PARALLEL_CONFIGURATION_KEY);
+        cache = isEnabled(context, INCREMENTAL_CONFIGURATION_KEY) && context.getAppPaths().hasProjectPaths()
+                ? Optional.of(ProcessCodegenCache.of(context))
+                : Optional.empty();
+    }
+
+    private static boolean isEnabled(KogitoBuildContext context, String configurationKey) {
+        return context.getApplicationProperty(configurationKey).map("true"::equalsIgnoreCase).orElse(false);
     }
 
     public static String defaultWorkItemHandlerConfigClass(String packageName) {
@@ -317,7 +347,7 @@ public class ProcessCodegen extends AbstractGenerator {
     protected Collection<GeneratedFile> internalGenerate() {
 
         List<ProcessGenerator> ps = new ArrayList<>();
-        List<ProcessInstanceGenerator> pis = new ArrayList<>();
+        Map<String, ProcessInstanceGenerator> pis = new LinkedHashMap<>();
         List<ProcessExecutableModelGenerator> processExecutableModelGenerators = new ArrayList<>();
         List<ProcessResourceGenerator> rgs = new ArrayList<>(); // REST resources
         List<MessageDataEventGenerator> mdegs = new ArrayList<>(); // message data events
@@ -348,9 +378,10 @@ public class ProcessCodegen extends AbstractGenerator {
         }
 
         // then we generate user task inputs and outputs if any
-        for (WorkflowProcess workFlowProcess : processes.values()) {
-            UserTasksModelClassGenerator utcg = new UserTasksModelClassGenerator(workFlowProcess);
-            processIdToUserTaskModel.put(workFlowProcess.getId(), utcg.generate());
+        List<KogitoWorkflowProcess> workFlowProcesses = new ArrayList<>(processes.values());
+        List<List<UserTaskModelMetaData>> userTaskModels = forEachProcess(workFlowProcesses, workFlowProcess -> new UserTasksModelClassGenerator(workFlowProcess).generate());
+        for (int i = 0; i < workFlowProcesses.size(); i++) {
+            processIdToUserTaskModel.put(workFlowProcesses.get(i).getId(), userTaskModels.get(i));
         }
 
         // then we can instantiate the exec model generator
@@ -361,17 +392,17 @@ public class ProcessCodegen extends AbstractGenerator {
         // collect all process descriptors (exec model)
         for (KogitoWorkflowProcess workFlowProcess : processes.values()) {
             introspector.introspect(workFlowProcess);
-            ProcessExecutableModelGenerator execModelGen =
-                    new ProcessExecutableModelGenerator(workFlowProcess, execModelGenerator);
-            String packageName = workFlowProcess.getPackageName();
-            String id = workFlowProcess.getId();
+            processExecutableModelGenerators.add(new ProcessExecutableModelGenerator(workFlowProcess, execModelGenerator));
+        }
+        List<ProcessMetaData> processMetaData = forEachProcess(processExecutableModelGenerators, execModelGen -> {
             try {
-                ProcessMetaData generate = execModelGen.generate();
-                processIdToMetadata.put(id, generate);
-                processExecutableModelGenerators.add(execModelGen);
+                return execModelGen.generate();
             } catch (RuntimeException e) {
-                throw new ProcessCodegenException(id, packageName, e);
+                throw new ProcessCodegenException(execModelGen.getProcessId(), execModelGen.process().getPackageName(), e);
             }
+        });
+        for (int i = 0; i < processExecutableModelGenerators.size(); i++) {
+            processIdToMetadata.put(processExecutableModelGenerators.get(i).getProcessId(), processMetaData.get(i));
         }
 
         // generate Process, ProcessInstance classes and the REST resource
@@ -455,100 +486,103 @@ public class ProcessCodegen extends AbstractGenerator {
             processGenerators.add(p);
 
             ps.add(p);
-            pis.add(pi);
+            pis.put(workFlowProcess.getId(), pi);
         }
 
-        eventGenerators.values().forEach(eventGenerator -> storeFile(GeneratedFileType.SOURCE, eventGenerator.generateFilePath(), eventGenerator.generate()));
+        eventGenerators.values().forEach(eventGenerator -> storeFile(GeneratedFileType.SOURCE, eventGenerator.generateFilePath(), eventGenerator::generate));
 
-        for (ModelClassGenerator modelClassGenerator : processIdToModelGenerator.values()) {
+        for (Entry<String, ModelClassGenerator> entry : processIdToModelGenerator.entrySet()) {
+            ModelClassGenerator modelClassGenerator = entry.getValue();
             ModelMetaData mmd = modelClassGenerator.generate();
-            storeFile(MODEL_TYPE, modelClassGenerator.generatedFilePath(),
-                    mmd.generate());
+            storeFile(entry.getKey(), MODEL_TYPE, modelClassGenerator.generatedFilePath(), mmd::generate);
         }
 
-        for (ModelClassGenerator modelClassGenerator : processIdToModelGenerator.values()) {
+        for (Entry<String, InputModelClassGenerator> entry : processIdToInputModelGenerator.entrySet()) {
+            InputModelClassGenerator modelClassGenerator = entry.getValue();
             ModelMetaData mmd = modelClassGenerator.generate();
-            storeFile(MODEL_TYPE, modelClassGenerator.generatedFilePath(),
-                    mmd.generate());
+            storeFile(entry.getKey(), MODEL_TYPE, modelClassGenerator.generatedFilePath(), mmd::generate);
         }
 
-        for (InputModelClassGenerator modelClassGenerator : processIdToInputModelGenerator.values()) {
+        for (Entry<String, OutputModelClassGenerator> entry : processIdToOutputModelGenerator.entrySet()) {
+            OutputModelClassGenerator modelClassGenerator = entry.getValue();
             ModelMetaData mmd = modelClassGenerator.generate();
-            storeFile(MODEL_TYPE, modelClassGenerator.generatedFilePath(),
-                    mmd.generate());
+            storeFile(entry.getKey(), MODEL_TYPE, modelClassGenerator.generatedFilePath(), mmd::generate);
         }
 
-        for (OutputModelClassGenerator modelClassGenerator : processIdToOutputModelGenerator.values()) {
-            ModelMetaData mmd = modelClassGenerator.generate();
-            storeFile(MODEL_TYPE, modelClassGenerator.generatedFilePath(),
-                    mmd.generate());
-        }
-
-        for (List<UserTaskModelMetaData> utmd : processIdToUserTaskModel.values()) {
+        for (Entry<String, List<UserTaskModelMetaData>> entry : processIdToUserTaskModel.entrySet()) {
 
-            for (UserTaskModelMetaData ut : utmd) {
-                storeFile(MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(ut.getInputModelClassName()), ut.generateInput());
+            for (UserTaskModelMetaData ut : entry.getValue()) {
+                storeFile(entry.getKey(), MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(ut.getInputModelClassName()), ut::generateInput);
 
-                storeFile(MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(ut.getOutputModelClassName()), ut.generateOutput());
+                storeFile(entry.getKey(), MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(ut.getOutputModelClassName()), ut::generateOutput);
 
-                storeFile(MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(ut.getTaskModelClassName()), ut.generateModel());
+                storeFile(entry.getKey(), MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(ut.getTaskModelClassName()), ut::generateModel);
             }
         }
 
         if (context().hasRESTForGenerator(this)) {
             for (ProcessResourceGenerator resourceGenerator : rgs) {
-                storeFile(REST_TYPE, resourceGenerator.generatedFilePath(),
-                        resourceGenerator.generate());
-                storeFile(MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(resourceGenerator.getTaskModelFactoryClassName()), resourceGenerator.getTaskModelFactory());
+                // the task model factory is only known once the REST resource has been generated
+                storeFiles(resourceGenerator.processId(), () -> Arrays.asList(
+                        new GeneratedFile(REST_TYPE, resourceGenerator.generatedFilePath(), resourceGenerator.generate()),
+                        new GeneratedFile(MODEL_TYPE, UserTasksModelClassGenerator.generatedFilePath(resourceGenerator.getTaskModelFactoryClassName()),
+                                resourceGenerator.getTaskModelFactory())));
             }
             //Generating the Producer classes for Dependency Injection
             StaticDependencyInjectionProducerGenerator.of(context())
                     .generate()
                     .entrySet()
-                    .forEach(entry -> storeFile(PRODUCER_TYPE, entry.getKey(), entry.getValue()));
+                    .forEach(entry -> storeFile(PRODUCER_TYPE, entry.getKey(), entry::getValue));
         }
 
         for (MessageDataEventGenerator messageDataEventGenerator : mdegs) {
-            storeFile(GeneratedFileType.SOURCE, messageDataEventGenerator.generatedFilePath(),
-                    messageDataEventGenerator.generate());
+            storeFile(messageDataEventGenerator.processId(), GeneratedFileType.SOURCE, messageDataEventGenerator.generatedFilePath(),
+                    messageDataEventGenerator::generate);
         }
 
         for (MessageConsumerGenerator messageConsumerGenerator : megs) {
-            storeFile(MESSAGE_CONSUMER_TYPE, messageConsumerGenerator.generatedFilePath(),
-                    messageConsumerGenerator.generate());
+            storeFile(messageConsumerGenerator.processId(), MESSAGE_CONSUMER_TYPE, messageConsumerGenerator.generatedFilePath(),
+                    messageConsumerGenerator::generate);
         }
 
         for (MessageProducerGenerator messageProducerGenerator : mpgs) {
-            storeFile(MESSAGE_PRODUCER_TYPE, messageProducerGenerator.generatedFilePath(),
-                    messageProducerGenerator.generate());
+            storeFile(messageProducerGenerator.processId(), MESSAGE_PRODUCER_TYPE, messageProducerGenerator.generatedFilePath(),
+                    messageProducerGenerator::generate);
         }
 
         for (ProcessGenerator p : ps) {
-            storeFile(PROCESS_TYPE, p.generatedFilePath(), p.generate());
-
-            p.getAdditionalClasses().forEach(cp -> {
-                String packageName = cp.getPackageDeclaration().map(pd -> pd.getName().toString()).orElse("");
-                String clazzName = cp.findFirst(ClassOrInterfaceDeclaration.class).map(cls -> cls.getName().toString()).get();
-                String path = (packageName + "." + clazzName).replace('.', '/') + ".java";
-                storeFile(GeneratedFileType.SOURCE, path, cp.toString());
+            // additional classes are only known once the process class has been generated
+            storeFiles(p.processId(), () -> {
+                List<GeneratedFile> files = new ArrayList<>();
+                files.add(new GeneratedFile(PROCESS_TYPE, p.generatedFilePath(), p.generate()));
+                p.getAdditionalClasses().forEach(cp -> {
+                    String packageName = cp.getPackageDeclaration().map(pd -> pd.getName().toString()).orElse("");
+                    String clazzName = cp.findFirst(ClassOrInterfaceDeclaration.class).map(cls -> cls.getName().toString()).get();
+                    String path = (packageName + "." + clazzName).replace('.', '/') + ".java";
+                    files.add(new GeneratedFile(GeneratedFileType.SOURCE, path, cp.toString()));
+                });
+                return files;
             });
         }
 
         if ((context().getAddonsConfig().useProcessSVG())) {
             Map<String, String> svgs = context().getContextAttribute(ContextAttributesConstants.PROCESS_AUTO_SVG_MAPPING, Map.class);
-            svgs.keySet().stream().forEach(key -> storeFile(GeneratedFileType.RESOURCE, "META-INF/processSVG/" + key + ".svg", svgs.get(key)));
+            svgs.keySet().stream().forEach(key -> storeFile(GeneratedFileType.RESOURCE, "META-INF/processSVG/" + key + ".svg", () -> svgs.get(key)));
         }
 
         if (context().hasRESTForGenerator(this)) {
             final ProcessCloudEventMetaFactoryGenerator topicsGenerator =
                     new ProcessCloudEventMetaFactoryGenerator(context(), processExecutableModelGenerators);
-            storeFile(REST_TYPE, topicsGenerator.generatedFilePath(), topicsGenerator.generate());
+            storeFile(REST_TYPE, topicsGenerator.generatedFilePath(), topicsGenerator::generate);
         }
 
-        for (ProcessInstanceGenerator pi : pis) {
-            storeFile(PROCESS_INSTANCE_TYPE, pi.generatedFilePath(), pi.generate());
+        for (Entry<String, ProcessInstanceGenerator> entry : pis.entrySet()) {
+            ProcessInstanceGenerator pi = entry.getValue();
+            storeFile(entry.getKey(), PROCESS_INSTANCE_TYPE, pi.generatedFilePath(), pi::generate);
         }
 
+        renderFiles();
+
         // generate Grafana dashboards
         if (context().getAddonsConfig().usePrometheusMonitoring()) {
 
@@ -559,7 +593,7 @@ public class ProcessCodegen extends AbstractGenerator {
                     context().getGAV().orElse(KogitoGAV.EMPTY_GAV),
                     false);
             String globalDbName = buildDashboardName(context().getGAV(), "Global");
-            globalDbJson.ifPresent(dashboard -> generatedFiles.addAll(DashboardGeneratedFileUtils.operational(dashboard, globalDbName + ".json")));
+            globalDbJson.ifPresent(dashboard -> DashboardGeneratedFileUtils.operational(dashboard, globalDbName + ".json").forEach(this::addGeneratedFile));
             for (KogitoWorkflowProcess process : processes.values()) {
                 String dbName = buildDashboardName(context().getGAV(), process.getId());
                 Optional<String> dbJson = generateOperationalDashboard(PROCESS_OPERATIONAL_DASHBOARD_TEMPLATE,
@@ -568,11 +602,11 @@ public class ProcessCodegen extends AbstractGenerator {
                         process.getId(),
                         context().getGAV().orElse(KogitoGAV.EMPTY_GAV),
                         false);
-                dbJson.ifPresent(dashboard -> generatedFiles.addAll(DashboardGeneratedFileUtils.operational(dashboard, dbName + ".json")));
+                dbJson.ifPresent(dashboard -> DashboardGeneratedFileUtils.operational(dashboard, dbName + ".json").forEach(this::addGeneratedFile));
             }
         }
 
-        return generatedFiles;
+        return new ArrayList<>(generatedFiles.values());
     }
 
     private EventGenerator buildEventGenerator(Entry<TriggerMetaData, String> entry) {
@@ -581,11 +615,94 @@ public class ProcessCodegen extends AbstractGenerator {
 
     }
 
-    private void storeFile(GeneratedFileType type, String path, String source) {
-        if (generatedFiles.stream().anyMatch(f -> path.equals(f.relativePath()))) {
-            LOGGER.warn("There's already a generated file named {} to be compiled. Ignoring.", path);
-        } else {
-            generatedFiles.add(new GeneratedFile(type, path, source));
+    private void storeFile(GeneratedFileType type, String path, Supplier<String> source) {
+        storeFile(null, type, path, source);
+    }
+
+    private void storeFile(String processId, GeneratedFileType type, String path, Supplier<String> source) {
+        storeFiles(processId, () -> Collections.singletonList(new GeneratedFile(type, path, source.get())));
+    }
+
+    /**
+     * Queues files to be rendered by {@link #renderFiles()}. Files of a given process, i.e. with a non null
+     * process id, are taken from the incremental cache when the process did not change since the last build.
+     */
+    private void storeFiles(String processId, Supplier<Collection<GeneratedFile>> files) {
+        pendingFiles.add(new PendingFiles(processId, files));
+    }
+
+    private void renderFiles() {
+        List<PendingFiles> queued = new ArrayList<>(pendingFiles);
+        pendingFiles.clear();
+
+        Map<String, String> cacheKeys = new HashMap<>();
+        Map<String, List<List<GeneratedFile>>> cachedFiles = new HashMap<>();
+        cache.ifPresent(c -> {
+            Map<String, Long> queuedCounts = queued.stream()
+                    .filter(pending -> pending.processId != null)
+                    .collect(groupingBy(pending -> pending.processId, counting()));
+            for (KogitoWorkflowProcess process : processes.values()) {
+                c.key(process, processes).ifPresent(key -> {
+                    cacheKeys.put(process.getId(), key);
+                    c.get(process.getId(), key)
+                            .filter(files -> files.size() == queuedCounts.getOrDefault(process.getId(), 0L))
+                            .ifPresent(files -> cachedFiles.put(process.getId(), files));
+                });
+            }
+            LOGGER.debug("Reusing the generated files of {} out of {} processes", cachedFiles.size(), processes.size());
+        });
+
+        List<PendingFiles> toRender = queued.stream()
+                .filter(pending -> pending.processId == null || !cachedFiles.containsKey(pending.processId))
+                .collect(toList());
+        // rendered in parallel, but stored in the order they were queued so that the output depends neither on
+        // the rendering order nor on which processes were taken from the cache
+        List<Collection<GeneratedFile>> rendered = forEachProcess(toRender, pending -> pending.files.get());
+        Map<PendingFiles, Collection<GeneratedFile>> renderedByPending = new IdentityHashMap<>();
+        for (int i = 0; i < toRender.size(); i++) {
+            renderedByPending.put(toRender.get(i), rendered.get(i));
+        }
+
+        Map<String, List<Collection<GeneratedFile>>> renderedFiles = new HashMap<>();
+        Map<String, Integer> cachedGroups = new HashMap<>();
+        for (PendingFiles pending : queued) {
+            Collection<GeneratedFile> files;
+            if (pending.processId != null && cachedFiles.containsKey(pending.processId)) {
+                files = cachedFiles.get(pending.processId).get(cachedGroups.merge(pending.processId, 1, Integer::sum) - 1);
+            } else {
+                files = renderedByPending.get(pending);
+                if (pending.processId != null) {
+                    renderedFiles.computeIfAbsent(pending.processId, k -> new ArrayList<>()).add(files);
+                }
+            }
+            files.forEach(this::addGeneratedFile);
+        }
+        cache.ifPresent(c -> renderedFiles.forEach((processId, files) -> {
+            String key = cacheKeys.get(processId);
+            if (key != null) {
+                c.put(processId, key, files);
+            }
+        }));
+    }
+
+    private void addGeneratedFile(GeneratedFile file) {
+        if (generatedFiles.putIfAbsent(file.relativePath(), file) != null) {
+            LOGGER.warn("There's already a generated file named {} to be compiled. Ignoring.", file.relativePath());
+        }
+    }
+
+    private <T, R> List<R> forEachProcess(Collection<T> items, Function<T, R> action) {
+        return (parallel ? items.parallelStream() : items.stream()).map(action).collect(toList());
+    }
+
+    private static class PendingFiles {
+
+        private final String processId;
+        private final Supplier<Collection<GeneratedFile>> files;
+
+        PendingFiles(String processId, Supplier<Collection<GeneratedFile>> files) {
+            this.processId = processId;
+            this.files = files;
         }
     }
 
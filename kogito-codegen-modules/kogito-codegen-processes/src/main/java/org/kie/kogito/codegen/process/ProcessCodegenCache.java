@@ -0,0 +1,326 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.codegen.process;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jbpm.compiler.canonical.ProcessToExecModelGenerator;
+import org.jbpm.workflow.core.node.SubProcessNode;
+import org.kie.api.io.Resource;
+import org.kie.kogito.codegen.api.GeneratedFile;
+import org.kie.kogito.codegen.api.GeneratedFileType;
+import org.kie.kogito.codegen.api.context.KogitoBuildContext;
+import org.kie.kogito.codegen.api.template.TemplatedGenerator;
+import org.kie.kogito.codegen.api.utils.AppPaths;
+import org.kie.kogito.codegen.core.AbstractGenerator;
+import org.kie.kogito.internal.process.runtime.KogitoWorkflowProcess;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the files generated for every process between two builds, see {@link ProcessCodegen#INCREMENTAL_CONFIGURATION_KEY}.
+ * <p>
+ * Entries are stored in the target directory of the project, one file per process, along with a digest of
+ * the process definition, of the definitions of the processes it calls, of the build context settings, of the
+ * other project sources the generated code depends on (Java model classes, OpenAPI, AsyncAPI and function
+ * specifications, DMN and DRL resources) and of the generator classes themselves.
+ * An entry whose digest does not match anymore is ignored and replaced once the process has been generated again.
+ * Any failure to read or write an entry is logged and the process is generated as usual.
+ * <p>
+ * Instances are immutable and can be used by concurrent threads. An entry is written to a temporary file and
+ * atomically moved in place, so a concurrent build never reads a partially written entry.
+ */
+class ProcessCodegenCache {
+
+    static final String CACHE_DIR = "kogito-codegen-cache";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessCodegenCache.class);
+    private static final String ENTRY_EXTENSION = ".entry";
+    private static final int ENTRY_VERSION = 2;
+
+    // classes whose code shapes the generated files of a process
+    private static final Class<?>[] GENERATOR_CLASSES = { ProcessCodegen.class, AbstractGenerator.class, TemplatedGenerator.class, ProcessToExecModelGenerator.class };
+    // project sources, besides the processes themselves, read while generating the files of a process
+    private static final String[] INPUT_EXTENSIONS = { ".java", ".json", ".yaml", ".yml", ".dmn", ".drl", ".xls", ".xlsx", ".csv" };
+    private static final Path MAIN_SOURCES = Paths.get("src", "main");
+
+    // digests of the generator code sources, by location, size and modification time
+    private static final Map<String, String> GENERATOR_DIGESTS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final String contextDigest;
+
+    ProcessCodegenCache(Path directory, String contextDigest) {
+        this.directory = directory;
+        this.contextDigest = contextDigest;
+    }
+
+    static ProcessCodegenCache of(KogitoBuildContext context) {
+        Path directory = context.getAppPaths().getFirstProjectPath()
+                .resolve(AppPaths.TARGET_DIR)
+                .resolve(CACHE_DIR)
+                .resolve(ProcessCodegen.GENERATOR_NAME);
+        MessageDigest digest = newDigest();
+        for (Class<?> generatorClass : GENERATOR_CLASSES) {
+            update(digest, generatorDigest(generatorClass));
+        }
+        update(digest, context.name());
+        update(digest, context.getPackageName());
+        update(digest, String.valueOf(context.getAddonsConfig()));
+        update(digest, String.valueOf(context.hasDI()));
+        update(digest, String.valueOf(context.hasRESTGloballyAvailable()));
+        update(digest, String.valueOf(context.isValidationSupported()));
+        for (String property : new TreeSet<>(context.getApplicationProperties())) {
+            update(digest, property);
+            update(digest, context.getApplicationProperty(property).orElse(null));
+        }
+        for (Path projectPath : context.getAppPaths().getProjectPaths()) {
+            updateInputs(digest, projectPath.resolve(MAIN_SOURCES));
+        }
+        return new ProcessCodegenCache(directory, toHex(digest.digest()));
+    }
+
+    String contextDigest() {
+        return contextDigest;
+    }
+
+    /**
+     * Returns the digest of the given process and of the processes it calls, if all their definitions can be read
+     */
+    Optional<String> key(KogitoWorkflowProcess process, Map<String, KogitoWorkflowProcess> processes) {
+        MessageDigest digest = newDigest();
+        update(digest, contextDigest);
+        if (!update(digest, process)) {
+            return Optional.empty();
+        }
+        Collection<String> calledProcessIds = new TreeSet<>();
+        process.getNodesRecursively().stream()
+                .filter(SubProcessNode.class::isInstance)
+                .map(node -> ((SubProcessNode) node).getProcessId())
+                .filter(id -> id != null && !id.equals(process.getId()))
+                .forEach(calledProcessIds::add);
+        for (String calledProcessId : calledProcessIds) {
+            KogitoWorkflowProcess calledProcess = processes.get(calledProcessId);
+            if (calledProcess == null) {
+                update(digest, calledProcessId);
+            } else if (!update(digest, calledProcess)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(toHex(digest.digest()));
+    }
+
+    /**
+     * Returns the files of the given process, in the groups they were stored with, if the entry of the process
+     * was stored with the given key
+     */
+    Optional<List<List<GeneratedFile>>> get(String processId, String key) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(entry(processId)))) {
+            if (in.readInt() != ENTRY_VERSION || !key.equals(in.readUTF()) || !processId.equals(in.readUTF())) {
+                return Optional.empty();
+            }
+            int groups = in.readInt();
+            List<List<GeneratedFile>> files = new ArrayList<>(groups);
+            for (int i = 0; i < groups; i++) {
+                int size = in.readInt();
+                List<GeneratedFile> group = new ArrayList<>(size);
+                for (int j = 0; j < size; j++) {
+                    GeneratedFileType type = GeneratedFileType.of(in.readUTF(), GeneratedFileType.Category.valueOf(in.readUTF()), in.readBoolean(), in.readBoolean());
+                    String path = in.readUTF();
+                    byte[] contents = new byte[in.readInt()];
+                    in.readFully(contents);
+                    group.add(new GeneratedFile(type, path, contents));
+                }
+                files.add(group);
+            }
+            return Optional.of(files);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Cannot read the generated files of process {} from {}, they will be generated again", processId, directory, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the files of the given process, keeping the groups, and their order, they were generated in
+     */
+    void put(String processId, String key, List<? extends Collection<GeneratedFile>> files) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "process", ENTRY_EXTENSION);
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+                out.writeInt(ENTRY_VERSION);
+                out.writeUTF(key);
+                out.writeUTF(processId);
+                out.writeInt(files.size());
+                for (Collection<GeneratedFile> group : files) {
+                    out.writeInt(group.size());
+                    for (GeneratedFile file : group) {
+                        out.writeUTF(file.type().name());
+                        out.writeUTF(file.category().name());
+                        out.writeBoolean(file.type().canHotReload());
+                        out.writeBoolean(file.type().isCustomizable());
+                        out.writeUTF(file.relativePath());
+                        out.writeInt(file.contents().length);
+                        out.write(file.contents());
+                    }
+                }
+            }
+            Files.move(tmp, entry(processId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Cannot store the generated files of process {} in {}", processId, directory, e);
+        }
+    }
+
+    private Path entry(String processId) {
+        return directory.resolve(processId.replaceAll("[^\\w.-]", "_") + ENTRY_EXTENSION);
+    }
+
+    private static boolean update(MessageDigest digest, KogitoWorkflowProcess process) {
+        Resource resource = process.getResource();
+        if (resource == null) {
+            return false;
+        }
+        update(digest, process.getId());
+        try (InputStream in = resource.getInputStream()) {
+            digest.update(in.readAllBytes());
+            digest.update((byte) 0);
+            return true;
+        } catch (IOException e) {
+            LOGGER.debug("Cannot read the definition of process {}, it will not be cached", process.getId(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Returns the digest of the code source, i.e. jar or classes directory, the given class is loaded from
+     */
+    private static String generatorDigest(Class<?> generatorClass) {
+        CodeSource codeSource = generatorClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return generatorClass.getName();
+        }
+        try {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                // classes directory of a development build, its content is digested as a whole
+                MessageDigest digest = newDigest();
+                updateFiles(digest, location, path -> true);
+                return toHex(digest.digest());
+            }
+            String stamp = location + ":" + Files.size(location) + ":" + Files.getLastModifiedTime(location).toMillis();
+            return GENERATOR_DIGESTS.computeIfAbsent(stamp, k -> {
+                MessageDigest digest = newDigest();
+                updateFile(digest, location);
+                return toHex(digest.digest());
+            });
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            LOGGER.debug("Cannot read the code source of {}, the cache is disabled", generatorClass.getName(), e);
+            // a key that never matches again
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private static void updateInputs(MessageDigest digest, Path sources) {
+        if (!Files.isDirectory(sources)) {
+            return;
+        }
+        try {
+            updateFiles(digest, sources, path -> {
+                String name = path.getFileName().toString().toLowerCase();
+                return Arrays.stream(INPUT_EXTENSIONS).anyMatch(name::endsWith);
+            });
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Cannot read the sources in {}, the cache is disabled", sources, e);
+            update(digest, UUID.randomUUID().toString());
+        }
+    }
+
+    private static void updateFiles(MessageDigest digest, Path root, Predicate<Path> filter) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            // sorted so that the digest does not depend on the listing order of the file system
+            files = walk.filter(Files::isRegularFile).filter(filter).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            update(digest, root.relativize(file).toString().replace('\\', '/'));
+            updateFile(digest, file);
+        }
+    }
+
+    private static void updateFile(MessageDigest digest, Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            digest.update((byte) 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
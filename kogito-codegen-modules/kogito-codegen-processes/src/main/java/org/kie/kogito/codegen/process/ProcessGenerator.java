@@ -32,6 +32,8 @@ import org.jbpm.compiler.canonical.ProcessMetaData;
 import org.jbpm.compiler.canonical.TriggerMetaData;
 import org.jbpm.process.core.datatype.impl.type.ObjectDataType;
 import org.jbpm.ruleflow.core.RuleFlowProcessFactory;
+import org.jbpm.workflow.core.impl.WorkflowProcessImpl;
+import org.jbpm.workflow.core.node.StartNode;
 import org.kie.api.definition.process.Process;
 import org.kie.api.runtime.process.WorkflowProcessInstance;
 import org.kie.kogito.Model;
@@ -54,6 +56,7 @@ import com.github.javaparser.ast.body.Parameter;
 import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.AssignExpr;
 import com.github.javaparser.ast.expr.AssignExpr.Operator;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.CastExpr;
 import com.github.javaparser.ast.expr.ClassExpr;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
@@ -270,6 +273,26 @@ public class ProcessGenerator {
                 .setName("process");
     }
 
+    private MethodDeclaration stringConstantMethod(String name, String value) {
+        return new MethodDeclaration()
+                .addModifier(Keyword.PUBLIC)
+                .setName(name)
+                .setType(String.class)
+                .addAnnotation(Override.class)
+                .setBody(new BlockStmt().addStatement(new ReturnStmt(new StringLiteralExpr().setString(value))));
+    }
+
+    private MethodDeclaration hasTimerStartNodes() {
+        // known at build time, so activating the process does not need to build its definition
+        List<StartNode> startNodes = process instanceof WorkflowProcessImpl ? ((WorkflowProcessImpl) process).getTimerStart() : null;
+        return new MethodDeclaration()
+                .addModifier(Keyword.PROTECTED)
+                .setName("hasTimerStartNodes")
+                .setType(boolean.class)
+                .addAnnotation(Override.class)
+                .setBody(new BlockStmt().addStatement(new ReturnStmt(new BooleanLiteralExpr(startNodes != null && !startNodes.isEmpty()))));
+    }
+
     private MethodCallExpr createProcessRuntime() {
         return new MethodCallExpr(
                 new ThisExpr(),
@@ -442,7 +465,12 @@ public class ProcessGenerator {
                 .addMember(createInstanceGenericWithBusinessKeyMethod(processInstanceFQCN))
                 .addMember(createInstanceGenericWithWorkflowInstanceMethod(processInstanceFQCN))
                 .addMember(createReadOnlyInstanceGenericWithWorkflowInstanceMethod(processInstanceFQCN))
-                .addMember(process(processMetaData));
+                .addMember(process(processMetaData))
+                .addMember(stringConstantMethod("id", process.getId()))
+                .addMember(hasTimerStartNodes());
+        if (process.getName() != null) {
+            cls.addMember(stringConstantMethod("name", process.getName()));
+        }
 
         internalConfigure(processMetaData).ifPresent(cls::addMember);
         internalRegisterListeners(processMetaData).ifPresent(cls::addMember);
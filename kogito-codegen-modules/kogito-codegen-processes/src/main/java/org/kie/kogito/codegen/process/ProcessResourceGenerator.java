@@ -369,6 +369,10 @@ public class ProcessResourceGenerator {
         return relativePath;
     }
 
+    public String processId() {
+        return processId;
+    }
+
     protected boolean isPublic() {
         return KogitoWorkflowProcess.PUBLIC_VISIBILITY.equalsIgnoreCase(process.getVisibility());
     }
@@ -58,6 +58,7 @@ import com.github.javaparser.ast.expr.ConditionalExpr;
 import com.github.javaparser.ast.expr.EnclosedExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.NullLiteralExpr;
@@ -97,6 +98,15 @@ public class PersistenceGenerator extends AbstractGenerator {
     public static final String KOGITO_PERSISTENCE_TYPE = "kogito.persistence.type";
     public static final String KOGITO_PERSISTENCE_OPTIMISTIC_LOCK = "kogito.persistence.optimistic.lock";
     public static final String KOGITO_PERSISTENCE_AUTO_DDL = "kogito.persistence.auto.ddl";
+    public static final String KOGITO_PERSISTENCE_COMPRESSION = "kogito.persistence.compression";
+    public static final String KOGITO_PERSISTENCE_COMPRESSION_THRESHOLD = "kogito.persistence.compression.threshold";
+    // File System and JDBC specific
+    public static final String KOGITO_PERSISTENCE_DELTA_COMPACTION_THRESHOLD = "kogito.persistence.delta.compaction.threshold";
+    public static final String KOGITO_PERSISTENCE_RETENTION_ARCHIVE = "kogito.persistence.retention.archive";
+    public static final String KOGITO_PERSISTENCE_RETENTION_TTL = "kogito.persistence.retention.ttl";
+    public static final String KOGITO_PERSISTENCE_RETENTION_MAX_COUNT = "kogito.persistence.retention.max.count";
+    public static final String KOGITO_PERSISTENCE_RETENTION_SWEEP_BATCH_SIZE = "kogito.persistence.retention.sweep.batch.size";
+    public static final String KOGITO_PERSISTENCE_RETENTION_SWEEP_INTERVAL = "kogito.persistence.retention.sweep.interval";
     // PostgreSQL specific
     public static final String KOGITO_PERSISTENCE_QUERY_TIMEOUT = "kogito.persistence.query.timeout.millis";
     public static final String KOGITO_PERSISTENCE_POSTGRESQL_CONNECTION_URI = "kogito.persistence.postgresql.connection.uri";
@@ -123,6 +133,17 @@ public class PersistenceGenerator extends AbstractGenerator {
     protected static final String JAVA = ".java";
     protected static final String OPTIMISTIC_LOCK = "lock";
     protected static final String PATH_NAME = "path";
+    protected static final String DELTA_COMPACTION_THRESHOLD = "deltaCompactionThreshold";
+    protected static final String COMPRESSION = "compression";
+    protected static final String COMPRESSION_THRESHOLD = "compressionThreshold";
+    protected static final String PAYLOAD_COMPRESSION_CLASS = "org.kie.kogito.serialization.process.PayloadCompression";
+    protected static final String MARSHALLER_SERVICE_CLASS = "org.kie.kogito.serialization.process.ProcessInstanceMarshallerService";
+    protected static final String RETENTION_ARCHIVE = "retentionArchive";
+    protected static final String RETENTION_TTL = "retentionTimeToLive";
+    protected static final String RETENTION_MAX_COUNT = "retentionMaxCount";
+    protected static final String RETENTION_SWEEP_BATCH_SIZE = "retentionSweepBatchSize";
+    protected static final String RETENTION_SWEEP_INTERVAL = "retentionSweepInterval";
+    protected static final String RETENTION_CLASS = "org.kie.kogito.process.ProcessInstanceRetention";
     protected static final String MONGODB_DB_NAME = "dbName";
     protected static final String TRANSACTION_ENABLED = "enabled";
     protected static final String TEMPLATE_NAME = "templateName";
@@ -227,6 +248,7 @@ public class PersistenceGenerator extends AbstractGenerator {
         CompilationUnit compilationUnit = new CompilationUnit(KOGITO_PROCESS_INSTANCE_PACKAGE);
         compilationUnit.getTypes().add(persistenceProviderClazz);
         addOptimisticLockFlag(persistenceProviderClazz);
+        addCompressionSettings(persistenceProviderClazz);
         generatePersistenceProviderClazz(persistenceProviderClazz, compilationUnit).ifPresent(generatedFiles::add);
         return generatedFiles;
     }
@@ -240,6 +262,7 @@ public class PersistenceGenerator extends AbstractGenerator {
         if (context().hasDI()) {
             context().getDependencyInjectionAnnotator().withApplicationComponent(persistenceProviderClazz);
         }
+        addCompressionSettings(persistenceProviderClazz);
 
         Collection<GeneratedFile> generatedFiles = new ArrayList<>();
         TemplatedGenerator generator = TemplatedGenerator.builder().withTemplateBasePath(CLASS_TEMPLATES_PERSISTENCE)
@@ -476,6 +499,9 @@ public class PersistenceGenerator extends AbstractGenerator {
 
             persistenceProviderClazz.addMember(pathField);
             persistenceProviderClazz.addMember(pathMethod);
+            addDeltaCompactionThreshold(persistenceProviderClazz);
+            addCompressionSettings(persistenceProviderClazz);
+            addRetentionSettings(persistenceProviderClazz);
             generatedClientFile = generatePersistenceProviderClazz(persistenceProviderClazz,
                     new CompilationUnit(KOGITO_PROCESS_INSTANCE_PACKAGE).addType(persistenceProviderClazz));
         }
@@ -523,6 +549,7 @@ public class PersistenceGenerator extends AbstractGenerator {
             persistenceProviderClazz.addMember(dbNameMethod);
             generatedTMFile = mongodbBasedTransaction(persistenceProviderClazz);
             addOptimisticLockFlag(persistenceProviderClazz);
+            addRetentionSettings(persistenceProviderClazz);
             generatedClientFile = generatePersistenceProviderClazz(persistenceProviderClazz,
                     new CompilationUnit(KOGITO_PROCESS_INSTANCE_PACKAGE).addType(persistenceProviderClazz));
         }
@@ -603,6 +630,8 @@ public class PersistenceGenerator extends AbstractGenerator {
             }
         }
         addOptimisticLockFlag(persistenceProviderClazz);
+        addCompressionSettings(persistenceProviderClazz);
+        addRetentionSettings(persistenceProviderClazz);
         Optional<GeneratedFile> generatedPgClientFile = generatePersistenceProviderClazz(persistenceProviderClazz,
                 new CompilationUnit(KOGITO_PROCESS_INSTANCE_PACKAGE).addType(persistenceProviderClazz));
         generatedPgClientFile.ifPresent(generatedFiles::add);
@@ -637,12 +666,104 @@ public class PersistenceGenerator extends AbstractGenerator {
         }
 
         addOptimisticLockFlag(persistenceProviderClazz);
+        if (context().hasDI()) {
+            addDeltaCompactionThreshold(persistenceProviderClazz);
+        }
+        addCompressionSettings(persistenceProviderClazz);
+        addRetentionSettings(persistenceProviderClazz);
         Optional<GeneratedFile> generatedPgClientFile = generatePersistenceProviderClazz(persistenceProviderClazz,
                 new CompilationUnit(KOGITO_PROCESS_INSTANCE_PACKAGE).addType(persistenceProviderClazz));
         generatedPgClientFile.ifPresent(generatedFiles::add);
         return generatedFiles;
     }
 
+    private void addDeltaCompactionThreshold(ClassOrInterfaceDeclaration persistenceProviderClazz) {
+        FieldDeclaration thresholdField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Integer.class.getCanonicalName()))))
+                .setName(DELTA_COMPACTION_THRESHOLD));
+        context().getDependencyInjectionAnnotator().withConfigInjection(thresholdField, KOGITO_PERSISTENCE_DELTA_COMPACTION_THRESHOLD);
+
+        BlockStmt thresholdMethodBody = new BlockStmt();
+        thresholdMethodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(DELTA_COMPACTION_THRESHOLD), OR_ELSE).addArgument(new IntegerLiteralExpr("0"))));
+        MethodDeclaration thresholdMethod = new MethodDeclaration()
+                .addModifier(Keyword.PUBLIC)
+                .setName(DELTA_COMPACTION_THRESHOLD)
+                .setType("int")
+                .setBody(thresholdMethodBody);
+
+        persistenceProviderClazz.addMember(thresholdField);
+        persistenceProviderClazz.addMember(thresholdMethod);
+    }
+
+    private void addCompressionSettings(ClassOrInterfaceDeclaration persistenceProviderClazz) {
+        if (!context().hasDI()) {
+            return;
+        }
+        FieldDeclaration compressionField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, String.class.getCanonicalName()))))
+                .setName(COMPRESSION));
+        context().getDependencyInjectionAnnotator().withConfigInjection(compressionField, KOGITO_PERSISTENCE_COMPRESSION);
+        BlockStmt compressionMethodBody = new BlockStmt();
+        compressionMethodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(COMPRESSION), OR_ELSE)
+                .addArgument(new FieldAccessExpr(new NameExpr(PAYLOAD_COMPRESSION_CLASS), "NONE"))));
+        MethodDeclaration compressionMethod = new MethodDeclaration()
+                .addModifier(Keyword.PUBLIC)
+                .setName(COMPRESSION)
+                .setType(String.class)
+                .setBody(compressionMethodBody);
+
+        FieldDeclaration thresholdField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Integer.class.getCanonicalName()))))
+                .setName(COMPRESSION_THRESHOLD));
+        context().getDependencyInjectionAnnotator().withConfigInjection(thresholdField, KOGITO_PERSISTENCE_COMPRESSION_THRESHOLD);
+        BlockStmt thresholdMethodBody = new BlockStmt();
+        thresholdMethodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(COMPRESSION_THRESHOLD), OR_ELSE)
+                .addArgument(new FieldAccessExpr(new NameExpr(MARSHALLER_SERVICE_CLASS), "DEFAULT_COMPRESSION_THRESHOLD"))));
+        MethodDeclaration thresholdMethod = new MethodDeclaration()
+                .addModifier(Keyword.PUBLIC)
+                .setName(COMPRESSION_THRESHOLD)
+                .setType("int")
+                .setBody(thresholdMethodBody);
+
+        persistenceProviderClazz.addMember(compressionField);
+        persistenceProviderClazz.addMember(compressionMethod);
+        persistenceProviderClazz.addMember(thresholdField);
+        persistenceProviderClazz.addMember(thresholdMethod);
+    }
+
+    private void addRetentionSettings(ClassOrInterfaceDeclaration persistenceProviderClazz) {
+        if (!context().hasDI()) {
+            return;
+        }
+        addRetentionSetting(persistenceProviderClazz, RETENTION_ARCHIVE, Boolean.class, "boolean", KOGITO_PERSISTENCE_RETENTION_ARCHIVE,
+                new BooleanLiteralExpr(false));
+        addRetentionSetting(persistenceProviderClazz, RETENTION_TTL, String.class, String.class.getCanonicalName(), KOGITO_PERSISTENCE_RETENTION_TTL,
+                new NullLiteralExpr());
+        addRetentionSetting(persistenceProviderClazz, RETENTION_MAX_COUNT, Integer.class, "int", KOGITO_PERSISTENCE_RETENTION_MAX_COUNT,
+                new IntegerLiteralExpr("0"));
+        addRetentionSetting(persistenceProviderClazz, RETENTION_SWEEP_BATCH_SIZE, Integer.class, "int", KOGITO_PERSISTENCE_RETENTION_SWEEP_BATCH_SIZE,
+                new FieldAccessExpr(new NameExpr(RETENTION_CLASS), "DEFAULT_SWEEP_BATCH_SIZE"));
+        addRetentionSetting(persistenceProviderClazz, RETENTION_SWEEP_INTERVAL, String.class, String.class.getCanonicalName(), KOGITO_PERSISTENCE_RETENTION_SWEEP_INTERVAL,
+                new MethodCallExpr(new FieldAccessExpr(new NameExpr(RETENTION_CLASS), "DEFAULT_SWEEP_INTERVAL"), "toString"));
+    }
+
+    private void addRetentionSetting(ClassOrInterfaceDeclaration persistenceProviderClazz, String name, Class<?> type, String returnType, String property, Expression defaultValue) {
+        FieldDeclaration settingField = new FieldDeclaration().addVariable(new VariableDeclarator()
+                .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, type.getCanonicalName()))))
+                .setName(name));
+        context().getDependencyInjectionAnnotator().withConfigInjection(settingField, property);
+        BlockStmt settingMethodBody = new BlockStmt();
+        settingMethodBody.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(name), OR_ELSE).addArgument(defaultValue)));
+        MethodDeclaration settingMethod = new MethodDeclaration()
+                .addModifier(Keyword.PUBLIC)
+                .setName(name)
+                .setType(returnType)
+                .setBody(settingMethodBody);
+
+        persistenceProviderClazz.addMember(settingField);
+        persistenceProviderClazz.addMember(settingMethod);
+    }
+
     private void addOptimisticLockFlag(ClassOrInterfaceDeclaration persistenceProviderClazz) {
         FieldDeclaration lockField = new FieldDeclaration().addVariable(new VariableDeclarator()
                 .setType(new ClassOrInterfaceType(null, new SimpleName(Optional.class.getCanonicalName()), NodeList.nodeList(new ClassOrInterfaceType(null, Boolean.class.getCanonicalName()))))
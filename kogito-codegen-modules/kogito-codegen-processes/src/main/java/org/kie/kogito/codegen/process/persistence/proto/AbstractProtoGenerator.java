@@ -17,16 +17,24 @@ package org.kie.kogito.codegen.process.persistence.proto;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.kie.kogito.codegen.api.GeneratedFile;
+import org.kie.kogito.codegen.process.persistence.proto.ProtoGenerationCache.CachedProto;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -39,11 +47,21 @@ public abstract class AbstractProtoGenerator<T> implements ProtoGenerator {
     protected final Collection<T> modelClasses;
     protected final Collection<T> dataClasses;
     protected final T persistenceClass;
+    protected final ProtoGenerationCache cache;
+
+    // types visited while generating the proto file of a model class, only tracked when caching
+    private Set<T> visitedTypes;
+    private final Map<String, Optional<String>> fingerprints = new HashMap<>();
 
     protected AbstractProtoGenerator(T persistenceClass, Collection<T> rawModelClasses, Collection<T> rawDataClasses) {
+        this(persistenceClass, rawModelClasses, rawDataClasses, null);
+    }
+
+    protected AbstractProtoGenerator(T persistenceClass, Collection<T> rawModelClasses, Collection<T> rawDataClasses, ProtoGenerationCache cache) {
         this.modelClasses = rawModelClasses == null ? Collections.emptyList() : rawModelClasses;
         this.dataClasses = rawDataClasses == null ? Collections.emptyList() : rawDataClasses;
         this.persistenceClass = persistenceClass;
+        this.cache = cache;
         this.mapper = new ObjectMapper();
     }
 
@@ -57,10 +75,13 @@ public abstract class AbstractProtoGenerator<T> implements ProtoGenerator {
         List<GeneratedFile> generatedFiles = new ArrayList<>();
 
         modelClasses.stream()
-                .map(this::generateModelClassProto)
+                .map(this::cachedModelClassProto)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .forEach(generatedFiles::add);
+        if (cache != null) {
+            cache.retain(modelClasses.stream().map(this::typeName).collect(Collectors.toSet()));
+        }
 
         try {
             this.generateProtoListingFile(generatedFiles).ifPresent(generatedFiles::add);
@@ -81,6 +102,90 @@ public abstract class AbstractProtoGenerator<T> implements ProtoGenerator {
 
     protected abstract Optional<GeneratedFile> generateModelClassProto(T modelClazz);
 
+    protected abstract String typeName(T dataModel);
+
+    /**
+     * Looks up the type with the given name among the types visible from the given model class.
+     */
+    protected abstract Optional<T> findType(T modelClazz, String typeName);
+
+    /**
+     * Describes everything of the given type, including its hierarchy, that the generated proto depends on.
+     * Two types with the same description generate the same proto.
+     */
+    protected abstract List<String> describe(T dataModel);
+
+    private Optional<GeneratedFile> cachedModelClassProto(T modelClazz) {
+        if (cache == null) {
+            return generateModelClassProto(modelClazz);
+        }
+        String modelClassName = typeName(modelClazz);
+        CachedProto cached = cache.get(modelClassName);
+        if (cached != null && isUpToDate(modelClazz, cached)) {
+            cache.markReused();
+            return Optional.ofNullable(cached.file());
+        }
+
+        visitedTypes = new LinkedHashSet<>();
+        try {
+            Optional<GeneratedFile> generated = generateModelClassProto(modelClazz);
+            Map<String, String> typeFingerprints = new HashMap<>();
+            typeFingerprints.put(modelClassName, fingerprint(modelClazz));
+            for (T visited : visitedTypes) {
+                typeFingerprints.put(typeName(visited), fingerprint(visited));
+            }
+            cache.put(modelClassName, new CachedProto(typeFingerprints, generated.orElse(null)));
+            return generated;
+        } finally {
+            visitedTypes = null;
+        }
+    }
+
+    private boolean isUpToDate(T modelClazz, CachedProto cached) {
+        for (Entry<String, String> typeFingerprint : cached.fingerprints().entrySet()) {
+            // fingerprints are computed once per build, types are usually shared by several model classes
+            String name = typeFingerprint.getKey();
+            Optional<String> current = fingerprints.get(name);
+            if (current == null) {
+                // fingerprint(T) caches the fingerprint of a type that is found, only a missing one is recorded here
+                current = findType(modelClazz, name).map(this::fingerprint);
+                fingerprints.putIfAbsent(name, current);
+            }
+            if (!current.equals(Optional.of(typeFingerprint.getValue()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String fingerprint(T dataModel) {
+        String name = typeName(dataModel);
+        Optional<String> fingerprint = fingerprints.get(name);
+        if (fingerprint == null || !fingerprint.isPresent()) {
+            fingerprint = Optional.of(digest(describe(dataModel)));
+            fingerprints.put(name, fingerprint);
+        }
+        return fingerprint.get();
+    }
+
+    private static String digest(List<String> description) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (String value : description) {
+            digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
     /**
      * Generates the proto files from the given model.
      */
@@ -147,6 +252,9 @@ public abstract class AbstractProtoGenerator<T> implements ProtoGenerator {
     }
 
     protected Optional<String> internalGenerate(Proto proto, Set<String> alreadyGenerated, String messageComment, String fieldComment, T dataModel) throws Exception {
+        if (visitedTypes != null) {
+            visitedTypes.add(dataModel);
+        }
         String protoType;
         if (isEnum(dataModel)) {
             protoType = enumFromClass(proto, dataModel).getName();
@@ -172,6 +280,7 @@ public abstract class AbstractProtoGenerator<T> implements ProtoGenerator {
     protected abstract static class AbstractProtoGeneratorBuilder<E, T extends ProtoGenerator> implements Builder<E, T> {
         protected E persistenceClass;
         protected Collection<E> dataClasses;
+        protected ProtoGenerationCache cache;
 
         protected abstract Collection<E> extractDataClasses(Collection<E> modelClasses);
 
@@ -186,5 +295,11 @@ public abstract class AbstractProtoGenerator<T> implements ProtoGenerator {
             this.dataClasses = dataClasses;
             return this;
         }
+
+        @Override
+        public Builder<E, T> withCache(ProtoGenerationCache cache) {
+            this.cache = cache;
+            return this;
+        }
     }
 }
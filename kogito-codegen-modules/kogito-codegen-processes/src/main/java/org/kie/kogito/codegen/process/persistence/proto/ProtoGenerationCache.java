@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.codegen.process.persistence.proto;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.kie.kogito.codegen.api.GeneratedFile;
+
+/**
+ * Keeps the proto file generated for every model class between two builds of the same application,
+ * e.g. across the reloads of the Quarkus dev mode.
+ * <p>
+ * Every entry records a fingerprint of the model class and of all the types its proto file was generated from.
+ * The entry is reused as long as none of these types changed, otherwise the proto file of the model class
+ * is generated again. Entries of model classes that are not part of the last build are dropped.
+ */
+public class ProtoGenerationCache {
+
+    private final Map<String, CachedProto> protos = new ConcurrentHashMap<>();
+    private final AtomicInteger generated = new AtomicInteger();
+    private final AtomicInteger reused = new AtomicInteger();
+
+    /**
+     * Returns how many proto files were generated since the cache was created.
+     */
+    public int generated() {
+        return generated.get();
+    }
+
+    /**
+     * Returns how many proto files were reused since the cache was created.
+     */
+    public int reused() {
+        return reused.get();
+    }
+
+    CachedProto get(String modelClass) {
+        return protos.get(modelClass);
+    }
+
+    void put(String modelClass, CachedProto proto) {
+        generated.incrementAndGet();
+        protos.put(modelClass, proto);
+    }
+
+    void markReused() {
+        reused.incrementAndGet();
+    }
+
+    void retain(Collection<String> modelClasses) {
+        protos.keySet().retainAll(modelClasses);
+    }
+
+    static class CachedProto {
+
+        private final Map<String, String> fingerprints;
+        private final GeneratedFile file;
+
+        CachedProto(Map<String, String> fingerprints, GeneratedFile file) {
+            this.fingerprints = Collections.unmodifiableMap(new HashMap<>(fingerprints));
+            this.file = file;
+        }
+
+        /**
+         * Fingerprints of the types the proto file was generated from, by type name.
+         */
+        Map<String, String> fingerprints() {
+            return fingerprints;
+        }
+
+        /**
+         * The generated proto file, {@code null} if the model class did not produce any.
+         */
+        GeneratedFile file() {
+            return file;
+        }
+    }
+}
@@ -75,6 +75,11 @@ public interface ProtoGenerator {
 
         Builder<E, T> withDataClasses(Collection<E> dataClasses);
 
+        /**
+         * Reuses the proto files of the model classes that did not change since they were put in the given cache.
+         */
+        Builder<E, T> withCache(ProtoGenerationCache cache);
+
         T build(Collection<E> modelClasses);
     }
 }
@@ -19,17 +19,21 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -48,8 +52,8 @@ import static java.util.stream.Collectors.toSet;
 
 public class ReflectionProtoGenerator extends AbstractProtoGenerator<Class<?>> {
 
-    private ReflectionProtoGenerator(Class<?> persistenceClass, Collection<Class<?>> modelClasses, Collection<Class<?>> dataClasses) {
-        super(persistenceClass, modelClasses, dataClasses);
+    private ReflectionProtoGenerator(Class<?> persistenceClass, Collection<Class<?>> modelClasses, Collection<Class<?>> dataClasses, ProtoGenerationCache cache) {
+        super(persistenceClass, modelClasses, dataClasses, cache);
     }
 
     @Override
@@ -191,6 +195,44 @@ public class ReflectionProtoGenerator extends AbstractProtoGenerator<Class<?>> {
         return Optional.of(name);
     }
 
+    @Override
+    protected String typeName(Class<?> dataModel) {
+        return dataModel.getName();
+    }
+
+    @Override
+    protected Optional<Class<?>> findType(Class<?> modelClazz, String typeName) {
+        try {
+            return Optional.of(Class.forName(typeName, false, modelClazz.getClassLoader()));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    protected List<String> describe(Class<?> dataModel) {
+        // properties are introspected from the accessors, so the public methods are part of the description
+        List<String> description = Stream.of(dataModel.getMethods())
+                .map(Method::toGenericString)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        for (Class<?> clazz = dataModel; clazz != null && !clazz.equals(Object.class); clazz = clazz.getSuperclass()) {
+            description.add(clazz.getName());
+            description.add(describeAnnotations(clazz.getDeclaredAnnotations()));
+            Stream.of(clazz.getDeclaredFields())
+                    .sorted(Comparator.comparing(Field::getName))
+                    .forEach(f -> {
+                        description.add(f.toGenericString());
+                        description.add(describeAnnotations(f.getDeclaredAnnotations()));
+                    });
+        }
+        return description;
+    }
+
+    private static String describeAnnotations(Annotation[] annotations) {
+        return Stream.of(annotations).map(Annotation::toString).sorted().collect(Collectors.joining(","));
+    }
+
     private void addEnumField(Field field, ProtoEnum pEnum) {
         ProtoEnumValue protoEnumValue = field.getAnnotation(ProtoEnumValue.class);
         Integer ordinal = null;
@@ -279,7 +321,7 @@ public class ReflectionProtoGenerator extends AbstractProtoGenerator<Class<?>> {
 
         @Override
         public ReflectionProtoGenerator build(Collection<Class<?>> modelClasses) {
-            return new ReflectionProtoGenerator(persistenceClass, modelClasses, extractDataClasses(modelClasses));
+            return new ReflectionProtoGenerator(persistenceClass, modelClasses, extractDataClasses(modelClasses), cache);
         }
     }
 }
@@ -15,6 +15,7 @@
  */
 package $Package$;
 
+import org.jbpm.process.instance.ParallelWorkItemExecutor;
 import org.kie.api.event.process.ProcessEventListener;
 import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.jobs.JobsService;
@@ -37,7 +38,8 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
             Instance<ProcessEventListener> processEventListeners,
             Instance<EventPublisher> eventPublishers,
             ConfigBean configBean,
-            Instance<UnitOfWorkEventListener> unitOfWorkEventListeners) {
+            Instance<UnitOfWorkEventListener> unitOfWorkEventListeners,
+            Instance<ParallelWorkItemExecutor> parallelWorkItemExecutor) {
 
         super(workItemHandlerConfig,
               processEventListenerConfigs,
@@ -46,7 +48,14 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
               jobsService,
               eventPublishers,
               configBean.getServiceUrl(),
-              unitOfWorkEventListeners);
+              unitOfWorkEventListeners,
+              parallelWorkItemExecutor);
+    }
+
+    @javax.annotation.PreDestroy
+    @Override
+    public void close() {
+        super.close();
     }
 
 }
@@ -17,6 +17,7 @@ package $Package$;
 
 import java.util.List;
 
+import org.jbpm.process.instance.ParallelWorkItemExecutor;
 import org.kie.api.event.process.ProcessEventListener;
 import org.kie.kogito.event.EventPublisher;
 import org.kie.kogito.jobs.JobsService;
@@ -37,7 +38,8 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
             List<ProcessEventListener> processEventListeners,
             List<EventPublisher> eventPublishers,
             ConfigBean configBean,
-            List<UnitOfWorkEventListener> unitOfWorkEventListeners) {
+            List<UnitOfWorkEventListener> unitOfWorkEventListeners,
+            List<ParallelWorkItemExecutor> parallelWorkItemExecutor) {
 
         super(workItemHandlerConfig,
               processEventListenerConfigs,
@@ -46,6 +48,13 @@ public class ProcessConfig extends org.kie.kogito.process.impl.AbstractProcessCo
               jobsService,
               eventPublishers,
               configBean.getServiceUrl(),
-              unitOfWorkEventListeners);
+              unitOfWorkEventListeners,
+              parallelWorkItemExecutor);
+    }
+
+    @javax.annotation.PreDestroy
+    @Override
+    public void close() {
+        super.close();
     }
 }
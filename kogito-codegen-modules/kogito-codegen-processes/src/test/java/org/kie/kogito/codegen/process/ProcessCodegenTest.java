@@ -15,18 +15,28 @@
  */
 package org.kie.kogito.codegen.process;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.kogito.codegen.api.AddonsConfig;
 import org.kie.kogito.codegen.api.GeneratedFile;
 import org.kie.kogito.codegen.api.context.KogitoBuildContext;
+import org.kie.kogito.codegen.api.utils.AppPaths;
 import org.kie.kogito.codegen.core.DashboardGeneratedFileUtils;
 import org.kie.kogito.codegen.core.io.CollectedResourceProducer;
 
@@ -39,6 +49,14 @@ class ProcessCodegenTest {
     private static final Path BASE_PATH = Paths.get("src/test/resources/").toAbsolutePath();
     private static final String MESSAGE_USERTASK_SOURCE = "usertask/UserTasksProcess.bpmn2";
     private static final Path MESSAGE_USERTASK_SOURCE_FULL_SOURCE = BASE_PATH.resolve(MESSAGE_USERTASK_SOURCE);
+    private static final String[] MULTIPLE_SOURCES = {
+            MESSAGE_USERTASK_SOURCE,
+            "usertask/approval.bpmn2",
+            "messagestartevent/MessageStartAndEndEvent.bpmn2",
+            "messageevent/IntermediateThrowEventMessage.bpmn2",
+            "messageevent/IntermediateCatchEventMessage.bpmn2",
+            "messageevent/BoundaryMessageEventOnTask.bpmn2"
+    };
 
     @ParameterizedTest
     @MethodSource("org.kie.kogito.codegen.api.utils.KogitoContextTestUtils#contextBuilders")
@@ -97,6 +115,80 @@ class ProcessCodegenTest {
         generateTestDashboards(codeGenerator, 0);
     }
 
+    @ParameterizedTest
+    @MethodSource("org.kie.kogito.codegen.api.utils.KogitoContextTestUtils#contextBuilders")
+    public void parallelGenerationIsIdenticalToSequential(KogitoBuildContext.Builder contextBuilder) {
+        Map<String, String> sequential = generate(contextBuilder.build());
+
+        KogitoBuildContext parallelContext = contextBuilder.build();
+        parallelContext.setApplicationProperty(ProcessCodegen.PARALLEL_CONFIGURATION_KEY, "true");
+        Map<String, String> parallel = generate(parallelContext);
+
+        assertThat(parallel).isNotEmpty().isEqualTo(sequential);
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.kie.kogito.codegen.api.utils.KogitoContextTestUtils#contextBuilders")
+    public void incrementalGenerationReusesUnchangedProcesses(KogitoBuildContext.Builder contextBuilder, @TempDir Path projectDir) throws Exception {
+        Map<String, String> expected = generate(contextBuilder.build());
+
+        contextBuilder.withAppPaths(AppPaths.fromProjectDir(projectDir));
+        Map<String, String> firstBuild = generate(incrementalContext(contextBuilder));
+        assertThat(firstBuild).isEqualTo(expected);
+
+        Path cacheDir = projectDir.resolve(AppPaths.TARGET_DIR).resolve(ProcessCodegenCache.CACHE_DIR).resolve(ProcessCodegen.GENERATOR_NAME);
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            assertThat(entries.map(entry -> entry.getFileName().toString()))
+                    .contains("UserTasksProcess.entry", "approvals.entry", "MessageStartEvent.entry");
+        }
+
+        Map<String, String> secondBuild = generate(incrementalContext(contextBuilder));
+        assertThat(secondBuild).isEqualTo(expected);
+        // cached files are added in the order they were generated
+        assertThat(new ArrayList<>(secondBuild.keySet())).isEqualTo(new ArrayList<>(expected.keySet()));
+
+        // corrupted entries are generated again
+        Files.write(cacheDir.resolve("approvals.entry"), new byte[] { 1, 2, 3 });
+        Map<String, String> thirdBuild = generate(incrementalContext(contextBuilder));
+        assertThat(thirdBuild).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.kie.kogito.codegen.api.utils.KogitoContextTestUtils#contextBuilders")
+    public void incrementalGenerationKeyCoversProjectSources(KogitoBuildContext.Builder contextBuilder, @TempDir Path projectDir) throws Exception {
+        contextBuilder.withAppPaths(AppPaths.fromProjectDir(projectDir));
+        String digest = ProcessCodegenCache.of(incrementalContext(contextBuilder)).contextDigest();
+        assertThat(ProcessCodegenCache.of(incrementalContext(contextBuilder)).contextDigest()).isEqualTo(digest);
+
+        Path openApi = projectDir.resolve("src/main/resources/specs/service.yaml");
+        Files.createDirectories(openApi.getParent());
+        Files.write(openApi, "openapi: 3.0.0".getBytes(StandardCharsets.UTF_8));
+        String withSpec = ProcessCodegenCache.of(incrementalContext(contextBuilder)).contextDigest();
+        assertThat(withSpec).isNotEqualTo(digest);
+
+        Path model = projectDir.resolve("src/main/java/org/acme/Person.java");
+        Files.createDirectories(model.getParent());
+        Files.write(model, "package org.acme; public class Person {}".getBytes(StandardCharsets.UTF_8));
+        String withModel = ProcessCodegenCache.of(incrementalContext(contextBuilder)).contextDigest();
+        assertThat(withModel).isNotEqualTo(withSpec);
+
+        Files.write(model, "package org.acme; public class Person { String name; }".getBytes(StandardCharsets.UTF_8));
+        assertThat(ProcessCodegenCache.of(incrementalContext(contextBuilder)).contextDigest()).isNotEqualTo(withModel);
+    }
+
+    private static KogitoBuildContext incrementalContext(KogitoBuildContext.Builder contextBuilder) {
+        KogitoBuildContext context = contextBuilder.build();
+        context.setApplicationProperty(ProcessCodegen.INCREMENTAL_CONFIGURATION_KEY, "true");
+        return context;
+    }
+
+    private static Map<String, String> generate(KogitoBuildContext context) {
+        File[] files = Arrays.stream(MULTIPLE_SOURCES).map(source -> BASE_PATH.resolve(source).toFile()).toArray(File[]::new);
+        ProcessCodegen codeGenerator = ProcessCodegen.ofCollectedResources(context, CollectedResourceProducer.fromFiles(BASE_PATH, files));
+        return codeGenerator.generate().stream()
+                .collect(Collectors.toMap(GeneratedFile::relativePath, file -> new String(file.contents(), StandardCharsets.UTF_8), (first, second) -> first, LinkedHashMap::new));
+    }
+
     private List<GeneratedFile> generateTestDashboards(ProcessCodegen codeGenerator, int expectedDashboards) {
 
         Collection<GeneratedFile> generatedFiles = codeGenerator.generate();
@@ -35,9 +35,13 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 
 import static com.github.javaparser.StaticJavaParser.parse;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.COMPRESSION;
+import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.DELTA_COMPACTION_THRESHOLD;
 import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.FILESYSTEM_PERSISTENCE_TYPE;
 import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.KOGITO_PERSISTENCE_TYPE;
 import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.PATH_NAME;
+import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.RETENTION_ARCHIVE;
+import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.RETENTION_TTL;
 import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.hasDataIndexProto;
 import static org.kie.kogito.codegen.process.persistence.PersistenceGenerator.hasProtoMarshaller;
 
@@ -84,6 +88,11 @@ class FileSystemPersistenceGeneratorTest extends AbstractPersistenceGeneratorTes
             assertThat(fieldDeclaration).isNotEmpty();
             assertThat(fieldDeclaration.get().getVariables()).hasSize(1);
             assertThat(fieldDeclaration.get().getVariables().get(0).getName().asString()).isEqualTo(PATH_NAME);
+
+            assertThat(classDeclaration.findFirst(MethodDeclaration.class, d -> d.getName().getIdentifier().equals(DELTA_COMPACTION_THRESHOLD))).isNotEmpty();
+            assertThat(classDeclaration.findFirst(MethodDeclaration.class, d -> d.getName().getIdentifier().equals(COMPRESSION))).isNotEmpty();
+            assertThat(classDeclaration.findFirst(MethodDeclaration.class, d -> d.getName().getIdentifier().equals(RETENTION_ARCHIVE))).isNotEmpty();
+            assertThat(classDeclaration.findFirst(MethodDeclaration.class, d -> d.getName().getIdentifier().equals(RETENTION_TTL))).isNotEmpty();
         }
     }
 
@@ -20,17 +20,21 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.kie.kogito.codegen.api.GeneratedFile;
+import org.kie.kogito.codegen.process.persistence.proto.ProtoGenerationCache.CachedProto;
 import org.kie.kogito.codegen.data.Address;
 import org.kie.kogito.codegen.data.Answer;
 import org.kie.kogito.codegen.data.AnswerBroken;
 import org.kie.kogito.codegen.data.AnswerBrokenV2;
 import org.kie.kogito.codegen.data.AnswerWithAnnotations;
 import org.kie.kogito.codegen.data.EmptyConstructor;
+import org.kie.kogito.codegen.data.GeneratedAddressPOJO;
 import org.kie.kogito.codegen.data.GeneratedPOJO;
 import org.kie.kogito.codegen.data.NotEmptyConstructor;
 import org.kie.kogito.codegen.data.Person;
@@ -59,6 +63,7 @@ public abstract class AbstractProtoGeneratorTest<T> {
             AnswerBroken.class,
             AnswerBrokenV2.class,
             EmptyConstructor.class,
+            GeneratedAddressPOJO.class,
             GeneratedPOJO.class,
             NotEmptyConstructor.class,
             Person.class,
@@ -805,6 +810,44 @@ public abstract class AbstractProtoGeneratorTest<T> {
         assertClassIsIncludedInSubclass(person, personSubClass);
     }
 
+    @Test
+    void testCachedProtoFilesAcrossReloads() {
+        List<T> modelClasses = Arrays.asList(convertToType(GeneratedPOJO.class), convertToType(GeneratedAddressPOJO.class));
+        List<String> expected = contents(protoGeneratorBuilder().build(modelClasses).generateProtoFiles());
+
+        ProtoGenerationCache cache = new ProtoGenerationCache();
+        assertThat(contents(protoGeneratorBuilder().withCache(cache).build(modelClasses).generateProtoFiles())).isEqualTo(expected);
+        assertThat(cache.generated()).isEqualTo(2);
+        assertThat(cache.reused()).isZero();
+
+        // nothing changed, both proto files are reused
+        assertThat(contents(protoGeneratorBuilder().withCache(cache).build(modelClasses).generateProtoFiles())).isEqualTo(expected);
+        assertThat(cache.generated()).isEqualTo(2);
+        assertThat(cache.reused()).isEqualTo(2);
+
+        // a type the first model depends on changed, only that model is generated again
+        String modelClassName = GeneratedPOJO.class.getName();
+        CachedProto cached = cache.get(modelClassName);
+        assertThat(cached.fingerprints()).containsKeys(modelClassName, Person.class.getName());
+        Map<String, String> changed = new HashMap<>(cached.fingerprints());
+        changed.put(Person.class.getName(), "changed");
+        cache.put(modelClassName, new CachedProto(changed, cached.file()));
+        int generated = cache.generated();
+
+        assertThat(contents(protoGeneratorBuilder().withCache(cache).build(modelClasses).generateProtoFiles())).isEqualTo(expected);
+        assertThat(cache.generated()).isEqualTo(generated + 1);
+        assertThat(cache.reused()).isEqualTo(3);
+        assertThat(cache.get(modelClassName).fingerprints()).isEqualTo(cached.fingerprints());
+
+        // a model that is not part of the build anymore is dropped
+        protoGeneratorBuilder().withCache(cache).build(Collections.singletonList(convertToType(GeneratedPOJO.class))).generateProtoFiles();
+        assertThat(cache.get(GeneratedAddressPOJO.class.getName())).isNull();
+    }
+
+    private static List<String> contents(Collection<GeneratedFile> files) {
+        return files.stream().map(f -> f.relativePath() + "\n" + new String(f.contents())).collect(Collectors.toList());
+    }
+
     private void assertClassIsIncludedInSubclass(ProtoMessage superClass, ProtoMessage subClass) {
         for (ProtoField field : superClass.getFields()) {
             assertThat(field).isNotNull();
@@ -119,12 +119,17 @@ public class QueryEndpointGenerator extends AbstractQueryEntrypointGenerator {
         statement.findAll(VariableDeclarator.class).forEach(decl -> setUnitGeneric(decl.getType()));
         statement.findAll(MethodCallExpr.class).forEach(m -> m.addArgument(hasDI ? "unitDTO" : "unitDTO.get()"));
 
-        Statement returnStatement = queryMethod
+        Statement responseStatement = queryMethod
                 .getBody()
                 .orElseThrow(() -> new NoSuchElementException("A method declaration doesn't contain a body!"))
                 .getStatement(1);
-        returnStatement.findAll(VariableDeclarator.class).forEach(decl -> setGeneric(decl.getType(), returnType));
-        returnStatement.findAll(ClassExpr.class).forEach(expr -> expr.setType(queryClassName));
+        responseStatement.findAll(VariableDeclarator.class).forEach(decl -> setGeneric(decl.getType(), returnType));
+
+        Statement executeStatement = queryMethod
+                .getBody()
+                .orElseThrow(() -> new NoSuchElementException("A method declaration doesn't contain a body!"))
+                .getStatement(2);
+        executeStatement.findAll(ClassExpr.class).forEach(expr -> expr.setType(queryClassName));
 
         MethodDeclaration queryMethodSingle = clazz.getMethodsByName("executeQueryFirst").get(0);
         queryMethodSingle.getParameter(0).setType(ruleUnit.getCanonicalName() + (hasDI ? "" : "DTO"));
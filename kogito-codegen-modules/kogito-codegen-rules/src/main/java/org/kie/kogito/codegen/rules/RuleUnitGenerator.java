@@ -199,6 +199,10 @@ public class RuleUnitGenerator implements RuleFileGenerator {
         cls.findFirst(NameExpr.class, e -> e.getNameAsString().equals("$SessionPoolSize$"))
                 .ifPresent(e -> e.replace(new IntegerLiteralExpr(config.getDefaultedSessionPool().orElse(-1))));
 
+        // evaluators cannot rewind a pseudo clock, so they are pooled only for units on the realtime clock
+        cls.findFirst(NameExpr.class, e -> e.getNameAsString().equals("$EvaluatorPoolSize$"))
+                .ifPresent(e -> e.replace(new IntegerLiteralExpr(config.getDefaultedClockType() == ClockType.PSEUDO ? -1 : config.getDefaultedSessionPool().orElse(-1))));
+
         cls.findFirst(NameExpr.class, e -> e.getNameAsString().equals("$EventProcessingMode$"))
                 .ifPresent(e -> e.replace(eventProcessingConfigExpression(config.getDefaultedEventProcessingType())));
 
@@ -45,9 +45,14 @@ public class $unit$Query$name$Endpoint {
     @Consumes(MediaType.APPLICATION_JSON)
     public List<$ReturnType$> executeQuery($UnitTypeDTO$ unitDTO) {
         RuleUnitInstance<$UnitType$> instance = ruleUnit.createInstance();
+        List<$ReturnType$> response;
+        try {
+            response = instance.executeQuery($unit$Query$name$.class);
+        } finally {
+            // dispose also on failure so that pooled instances are given back
+            instance.dispose();
+        }
         // Do not return the result directly to allow post execution codegen (like monitoring)
-        List<$ReturnType$> response = instance.executeQuery($unit$Query$name$.class);
-        instance.dispose();
         return response;
     }
 
@@ -23,18 +23,21 @@ import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.impl.KogitoRuleUnitExecutor;
 import org.kie.api.conf.EventProcessingOption;
 import org.kie.kogito.rules.RuleEventListenerConfig;
+import org.kie.kogito.rules.units.ReteEvaluatorPool;
 import org.kie.kogito.rules.units.impl.AbstractRuleUnit;
 
 public class $Name$ extends AbstractRuleUnit<$ModelName$> {
 
     private static final InternalKnowledgeBase kb = createKnowledgeBase();
 
+    private final ReteEvaluatorPool evaluatorPool = new ReteEvaluatorPool(kb, $EvaluatorPoolSize$, this::createReteEvaluator);
+
     public $Name$(org.kie.kogito.Application app) {
         super($ModelName$.class.getCanonicalName(), app);
     }
 
     public $InstanceName$ internalCreateInstance($ModelName$ value) {
-        return new $InstanceName$( this, value, createReteEvaluator());
+        return evaluatorPool.pooled(new $InstanceName$( this, value, evaluatorPool.acquire()));
     }
 
     private ReteEvaluator createReteEvaluator() {
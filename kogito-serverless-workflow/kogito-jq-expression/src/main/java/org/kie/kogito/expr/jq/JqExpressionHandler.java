@@ -18,14 +18,14 @@ package org.kie.kogito.expr.jq;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
-import org.kie.kogito.process.workitems.impl.expr.ExpressionHandler;
+import org.kie.kogito.process.workitems.impl.expr.CachingExpressionHandler;
 import org.kie.kogito.process.workitems.impl.expr.ParsedExpression;
 
 import net.thisptr.jackson.jq.BuiltinFunctionLoader;
 import net.thisptr.jackson.jq.Scope;
 import net.thisptr.jackson.jq.Versions;
 
-public class JqExpressionHandler implements ExpressionHandler {
+public class JqExpressionHandler extends CachingExpressionHandler {
 
     private static final Pattern jqRegExpr = Pattern.compile("^((\\$\\[).*|(\\.).*)");
 
@@ -53,7 +53,7 @@ public class JqExpressionHandler implements ExpressionHandler {
     }
 
     @Override
-    public ParsedExpression parse(String expr) {
+    protected ParsedExpression doParse(String expr) {
         return new JqParsedExpression(scope, expr);
     }
 }
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JqExpressionHandlerTest {
@@ -73,4 +74,23 @@ class JqExpressionHandlerTest {
         assertEquals("Javierito Pepito Fulanito", parsedExpression.eval(node, String.class));
     }
 
+    @Test
+    void testExpressionIsParsedOnce() {
+        assertSame(ExpressionHandlerFactory.get("jq").parse(".foo"), ExpressionHandlerFactory.get("jq").parse(".foo"));
+    }
+
+    @Test
+    void testCachedExpressionResults() {
+        ParsedExpression cached = ExpressionHandlerFactory.get("jq").parse(".result = .number*.number");
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < 3; i++) {
+            ObjectNode node = mapper.createObjectNode().put("number", i);
+            ObjectNode expected = node.deepCopy();
+            new JqExpressionHandler().doParse(".result = .number*.number").eval(expected, JsonNode.class);
+            cached.eval(node, JsonNode.class);
+            assertEquals(expected, node);
+            assertEquals(i * i, node.get("result").asInt());
+        }
+    }
+
 }
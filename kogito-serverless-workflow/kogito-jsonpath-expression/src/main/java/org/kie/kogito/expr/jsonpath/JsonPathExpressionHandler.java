@@ -17,10 +17,10 @@ package org.kie.kogito.expr.jsonpath;
 
 import java.util.regex.Pattern;
 
-import org.kie.kogito.process.workitems.impl.expr.ExpressionHandler;
+import org.kie.kogito.process.workitems.impl.expr.CachingExpressionHandler;
 import org.kie.kogito.process.workitems.impl.expr.ParsedExpression;
 
-public class JsonPathExpressionHandler implements ExpressionHandler {
+public class JsonPathExpressionHandler extends CachingExpressionHandler {
 
     private static final Pattern jsonPathRegexPattern = Pattern.compile("^((\\$\\[).*|(\\$\\.).*)");
 
@@ -30,7 +30,7 @@ public class JsonPathExpressionHandler implements ExpressionHandler {
     }
 
     @Override
-    public ParsedExpression parse(String expr) {
+    protected ParsedExpression doParse(String expr) {
         return new JsonPathParsedExpression(expr);
     }
 }
@@ -20,6 +20,7 @@ import org.kie.kogito.process.workitems.impl.expr.ParsedExpression;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ParseContext;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
@@ -33,13 +34,31 @@ public class JsonPathParsedExpression implements ParsedExpression {
             .jsonProvider(new JacksonJsonNodeJsonProvider())
             .build();
 
-    private String expr;
-    private ParseContext jsonPath;
+    private static final ParseContext jsonPath = JsonPath.using(jsonPathConfig);
+
+    private final String expr;
+    private final String[] parts;
+    // compiled forms of expr and parts, null when they are not valid paths on their own
+    private final JsonPath compiledExpr;
+    private final JsonPath[] compiledParts;
 
     public JsonPathParsedExpression(String expr) {
-        jsonPath = JsonPath
-                .using(jsonPathConfig);
         this.expr = expr;
+        this.parts = expr.split("((?=\\$))");
+        this.compiledExpr = compile(expr);
+        this.compiledParts = new JsonPath[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            compiledParts[i] = compile(parts[i]);
+        }
+    }
+
+    private static JsonPath compile(String path) {
+        try {
+            return JsonPath.compile(path);
+        } catch (InvalidPathException | IllegalArgumentException e) {
+            // reported when reading, as if the expression was not compiled
+            return null;
+        }
     }
 
     @Override
@@ -47,12 +66,13 @@ public class JsonPathParsedExpression implements ParsedExpression {
         DocumentContext parsedContext = jsonPath.parse(context);
         if (String.class.isAssignableFrom(returnClass)) {
             StringBuilder sb = new StringBuilder();
-            for (String part : expr.split("((?=\\$))")) {
-                sb.append(parsedContext.read(part, String.class));
+            for (int i = 0; i < parts.length; i++) {
+                String value = compiledParts[i] != null ? parsedContext.read(compiledParts[i], String.class) : parsedContext.read(parts[i], String.class);
+                sb.append(value);
             }
             return (T) sb.toString();
         } else {
-            Object result = parsedContext.read(expr);
+            Object result = compiledExpr != null ? parsedContext.read(compiledExpr) : parsedContext.read(expr);
             return Boolean.class.isAssignableFrom(returnClass) && result instanceof ArrayNode ? (T) Boolean.valueOf(!((ArrayNode) result).isEmpty())
                     : jsonPathConfig.mappingProvider().map(result, returnClass, jsonPathConfig);
         }
@@ -24,6 +24,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JsonPathExpressionHandlerTest {
@@ -51,4 +52,20 @@ class JsonPathExpressionHandlerTest {
         assertEquals("Javierito", parsedExpression.eval(node, ObjectNode.class).get("name").asText());
     }
 
+    @Test
+    void testExpressionIsParsedOnce() {
+        assertSame(ExpressionHandlerFactory.get("jsonpath").parse("$.foo"), ExpressionHandlerFactory.get("jsonpath").parse("$.foo"));
+    }
+
+    @Test
+    void testCachedExpressionResults() {
+        ParsedExpression cached = ExpressionHandlerFactory.get("jsonpath").parse("$.foo$.bar");
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < 3; i++) {
+            JsonNode node = mapper.createObjectNode().put("foo", "javierito" + i).put("bar", i);
+            assertEquals(new JsonPathParsedExpression("$.foo$.bar").eval(node, String.class), cached.eval(node, String.class));
+            assertEquals("javierito" + i + i, cached.eval(node, String.class));
+        }
+    }
+
 }
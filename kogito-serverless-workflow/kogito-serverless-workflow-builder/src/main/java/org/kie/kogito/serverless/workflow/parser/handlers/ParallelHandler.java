@@ -15,6 +15,7 @@
  */
 package org.kie.kogito.serverless.workflow.parser.handlers;
 
+import org.jbpm.ruleflow.core.Metadata;
 import org.jbpm.ruleflow.core.RuleFlowNodeContainerFactory;
 import org.jbpm.ruleflow.core.factory.JoinFactory;
 import org.jbpm.ruleflow.core.factory.SplitFactory;
@@ -39,6 +40,9 @@ public class ParallelHandler<P extends RuleFlowNodeContainerFactory<P, ?>> exten
     @Override
     public SplitFactory<P> makeNode(RuleFlowNodeContainerFactory<?, ?> factory) {
         SplitFactory<P> nodeFactory = (SplitFactory<P>) factory.splitNode(parserContext.newId()).name(state.getName() + ServerlessWorkflowParser.NODE_START_NAME).type(Split.TYPE_AND);
+        if (state.getMetadata() != null && Boolean.parseBoolean(state.getMetadata().get(Metadata.CUSTOM_PARALLEL_EXECUTION))) {
+            nodeFactory.metaData(Metadata.CUSTOM_PARALLEL_EXECUTION, true);
+        }
         connectionNode = (JoinFactory<P>) factory.joinNode(parserContext.newId()).name(state.getName() + ServerlessWorkflowParser.NODE_END_NAME).type(Split.TYPE_AND);
         for (Branch branch : state.getBranches()) {
             long branchId = parserContext.newId();
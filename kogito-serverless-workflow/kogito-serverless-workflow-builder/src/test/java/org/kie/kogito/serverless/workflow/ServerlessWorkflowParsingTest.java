@@ -50,6 +50,7 @@ import io.serverlessworkflow.api.states.DefaultState.Type;
 import io.serverlessworkflow.api.states.DelayState;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -485,6 +486,18 @@ public class ServerlessWorkflowParsingTest {
         assertTrue(node instanceof SubProcessNode);
         node = process.getNodes()[5];
         assertTrue(node instanceof SubProcessNode);
+        assertFalse(((Split) process.getNodes()[2]).isParallelExecution());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/exec/parallel-state-concurrent.sw.json", "/exec/parallel-state-concurrent.sw.yml" })
+    public void testConcurrentParallelWorkflow(String workflowLocation) throws Exception {
+        RuleFlowProcess process = (RuleFlowProcess) getWorkflowParser(workflowLocation);
+        assertEquals("concurrentparallelworkflow", process.getId());
+
+        Node node = process.getNodes()[2];
+        assertTrue(node instanceof Split);
+        assertTrue(((Split) node).isParallelExecution());
     }
 
     @ParameterizedTest
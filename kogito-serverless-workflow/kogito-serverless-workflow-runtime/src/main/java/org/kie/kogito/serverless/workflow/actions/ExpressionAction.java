@@ -18,6 +18,7 @@ package org.kie.kogito.serverless.workflow.actions;
 import org.jbpm.process.instance.impl.Action;
 import org.kie.kogito.internal.process.runtime.KogitoProcessContext;
 import org.kie.kogito.process.workitems.impl.expr.ExpressionHandlerFactory;
+import org.kie.kogito.process.workitems.impl.expr.ParsedExpression;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -27,6 +28,7 @@ public class ExpressionAction implements Action {
 
     protected String lang;
     protected String expr;
+    private volatile ParsedExpression parsedExpression;
 
     public ExpressionAction(String lang, String expr) {
         this.lang = lang;
@@ -35,7 +37,17 @@ public class ExpressionAction implements Action {
 
     @Override
     public void execute(KogitoProcessContext context) throws Exception {
-        ExpressionHandlerFactory.get(lang).parse(expr).eval(getWorkflowData(context), JsonNode.class);
+        getParsedExpression().eval(getWorkflowData(context), JsonNode.class);
+    }
+
+    private ParsedExpression getParsedExpression() {
+        // parsed on first execution so that building the process definition does not require the expression handler
+        ParsedExpression result = parsedExpression;
+        if (result == null) {
+            result = ExpressionHandlerFactory.get(lang).parse(expr);
+            parsedExpression = result;
+        }
+        return result;
     }
 
 }
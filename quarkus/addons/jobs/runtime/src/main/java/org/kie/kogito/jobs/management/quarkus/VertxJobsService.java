@@ -18,6 +18,7 @@ package org.kie.kogito.jobs.management.quarkus;
 import java.net.URI;
 import java.time.ZonedDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -102,14 +103,24 @@ public class VertxJobsService extends RestJobsService {
         String callback = getCallbackEndpoint(description);
         LOGGER.debug("Job to be scheduled {} with callback URL {}", description, callback);
         final Job job = buildJob(description, callback);
+        scheduleJob(description, job);
+        return job.getId();
+    }
+
+    @Override
+    protected CompletionStage<String> scheduleJob(ProcessInstanceJobDescription description, Job job) {
+        CompletableFuture<String> future = new CompletableFuture<>();
         client.post(JOBS_PATH).sendJson(job, res -> {
             if (res.succeeded() && res.result().statusCode() == 200) {
                 LOGGER.debug("Creating of the job {} done with status code {} ", job, res.result().statusCode());
+                future.complete(job.getId());
             } else {
-                LOGGER.error("Scheduling of job {} failed with response code {}", job, res.result().statusCode(), res.cause());
+                Integer statusCode = res.succeeded() ? res.result().statusCode() : null;
+                LOGGER.error("Scheduling of job {} failed with response code {}", job, statusCode, res.cause());
+                future.completeExceptionally(new RuntimeException("Unable to schedule job with id " + job.getId() + ", response code " + statusCode, res.cause()));
             }
         });
-        return job.getId();
+        return future;
     }
 
     @Override
@@ -16,6 +16,7 @@
 package org.kie.kogito.jobs.management.quarkus;
 
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -128,6 +129,33 @@ public class VertxJobsServiceTest {
         assertThat(job.getProcessId()).isEqualTo(processInstanceJobDescription.processId());
     }
 
+    @Test
+    void testScheduleProcessInstanceJobsWaitsForResponses(@Mock HttpRequest<Buffer> request, @Mock HttpRequest<Buffer> cancelRequest,
+            @Mock HttpResponse<Buffer> ok, @Mock HttpResponse<Buffer> error) {
+        when(webClient.post(anyString())).thenReturn(request);
+        when(webClient.delete(anyString())).thenReturn(cancelRequest);
+        when(ok.statusCode()).thenReturn(200);
+        when(error.statusCode()).thenReturn(500);
+        ProcessInstanceJobDescription first = ProcessInstanceJobDescription.of(new TimerJobId(1L), ExactExpirationTime.now(), "processInstanceId", "processId");
+        ProcessInstanceJobDescription second = ProcessInstanceJobDescription.of(new TimerJobId(2L), ExactExpirationTime.now(), "processInstanceId", "processId");
+
+        doAnswer(invocationOnMock -> {
+            Job job = invocationOnMock.getArgument(0);
+            Handler<AsyncResult<HttpResponse<Buffer>>> handler = invocationOnMock.getArgument(1);
+            AsyncResult<HttpResponse<Buffer>> asyncResult = mock(AsyncResult.class);
+            when(asyncResult.succeeded()).thenReturn(true);
+            when(asyncResult.result()).thenReturn(job.getId().equals(first.id()) ? ok : error);
+            executor.submit(() -> handler.handle(asyncResult));
+            return null;
+        }).when(request).sendJson(any(), any());
+
+        assertThatThrownBy(() -> tested.scheduleProcessInstanceJobs(Arrays.asList(first, second)))
+                .hasMessageContaining(second.id());
+
+        verify(webClient).delete("/jobs/" + first.id());
+        verify(webClient, never()).delete("/jobs/" + second.id());
+    }
+
     @Test
     void testCancelJob(@Mock HttpRequest<Buffer> request) {
         when(webClient.delete(anyString())).thenReturn(request);
@@ -19,35 +19,40 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.kie.kogito.addons.k8s.CacheNames;
 import org.kie.kogito.addons.k8s.Endpoint;
 import org.kie.kogito.addons.k8s.KnativeRouteEndpointDiscovery;
 import org.kie.kogito.addons.k8s.KubernetesServiceEndpointDiscovery;
 import org.kie.kogito.addons.k8s.ServiceAndThenRouteEndpointDiscovery;
-
-import io.quarkus.cache.CacheResult;
+import org.kie.kogito.addons.k8s.WatchedEndpointDiscovery;
 
 /**
  * Cached version of the discovery service.
- * Each cache can be individually configured in the users' application.
  *
- * @see <a href="https://quarkus.io/guides/cache">Quarkus Cache Guide</a>
+ * @deprecated the endpoints are no longer cached with the Quarkus cache extension, use {@link WatchedEndpointDiscovery}
+ *             which this class delegates to. It will be removed in the next release.
  */
-public class CachedServiceAndThenRouteEndpointDiscovery extends ServiceAndThenRouteEndpointDiscovery {
+@Deprecated
+public class CachedServiceAndThenRouteEndpointDiscovery extends ServiceAndThenRouteEndpointDiscovery implements AutoCloseable {
+
+    private final WatchedEndpointDiscovery watchedDiscovery;
 
     public CachedServiceAndThenRouteEndpointDiscovery(KubernetesServiceEndpointDiscovery kubeDiscovery, KnativeRouteEndpointDiscovery knativeDiscovery) {
         super(kubeDiscovery, knativeDiscovery);
+        this.watchedDiscovery = new WatchedEndpointDiscovery(kubeDiscovery.getKubernetesClient(), new ServiceAndThenRouteEndpointDiscovery(kubeDiscovery, knativeDiscovery));
     }
 
     @Override
-    @CacheResult(cacheName = CacheNames.CACHE_BY_LABELS)
     public List<Endpoint> findEndpoint(String namespace, Map<String, String> labels) {
-        return super.findEndpoint(namespace, labels);
+        return watchedDiscovery.findEndpoint(namespace, labels);
     }
 
     @Override
-    @CacheResult(cacheName = CacheNames.CACHE_BY_NAME)
     public Optional<Endpoint> findEndpoint(String namespace, String name) {
-        return super.findEndpoint(namespace, name);
+        return watchedDiscovery.findEndpoint(namespace, name);
+    }
+
+    @Override
+    public void close() {
+        watchedDiscovery.close();
     }
 }
@@ -17,6 +17,7 @@ package org.kie.kogito.addons.quarkus.k8s;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Default;
+import javax.enterprise.inject.Disposes;
 import javax.enterprise.inject.Produces;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -25,6 +26,7 @@ import javax.inject.Singleton;
 import org.kie.kogito.addons.k8s.KnativeRouteEndpointDiscovery;
 import org.kie.kogito.addons.k8s.KubernetesServiceEndpointDiscovery;
 import org.kie.kogito.addons.k8s.ServiceAndThenRouteEndpointDiscovery;
+import org.kie.kogito.addons.k8s.WatchedEndpointDiscovery;
 
 import io.fabric8.kubernetes.client.KubernetesClient;
 
@@ -38,9 +40,13 @@ public class EndpointDiscoveryProducer {
     @Singleton
     @Default
     @Named("default")
-    public ServiceAndThenRouteEndpointDiscovery endpointDiscovery() {
+    public WatchedEndpointDiscovery endpointDiscovery() {
         final KubernetesServiceEndpointDiscovery kubernetesServiceEndpointDiscovery = new KubernetesServiceEndpointDiscovery(kubernetesClient);
         final KnativeRouteEndpointDiscovery knativeRouteEndpointDiscovery = new KnativeRouteEndpointDiscovery(kubernetesClient);
-        return new CachedServiceAndThenRouteEndpointDiscovery(kubernetesServiceEndpointDiscovery, knativeRouteEndpointDiscovery);
+        return new WatchedEndpointDiscovery(kubernetesClient, new ServiceAndThenRouteEndpointDiscovery(kubernetesServiceEndpointDiscovery, knativeRouteEndpointDiscovery));
+    }
+
+    public void closeEndpointDiscovery(@Disposes @Named("default") WatchedEndpointDiscovery endpointDiscovery) {
+        endpointDiscovery.close();
     }
 }
@@ -15,18 +15,23 @@
  */
 package org.kie.kogito.persistence;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.kie.kogito.persistence.kafka.KafkaProcessInstances;
 import org.kie.kogito.persistence.kafka.KafkaStreamsStateListener;
+import org.kie.kogito.persistence.kafka.KafkaWriteBatcher;
 import org.kie.kogito.process.Process;
 import org.kie.kogito.process.ProcessInstancesFactory;
+import org.kie.kogito.serialization.process.PayloadCompression;
+import org.kie.kogito.serialization.process.ProcessInstanceMarshallerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +44,11 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KogitoProcessInstancesFactory.class);
 
+    public static final int DEFAULT_LINGER_MS = 5;
+    public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+
     KafkaStreamsStateListener stateListener;
+    KafkaWriteBatcher batcher;
     KafkaProducer<String, byte[]> producer;
 
     @Inject
@@ -47,9 +56,26 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
         this.stateListener = stateListener;
     }
 
+    @Inject
+    public void setBatcher(KafkaWriteBatcher batcher) {
+        this.batcher = batcher;
+    }
+
     @Inject
     public void setKafkaConfig(@Identifier("default-kafka-broker") Map<String, Object> kafkaConfig) {
-        producer = new KafkaProducer<>(kafkaConfig, new StringSerializer(), new ByteArraySerializer());
+        producer = new KafkaProducer<>(producerConfig(kafkaConfig), new StringSerializer(), new ByteArraySerializer());
+    }
+
+    /**
+     * Producer settings used for the process instance topics. Records of a unit of work are sent together
+     * and acknowledged once, so a short linger and a larger batch let them share requests to the broker;
+     * values provided in the broker configuration take precedence.
+     */
+    protected Map<String, Object> producerConfig(Map<String, Object> kafkaConfig) {
+        Map<String, Object> config = new HashMap<>(kafkaConfig);
+        config.putIfAbsent(ProducerConfig.LINGER_MS_CONFIG, DEFAULT_LINGER_MS);
+        config.putIfAbsent(ProducerConfig.BATCH_SIZE_CONFIG, DEFAULT_BATCH_SIZE);
+        return config;
     }
 
     @PreDestroy
@@ -62,7 +88,7 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
     public KafkaProcessInstances createProcessInstances(Process<?> process) {
         try {
             LOGGER.info("Creating KafkaProcessInstances for process: {}", process.id());
-            KafkaProcessInstances pi = new KafkaProcessInstances(process, producer);
+            KafkaProcessInstances pi = new KafkaProcessInstances(process, producer, marshaller(), batcher);
             stateListener.addProcessInstances(pi);
             return pi;
         } catch (Exception ex) {
@@ -71,4 +97,26 @@ public abstract class KogitoProcessInstancesFactory implements ProcessInstancesF
         }
     }
 
+    /**
+     * Name of the {@link org.kie.kogito.serialization.process.PayloadCompressor} applied to the process instances
+     * sent to the topics, <code>none</code> by default
+     */
+    public String compression() {
+        return PayloadCompression.NONE;
+    }
+
+    /**
+     * Process instances smaller than this number of bytes are sent uncompressed
+     */
+    public int compressionThreshold() {
+        return ProcessInstanceMarshallerService.DEFAULT_COMPRESSION_THRESHOLD;
+    }
+
+    protected ProcessInstanceMarshallerService marshaller() {
+        return ProcessInstanceMarshallerService.newBuilder()
+                .withDefaultObjectMarshallerStrategies()
+                .withCompression(compression(), compressionThreshold())
+                .build();
+    }
+
 }
@@ -49,13 +49,23 @@ public class KafkaProcessInstances implements MutableProcessInstances {
     private String topic;
     private ReadOnlyKeyValueStore<String, byte[]> store;
     private ProcessInstanceMarshallerService marshaller;
+    private KafkaWriteBatcher batcher;
     private CountDownLatch latch = new CountDownLatch(1);
 
     public KafkaProcessInstances(Process<?> process, KafkaProducer<String, byte[]> producer) {
+        this(process, producer, ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
+    }
+
+    public KafkaProcessInstances(Process<?> process, KafkaProducer<String, byte[]> producer, ProcessInstanceMarshallerService marshaller) {
+        this(process, producer, marshaller, null);
+    }
+
+    public KafkaProcessInstances(Process<?> process, KafkaProducer<String, byte[]> producer, ProcessInstanceMarshallerService marshaller, KafkaWriteBatcher batcher) {
         this.process = process;
         this.topic = topicName(process.id());
         this.producer = producer;
-        setMarshaller(ProcessInstanceMarshallerService.newBuilder().withDefaultObjectMarshallerStrategies().build());
+        this.batcher = batcher;
+        setMarshaller(marshaller);
     }
 
     protected Process<?> getProcess() {
@@ -107,11 +117,7 @@ public class KafkaProcessInstances implements MutableProcessInstances {
                 throw new ProcessInstanceDuplicatedException(id);
             }
             byte[] data = marshaller.marshallProcessInstance(instance);
-            try {
-                producer.send(new ProducerRecord<>(topic, id, data)).get();
-            } catch (Exception e) {
-                throw new RuntimeException("Unable to persist process instance id: " + id, e);
-            }
+            send(new ProducerRecord<>(topic, id, data), "Unable to persist process instance id: " + id);
         }
     }
 
@@ -119,21 +125,21 @@ public class KafkaProcessInstances implements MutableProcessInstances {
     public void update(String id, ProcessInstance instance) {
         if (isActive(instance)) {
             byte[] data = marshaller.marshallProcessInstance(instance);
-            try {
-                producer.send(new ProducerRecord<>(topic, id, data)).get();
-                disconnect(instance);
-            } catch (Exception e) {
-                throw new RuntimeException("Unable to update process instance id: " + id, e);
-            }
+            send(new ProducerRecord<>(topic, id, data), "Unable to update process instance id: " + id);
+            disconnect(instance);
         }
     }
 
     @Override
     public void remove(String id) {
-        try {
-            producer.send(new ProducerRecord<>(topic, id, null)).get();
-        } catch (Exception e) {
-            throw new RuntimeException("Unable to remove process instance id: " + id, e);
+        send(new ProducerRecord<>(topic, id, null), "Unable to remove process instance id: " + id);
+    }
+
+    protected void send(ProducerRecord<String, byte[]> record, String errorMessage) {
+        if (batcher == null) {
+            KafkaWriteBatcher.sendAndWait(producer, record, errorMessage);
+        } else {
+            batcher.send(producer, record, errorMessage);
         }
     }
 
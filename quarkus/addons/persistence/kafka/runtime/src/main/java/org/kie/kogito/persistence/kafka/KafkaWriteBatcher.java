@@ -0,0 +1,201 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.kafka;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
+import org.kie.kogito.uow.events.UnitOfWorkAbortEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEventListener;
+import org.kie.kogito.uow.events.UnitOfWorkStartEvent;
+
+/**
+ * Collects the records sent by {@link KafkaProcessInstances} while a unit of work is running on the current thread
+ * and waits for the broker acknowledgements once, as the last work of the unit of work, instead of once per record.
+ * The unit of work is intercepted on the first record sent, as it is not started yet when its listeners are notified.
+ * A failed acknowledgement fails the end of the unit of work, which is then aborted. Nested units of work each wait
+ * for their own records. Outside of a unit of work every send is acknowledged before returning.
+ */
+@ApplicationScoped
+public class KafkaWriteBatcher implements UnitOfWorkEventListener {
+
+    private final ThreadLocal<Deque<PendingWrites>> pendingWrites = new ThreadLocal<>();
+
+    @Override
+    public void onBeforeStartEvent(UnitOfWorkStartEvent event) {
+        PendingWrites writes = new PendingWrites(event.getUnitOfWork());
+        Deque<PendingWrites> stack = pendingWrites.get();
+        if (stack == null) {
+            stack = new ArrayDeque<>();
+            pendingWrites.set(stack);
+        }
+        stack.push(writes);
+    }
+
+    @Override
+    public void onAfterEndEvent(UnitOfWorkEndEvent event) {
+        PendingWrites writes = remove(event.getUnitOfWork());
+        if (writes != null) {
+            // records sent after the work unit was performed, e.g. by a pass through unit of work
+            writes.perform();
+        }
+    }
+
+    @Override
+    public void onAfterAbortEvent(UnitOfWorkAbortEvent event) {
+        remove(event.getUnitOfWork());
+    }
+
+    public void send(KafkaProducer<String, byte[]> producer, ProducerRecord<String, byte[]> record, String errorMessage) {
+        Deque<PendingWrites> stack = pendingWrites.get();
+        if (stack == null) {
+            sendAndWait(producer, record, errorMessage);
+        } else {
+            PendingWrites writes = stack.peek();
+            writes.intercept();
+            try {
+                writes.add(new PendingWrite(producer.send(record), errorMessage));
+            } catch (Exception e) {
+                throw new RuntimeException(errorMessage, e);
+            }
+        }
+    }
+
+    public static void sendAndWait(KafkaProducer<String, byte[]> producer, ProducerRecord<String, byte[]> record, String errorMessage) {
+        try {
+            producer.send(record).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(errorMessage, e);
+        } catch (Exception e) {
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private PendingWrites remove(UnitOfWork unitOfWork) {
+        Deque<PendingWrites> stack = pendingWrites.get();
+        if (stack == null) {
+            return null;
+        }
+        PendingWrites removed = null;
+        for (Iterator<PendingWrites> iterator = stack.iterator(); iterator.hasNext();) {
+            PendingWrites writes = iterator.next();
+            if (writes.unitOfWork == unitOfWork) {
+                iterator.remove();
+                removed = writes;
+                break;
+            }
+        }
+        if (stack.isEmpty()) {
+            pendingWrites.remove();
+        }
+        return removed;
+    }
+
+    private static void await(List<PendingWrite> writes) {
+        RuntimeException failure = null;
+        for (PendingWrite write : writes) {
+            try {
+                write.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = addFailure(failure, write.errorMessage, e);
+            } catch (ExecutionException e) {
+                failure = addFailure(failure, write.errorMessage, e.getCause());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static RuntimeException addFailure(RuntimeException failure, String errorMessage, Throwable cause) {
+        if (failure == null) {
+            return new RuntimeException(errorMessage, cause);
+        }
+        failure.addSuppressed(new RuntimeException(errorMessage, cause));
+        return failure;
+    }
+
+    private static class PendingWrites implements WorkUnit<UnitOfWork> {
+
+        private final UnitOfWork unitOfWork;
+        private final List<PendingWrite> writes = new ArrayList<>();
+        private boolean intercepted;
+
+        private PendingWrites(UnitOfWork unitOfWork) {
+            this.unitOfWork = unitOfWork;
+        }
+
+        private void intercept() {
+            if (!intercepted) {
+                unitOfWork.intercept(this);
+                intercepted = true;
+            }
+        }
+
+        private void add(PendingWrite write) {
+            writes.add(write);
+        }
+
+        @Override
+        public UnitOfWork data() {
+            return unitOfWork;
+        }
+
+        @Override
+        public void perform() {
+            List<PendingWrite> sent = new ArrayList<>(writes);
+            writes.clear();
+            await(sent);
+        }
+
+        @Override
+        public void abort() {
+            writes.clear();
+        }
+
+        @Override
+        public Integer priority() {
+            // after every work unit that may send records
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final Future<RecordMetadata> future;
+        private final String errorMessage;
+
+        private PendingWrite(Future<RecordMetadata> future, String errorMessage) {
+            this.future = future;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
@@ -43,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.kie.kogito.persistence.kafka.KafkaPersistenceUtils.topicName;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -186,6 +187,24 @@ public class KafkaProcessInstancesTest {
         verify(marshaller).createdReloadFunction(any());
     }
 
+    @Test
+    public void testProcessInstancesUpdateBatched() {
+        KafkaWriteBatcher batcher = mock(KafkaWriteBatcher.class);
+        instances = new KafkaProcessInstances(process, producer, marshaller, batcher);
+        instances.setStore(store);
+        AbstractProcessInstance instance = mock(AbstractProcessInstance.class);
+        doReturn(new byte[] {}).when(marshaller).marshallProcessInstance(instance);
+        when(instance.status()).thenReturn(ProcessInstance.STATE_ACTIVE);
+
+        instances.update(id, instance);
+
+        ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(batcher).send(eq(producer), captor.capture(), any());
+        assertThat(captor.getValue().key()).isEqualTo(id);
+        verify(producer, never()).send(any());
+        verify(instance).internalRemoveProcessInstance(any());
+    }
+
     @Test
     public void testProcessInstancesUpdateException() {
         doThrow(new RuntimeException()).when(producer).send(any());
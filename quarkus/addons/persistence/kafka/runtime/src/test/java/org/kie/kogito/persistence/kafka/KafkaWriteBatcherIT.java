@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.kogito.services.uow.CollectingUnitOfWorkFactory;
+import org.kie.kogito.services.uow.DefaultUnitOfWorkManager;
+import org.kie.kogito.testcontainers.KogitoKafkaContainer;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.UnitOfWorkManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Measures the write throughput of the process instance records against a broker, waiting for the acknowledgement
+ * of every record versus waiting for them once per unit of work. Within a unit of work every record must be sent
+ * before any acknowledgement is awaited.
+ */
+@Testcontainers
+public class KafkaWriteBatcherIT {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaWriteBatcherIT.class);
+
+    private static final String TOPIC = "kogito-write-batcher";
+    private static final int WARM_UP = 500;
+    private static final int RECORDS = 5000;
+    private static final int RECORDS_PER_UNIT_OF_WORK = 50;
+    private static final String SEND = "send";
+    private static final String ACK = "ack";
+
+    @Container
+    KogitoKafkaContainer kafka = new KogitoKafkaContainer();
+
+    KafkaProducer<String, byte[]> producer;
+
+    KafkaWriteBatcher batcher = new KafkaWriteBatcher();
+
+    UnitOfWorkManager unitOfWorkManager = new DefaultUnitOfWorkManager(new CollectingUnitOfWorkFactory());
+
+    List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void start() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers());
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        producer = spy(new KafkaProducer<>(config, new StringSerializer(), new ByteArraySerializer()));
+        doAnswer(invocation -> {
+            events.add(SEND);
+            return new TrackedFuture((Future<RecordMetadata>) invocation.callRealMethod());
+        }).when(producer).send(any());
+        unitOfWorkManager.register(batcher);
+    }
+
+    @AfterEach
+    void stop() {
+        producer.close();
+    }
+
+    @Test
+    void testThroughput() {
+        sendPerRecord(WARM_UP);
+        sendBatched(WARM_UP);
+
+        long perRecord = sendPerRecord(RECORDS);
+        long batched = sendBatched(RECORDS);
+
+        LOGGER.info("Wrote {} records waiting for every acknowledgement in {} ms ({} records/s)", RECORDS, perRecord, throughput(perRecord));
+        LOGGER.info("Wrote {} records waiting once per {} records in {} ms ({} records/s)", RECORDS, RECORDS_PER_UNIT_OF_WORK, batched, throughput(batched));
+    }
+
+    private long sendPerRecord(int records) {
+        long start = System.nanoTime();
+        for (int i = 0; i < records; i++) {
+            batcher.send(producer, record(i), "Unable to write record " + i);
+            assertThat(events).containsExactly(SEND, ACK);
+            events.clear();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private long sendBatched(int records) {
+        long start = System.nanoTime();
+        for (int i = 0; i < records; i += RECORDS_PER_UNIT_OF_WORK) {
+            UnitOfWork unitOfWork = unitOfWorkManager.newUnitOfWork();
+            unitOfWork.start();
+            int sent = 0;
+            for (int j = i; j < Math.min(records, i + RECORDS_PER_UNIT_OF_WORK); j++) {
+                batcher.send(producer, record(j), "Unable to write record " + j);
+                sent++;
+            }
+            assertThat(events).containsOnly(SEND).hasSize(sent);
+            unitOfWork.end();
+            assertThat(events.subList(sent, events.size())).isEqualTo(Collections.nCopies(sent, ACK));
+            events.clear();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static ProducerRecord<String, byte[]> record(int i) {
+        return new ProducerRecord<>(TOPIC, "id-" + i, new byte[512]);
+    }
+
+    private static long throughput(long millis) {
+        return RECORDS * 1000L / Math.max(1, millis);
+    }
+
+    private class TrackedFuture implements Future<RecordMetadata> {
+
+        private final Future<RecordMetadata> delegate;
+
+        private TrackedFuture(Future<RecordMetadata> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return delegate.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public RecordMetadata get() throws InterruptedException, ExecutionException {
+            events.add(ACK);
+            return delegate.get();
+        }
+
+        @Override
+        public RecordMetadata get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            events.add(ACK);
+            return delegate.get(timeout, unit);
+        }
+    }
+}
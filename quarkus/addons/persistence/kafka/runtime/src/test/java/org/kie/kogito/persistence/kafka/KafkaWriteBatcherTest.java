@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.kogito.persistence.kafka;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.kogito.uow.UnitOfWork;
+import org.kie.kogito.uow.WorkUnit;
+import org.kie.kogito.uow.events.UnitOfWorkAbortEvent;
+import org.kie.kogito.uow.events.UnitOfWorkEndEvent;
+import org.kie.kogito.uow.events.UnitOfWorkStartEvent;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class KafkaWriteBatcherTest {
+
+    @Mock
+    KafkaProducer<String, byte[]> producer;
+
+    @Mock
+    UnitOfWork unitOfWork;
+
+    KafkaWriteBatcher batcher = new KafkaWriteBatcher();
+
+    @Test
+    public void testSendOutsideUnitOfWork() throws Exception {
+        Future future = mock(Future.class);
+        doReturn(future).when(producer).send(any());
+
+        batcher.send(producer, new ProducerRecord<>("topic", "id", null), "error");
+
+        verify(future).get();
+    }
+
+    @Test
+    public void testSendWithinUnitOfWork() throws Exception {
+        Future first = mock(Future.class);
+        Future second = mock(Future.class);
+        doReturn(first, second).when(producer).send(any());
+
+        start(unitOfWork);
+        verify(unitOfWork, never()).intercept(any());
+        batcher.send(producer, new ProducerRecord<>("topic", "first", null), "error");
+        batcher.send(producer, new ProducerRecord<>("topic", "second", null), "error");
+        WorkUnit<?> flush = flush(unitOfWork);
+
+        verify(producer, times(2)).send(any());
+        verify(first, never()).get();
+        verify(second, never()).get();
+        assertThat(flush.priority()).isEqualTo(Integer.MAX_VALUE);
+
+        flush.perform();
+
+        verify(first).get();
+        verify(second).get();
+
+        batcher.onAfterEndEvent(new UnitOfWorkEndEvent(unitOfWork));
+
+        verify(first).get();
+        verify(second).get();
+    }
+
+    @Test
+    public void testSendWithinUnitOfWorkFailure() {
+        CompletableFuture<Object> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("broker down"));
+        doReturn(failed).when(producer).send(any());
+
+        start(unitOfWork);
+        batcher.send(producer, new ProducerRecord<>("topic", "id", null), "Unable to remove process instance id: id");
+        WorkUnit<?> flush = flush(unitOfWork);
+
+        assertThatExceptionOfType(RuntimeException.class)
+                .isThrownBy(flush::perform)
+                .withMessage("Unable to remove process instance id: id")
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testSendWithinNestedUnitOfWork() throws Exception {
+        Future outer = mock(Future.class);
+        Future inner = mock(Future.class);
+        doReturn(outer, inner).when(producer).send(any());
+        UnitOfWork nestedUnitOfWork = mock(UnitOfWork.class);
+
+        start(unitOfWork);
+        batcher.send(producer, new ProducerRecord<>("topic", "outer", null), "error");
+        WorkUnit<?> outerFlush = flush(unitOfWork);
+        start(nestedUnitOfWork);
+        batcher.send(producer, new ProducerRecord<>("topic", "inner", null), "error");
+        WorkUnit<?> innerFlush = flush(nestedUnitOfWork);
+
+        innerFlush.perform();
+        batcher.onAfterEndEvent(new UnitOfWorkEndEvent(nestedUnitOfWork));
+
+        verify(inner).get();
+        verify(outer, never()).get();
+
+        outerFlush.perform();
+        batcher.onAfterEndEvent(new UnitOfWorkEndEvent(unitOfWork));
+
+        verify(outer).get();
+        verify(inner).get();
+    }
+
+    @Test
+    public void testUnitOfWorkWithoutRecordsNotIntercepted() {
+        start(unitOfWork);
+        batcher.onAfterEndEvent(new UnitOfWorkEndEvent(unitOfWork));
+
+        verify(unitOfWork, never()).intercept(any());
+    }
+
+    @Test
+    public void testAbortDiscardsPendingWrites() throws Exception {
+        Future future = mock(Future.class);
+        doReturn(future).when(producer).send(any());
+
+        start(unitOfWork);
+        batcher.send(producer, new ProducerRecord<>("topic", "id", null), "error");
+        batcher.onAfterAbortEvent(new UnitOfWorkAbortEvent(unitOfWork));
+        batcher.onAfterEndEvent(new UnitOfWorkEndEvent(unitOfWork));
+
+        verify(future, never()).get();
+    }
+
+    private void start(UnitOfWork unit) {
+        batcher.onBeforeStartEvent(new UnitOfWorkStartEvent(unit));
+    }
+
+    private WorkUnit<?> flush(UnitOfWork unit) {
+        ArgumentCaptor<WorkUnit> flush = ArgumentCaptor.forClass(WorkUnit.class);
+        verify(unit).intercept(flush.capture());
+        return flush.getValue();
+    }
+}
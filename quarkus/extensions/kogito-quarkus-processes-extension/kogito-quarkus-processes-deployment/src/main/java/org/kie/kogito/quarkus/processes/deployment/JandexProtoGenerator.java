@@ -42,10 +42,12 @@ import org.kie.kogito.codegen.api.GeneratedFile;
 import org.kie.kogito.codegen.process.persistence.proto.AbstractProtoGenerator;
 import org.kie.kogito.codegen.process.persistence.proto.Proto;
 import org.kie.kogito.codegen.process.persistence.proto.ProtoEnum;
+import org.kie.kogito.codegen.process.persistence.proto.ProtoGenerationCache;
 import org.kie.kogito.codegen.process.persistence.proto.ProtoMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 
 public class JandexProtoGenerator extends AbstractProtoGenerator<ClassInfo> {
@@ -58,7 +60,11 @@ public class JandexProtoGenerator extends AbstractProtoGenerator<ClassInfo> {
     private final IndexView index;
 
     JandexProtoGenerator(ClassInfo persistenceClass, Collection<ClassInfo> modelClasses, Collection<ClassInfo> dataClasses, IndexView index) {
-        super(persistenceClass, modelClasses, dataClasses);
+        this(persistenceClass, modelClasses, dataClasses, index, null);
+    }
+
+    JandexProtoGenerator(ClassInfo persistenceClass, Collection<ClassInfo> modelClasses, Collection<ClassInfo> dataClasses, IndexView index, ProtoGenerationCache cache) {
+        super(persistenceClass, modelClasses, dataClasses, cache);
         this.index = index;
     }
 
@@ -208,6 +214,37 @@ public class JandexProtoGenerator extends AbstractProtoGenerator<ClassInfo> {
         }
     }
 
+    @Override
+    protected String typeName(ClassInfo dataModel) {
+        return dataModel.name().toString();
+    }
+
+    @Override
+    protected Optional<ClassInfo> findType(ClassInfo modelClazz, String typeName) {
+        return Optional.ofNullable(index.getClassByName(DotName.createSimple(typeName)));
+    }
+
+    @Override
+    protected List<String> describe(ClassInfo dataModel) {
+        List<String> description = new ArrayList<>();
+        ClassInfo clazz = dataModel;
+        while (clazz != null) {
+            description.add(clazz.name().toString());
+            description.add(String.valueOf(clazz.flags()));
+            description.add(clazz.interfaceNames().stream().map(DotName::toString).sorted().collect(joining(",")));
+            description.add(clazz.classAnnotations().stream().map(AnnotationInstance::toString).sorted().collect(joining(",")));
+            clazz.fields().stream()
+                    .sorted(Comparator.comparing(FieldInfo::name))
+                    .forEach(f -> {
+                        description.add(f.flags() + " " + f.type() + " " + f.name());
+                        description.add(f.annotations().stream().map(AnnotationInstance::toString).sorted().collect(joining(",")));
+                    });
+            DotName superClass = clazz.superName();
+            clazz = superClass == null || superClass.equals(objectClass) ? null : index.getClassByName(superClass);
+        }
+        return description;
+    }
+
     private void addEnumField(FieldInfo field, ProtoEnum pEnum) {
         AnnotationInstance annotation = field.annotation(ENUM_VALUE_ANNOTATION);
         Integer ordinal = null;
@@ -322,7 +359,7 @@ public class JandexProtoGenerator extends AbstractProtoGenerator<ClassInfo> {
 
         @Override
         public JandexProtoGenerator build(Collection<ClassInfo> modelClasses) {
-            return new JandexProtoGenerator(persistenceClass, modelClasses, extractDataClasses(modelClasses), index);
+            return new JandexProtoGenerator(persistenceClass, modelClasses, extractDataClasses(modelClasses), index, cache);
         }
     }
 }
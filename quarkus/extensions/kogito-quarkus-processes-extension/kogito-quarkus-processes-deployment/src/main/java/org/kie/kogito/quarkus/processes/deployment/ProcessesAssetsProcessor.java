@@ -45,6 +45,7 @@ import org.kie.kogito.codegen.api.GeneratedFileType;
 import org.kie.kogito.codegen.api.context.KogitoBuildContext;
 import org.kie.kogito.codegen.json.JsonSchemaGenerator;
 import org.kie.kogito.codegen.process.persistence.PersistenceGenerator;
+import org.kie.kogito.codegen.process.persistence.proto.ProtoGenerationCache;
 import org.kie.kogito.core.process.incubation.quarkus.support.QuarkusProcessIdFactory;
 import org.kie.kogito.core.process.incubation.quarkus.support.QuarkusStraightThroughProcessService;
 import org.kie.kogito.quarkus.common.deployment.InMemoryClassLoader;
@@ -220,6 +221,7 @@ public class ProcessesAssetsProcessor {
         JandexProtoGenerator protoGenerator = JandexProtoGenerator.builder(
                 index)
                 .withPersistenceClass(persistenceClass)
+                .withCache(protoGenerationCache())
                 .build(modelClasses);
 
         PersistenceGenerator persistenceGenerator = new PersistenceGenerator(
@@ -237,6 +239,18 @@ public class ProcessesAssetsProcessor {
         return persistenceGenerator.generate();
     }
 
+    /**
+     * The cache lives as long as the dev mode session, so a reload only regenerates the proto files of the changed models.
+     */
+    private ProtoGenerationCache protoGenerationCache() {
+        ProtoGenerationCache cache = liveReload.getContextObject(ProtoGenerationCache.class);
+        if (cache == null) {
+            cache = new ProtoGenerationCache();
+            liveReload.setContextObject(ProtoGenerationCache.class, cache);
+        }
+        return cache;
+    }
+
     private void addInnerClasses(Class<?> superClass, BuildProducer<ReflectiveHierarchyBuildItem> reflectiveHierarchyClass) {
         DotName dotName = DotName.createSimple(superClass.getName());
         Type type = Type.create(dotName, Type.Kind.CLASS);
@@ -19,29 +19,40 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.kie.kogito.addons.k8s.CacheNames;
 import org.kie.kogito.addons.k8s.Endpoint;
 import org.kie.kogito.addons.k8s.KnativeRouteEndpointDiscovery;
 import org.kie.kogito.addons.k8s.KubernetesServiceEndpointDiscovery;
 import org.kie.kogito.addons.k8s.ServiceAndThenRouteEndpointDiscovery;
-import org.springframework.cache.annotation.Cacheable;
+import org.kie.kogito.addons.k8s.WatchedEndpointDiscovery;
 
-public class CacheableServiceAndThenRouteEndpointDiscovery extends ServiceAndThenRouteEndpointDiscovery {
+/**
+ * @deprecated the endpoints are no longer cached with the Spring cache abstraction, use {@link WatchedEndpointDiscovery}
+ *             which this class delegates to. It will be removed in the next release.
+ */
+@Deprecated
+public class CacheableServiceAndThenRouteEndpointDiscovery extends ServiceAndThenRouteEndpointDiscovery implements AutoCloseable {
+
+    private final WatchedEndpointDiscovery watchedDiscovery;
 
     public CacheableServiceAndThenRouteEndpointDiscovery(KubernetesServiceEndpointDiscovery kubernetesServiceEndpointDiscovery,
             KnativeRouteEndpointDiscovery knativeRouteEndpointDiscovery) {
         super(kubernetesServiceEndpointDiscovery, knativeRouteEndpointDiscovery);
+        this.watchedDiscovery = new WatchedEndpointDiscovery(kubernetesServiceEndpointDiscovery.getKubernetesClient(),
+                new ServiceAndThenRouteEndpointDiscovery(kubernetesServiceEndpointDiscovery, knativeRouteEndpointDiscovery));
     }
 
-    @Cacheable(cacheNames = CacheNames.CACHE_BY_NAME, cacheManager = CachingConfig.CACHE_MANAGER)
     @Override
     public Optional<Endpoint> findEndpoint(String namespace, String name) {
-        return super.findEndpoint(namespace, name);
+        return watchedDiscovery.findEndpoint(namespace, name);
     }
 
-    @Cacheable(cacheNames = CacheNames.CACHE_BY_LABELS, cacheManager = CachingConfig.CACHE_MANAGER)
     @Override
     public List<Endpoint> findEndpoint(String namespace, Map<String, String> labels) {
-        return super.findEndpoint(namespace, labels);
+        return watchedDiscovery.findEndpoint(namespace, labels);
+    }
+
+    @Override
+    public void close() {
+        watchedDiscovery.close();
     }
 }
@@ -24,6 +24,12 @@ import org.springframework.context.annotation.Primary;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+/**
+ * @deprecated the discovered endpoints are no longer cached by this cache manager but by
+ *             {@link org.kie.kogito.addons.k8s.WatchedEndpointDiscovery}. The bean is kept for the applications
+ *             relying on it and will be removed in the next release.
+ */
+@Deprecated
 @Configuration
 @EnableCaching
 public class CachingConfig {